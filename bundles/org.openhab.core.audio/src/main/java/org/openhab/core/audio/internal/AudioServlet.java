@@ -13,6 +13,7 @@
 package org.openhab.core.audio.internal;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -81,11 +82,14 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
     // 5MB max for a file buffer
     private static final int ONETIME_STREAM_FILE_MAX_SIZE = 5242880;
 
+    private static final String RANGE_UNIT_PREFIX = "bytes=";
+
     static final String SERVLET_PATH = "/audio";
 
     private final Logger logger = LoggerFactory.getLogger(AudioServlet.class);
 
     private final Map<String, StreamServed> servedStreams = new ConcurrentHashMap<>();
+    private final Map<String, SharedStreamBuffer> oneTimeStreamBuffers = new ConcurrentHashMap<>();
 
     private final ScheduledExecutorService threadPool = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
@@ -104,6 +108,7 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
     protected synchronized void deactivate() {
         servedStreams.values().stream().map(streamServed -> streamServed.audioStream()).forEach(this::tryClose);
         servedStreams.clear();
+        oneTimeStreamBuffers.clear();
     }
 
     private void tryClose(@Nullable AudioStream stream) {
@@ -116,7 +121,8 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
     }
 
     private InputStream prepareInputStream(final StreamServed streamServed, final HttpServletResponse resp,
-            List<String> acceptedMimeTypes) throws AudioException {
+            List<String> acceptedMimeTypes, @Nullable ByteRange range, @Nullable InputStream oneTimeStreamReader)
+            throws AudioException, IOException {
         logger.debug("Stream to serve is {}", streamServed.url());
 
         // try to set the content-type, if possible
@@ -135,20 +141,77 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
         }
 
         // try to set the content-length, if possible
+        long size = -1;
         if (streamServed.audioStream() instanceof SizeableAudioStream sizeableServedStream) {
-            final long size = sizeableServedStream.length();
+            size = sizeableServedStream.length();
+        }
+        if (range != null) {
+            resp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            resp.setHeader("Content-Range", "bytes " + range.start() + "-" + range.end() + "/" + size);
+            resp.setContentLength((int) range.length());
+        } else if (size >= 0) {
             resp.setContentLength((int) size);
         }
 
         if (streamServed.multiTimeStream()
                 && streamServed.audioStream() instanceof ClonableAudioStream clonableAudioStream) {
             // we need to care about concurrent access and have a separate stream for each thread
-            return clonableAudioStream.getClonedStream();
+            InputStream clonedStream = clonableAudioStream.getClonedStream();
+            if (range != null) {
+                return new RangeInputStream(clonedStream, range.start(), range.length());
+            } else if (clonedStream instanceof FileInputStream && size >= 0) {
+                // let the file channel write to the response without copying through a heap buffer
+                return new RangeInputStream(clonedStream, 0, size);
+            }
+            return clonedStream;
+        } else if (oneTimeStreamReader != null) {
+            return oneTimeStreamReader;
         } else {
             return streamServed.audioStream();
         }
     }
 
+    /**
+     * Parses a single range of a "Range" request header. Multiple ranges and other units are not supported, the
+     * whole stream is served in that case.
+     *
+     * @param rangeHeader the header value, e.g. "bytes=0-1023", "bytes=1024-" or "bytes=-512"
+     * @param size the size of the served stream
+     * @return the requested range, whose start is beyond the stream size if it cannot be satisfied, or
+     *         <code>null</code> if the header is not understood
+     */
+    static @Nullable ByteRange parseRange(String rangeHeader, long size) {
+        String header = rangeHeader.trim();
+        if (!header.startsWith(RANGE_UNIT_PREFIX) || header.indexOf(',') != -1) {
+            return null;
+        }
+        String spec = header.substring(RANGE_UNIT_PREFIX.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash == -1) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // suffix range: the last n bytes
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0) {
+                    return new ByteRange(size, size - 1);
+                }
+                return new ByteRange(Math.max(0, size - suffixLength), size - 1);
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+            if (end < start) {
+                return null;
+            }
+            return new ByteRange(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     private String substringAfterLast(String str, String separator) {
         int index = str.lastIndexOf(separator);
         return index == -1 || index == str.length() - separator.length() ? ""
@@ -180,10 +243,32 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
             return;
         }
 
+        // range requests are only possible when each request gets its own copy of a stream of known size
+        ByteRange range = null;
+        if (servedStream.multiTimeStream() && servedStream.audioStream() instanceof ClonableAudioStream
+                && servedStream.audioStream() instanceof SizeableAudioStream sizeableServedStream) {
+            resp.setHeader("Accept-Ranges", "bytes");
+            String rangeHeader = req.getHeader("Range");
+            long size = sizeableServedStream.length();
+            range = rangeHeader == null ? null : parseRange(rangeHeader, size);
+            if (range != null && range.start() >= size) {
+                resp.setHeader("Content-Range", "bytes */" + size);
+                resp.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+
+        // concurrent requests to a one time stream share the data read from it
+        SharedStreamBuffer oneTimeStreamBuffer = servedStream.multiTimeStream() ? null
+                : oneTimeStreamBuffers.get(streamId);
+        InputStream oneTimeStreamReader = oneTimeStreamBuffer == null ? null : oneTimeStreamBuffer.newReader();
+
         // we count the number of active process using the input stream
         AtomicInteger currentlyServedStream = servedStream.currentlyServedStream();
-        if (currentlyServedStream.incrementAndGet() == 1 || servedStream.multiTimeStream()) {
-            try (final InputStream stream = prepareInputStream(servedStream, resp, acceptedMimeTypes)) {
+        currentlyServedStream.incrementAndGet();
+        if (servedStream.multiTimeStream() || oneTimeStreamReader != null) {
+            try (final InputStream stream = prepareInputStream(servedStream, resp, acceptedMimeTypes, range,
+                    oneTimeStreamReader)) {
                 Long endOfPlayTimestamp = audioSinkUtils.transferAndAnalyzeLength(stream, resp.getOutputStream(),
                         servedStream.audioStream().getFormat());
                 // update timeout with the sound duration :
@@ -200,16 +285,20 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
                 currentlyServedStream.decrementAndGet();
             }
         } else {
+            currentlyServedStream.decrementAndGet();
             logger.debug("Received request for already consumed stream id at {}", requestURI);
             resp.sendError(HttpServletResponse.SC_NOT_FOUND);
             return;
         }
 
-        // we can immediately dispose and remove, if it is a one time stream
-        if (!servedStream.multiTimeStream()) {
-            servedStreams.remove(streamId);
-            servedStream.playEnd().complete(null);
-            logger.debug("Removed timed out stream {}", streamId);
+        // we can immediately dispose and remove a one time stream, once its last reader is done
+        if (oneTimeStreamBuffer != null && oneTimeStreamBuffer.isClosed()) {
+            oneTimeStreamBuffers.remove(streamId);
+            if (servedStreams.remove(streamId) != null) {
+                tryClose(servedStream.audioStream());
+                servedStream.playEnd().complete(null);
+                logger.debug("Removed consumed stream {}", streamId);
+            }
         }
     }
 
@@ -223,6 +312,7 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
         toRemove.forEach(streamId -> {
             // the stream has expired and no one is using it, we need to remove it!
             StreamServed streamServed = servedStreams.remove(streamId);
+            oneTimeStreamBuffers.remove(streamId);
             if (streamServed != null) {
                 tryClose(streamServed.audioStream());
                 // we can notify the caller of the stream consumption
@@ -281,6 +371,9 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
         CompletableFuture<@Nullable Void> playEnd = new CompletableFuture<@Nullable Void>();
         StreamServed streamToServe = new StreamServed(getRelativeURL(streamId), audioStream, new AtomicInteger(),
                 new AtomicLong(timeOut), multiTimeStream, playEnd);
+        if (!multiTimeStream) {
+            oneTimeStreamBuffers.put(streamId, new SharedStreamBuffer(audioStream, ONETIME_STREAM_BUFFER_MAX_SIZE));
+        }
         servedStreams.put(streamId, streamToServe);
 
         // try to clean, or a least launch the periodic cleanse:
@@ -330,4 +423,13 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
     private String getRelativeURL(String streamId) {
         return SERVLET_PATH + "/" + streamId;
     }
+
+    /**
+     * An inclusive byte range of a served stream.
+     */
+    record ByteRange(long start, long end) {
+        long length() {
+            return end - start + 1;
+        }
+    }
 }
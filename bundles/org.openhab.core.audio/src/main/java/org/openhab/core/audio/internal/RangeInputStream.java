@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.audio.internal;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * An {@link InputStream} exposing a window of a source stream, used by the {@link AudioServlet} to answer range
+ * requests.
+ * If the source is a {@link FileInputStream}, {@link #transferTo(OutputStream)} lets the file channel write
+ * directly to the output, instead of copying the data through a heap buffer.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+class RangeInputStream extends InputStream {
+
+    private final InputStream source;
+    private final @Nullable FileChannel channel;
+    private long remaining;
+
+    /**
+     * @param source the stream to read from, it is closed with this stream
+     * @param start the offset of the first byte to serve
+     * @param length the number of bytes to serve
+     * @throws IOException if the source cannot be positioned at the requested offset
+     */
+    RangeInputStream(InputStream source, long start, long length) throws IOException {
+        this.source = source;
+        this.remaining = length;
+        if (source instanceof FileInputStream fileInputStream) {
+            FileChannel fileChannel = fileInputStream.getChannel();
+            fileChannel.position(start);
+            this.channel = fileChannel;
+        } else {
+            this.channel = null;
+            source.skipNBytes(start);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (remaining <= 0) {
+            return -1;
+        }
+        int read = source.read();
+        if (read != -1) {
+            remaining--;
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte @Nullable [] b, int off, int len) throws IOException {
+        if (remaining <= 0) {
+            return -1;
+        }
+        int read = source.read(b, off, (int) Math.min(len, remaining));
+        if (read > 0) {
+            remaining -= read;
+        }
+        return read;
+    }
+
+    @Override
+    public long transferTo(@Nullable OutputStream out) throws IOException {
+        FileChannel fileChannel = channel;
+        if (fileChannel == null || out == null) {
+            return super.transferTo(out);
+        }
+        WritableByteChannel target = Channels.newChannel(out);
+        long position = fileChannel.position();
+        long transferred = 0;
+        while (remaining > 0) {
+            long count = fileChannel.transferTo(position + transferred, remaining, target);
+            if (count <= 0) {
+                break;
+            }
+            transferred += count;
+            remaining -= count;
+        }
+        fileChannel.position(position + transferred);
+        return transferred;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(source.available(), remaining);
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+}
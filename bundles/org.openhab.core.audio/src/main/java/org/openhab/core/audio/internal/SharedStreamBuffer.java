@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.audio.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A buffer which lets concurrent readers share the data of a stream which can only be read once, used by the
+ * {@link AudioServlet} for one time streams.
+ * <p>
+ * The data read from the source is kept in a ring buffer which grows up to a maximum size. Readers can only be
+ * added as long as the beginning of the stream is still buffered, and a reader which falls behind the others by more
+ * than the maximum size fails. Once the last reader is closed, no further readers can be added.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+class SharedStreamBuffer {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final InputStream source;
+    private final int maxSize;
+    private final Object fetchLock = new Object();
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+
+    private byte[] data = new byte[CHUNK_SIZE];
+    // absolute positions of the first buffered byte and after the last buffered byte
+    private long start;
+    private long end;
+    private boolean endOfStream;
+    private int readers;
+    private boolean closed;
+
+    /**
+     * @param source the stream to share, it is not closed by this buffer
+     * @param maxSize the maximum number of bytes kept, at least {@value #CHUNK_SIZE}
+     */
+    SharedStreamBuffer(InputStream source, int maxSize) {
+        this.source = source;
+        this.maxSize = Math.max(maxSize, CHUNK_SIZE);
+    }
+
+    /**
+     * Adds a reader, which reads the stream from its beginning.
+     *
+     * @return the reader, or <code>null</code> if the beginning of the stream is not buffered anymore or the last
+     *         reader has already been closed
+     */
+    synchronized @Nullable InputStream newReader() {
+        if (closed || start > 0) {
+            return null;
+        }
+        readers++;
+        return new Reader();
+    }
+
+    /**
+     * @return <code>true</code> if the last reader has been closed
+     */
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private void fetch(long position) throws IOException {
+        synchronized (fetchLock) {
+            synchronized (this) {
+                if (end > position || endOfStream) {
+                    // another reader has fetched the data in the meantime
+                    return;
+                }
+            }
+            int length = source.read(chunk);
+            synchronized (this) {
+                // a blocking read only returns no data if the stream misbehaves, treat it as the end
+                if (length <= 0) {
+                    endOfStream = true;
+                } else {
+                    append(chunk, length);
+                }
+            }
+        }
+    }
+
+    private void append(byte[] bytes, int length) {
+        int size = (int) (end - start);
+        if (size + length > data.length && data.length < maxSize) {
+            grow(size + length);
+        }
+        if (size + length > data.length) {
+            // drop the oldest data, readers still needing it will fail
+            start = end + length - data.length;
+        }
+        put(end, bytes, 0, length);
+        end += length;
+    }
+
+    private void grow(int minCapacity) {
+        int size = (int) (end - start);
+        byte[] buffered = new byte[size];
+        get(start, buffered, 0, size);
+        data = new byte[Math.min(maxSize, Math.max(data.length * 2, minCapacity))];
+        put(start, buffered, 0, size);
+    }
+
+    private void put(long position, byte[] bytes, int offset, int length) {
+        int index = (int) (position % data.length);
+        int firstPart = Math.min(length, data.length - index);
+        System.arraycopy(bytes, offset, data, index, firstPart);
+        System.arraycopy(bytes, offset + firstPart, data, 0, length - firstPart);
+    }
+
+    private void get(long position, byte[] bytes, int offset, int length) {
+        int index = (int) (position % data.length);
+        int firstPart = Math.min(length, data.length - index);
+        System.arraycopy(data, index, bytes, offset, firstPart);
+        System.arraycopy(data, 0, bytes, offset + firstPart, length - firstPart);
+    }
+
+    private class Reader extends InputStream {
+
+        private long position;
+        private boolean readerClosed;
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte @Nullable [] b, int off, int len) throws IOException {
+            if (b == null) {
+                throw new NullPointerException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                synchronized (SharedStreamBuffer.this) {
+                    if (readerClosed) {
+                        throw new IOException("Stream closed");
+                    }
+                    if (position < start) {
+                        throw new IOException("Reader fell too far behind the other readers of the stream");
+                    }
+                    if (position < end) {
+                        int length = (int) Math.min(len, end - position);
+                        get(position, b, off, length);
+                        position += length;
+                        return length;
+                    }
+                    if (endOfStream) {
+                        return -1;
+                    }
+                }
+                fetch(position);
+            }
+        }
+
+        @Override
+        public int available() {
+            synchronized (SharedStreamBuffer.this) {
+                return position < start ? 0 : (int) (end - position);
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (SharedStreamBuffer.this) {
+                if (!readerClosed) {
+                    readerClosed = true;
+                    if (--readers == 0) {
+                        closed = true;
+                    }
+                }
+            }
+        }
+    }
+}
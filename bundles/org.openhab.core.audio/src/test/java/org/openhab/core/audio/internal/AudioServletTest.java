@@ -18,6 +18,8 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -259,4 +261,67 @@ public class AudioServletTest extends AbstractAudioServletTest {
         verify(oneTimeStream).close();
         verify(multiTimeStream).close();
     }
+
+    @Test
+    public void multiTimeStreamServesRequestedRange() throws Exception {
+        AudioStream audioStream = getByteArrayAudioStream(new byte[] { 0, 1, 2, 3, 4, 5 }, AudioFormat.CONTAINER_NONE,
+                AudioFormat.CODEC_MP3);
+
+        String url = serveStream(audioStream, 10);
+        ContentResponse response = getHttpRequest(url).header("Range", "bytes=2-4").send();
+
+        assertThat(response.getStatus(), is(HttpStatus.PARTIAL_CONTENT_206));
+        assertThat(response.getContent(), is(new byte[] { 2, 3, 4 }));
+        assertThat(response.getHeaders().get("Content-Range"), is("bytes 2-4/6"));
+        assertThat(response.getHeaders().get("Accept-Ranges"), is("bytes"));
+
+        response = getHttpRequest(url).header("Range", "bytes=-2").send();
+
+        assertThat(response.getStatus(), is(HttpStatus.PARTIAL_CONTENT_206));
+        assertThat(response.getContent(), is(new byte[] { 4, 5 }));
+    }
+
+    @Test
+    public void multiTimeFileStreamServesRequestedRange() throws Exception {
+        try (BundledSoundFileHandler fileHandler = new BundledSoundFileHandler()) {
+            File file = new File(fileHandler.wavFilePath());
+            byte[] fileContent = Files.readAllBytes(file.toPath());
+            AudioStream audioStream = new FileAudioStream(file);
+
+            String url = serveStream(audioStream, 10);
+            ContentResponse response = getHttpRequest(url).header("Range", "bytes=100-").send();
+
+            assertThat(response.getStatus(), is(HttpStatus.PARTIAL_CONTENT_206));
+            assertThat(response.getContent(), is(Arrays.copyOfRange(fileContent, 100, fileContent.length)));
+
+            response = getHttpRequest(url).send();
+
+            assertThat(response.getStatus(), is(HttpStatus.OK_200));
+            assertThat(response.getContent(), is(fileContent));
+        }
+    }
+
+    @Test
+    public void unsatisfiableRangeIsRejected() throws Exception {
+        AudioStream audioStream = getByteArrayAudioStream(testByteArray, AudioFormat.CONTAINER_NONE,
+                AudioFormat.CODEC_MP3);
+
+        String url = serveStream(audioStream, 10);
+        ContentResponse response = getHttpRequest(url).header("Range", "bytes=10-20").send();
+
+        assertThat(response.getStatus(), is(HttpStatus.RANGE_NOT_SATISFIABLE_416));
+        assertThat(response.getHeaders().get("Content-Range"), is("bytes */3"));
+    }
+
+    @Test
+    public void oneTimeStreamIgnoresRange() throws Exception {
+        AudioStream audioStream = getByteArrayAudioStream(testByteArray, AudioFormat.CONTAINER_NONE,
+                AudioFormat.CODEC_MP3);
+
+        String url = serveStream(audioStream);
+        ContentResponse response = getHttpRequest(url).header("Range", "bytes=1-2").send();
+
+        assertThat(response.getStatus(), is(HttpStatus.OK_200));
+        assertThat(response.getContent(), is(testByteArray));
+    }
 }
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.audio.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SharedStreamBuffer}
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class SharedStreamBufferTest {
+
+    private static final int MAX_SIZE = 16384;
+
+    private static byte[] testData(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    @Test
+    public void concurrentReadersShareTheDataReadOnceFromTheSource() throws IOException {
+        byte[] data = testData(12000);
+        AtomicInteger sourceReads = new AtomicInteger();
+        InputStream source = new ByteArrayInputStream(data) {
+            @Override
+            public synchronized int read(byte @Nullable [] b, int off, int len) {
+                sourceReads.incrementAndGet();
+                return super.read(b, off, len);
+            }
+        };
+        SharedStreamBuffer buffer = new SharedStreamBuffer(source, MAX_SIZE);
+
+        InputStream first = Objects.requireNonNull(buffer.newReader());
+        InputStream second = Objects.requireNonNull(buffer.newReader());
+
+        byte[] firstStart = first.readNBytes(1000);
+        byte[] secondAll = second.readAllBytes();
+        byte[] firstRest = first.readAllBytes();
+
+        assertArrayEquals(data, secondAll);
+        assertArrayEquals(data, concat(firstStart, firstRest));
+        // 2 chunks and the end of the stream
+        assertThat(sourceReads.get(), is(3));
+    }
+
+    @Test
+    public void noReaderCanBeAddedOnceTheBeginningOfTheStreamIsDropped() throws IOException {
+        SharedStreamBuffer buffer = new SharedStreamBuffer(new ByteArrayInputStream(testData(40000)), MAX_SIZE);
+
+        InputStream reader = Objects.requireNonNull(buffer.newReader());
+        reader.readNBytes(MAX_SIZE);
+        assertThat(buffer.newReader(), is(notNullValue()));
+
+        reader.readNBytes(1);
+        assertThat(buffer.newReader(), is(nullValue()));
+    }
+
+    @Test
+    public void readerFallingTooFarBehindFails() throws IOException {
+        SharedStreamBuffer buffer = new SharedStreamBuffer(new ByteArrayInputStream(testData(40000)), MAX_SIZE);
+
+        InputStream fast = Objects.requireNonNull(buffer.newReader());
+        InputStream slow = Objects.requireNonNull(buffer.newReader());
+        fast.readAllBytes();
+
+        assertThrows(IOException.class, () -> slow.read());
+    }
+
+    @Test
+    public void bufferIsClosedWhenTheLastReaderIsClosed() throws IOException {
+        SharedStreamBuffer buffer = new SharedStreamBuffer(new ByteArrayInputStream(testData(100)), MAX_SIZE);
+
+        InputStream first = Objects.requireNonNull(buffer.newReader());
+        InputStream second = Objects.requireNonNull(buffer.newReader());
+        first.close();
+        first.close();
+        assertThat(buffer.isClosed(), is(false));
+
+        second.close();
+        assertThat(buffer.isClosed(), is(true));
+        assertThat(buffer.newReader(), is(nullValue()));
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] result = new byte[a.length + b.length];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+}
@@ -13,7 +13,6 @@
 package org.openhab.core.config.core.xml;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -21,16 +20,19 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.registry.Identifiable;
-import org.openhab.core.i18n.LocalizedKey;
 import org.osgi.framework.Bundle;
 
 /**
  * Common base class for XML based providers.
+ * <p>
+ * Objects are indexed by their UID and localized copies are cached per object and locale. The cached copies of an
+ * object are dropped whenever the module providing it is added or removed.
  *
  * @author Simon Kaufmann - Initial contribution, factored out of subclasses
  *
@@ -40,9 +42,16 @@ import org.osgi.framework.Bundle;
 @NonNullByDefault
 public abstract class AbstractXmlBasedProvider<@NonNull T_ID, @NonNull T_OBJECT extends Identifiable<@NonNull T_ID>> {
 
+    private static final String NO_LOCALE = "";
+
     private final Map<Bundle, List<T_OBJECT>> bundleObjectMap = new ConcurrentHashMap<>();
 
-    private final Map<LocalizedKey, T_OBJECT> localizedObjectCache = new ConcurrentHashMap<>();
+    private final Map<T_ID, BundleObject<T_OBJECT>> objectIndex = new ConcurrentHashMap<>();
+
+    private final Map<T_ID, Map<String, T_OBJECT>> localizedObjectCache = new ConcurrentHashMap<>();
+
+    private record BundleObject<T>(Bundle bundle, T object) {
+    }
 
     /**
      * Create a translated/localized copy of the given object.
@@ -84,8 +93,9 @@ public abstract class AbstractXmlBasedProvider<@NonNull T_ID, @NonNull T_OBJECT
         }
         objects.addAll(objectList);
         for (T_OBJECT object : objectList) {
+            objectIndex.put(object.getUID(), new BundleObject<>(bundle, object));
             // just make sure no old entry remains in the cache
-            removeCachedEntries(object);
+            localizedObjectCache.remove(object.getUID());
         }
     }
 
@@ -106,14 +116,9 @@ public abstract class AbstractXmlBasedProvider<@NonNull T_ID, @NonNull T_OBJECT
      * @return the object if found, <code>null</code> otherwise
      */
     protected final @Nullable T_OBJECT get(T_ID key, @Nullable Locale locale) {
-        for (Entry<Bundle, List<T_OBJECT>> objects : bundleObjectMap.entrySet()) {
-            for (T_OBJECT object : objects.getValue()) {
-                if (key.equals(object.getUID())) {
-                    return acquireLocalizedObject(objects.getKey(), object, locale);
-                }
-            }
-        }
-        return null;
+        BundleObject<T_OBJECT> bundleObject = objectIndex.get(key);
+        return bundleObject == null ? null
+                : acquireLocalizedObject(bundleObject.bundle(), bundleObject.object(), locale);
     }
 
     /**
@@ -123,11 +128,26 @@ public abstract class AbstractXmlBasedProvider<@NonNull T_ID, @NonNull T_OBJECT
      * @return a collection containing all available objects. Never <code>null</code>
      */
     protected final synchronized Collection<T_OBJECT> getAll(@Nullable Locale locale) {
+        return getAll(object -> true, locale);
+    }
+
+    /**
+     * Gets all available objects matching the given filter.
+     * <p>
+     * The filter is applied to the original objects, so only the matching objects are localized.
+     *
+     * @param filter the filter to be applied to the original objects
+     * @param locale the locale
+     * @return a collection containing all matching objects. Never <code>null</code>
+     */
+    protected final synchronized Collection<T_OBJECT> getAll(Predicate<T_OBJECT> filter, @Nullable Locale locale) {
         List<T_OBJECT> ret = new LinkedList<>();
         Collection<Entry<Bundle, List<T_OBJECT>>> objectList = bundleObjectMap.entrySet();
         for (Entry<Bundle, List<T_OBJECT>> objects : objectList) {
             for (T_OBJECT object : objects.getValue()) {
-                ret.add(acquireLocalizedObject(objects.getKey(), object, locale));
+                if (filter.test(object)) {
+                    ret.add(acquireLocalizedObject(objects.getKey(), object, locale));
+                }
             }
         }
         return ret;
@@ -143,29 +163,36 @@ public abstract class AbstractXmlBasedProvider<@NonNull T_ID, @NonNull T_OBJECT
     public final synchronized void removeAll(Bundle bundle) {
         List<T_OBJECT> objects = bundleObjectMap.remove(bundle);
         if (objects != null) {
-            removeCachedEntries(objects);
-        }
-    }
-
-    private void removeCachedEntries(List<T_OBJECT> objects) {
-        for (T_OBJECT object : objects) {
-            removeCachedEntries(object);
+            for (T_OBJECT object : objects) {
+                T_ID uid = object.getUID();
+                localizedObjectCache.remove(uid);
+                BundleObject<T_OBJECT> bundleObject = objectIndex.get(uid);
+                if (bundleObject != null && bundleObject.bundle().equals(bundle)) {
+                    objectIndex.remove(uid);
+                    reindex(uid);
+                }
+            }
         }
     }
 
-    private void removeCachedEntries(T_OBJECT object) {
-        for (Iterator<Entry<LocalizedKey, T_OBJECT>> it = localizedObjectCache.entrySet().iterator(); it.hasNext();) {
-            Entry<LocalizedKey, T_OBJECT> entry = it.next();
-            if (entry.getKey().getKey().equals(object.getUID())) {
-                it.remove();
+    private void reindex(T_ID uid) {
+        // another module may provide an object with the same UID
+        for (Entry<Bundle, List<T_OBJECT>> objects : bundleObjectMap.entrySet()) {
+            for (T_OBJECT object : objects.getValue()) {
+                if (uid.equals(object.getUID())) {
+                    objectIndex.put(uid, new BundleObject<>(objects.getKey(), object));
+                    return;
+                }
             }
         }
     }
 
     private T_OBJECT acquireLocalizedObject(Bundle bundle, T_OBJECT object, @Nullable Locale locale) {
-        final LocalizedKey localizedKey = getLocalizedKey(object, locale);
+        final String localeKey = locale != null ? locale.toLanguageTag() : NO_LOCALE;
+        final Map<String, T_OBJECT> localizedObjects = localizedObjectCache.computeIfAbsent(object.getUID(),
+                uid -> new ConcurrentHashMap<>());
 
-        final @Nullable T_OBJECT cacheEntry = localizedObjectCache.get(localizedKey);
+        final @Nullable T_OBJECT cacheEntry = localizedObjects.get(localeKey);
         if (cacheEntry != null) {
             return cacheEntry;
         }
@@ -173,14 +200,10 @@ public abstract class AbstractXmlBasedProvider<@NonNull T_ID, @NonNull T_OBJECT
         final @Nullable T_OBJECT localizedObject = localize(bundle, object, locale);
         if (localizedObject != null) {
             T_OBJECT nonNullLocalizedObject = localizedObject;
-            localizedObjectCache.put(localizedKey, nonNullLocalizedObject);
+            localizedObjects.put(localeKey, nonNullLocalizedObject);
             return localizedObject;
         } else {
             return object;
         }
     }
-
-    private LocalizedKey getLocalizedKey(T_OBJECT object, @Nullable Locale locale) {
-        return new LocalizedKey(object.getUID(), locale != null ? locale.toLanguageTag() : null);
-    }
 }
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.config.core.xml;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.config.core.ConfigDescription;
+import org.openhab.core.config.core.ConfigDescriptionBuilder;
+import org.osgi.framework.Bundle;
+
+/**
+ * Tests {@link AbstractXmlBasedProvider}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class AbstractXmlBasedProviderTest {
+
+    private static final URI URI_1 = URI.create("test:one");
+    private static final URI URI_2 = URI.create("test:two");
+
+    private @Mock @NonNullByDefault({}) Bundle bundle1;
+    private @Mock @NonNullByDefault({}) Bundle bundle2;
+
+    private @NonNullByDefault({}) TestXmlBasedProvider provider;
+
+    private static class TestXmlBasedProvider extends AbstractXmlBasedProvider<URI, ConfigDescription> {
+        private final Map<URI, Integer> localizations = new HashMap<>();
+
+        @Override
+        protected @Nullable ConfigDescription localize(Bundle bundle, ConfigDescription object,
+                @Nullable Locale locale) {
+            localizations.merge(object.getUID(), 1, Integer::sum);
+            return ConfigDescriptionBuilder.create(object.getUID()).build();
+        }
+
+        public int getLocalizations(URI uri) {
+            return localizations.getOrDefault(uri, 0);
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        provider = new TestXmlBasedProvider();
+    }
+
+    @Test
+    public void testLocalizedObjectsAreCachedPerLocale() {
+        provider.add(bundle1, ConfigDescriptionBuilder.create(URI_1).build());
+
+        ConfigDescription localized = provider.get(URI_1, Locale.GERMAN);
+        assertThat(localized, is(notNullValue()));
+        assertThat(provider.get(URI_1, Locale.GERMAN), is(sameInstance(localized)));
+        assertThat(provider.getLocalizations(URI_1), is(1));
+
+        assertThat(provider.get(URI_1, Locale.FRENCH), is(not(sameInstance(localized))));
+        assertThat(provider.get(URI_1, null), is(notNullValue()));
+        assertThat(provider.getLocalizations(URI_1), is(3));
+    }
+
+    @Test
+    public void testCacheIsInvalidatedWhenBundleChanges() {
+        provider.add(bundle1, ConfigDescriptionBuilder.create(URI_1).build());
+        ConfigDescription localized = provider.get(URI_1, Locale.GERMAN);
+
+        provider.removeAll(bundle1);
+        assertThat(provider.get(URI_1, Locale.GERMAN), is(nullValue()));
+
+        provider.add(bundle1, ConfigDescriptionBuilder.create(URI_1).build());
+        assertThat(provider.get(URI_1, Locale.GERMAN), is(not(sameInstance(localized))));
+        assertThat(provider.getLocalizations(URI_1), is(2));
+    }
+
+    @Test
+    public void testObjectOfOtherBundleIsFoundAfterRemoval() {
+        provider.add(bundle1, ConfigDescriptionBuilder.create(URI_1).build());
+        provider.add(bundle2, ConfigDescriptionBuilder.create(URI_1).build());
+        provider.add(bundle2, ConfigDescriptionBuilder.create(URI_2).build());
+
+        provider.removeAll(bundle2);
+
+        assertThat(provider.get(URI_1, null), is(notNullValue()));
+        assertThat(provider.get(URI_2, null), is(nullValue()));
+    }
+
+    @Test
+    public void testOnlyFilteredObjectsAreLocalized() {
+        provider.addAll(bundle1, List.of(ConfigDescriptionBuilder.create(URI_1).build(),
+                ConfigDescriptionBuilder.create(URI_2).build()));
+
+        assertThat(provider.getAll(object -> URI_2.equals(object.getUID()), Locale.GERMAN).stream()
+                .map(ConfigDescription::getUID).toList(), is(List.of(URI_2)));
+        assertThat(provider.getLocalizations(URI_1), is(0));
+        assertThat(provider.getLocalizations(URI_2), is(1));
+    }
+}
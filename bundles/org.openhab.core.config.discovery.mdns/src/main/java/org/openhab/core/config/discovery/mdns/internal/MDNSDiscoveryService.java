@@ -13,13 +13,18 @@
 package org.openhab.core.config.discovery.mdns.internal;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.jmdns.ServiceEvent;
 import javax.jmdns.ServiceInfo;
@@ -60,6 +65,7 @@ import org.slf4j.LoggerFactory;
 public class MDNSDiscoveryService extends AbstractDiscoveryService implements ServiceListener {
 
     private static final Duration FOREGROUND_SCAN_TIMEOUT = Duration.ofMillis(200);
+    private static final Duration BACKGROUND_SCAN_TIMEOUT = Duration.ofSeconds(6);
     private final Logger logger = LoggerFactory.getLogger(MDNSDiscoveryService.class);
 
     private final Set<MDNSDiscoveryParticipant> participants = new CopyOnWriteArraySet<>();
@@ -144,25 +150,46 @@ public class MDNSDiscoveryService extends AbstractDiscoveryService implements Se
      * have much higher timeout. Foreground scans have only a short timeout as human
      * users may become impatient. The underlying reason is that the jmDNS
      * implementation {@code MDNSClient#list(String)} has a default timeout of 6
-     * seconds when no ServiceInfo is found. When there are many participants,
-     * waiting 6 seconds for each non-existent type is too long.
+     * seconds when no ServiceInfo is found.
+     * <p>
+     * The services already known to the {@link MDNSClient} are reported right away. The network is then queried for
+     * all service types in parallel, and a query for a type is shared with other scans and participants. The scan
+     * returns when all queries are done, but waits no longer than the query timeout plus the scan timeout.
      *
      * @param isBackground true if it is background scan, false otherwise.
      */
     private void scan(boolean isBackground) {
+        Duration queryTimeout = isBackground ? BACKGROUND_SCAN_TIMEOUT : FOREGROUND_SCAN_TIMEOUT;
+        List<CompletableFuture<?>> queries = new ArrayList<>();
         for (MDNSDiscoveryParticipant participant : participants) {
-            long start = System.currentTimeMillis();
-            ServiceInfo[] services;
-            if (isBackground) {
-                services = mdnsClient.list(participant.getServiceType());
-            } else {
-                services = mdnsClient.list(participant.getServiceType(), FOREGROUND_SCAN_TIMEOUT);
-            }
-            logger.debug("{} services found for {}; duration: {}ms", services.length, participant.getServiceType(),
-                    System.currentTimeMillis() - start);
-            for (ServiceInfo serviceInfo : services) {
+            String serviceType = participant.getServiceType();
+            Set<String> reportedServices = new HashSet<>();
+            for (ServiceInfo serviceInfo : mdnsClient.listCached(serviceType)) {
+                reportedServices.add(serviceInfo.getQualifiedName());
                 createDiscoveryResult(participant, serviceInfo);
             }
+
+            long start = System.currentTimeMillis();
+            queries.add(mdnsClient.query(serviceType, queryTimeout).thenAccept(services -> {
+                logger.debug("{} services found for {}; duration: {}ms", services.length, serviceType,
+                        System.currentTimeMillis() - start);
+                for (ServiceInfo serviceInfo : services) {
+                    if (!reportedServices.contains(serviceInfo.getQualifiedName())) {
+                        createDiscoveryResult(participant, serviceInfo);
+                    }
+                }
+            }));
+        }
+
+        try {
+            CompletableFuture.allOf(queries.toArray(CompletableFuture[]::new))
+                    .get(queryTimeout.plusSeconds(getScanTimeout()).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.debug("Not all mDNS queries have finished within the scan timeout");
+        } catch (ExecutionException e) {
+            logger.warn("mDNS query failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
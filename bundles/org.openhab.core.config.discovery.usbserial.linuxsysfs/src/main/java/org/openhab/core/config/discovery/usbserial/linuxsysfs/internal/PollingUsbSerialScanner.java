@@ -33,6 +33,7 @@ import org.openhab.core.config.discovery.usbserial.UsbSerialDiscoveryListener;
 import org.openhab.core.config.discovery.usbserial.linuxsysfs.internal.DeltaUsbSerialScanner.Delta;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
@@ -42,11 +43,14 @@ import org.slf4j.LoggerFactory;
 /**
  * A {@link UsbSerialDiscovery} that implements background discovery by doing repetitive scans using a
  * {@link UsbSerialScanner}, pausing a configurable amount of time between subsequent scans.
+ * <p/>
+ * This component is only activated if it has been configured, otherwise the {@link WatchingUsbSerialScanner} is used.
  *
  * @author Henning Sudbrock - Initial contribution
  */
 @NonNullByDefault
-@Component(configurationPid = "discovery.usbserial.linuxsysfs.pollingscanner")
+@Component(configurationPid = "discovery.usbserial.linuxsysfs.pollingscanner", //
+        configurationPolicy = ConfigurationPolicy.REQUIRE)
 public class PollingUsbSerialScanner implements UsbSerialDiscovery {
 
     private final Logger logger = LoggerFactory.getLogger(PollingUsbSerialScanner.class);
@@ -20,6 +20,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -130,6 +131,13 @@ public class SysfsUsbSerialScanner implements UsbSerialScanner {
         return isReadable(Paths.get(sysfsTtyDevicesDirectory)) && isReadable(Paths.get(devDirectory));
     }
 
+    @Override
+    public Set<Path> getWatchedDirectories() {
+        // the serial directory is created by udev together with the first serial/by-id link
+        return Set.copyOf(List.of(Paths.get(sysfsTtyDevicesDirectory), Paths.get(devDirectory),
+                Paths.get(devDirectory).resolve("serial"), Paths.get(devSerialByIdDirectory)));
+    }
+
     /**
      * Gets the set of all found serial ports, by searching through the tty devices directory in the sysfs and
      * checking for each found serial port if the device file in the devices folder is both readable and writable.
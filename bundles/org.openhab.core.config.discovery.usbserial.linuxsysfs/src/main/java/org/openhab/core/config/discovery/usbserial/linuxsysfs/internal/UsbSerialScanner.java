@@ -13,10 +13,12 @@
 package org.openhab.core.config.discovery.usbserial.linuxsysfs.internal;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.config.discovery.usbserial.UsbSerialDeviceInformation;
+import org.openhab.core.config.discovery.usbserial.UsbSerialDiscovery;
 
 /**
  * Implementations of this interface scan for serial ports provided by USB devices.
@@ -44,4 +46,14 @@ public interface UsbSerialScanner {
      * @return <code>true</code> if able to perform scans, and <code>false</code> otherwise.
      */
     boolean canPerformScans();
+
+    /**
+     * Returns the directories in which entries are created or deleted when serial ports are added or removed.
+     * {@link UsbSerialDiscovery} implementations may watch these directories to scan as soon as devices change.
+     *
+     * @return the directories to watch, which might not all exist, or an empty set if changes cannot be watched
+     */
+    default Set<Path> getWatchedDirectories() {
+        return Set.of();
+    }
 }
@@ -0,0 +1,319 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.config.discovery.usbserial.linuxsysfs.internal;
+
+import static java.lang.Long.parseLong;
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadFactoryBuilder;
+import org.openhab.core.config.discovery.usbserial.UsbSerialDeviceInformation;
+import org.openhab.core.config.discovery.usbserial.UsbSerialDiscovery;
+import org.openhab.core.config.discovery.usbserial.UsbSerialDiscoveryListener;
+import org.openhab.core.config.discovery.usbserial.linuxsysfs.internal.DeltaUsbSerialScanner.Delta;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link UsbSerialDiscovery} that implements background discovery by watching the directories provided by the
+ * {@link UsbSerialScanner} for created and deleted entries (using inotify on Linux) and scanning as soon as they
+ * change.
+ * <p/>
+ * As a safety net, e.g. for changes which are not reported by the file system, a scan is also done after a
+ * configurable amount of time.
+ * <p/>
+ * This component replaces the {@link PollingUsbSerialScanner}, unless the polling scanner has been configured. In that
+ * case the polling scanner is used and this component does not scan at all.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+@Component(configurationPid = "discovery.usbserial.linuxsysfs.watchingscanner")
+public class WatchingUsbSerialScanner implements UsbSerialDiscovery {
+
+    private final Logger logger = LoggerFactory.getLogger(WatchingUsbSerialScanner.class);
+
+    private static final String THREAD_NAME = "usb-serial-discovery-linux-sysfs";
+
+    public static final String RECONCILE_INTERVAL_IN_SECONDS_ATTRIBUTE = "reconcileIntervalInSeconds";
+    private static final Duration DEFAULT_RECONCILE_INTERVAL = Duration.ofMinutes(5);
+
+    // the polling scanner is only active if it has been configured
+    private static final String POLLING_SCANNER_TARGET = "(component.name="
+            + "org.openhab.core.config.discovery.usbserial.linuxsysfs.internal.PollingUsbSerialScanner)";
+
+    // udev creates the device file and its links one after another, so changes are collected for a moment
+    private static final Duration SETTLE_DELAY = Duration.ofMillis(500);
+
+    private Duration reconcileInterval = DEFAULT_RECONCILE_INTERVAL;
+
+    private final boolean pollingScannerConfigured;
+    private final UsbSerialScanner usbSerialScanner;
+    private final DeltaUsbSerialScanner deltaUsbSerialScanner;
+    private final Set<UsbSerialDiscoveryListener> discoveryListeners = new CopyOnWriteArraySet<>();
+    private final ScheduledExecutorService scheduler;
+    private final Map<Path, WatchKey> watchKeys = new ConcurrentHashMap<>();
+
+    private @Nullable WatchService watchService;
+    private @Nullable Thread watchThread;
+    private @Nullable ScheduledFuture<?> reconcileJob;
+    private @Nullable ScheduledFuture<?> pendingScanJob;
+
+    @Activate
+    public WatchingUsbSerialScanner(Map<String, Object> config, final @Reference UsbSerialScanner usbSerialScanner,
+            final @Reference(cardinality = ReferenceCardinality.OPTIONAL, //
+                    policyOption = ReferencePolicyOption.GREEDY, //
+                    target = POLLING_SCANNER_TARGET) @Nullable UsbSerialDiscovery pollingScanner) {
+        if (config.containsKey(RECONCILE_INTERVAL_IN_SECONDS_ATTRIBUTE)) {
+            reconcileInterval = Duration
+                    .ofSeconds(parseLong(config.get(RECONCILE_INTERVAL_IN_SECONDS_ATTRIBUTE).toString()));
+        }
+
+        pollingScannerConfigured = pollingScanner != null;
+        if (pollingScannerConfigured) {
+            logger.info("Not watching for USB-Serial devices, as the polling scanner is configured");
+        } else {
+            logger.info("Watching for USB-Serial devices instead of polling, as the polling scanner is not configured");
+        }
+
+        this.usbSerialScanner = usbSerialScanner;
+        deltaUsbSerialScanner = new DeltaUsbSerialScanner(usbSerialScanner);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactoryBuilder.create().withName(THREAD_NAME).withDaemonThreads(true).build());
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        stopBackgroundScanning();
+        scheduler.shutdown();
+    }
+
+    @Modified
+    protected synchronized void modified(Map<String, Object> config) {
+        if (config.containsKey(RECONCILE_INTERVAL_IN_SECONDS_ATTRIBUTE)) {
+            reconcileInterval = Duration
+                    .ofSeconds(parseLong(config.get(RECONCILE_INTERVAL_IN_SECONDS_ATTRIBUTE).toString()));
+
+            if (reconcileJob != null) {
+                stopBackgroundScanning();
+                startBackgroundScanning();
+            }
+        }
+    }
+
+    /**
+     * Performs a single scan for newly added and removed devices.
+     */
+    @Override
+    public void doSingleScan() {
+        if (!pollingScannerConfigured) {
+            singleScanInternal(true);
+        }
+    }
+
+    /**
+     * Starts watching for newly added and removed USB devices, including the periodic scans.
+     * <p/>
+     * This can be stopped using {@link #stopBackgroundScanning()}.
+     */
+    @Override
+    public synchronized void startBackgroundScanning() {
+        if (reconcileJob == null && !pollingScannerConfigured) {
+            if (deltaUsbSerialScanner.canPerformScans()) {
+                startWatching();
+                reconcileJob = scheduler.scheduleWithFixedDelay(() -> {
+                    registerWatchKeys();
+                    singleScanInternal(false);
+                }, 0, reconcileInterval.getSeconds(), TimeUnit.SECONDS);
+                logger.debug("Started USB-Serial background discovery, reconciling every {} seconds",
+                        reconcileInterval.getSeconds());
+            } else {
+                logger.debug(
+                        "Do not start background scanning, as the configured USB-Serial scanner cannot perform scans on this system");
+            }
+        }
+    }
+
+    /**
+     * Stops watching for newly added and removed USB devices. This can be restarted using
+     * {@link #startBackgroundScanning()}.
+     */
+    @Override
+    public synchronized void stopBackgroundScanning() {
+        logger.debug("Stopping USB-Serial background discovery");
+        ScheduledFuture<?> currentReconcileJob = reconcileJob;
+        if (currentReconcileJob != null) {
+            currentReconcileJob.cancel(true);
+            reconcileJob = null;
+        }
+        ScheduledFuture<?> currentPendingScanJob = pendingScanJob;
+        if (currentPendingScanJob != null) {
+            currentPendingScanJob.cancel(false);
+            pendingScanJob = null;
+        }
+        stopWatching();
+    }
+
+    @Override
+    public void registerDiscoveryListener(UsbSerialDiscoveryListener listener) {
+        discoveryListeners.add(listener);
+        for (UsbSerialDeviceInformation deviceInfo : deltaUsbSerialScanner.getLastScanResult()) {
+            listener.usbSerialDeviceDiscovered(deviceInfo);
+        }
+    }
+
+    @Override
+    public void unregisterDiscoveryListener(UsbSerialDiscoveryListener listener) {
+        discoveryListeners.remove(listener);
+    }
+
+    private void startWatching() {
+        if (usbSerialScanner.getWatchedDirectories().isEmpty()) {
+            return;
+        }
+        try {
+            WatchService newWatchService = FileSystems.getDefault().newWatchService();
+            watchService = newWatchService;
+            registerWatchKeys();
+            Thread thread = ThreadFactoryBuilder.create().withName(THREAD_NAME + "-watcher").withDaemonThreads(true)
+                    .build().newThread(() -> processWatchEvents(newWatchService));
+            thread.start();
+            watchThread = thread;
+        } catch (IOException e) {
+            logger.warn("Cannot watch for USB-Serial devices, only scanning every {} seconds: {}",
+                    reconcileInterval.getSeconds(), e.getMessage());
+        }
+    }
+
+    private void stopWatching() {
+        WatchService currentWatchService = watchService;
+        if (currentWatchService != null) {
+            try {
+                currentWatchService.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close the watch service: {}", e.getMessage());
+            }
+            watchService = null;
+        }
+        Thread currentWatchThread = watchThread;
+        if (currentWatchThread != null) {
+            currentWatchThread.interrupt();
+            watchThread = null;
+        }
+        watchKeys.clear();
+    }
+
+    /**
+     * Registers all watched directories which exist but are not yet registered, as e.g. the serial/by-id directory
+     * only exists as long as a serial device is plugged in.
+     */
+    private synchronized void registerWatchKeys() {
+        WatchService currentWatchService = watchService;
+        if (currentWatchService == null) {
+            return;
+        }
+        watchKeys.values().removeIf(watchKey -> !watchKey.isValid());
+        for (Path directory : usbSerialScanner.getWatchedDirectories()) {
+            if (!watchKeys.containsKey(directory) && Files.isDirectory(directory)) {
+                try {
+                    watchKeys.put(directory, directory.register(currentWatchService, ENTRY_CREATE, ENTRY_DELETE));
+                    logger.trace("Watching directory {} for USB-Serial devices", directory);
+                } catch (IOException | ClosedWatchServiceException e) {
+                    logger.debug("Cannot watch directory {}: {}", directory, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void processWatchEvents(WatchService watchService) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey watchKey = watchService.take();
+                // the events themselves are not needed, as a (delta) scan always covers all devices
+                watchKey.pollEvents();
+                watchKey.reset();
+                scheduleScan();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // background scanning has been stopped
+        }
+    }
+
+    private synchronized void scheduleScan() {
+        ScheduledFuture<?> currentPendingScanJob = pendingScanJob;
+        if (reconcileJob != null && (currentPendingScanJob == null || currentPendingScanJob.isDone())) {
+            pendingScanJob = scheduler.schedule(() -> {
+                registerWatchKeys();
+                singleScanInternal(false);
+            }, SETTLE_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void singleScanInternal(boolean announceUnchangedDevices) {
+        try {
+            Delta<UsbSerialDeviceInformation> delta = deltaUsbSerialScanner.scan();
+            announceAddedDevices(delta.getAdded());
+            announceRemovedDevices(delta.getRemoved());
+            if (announceUnchangedDevices) {
+                announceAddedDevices(delta.getUnchanged());
+            }
+        } catch (IOException e) {
+            logger.debug("A {} prevented a scan for USB serial devices: {}", e.getClass().getSimpleName(),
+                    e.getMessage());
+        }
+    }
+
+    private void announceAddedDevices(Set<UsbSerialDeviceInformation> deviceInfos) {
+        for (UsbSerialDeviceInformation deviceInfo : deviceInfos) {
+            for (UsbSerialDiscoveryListener listener : discoveryListeners) {
+                listener.usbSerialDeviceDiscovered(deviceInfo);
+            }
+        }
+    }
+
+    private void announceRemovedDevices(Set<UsbSerialDeviceInformation> deviceInfos) {
+        for (UsbSerialDeviceInformation deviceInfo : deviceInfos) {
+            for (UsbSerialDiscoveryListener listener : discoveryListeners) {
+                listener.usbSerialDeviceRemoved(deviceInfo);
+            }
+        }
+    }
+}
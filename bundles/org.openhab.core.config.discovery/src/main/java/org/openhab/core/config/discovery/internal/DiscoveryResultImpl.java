@@ -52,6 +52,23 @@ public class DiscoveryResultImpl implements DiscoveryResult {
     DiscoveryResultImpl() {
     }
 
+    /**
+     * Package protected copy constructor.
+     *
+     * @param other the discovery result to copy
+     */
+    DiscoveryResultImpl(DiscoveryResultImpl other) {
+        this.bridgeUID = other.bridgeUID;
+        this.thingUID = other.thingUID;
+        this.thingTypeUID = other.thingTypeUID;
+        this.properties = other.properties;
+        this.representationProperty = other.representationProperty;
+        this.flag = other.flag;
+        this.label = other.label;
+        this.timestamp = other.timestamp;
+        this.timeToLive = other.timeToLive;
+    }
+
     /**
      * Creates a new instance of this class with the specified parameters.
      *
@@ -16,12 +16,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -31,8 +33,12 @@ import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryServiceRegistry;
 import org.openhab.core.config.discovery.ScanListener;
+import org.openhab.core.config.discovery.inbox.events.InboxRemovedEvent;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.events.ThingRemovedEvent;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -48,8 +54,14 @@ import org.slf4j.LoggerFactory;
  * This implementation tracks any existing {@link DiscoveryService} and registers itself as {@link DiscoveryListener} on
  * it.
  * <p>
- * This implementation does neither handle memory leaks (orphaned listener instances) nor blocked listeners. No
- * performance optimizations have been done (synchronization).
+ * Results are cached per {@link DiscoveryService}. A result which is identical to the cached one of the same service is
+ * not passed on to the listeners again, unless it has not been passed on for a while, its time to live requires it
+ * or the service is about to remove older results. Results of different services are processed concurrently.
+ * <p>
+ * A result is passed on again after a scan of its service has been started, or once its thing has been removed from the
+ * inbox or the thing registry.
+ * <p>
+ * This implementation does neither handle memory leaks (orphaned listener instances) nor blocked listeners.
  *
  * @author Michael Grammling - Initial contribution
  * @author Kai Kreuzer - Refactored API
@@ -59,11 +71,49 @@ import org.slf4j.LoggerFactory;
  * @see DiscoveryServiceRegistry
  * @see DiscoveryListener
  */
-@Component(immediate = true, service = DiscoveryServiceRegistry.class)
+@Component(immediate = true, service = { DiscoveryServiceRegistry.class, EventSubscriber.class })
 @NonNullByDefault
-public final class DiscoveryServiceRegistryImpl implements DiscoveryServiceRegistry, DiscoveryListener {
+public final class DiscoveryServiceRegistryImpl
+        implements DiscoveryServiceRegistry, DiscoveryListener, EventSubscriber {
+
+    private static final Set<String> SUBSCRIBED_EVENT_TYPES = Set.of(InboxRemovedEvent.TYPE, ThingRemovedEvent.TYPE);
+
+    // identical results of a discovery service are passed on to the listeners at most once within this period
+    private static final long DUPLICATE_SUPPRESSION_PERIOD_MS = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * A result as it was received from a discovery service.
+     *
+     * @param result the most recently received result
+     * @param properties a copy of the properties of the result, as listeners may normalize the properties in place
+     * @param deliveredAt the time the result has been passed on to the listeners the last time
+     * @param seenAt the time the result has been received the last time
+     */
+    private record CachedResult(DiscoveryResult result, Map<String, Object> properties, long deliveredAt,
+            long seenAt) {
+
+        CachedResult(DiscoveryResult result, long now) {
+            this(result, new HashMap<>(result.getProperties()), now, now);
+        }
 
-    private final Map<DiscoveryService, Set<DiscoveryResult>> cachedResults = new HashMap<>();
+        boolean isDuplicate(DiscoveryResult other, long now) {
+            if (now - deliveredAt >= DUPLICATE_SUPPRESSION_PERIOD_MS) {
+                return false;
+            }
+            long ttl = other.getTimeToLive();
+            if (ttl != DiscoveryResult.TTL_UNLIMITED && now - deliveredAt >= TimeUnit.SECONDS.toMillis(ttl) / 2) {
+                return false;
+            }
+            return properties.equals(other.getProperties()) && ttl == result.getTimeToLive()
+                    && Objects.equals(result.getThingTypeUID(), other.getThingTypeUID())
+                    && Objects.equals(result.getBridgeUID(), other.getBridgeUID())
+                    && Objects.equals(result.getLabel(), other.getLabel())
+                    && Objects.equals(result.getRepresentationProperty(), other.getRepresentationProperty());
+        }
+    }
+
+    // the results of each service are guarded by their map, which serializes the notifications of the same service
+    private final Map<DiscoveryService, Map<ThingUID, CachedResult>> cachedResults = new ConcurrentHashMap<>();
 
     private final class AggregatingScanListener implements ScanListener {
 
@@ -176,11 +226,11 @@ public final class DiscoveryServiceRegistryImpl implements DiscoveryServiceRegis
 
     @Override
     public void addDiscoveryListener(DiscoveryListener listener) throws IllegalStateException {
-        synchronized (cachedResults) {
-            cachedResults.forEach((service, results) -> {
-                results.forEach(result -> listener.thingDiscovered(service, result));
-            });
-        }
+        cachedResults.forEach((service, results) -> {
+            synchronized (results) {
+                results.values().forEach(cachedResult -> listener.thingDiscovered(service, cachedResult.result()));
+            }
+        });
         listeners.add(listener);
     }
 
@@ -240,15 +290,29 @@ public final class DiscoveryServiceRegistryImpl implements DiscoveryServiceRegis
     }
 
     @Override
-    public synchronized void removeDiscoveryListener(DiscoveryListener listener) throws IllegalStateException {
+    public void removeDiscoveryListener(DiscoveryListener listener) throws IllegalStateException {
         listeners.remove(listener);
     }
 
     @Override
-    public synchronized void thingDiscovered(final DiscoveryService source, final DiscoveryResult result) {
-        synchronized (cachedResults) {
-            cachedResults.computeIfAbsent(source, unused -> new HashSet<>()).add(result);
+    public void thingDiscovered(final DiscoveryService source, final DiscoveryResult result) {
+        Map<ThingUID, CachedResult> sourceResults = getCachedResults(source);
+        synchronized (sourceResults) {
+            ThingUID thingUID = result.getThingUID();
+            long now = System.currentTimeMillis();
+            CachedResult cachedResult = sourceResults.get(thingUID);
+            if (cachedResult != null && cachedResult.isDuplicate(result, now)) {
+                logger.trace("Discovery result for thing '{}' is unchanged, not notifying the listeners", thingUID);
+                sourceResults.put(thingUID,
+                        new CachedResult(result, cachedResult.properties(), cachedResult.deliveredAt(), now));
+                return;
+            }
+            sourceResults.put(thingUID, new CachedResult(result, now));
+            notifyThingDiscovered(source, result);
         }
+    }
+
+    private void notifyThingDiscovered(DiscoveryService source, DiscoveryResult result) {
         for (final DiscoveryListener listener : listeners) {
             try {
                 listener.thingDiscovered(source, result);
@@ -260,43 +324,81 @@ public final class DiscoveryServiceRegistryImpl implements DiscoveryServiceRegis
     }
 
     @Override
-    public synchronized void thingRemoved(final DiscoveryService source, final ThingUID thingUID) {
-        synchronized (cachedResults) {
-            Iterator<DiscoveryResult> it = cachedResults.getOrDefault(source, Set.of()).iterator();
-            while (it.hasNext()) {
-                if (it.next().getThingUID().equals(thingUID)) {
-                    it.remove();
+    public void thingRemoved(final DiscoveryService source, final ThingUID thingUID) {
+        Map<ThingUID, CachedResult> sourceResults = getCachedResults(source);
+        synchronized (sourceResults) {
+            sourceResults.remove(thingUID);
+            for (final DiscoveryListener listener : listeners) {
+                try {
+                    listener.thingRemoved(source, thingUID);
+                } catch (Exception ex) {
+                    logger.error("Cannot notify the DiscoveryListener '{}' on Thing removed event!",
+                            listener.getClass().getName(), ex);
                 }
             }
         }
-        for (final DiscoveryListener listener : listeners) {
-            try {
-                listener.thingRemoved(source, thingUID);
-            } catch (Exception ex) {
-                logger.error("Cannot notify the DiscoveryListener '{}' on Thing removed event!",
-                        listener.getClass().getName(), ex);
-            }
-        }
     }
 
     @Override
     public @Nullable Collection<ThingUID> removeOlderResults(final DiscoveryService source, final long timestamp,
             final @Nullable Collection<ThingTypeUID> thingTypeUIDs, @Nullable ThingUID bridgeUID) {
-        Set<ThingUID> removedResults = new HashSet<>();
-        for (final DiscoveryListener listener : listeners) {
-            try {
-                Collection<ThingUID> olderResults = listener.removeOlderResults(source, timestamp, thingTypeUIDs,
-                        bridgeUID);
-                if (olderResults != null) {
-                    removedResults.addAll(olderResults);
+        Map<ThingUID, CachedResult> sourceResults = getCachedResults(source);
+        synchronized (sourceResults) {
+            // results which have been received again since the given timestamp must not be considered as older
+            // results, so the suppressed duplicates are passed on now
+            long now = System.currentTimeMillis();
+            sourceResults.replaceAll((thingUID, cachedResult) -> {
+                if (cachedResult.deliveredAt() < timestamp && cachedResult.seenAt() >= timestamp) {
+                    notifyThingDiscovered(source, cachedResult.result());
+                    return new CachedResult(cachedResult.result(), cachedResult.properties(), now, now);
+                }
+                return cachedResult;
+            });
+
+            Set<ThingUID> removedResults = new HashSet<>();
+            for (final DiscoveryListener listener : listeners) {
+                try {
+                    Collection<ThingUID> olderResults = listener.removeOlderResults(source, timestamp, thingTypeUIDs,
+                            bridgeUID);
+                    if (olderResults != null) {
+                        removedResults.addAll(olderResults);
+                    }
+                } catch (Exception ex) {
+                    logger.error("Cannot notify the DiscoveryListener '{}' on all things removed event!",
+                            listener.getClass().getName(), ex);
                 }
-            } catch (Exception ex) {
-                logger.error("Cannot notify the DiscoveryListener '{}' on all things removed event!",
-                        listener.getClass().getName(), ex);
             }
+            sourceResults.keySet().removeAll(removedResults);
+
+            return removedResults;
         }
+    }
 
-        return removedResults;
+    private Map<ThingUID, CachedResult> getCachedResults(DiscoveryService source) {
+        return cachedResults.computeIfAbsent(source, unused -> new HashMap<>());
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return SUBSCRIBED_EVENT_TYPES;
+    }
+
+    @Override
+    public void receive(Event event) {
+        // a result of a thing which is neither in the inbox nor in the thing registry anymore must not be suppressed
+        if (event instanceof InboxRemovedEvent inboxRemovedEvent) {
+            removeCachedResults(new ThingUID(inboxRemovedEvent.getDiscoveryResult().thingUID));
+        } else if (event instanceof ThingRemovedEvent thingRemovedEvent) {
+            removeCachedResults(new ThingUID(thingRemovedEvent.getThing().UID));
+        }
+    }
+
+    private void removeCachedResults(ThingUID thingUID) {
+        cachedResults.values().forEach(results -> {
+            synchronized (results) {
+                results.remove(thingUID);
+            }
+        });
     }
 
     private boolean abortScans(Set<DiscoveryService> discoveryServices) {
@@ -354,6 +456,14 @@ public final class DiscoveryServiceRegistryImpl implements DiscoveryServiceRegis
             logger.debug("Triggering scan for thing types '{}' on '{}'...", supportedThingTypes,
                     discoveryService.getClass().getSimpleName());
 
+            // all results of an explicitly started scan are passed on, the cached results are kept for new listeners
+            Map<ThingUID, CachedResult> results = cachedResults.get(discoveryService);
+            if (results != null) {
+                synchronized (results) {
+                    results.replaceAll((thingUID, cachedResult) -> new CachedResult(cachedResult.result(),
+                            cachedResult.properties(), 0, cachedResult.seenAt()));
+                }
+            }
             discoveryService.startScan(listener);
             return true;
         } catch (Exception ex) {
@@ -415,9 +525,7 @@ public final class DiscoveryServiceRegistryImpl implements DiscoveryServiceRegis
     private void removeDiscoveryServiceActivated(DiscoveryService discoveryService) {
         discoveryServices.remove(discoveryService);
         discoveryService.removeDiscoveryListener(this);
-        synchronized (cachedResults) {
-            cachedResults.remove(discoveryService);
-        }
+        cachedResults.remove(discoveryService);
     }
 
     private int getMaxScanTimeout(Set<DiscoveryService> discoveryServices) {
@@ -12,14 +12,13 @@
  */
 package org.openhab.core.config.discovery.internal;
 
-import static org.openhab.core.config.discovery.inbox.InboxPredicates.forThingUID;
-
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -32,6 +31,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -80,8 +80,10 @@ import org.slf4j.LoggerFactory;
  * This implementation uses the {@link DiscoveryServiceRegistry} to register itself as {@link DiscoveryListener} to
  * receive {@link DiscoveryResult} objects automatically from {@link DiscoveryService}s.
  * <p>
- * This implementation does neither handle memory leaks (orphaned listener instances) nor blocked listeners. No
- * performance optimizations have been done (synchronization).
+ * All results are kept in memory, indexed by their {@link ThingUID} and by the {@link ThingUID} of their bridge.
+ * Changes are written to the {@link Storage} in batches, shortly after they have happened.
+ * <p>
+ * This implementation does neither handle memory leaks (orphaned listener instances) nor blocked listeners.
  *
  * @author Michael Grammling - Initial contribution
  * @author Dennis Nobel - Added automated removing of entries
@@ -129,6 +131,9 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         }
     }
 
+    // delay for writing changed results to the storage, so that bursts of discovery results are written in one go
+    private static final long STORAGE_WRITE_DELAY_MS = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(PersistentInbox.class);
 
     private final Set<InboxListener> listeners = new CopyOnWriteArraySet<>();
@@ -139,6 +144,11 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
     private final ConfigDescriptionRegistry configDescRegistry;
     private final Storage<DiscoveryResult> discoveryResultStorage;
     private final Map<DiscoveryResult, Class<?>> resultDiscovererMap = new ConcurrentHashMap<>();
+    private final Map<ThingUID, DiscoveryResult> results = new ConcurrentHashMap<>();
+    private final Map<ThingUID, Set<ThingUID>> resultsByBridge = new ConcurrentHashMap<>();
+    private final Set<ThingUID> pendingStorageWrites = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("discovery");
+    private @Nullable ScheduledFuture<?> storageWriteJob;
     private @NonNullByDefault({}) ScheduledFuture<?> timeToLiveChecker;
     private @NonNullByDefault({}) ScheduledFuture<?> delayedDiscoveryResultProcessor;
 
@@ -163,9 +173,14 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Activate
     protected void activate() {
+        for (@Nullable DiscoveryResult result : discoveryResultStorage.getValues()) {
+            if (result != null) {
+                results.put(result.getThingUID(), result);
+                addToBridgeIndex(result);
+            }
+        }
         discoveryServiceRegistry.addDiscoveryListener(this);
         thingRegistry.addRegistryChangeListener(this);
-        ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("discovery");
         timeToLiveChecker = scheduler.scheduleWithFixedDelay(new TimeToLiveCheckingThread(this), 0, 30,
                 TimeUnit.SECONDS);
         delayedDiscoveryResultProcessor = scheduler.scheduleWithFixedDelay(
@@ -180,6 +195,14 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         timeToLiveChecker.cancel(true);
         delayedDiscoveryResultProcessor.cancel(true);
         delayedDiscoveryResults.values().forEach(dr -> dr.future.complete(false));
+        synchronized (pendingStorageWrites) {
+            ScheduledFuture<?> job = storageWriteJob;
+            if (job != null) {
+                job.cancel(false);
+                storageWriteJob = null;
+            }
+        }
+        writePendingResults();
     }
 
     @Override
@@ -187,14 +210,13 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         if (thingUID == null) {
             throw new IllegalArgumentException("Thing UID must not be null");
         }
-        List<DiscoveryResult> results = stream().filter(forThingUID(thingUID)).toList();
-        if (results.isEmpty()) {
+        DiscoveryResult result = get(thingUID);
+        if (result == null) {
             throw new IllegalArgumentException("No Thing with UID " + thingUID.getAsString() + " in inbox");
         }
         if (newThingId != null && newThingId.contains(AbstractUID.SEPARATOR)) {
             throw new IllegalArgumentException("New Thing ID " + newThingId + " must not contain multiple segments");
         }
-        DiscoveryResult result = results.get(0);
         final Map<String, String> properties = new HashMap<>();
         final Map<String, Object> configParams = new HashMap<>();
         getPropsAndConfigParams(result, properties, configParams);
@@ -229,7 +251,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
     private Map<ThingUID, DiscoveryResultWrapper> delayedDiscoveryResults = new ConcurrentHashMap<>();
 
     @Override
-    public synchronized CompletableFuture<Boolean> add(final @Nullable DiscoveryResult discoveryResult)
+    public CompletableFuture<Boolean> add(final @Nullable DiscoveryResult discoveryResult)
             throws IllegalStateException {
         if (discoveryResult == null) {
             return CompletableFuture.completedFuture(false);
@@ -274,18 +296,20 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         Thing thing = thingRegistry.get(thingUID);
 
         if (thing == null) {
-            DiscoveryResult inboxResult = get(thingUID);
+            DiscoveryResult inboxResult = results.putIfAbsent(thingUID, discoveryResult);
 
             if (inboxResult == null) {
-                discoveryResultStorage.put(discoveryResult.getThingUID().toString(), discoveryResult);
+                addToBridgeIndex(discoveryResult);
+                scheduleStorageWrite(thingUID);
                 notifyListeners(discoveryResult, EventType.ADDED);
                 logger.info("Added new thing '{}' to inbox.", thingUID);
                 discoveryResultWrapper.future.complete(true);
             } else {
-                if (inboxResult instanceof DiscoveryResultImpl resultImpl) {
-                    resultImpl.synchronize(discoveryResult);
-                    discoveryResultStorage.put(discoveryResult.getThingUID().toString(), resultImpl);
-                    notifyListeners(resultImpl, EventType.UPDATED);
+                if (inboxResult instanceof DiscoveryResultImpl) {
+                    DiscoveryResult updatedResult = updateResult(thingUID,
+                            resultImpl -> resultImpl.synchronize(discoveryResult));
+                    scheduleStorageWrite(thingUID);
+                    notifyListeners(updatedResult != null ? updatedResult : inboxResult, EventType.UPDATED);
                     logger.debug("Updated discovery result for '{}'.", thingUID);
                     discoveryResultWrapper.future.complete(true);
                 } else {
@@ -372,34 +396,20 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Override
     public Stream<DiscoveryResult> stream() {
-        final Storage<DiscoveryResult> discoveryResultStorage = this.discoveryResultStorage;
-        if (discoveryResultStorage == null) {
-            final ScheduledFuture<?> timeToLiveChecker = this.timeToLiveChecker;
-            logger.error("The OSGi lifecycle has been violated (storage: {}, ttl checker cancelled: {}).",
-                    this.discoveryResultStorage == null ? "null" : this.discoveryResultStorage,
-                    timeToLiveChecker == null ? "null" : timeToLiveChecker.isCancelled());
-            return Stream.empty();
-        }
-        final Collection<@Nullable DiscoveryResult> values = discoveryResultStorage.getValues();
-        if (values == null) {
-            logger.warn(
-                    "The storage service violates the nullness requirements (get values must not return null) (storage class: {}).",
-                    discoveryResultStorage.getClass());
-            return Stream.empty();
-        }
-        return (Stream<DiscoveryResult>) values.stream().filter(Objects::nonNull);
+        return results.values().stream();
     }
 
     @Override
-    public synchronized boolean remove(@Nullable ThingUID thingUID) throws IllegalStateException {
+    public boolean remove(@Nullable ThingUID thingUID) throws IllegalStateException {
         if (thingUID != null) {
-            DiscoveryResult discoveryResult = get(thingUID);
+            DiscoveryResult discoveryResult = results.remove(thingUID);
             if (discoveryResult != null) {
+                removeFromBridgeIndex(discoveryResult);
+                scheduleStorageWrite(thingUID);
                 if (!isInRegistry(thingUID)) {
                     removeResultsForBridge(thingUID);
                 }
                 resultDiscovererMap.remove(discoveryResult);
-                discoveryResultStorage.remove(thingUID.toString());
                 notifyListeners(discoveryResult, EventType.REMOVED);
                 return true;
             }
@@ -475,10 +485,11 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
     @Override
     public void setFlag(ThingUID thingUID, @Nullable DiscoveryResultFlag flag) {
         DiscoveryResult result = get(thingUID);
-        if (result instanceof DiscoveryResultImpl resultImpl) {
-            resultImpl.setFlag((flag == null) ? DiscoveryResultFlag.NEW : flag);
-            discoveryResultStorage.put(resultImpl.getThingUID().toString(), resultImpl);
-            notifyListeners(resultImpl, EventType.UPDATED);
+        if (result instanceof DiscoveryResultImpl) {
+            DiscoveryResult updatedResult = updateResult(thingUID,
+                    resultImpl -> resultImpl.setFlag((flag == null) ? DiscoveryResultFlag.NEW : flag));
+            scheduleStorageWrite(thingUID);
+            notifyListeners(updatedResult != null ? updatedResult : result, EventType.UPDATED);
         } else if (result == null) {
             logger.warn("Cannot set flag for result '{}' because it can't be found in storage", thingUID);
         } else {
@@ -496,10 +507,75 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
      *         null, if no discovery result could be found
      */
     private @Nullable DiscoveryResult get(ThingUID thingUID) {
-        if (thingUID != null) {
-            return discoveryResultStorage.get(thingUID.toString());
+        return results.get(thingUID);
+    }
+
+    /**
+     * Replaces the result for a thing by an updated copy. Results are never modified once they are in the inbox, so
+     * they can be handed out without copying them.
+     *
+     * @param thingUID the {@link ThingUID} of the result
+     * @param update the update, which is applied to the copy
+     * @return the updated result or null, if the inbox contains no result for the thing anymore
+     */
+    private @Nullable DiscoveryResult updateResult(ThingUID thingUID, Consumer<DiscoveryResultImpl> update) {
+        return results.computeIfPresent(thingUID, (uid, result) -> {
+            if (result instanceof DiscoveryResultImpl resultImpl) {
+                DiscoveryResultImpl updatedResult = new DiscoveryResultImpl(resultImpl);
+                update.accept(updatedResult);
+                return updatedResult;
+            }
+            return result;
+        });
+    }
+
+    private void addToBridgeIndex(DiscoveryResult result) {
+        ThingUID bridgeUID = result.getBridgeUID();
+        if (bridgeUID != null) {
+            resultsByBridge.computeIfAbsent(bridgeUID, uid -> ConcurrentHashMap.newKeySet()).add(result.getThingUID());
+        }
+    }
+
+    private void removeFromBridgeIndex(DiscoveryResult result) {
+        ThingUID bridgeUID = result.getBridgeUID();
+        if (bridgeUID != null) {
+            resultsByBridge.computeIfPresent(bridgeUID, (uid, thingUIDs) -> {
+                thingUIDs.remove(result.getThingUID());
+                return thingUIDs.isEmpty() ? null : thingUIDs;
+            });
+        }
+    }
+
+    private void scheduleStorageWrite(ThingUID thingUID) {
+        pendingStorageWrites.add(thingUID);
+        synchronized (pendingStorageWrites) {
+            ScheduledFuture<?> job = storageWriteJob;
+            if (job == null || job.isDone()) {
+                storageWriteJob = scheduler.schedule(this::writePendingResults, STORAGE_WRITE_DELAY_MS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void writePendingResults() {
+        // results added from now on schedule a new write, all results added before are written by this run
+        synchronized (pendingStorageWrites) {
+            storageWriteJob = null;
+        }
+        for (Iterator<ThingUID> it = pendingStorageWrites.iterator(); it.hasNext();) {
+            ThingUID thingUID = it.next();
+            it.remove();
+            DiscoveryResult result = results.get(thingUID);
+            try {
+                if (result == null) {
+                    discoveryResultStorage.remove(thingUID.toString());
+                } else {
+                    discoveryResultStorage.put(thingUID.toString(), result);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Failed to write discovery result '{}' to the storage: {}", thingUID, e.getMessage());
+            }
         }
-        return null;
     }
 
     private void notifyListeners(DiscoveryResult result, EventType type) {
@@ -563,22 +639,18 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     private void removeResultsForBridge(ThingUID bridgeUID) {
         for (ThingUID thingUID : getResultsForBridge(bridgeUID)) {
-            DiscoveryResult discoveryResult = get(thingUID);
+            DiscoveryResult discoveryResult = results.remove(thingUID);
             if (discoveryResult != null) {
-                discoveryResultStorage.remove(thingUID.toString());
+                removeFromBridgeIndex(discoveryResult);
+                scheduleStorageWrite(thingUID);
                 notifyListeners(discoveryResult, EventType.REMOVED);
             }
         }
     }
 
     private List<ThingUID> getResultsForBridge(ThingUID bridgeUID) {
-        List<ThingUID> thingsForBridge = new ArrayList<>();
-        for (DiscoveryResult result : discoveryResultStorage.getValues()) {
-            if (bridgeUID.equals(result.getBridgeUID())) {
-                thingsForBridge.add(result.getThingUID());
-            }
-        }
-        return thingsForBridge;
+        Set<ThingUID> thingsForBridge = resultsByBridge.get(bridgeUID);
+        return thingsForBridge == null ? List.of() : new ArrayList<>(thingsForBridge);
     }
 
     /**
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.config.discovery.internal;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.config.discovery.DiscoveryListener;
+import org.openhab.core.config.discovery.DiscoveryResult;
+import org.openhab.core.config.discovery.DiscoveryResultBuilder;
+import org.openhab.core.config.discovery.DiscoveryService;
+import org.openhab.core.config.discovery.inbox.events.InboxEventFactory;
+import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+import org.openhab.core.thing.events.ThingEventFactory;
+
+/**
+ * Tests the handling of discovery results by the {@link DiscoveryServiceRegistryImpl}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class DiscoveryServiceRegistryImplTest {
+
+    private static final ThingTypeUID THING_TYPE_UID = new ThingTypeUID("binding", "thing");
+    private static final ThingUID THING_UID = new ThingUID(THING_TYPE_UID, "id");
+
+    private @Mock @NonNullByDefault({}) DiscoveryService discoveryServiceMock;
+    private @Mock @NonNullByDefault({}) DiscoveryListener discoveryListenerMock;
+
+    private @NonNullByDefault({}) DiscoveryServiceRegistryImpl discoveryServiceRegistry;
+
+    @BeforeEach
+    public void setup() {
+        discoveryServiceRegistry = new DiscoveryServiceRegistryImpl();
+        discoveryServiceRegistry.addDiscoveryService(discoveryServiceMock);
+        discoveryServiceRegistry.activate();
+        discoveryServiceRegistry.addDiscoveryListener(discoveryListenerMock);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        discoveryServiceRegistry.deactivate();
+    }
+
+    @Test
+    public void testIdenticalResultIsNotPassedOnAgain() {
+        DiscoveryResult result = createResult("192.168.0.1");
+
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, result);
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, createResult("192.168.0.1"));
+
+        verify(discoveryListenerMock).thingDiscovered(eq(discoveryServiceMock), same(result));
+        verifyNoMoreInteractions(discoveryListenerMock);
+    }
+
+    @Test
+    public void testChangedResultIsPassedOn() {
+        DiscoveryResult result = createResult("192.168.0.1");
+        DiscoveryResult changedResult = createResult("192.168.0.2");
+
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, result);
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, changedResult);
+
+        verify(discoveryListenerMock).thingDiscovered(eq(discoveryServiceMock), same(result));
+        verify(discoveryListenerMock).thingDiscovered(eq(discoveryServiceMock), same(changedResult));
+    }
+
+    @Test
+    public void testResultIsPassedOnAgainAfterRemoval() {
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, createResult("192.168.0.1"));
+        discoveryServiceRegistry.thingRemoved(discoveryServiceMock, THING_UID);
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, createResult("192.168.0.1"));
+
+        verify(discoveryListenerMock, times(2)).thingDiscovered(eq(discoveryServiceMock), any());
+        verify(discoveryListenerMock).thingRemoved(discoveryServiceMock, THING_UID);
+    }
+
+    @Test
+    public void testSuppressedResultIsPassedOnBeforeOlderResultsAreRemoved() throws InterruptedException {
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, createResult("192.168.0.1"));
+        Thread.sleep(10);
+        long timestampOfScan = System.currentTimeMillis();
+        DiscoveryResult rediscoveredResult = createResult("192.168.0.1");
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, rediscoveredResult);
+        verify(discoveryListenerMock, never()).thingDiscovered(eq(discoveryServiceMock), same(rediscoveredResult));
+
+        discoveryServiceRegistry.removeOlderResults(discoveryServiceMock, timestampOfScan, List.of(THING_TYPE_UID),
+                null);
+
+        InOrder inOrder = inOrder(discoveryListenerMock);
+        inOrder.verify(discoveryListenerMock).thingDiscovered(eq(discoveryServiceMock), same(rediscoveredResult));
+        inOrder.verify(discoveryListenerMock).removeOlderResults(discoveryServiceMock, timestampOfScan,
+                List.of(THING_TYPE_UID), null);
+    }
+
+    @Test
+    public void testIdenticalResultIsPassedOnAgainAfterScanStarted() {
+        when(discoveryServiceMock.getSupportedThingTypes()).thenReturn(Set.of(THING_TYPE_UID));
+
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, createResult("192.168.0.1"));
+        discoveryServiceRegistry.startScan(THING_TYPE_UID, null);
+        DiscoveryResult rediscoveredResult = createResult("192.168.0.1");
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, rediscoveredResult);
+
+        verify(discoveryServiceMock).startScan(null);
+        verify(discoveryListenerMock).thingDiscovered(eq(discoveryServiceMock), same(rediscoveredResult));
+    }
+
+    @Test
+    public void testIdenticalResultIsPassedOnAgainAfterInboxEntryRemoved() {
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, createResult("192.168.0.1"));
+        discoveryServiceRegistry.receive(InboxEventFactory.createRemovedEvent(createResult("192.168.0.1")));
+        DiscoveryResult rediscoveredResult = createResult("192.168.0.1");
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, rediscoveredResult);
+
+        verify(discoveryListenerMock).thingDiscovered(eq(discoveryServiceMock), same(rediscoveredResult));
+    }
+
+    @Test
+    public void testIdenticalResultIsPassedOnAgainAfterThingRemoved() {
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, createResult("192.168.0.1"));
+        discoveryServiceRegistry
+                .receive(ThingEventFactory.createRemovedEvent(ThingBuilder.create(THING_TYPE_UID, THING_UID).build()));
+        DiscoveryResult rediscoveredResult = createResult("192.168.0.1");
+        discoveryServiceRegistry.thingDiscovered(discoveryServiceMock, rediscoveredResult);
+
+        verify(discoveryListenerMock).thingDiscovered(eq(discoveryServiceMock), same(rediscoveredResult));
+    }
+
+    private DiscoveryResult createResult(String host) {
+        return DiscoveryResultBuilder.create(THING_UID).withProperties(Map.of("host", host)).withLabel("Thing")
+                .withRepresentationProperty("host").build();
+    }
+}
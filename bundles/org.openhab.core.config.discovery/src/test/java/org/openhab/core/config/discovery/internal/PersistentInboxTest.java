@@ -41,18 +41,24 @@ import org.openhab.core.config.core.ConfigDescriptionRegistry;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
+import org.openhab.core.config.discovery.DiscoveryResultFlag;
 import org.openhab.core.config.discovery.DiscoveryServiceRegistry;
+import org.openhab.core.config.discovery.inbox.Inbox;
+import org.openhab.core.config.discovery.inbox.InboxListener;
 import org.openhab.core.config.discovery.inbox.events.InboxAddedEvent;
 import org.openhab.core.config.discovery.inbox.events.InboxUpdatedEvent;
+import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.storage.Storage;
 import org.openhab.core.storage.StorageService;
+import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ManagedThingProvider;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingRegistry;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.openhab.core.thing.binding.builder.BridgeBuilder;
 import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.openhab.core.thing.type.ThingType;
 import org.openhab.core.thing.type.ThingTypeBuilder;
@@ -188,51 +194,98 @@ public class PersistentInboxTest {
     }
 
     @Test
-    public void testEmittedAddedResultIsReadFromStorage() {
-        DiscoveryResult result = DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build();
+    public void testEmittedAddedResultContainsChangesOfListeners() {
+        DiscoveryResult discoveryResult = DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build();
 
         EventPublisher eventPublisher = mock(EventPublisher.class);
         inbox.setEventPublisher(eventPublisher);
-
-        when(storageMock.get(THING_UID.toString())) //
-                .thenReturn(null) //
-                .thenReturn(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
+        inbox.addInboxListener(new InboxListener() {
+            @Override
+            public void thingAdded(Inbox source, DiscoveryResult result) {
+                source.setFlag(result.getThingUID(), DiscoveryResultFlag.IGNORED);
+            }
+
+            @Override
+            public void thingUpdated(Inbox source, DiscoveryResult result) {
+            }
+
+            @Override
+            public void thingRemoved(Inbox source, DiscoveryResult result) {
+            }
+        });
 
         inbox.activate();
-        inbox.add(result);
+        inbox.add(discoveryResult);
+
+        ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
+        verify(eventPublisher, times(2)).post(eventCaptor.capture());
+        InboxAddedEvent addedEvent = eventCaptor.getAllValues().stream().filter(InboxAddedEvent.class::isInstance)
+                .map(InboxAddedEvent.class::cast).findFirst().orElseThrow();
+        assertEquals(DiscoveryResultFlag.IGNORED, addedEvent.getDiscoveryResult().flag);
+    }
+
+    @Test
+    public void testEmittedUpdatedResultContainsSynchronizedResult() {
+        EventPublisher eventPublisher = mock(EventPublisher.class);
+        inbox.setEventPublisher(eventPublisher);
 
-        // 1st call checks existence of the result in the storage (returns null)
-        // 2nd call retrieves the stored instance before the event gets emitted
-        // (modified due to storage mock configuration)
-        verify(storageMock, times(2)).get(THING_UID.toString());
+        inbox.activate();
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build());
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
 
-        ArgumentCaptor<InboxAddedEvent> eventCaptor = ArgumentCaptor.forClass(InboxAddedEvent.class);
+        ArgumentCaptor<InboxUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(InboxUpdatedEvent.class);
         verify(eventPublisher).post(eventCaptor.capture());
         assertThat(eventCaptor.getValue().getDiscoveryResult().properties, hasEntry("foo", "bar"));
     }
 
     @Test
-    public void testEmittedUpdatedResultIsReadFromStorage() {
-        DiscoveryResult result = DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build();
+    public void testHandedOutResultIsNotModifiedByUpdates() {
+        inbox.activate();
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build());
+        DiscoveryResult result = inbox.stream().findFirst().orElseThrow();
 
-        EventPublisher eventPublisher = mock(EventPublisher.class);
-        inbox.setEventPublisher(eventPublisher);
+        inbox.setFlag(THING_UID, DiscoveryResultFlag.IGNORED);
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
+
+        assertEquals(DiscoveryResultFlag.NEW, result.getFlag());
+        assertThat(result.getProperties(), hasEntry("foo", 3));
+        DiscoveryResult updatedResult = inbox.stream().findFirst().orElseThrow();
+        assertEquals(DiscoveryResultFlag.IGNORED, updatedResult.getFlag());
+        assertThat(updatedResult.getProperties(), hasEntry("foo", "bar"));
+    }
 
-        when(storageMock.get(THING_UID.toString())) //
-                .thenReturn(result) //
-                .thenReturn(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
+    @Test
+    public void testResultsAreLoadedFromStorageOnActivation() {
+        ThingUID bridgeUID = new ThingUID(THING_TYPE_UID, "bridge");
+        ThingUID thingUID = new ThingUID(THING_TYPE_UID, bridgeUID, "child");
+        DiscoveryResult result = DiscoveryResultBuilder.create(thingUID).withBridge(bridgeUID).build();
+        when(storageMock.getValues()).thenReturn(List.of(result));
 
         inbox.activate();
-        inbox.add(result);
 
-        // 1st call checks existence of the result in the storage (returns the original result)
-        // 2nd call retrieves the stored instance before the event gets emitted
-        // (modified due to storage mock configuration)
-        verify(storageMock, times(2)).get(THING_UID.toString());
+        assertEquals(List.of(result), inbox.getAll());
+        verify(storageMock, never()).get(any());
 
-        ArgumentCaptor<InboxUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(InboxUpdatedEvent.class);
-        verify(eventPublisher).post(eventCaptor.capture());
-        assertThat(eventCaptor.getValue().getDiscoveryResult().properties, hasEntry("foo", "bar"));
+        Bridge bridge = BridgeBuilder.create(THING_TYPE_UID, bridgeUID).build();
+        inbox.removed(bridge);
+        assertEquals(List.of(), inbox.getAll());
+    }
+
+    @Test
+    public void testChangesAreWrittenToStorageInBatches() {
+        inbox.activate();
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).build());
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
+        inbox.add(DiscoveryResultBuilder.create(THING_OTHER_UID).build());
+        inbox.remove(THING_OTHER_UID);
+
+        verify(storageMock, never()).put(any(), any());
+
+        inbox.deactivate();
+
+        verify(storageMock, times(1)).put(eq(THING_UID.toString()), any());
+        verify(storageMock, never()).put(eq(THING_OTHER_UID.toString()), any());
+        verify(storageMock).remove(THING_OTHER_UID.toString());
     }
 
     private void configureConfigDescriptionRegistryMock(String paramName, Type type) {
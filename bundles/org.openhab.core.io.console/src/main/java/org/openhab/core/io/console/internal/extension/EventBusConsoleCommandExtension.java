@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.console.internal.extension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.EventStatistics;
+import org.openhab.core.events.EventStatistics.LatencySnapshot;
+import org.openhab.core.events.EventStatistics.SubscriberStatistics;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Console command extension to show the {@link EventStatistics} of the event bus.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@Component(service = ConsoleCommandExtension.class)
+@NonNullByDefault
+public class EventBusConsoleCommandExtension extends AbstractConsoleCommandExtension {
+
+    private static final String SUBCMD_STATS = "stats";
+
+    private final EventStatistics eventStatistics;
+
+    @Activate
+    public EventBusConsoleCommandExtension(final @Reference EventStatistics eventStatistics) {
+        super("eventbus", "Show the statistics of the event bus.");
+        this.eventStatistics = eventStatistics;
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(SUBCMD_STATS,
+                "shows the published events, the event queue and the handling times of the event subscribers"));
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 1 && SUBCMD_STATS.equals(args[0])) {
+            printStatistics(console);
+        } else {
+            printUsage(console);
+        }
+    }
+
+    private void printStatistics(Console console) {
+        console.println("Queue size: " + eventStatistics.getQueueSize());
+        console.println("Queue wait time: " + format(eventStatistics.getQueueWaitTime()));
+        console.println("Dropped events: " + eventStatistics.getDroppedEventCount());
+
+        console.println("Published events:");
+        new TreeMap<>(eventStatistics.getPublishedEventCounts())
+                .forEach((type, count) -> console.println("  " + type + ": " + count));
+
+        console.println("Subscribers:");
+        Map<String, SubscriberStatistics> subscribers = new TreeMap<>(eventStatistics.getSubscriberStatistics());
+        subscribers.forEach((subscriber, statistics) -> console.println("  " + subscriber + ": handled="
+                + statistics.handledEvents() + ", failed=" + statistics.failedEvents() + ", backlog="
+                + statistics.backlog() + ", handling time: " + format(statistics.handlingTime())));
+    }
+
+    private String format(LatencySnapshot snapshot) {
+        return String.format("count=%d, mean=%.3fms, p50=%.3fms, p95=%.3fms, p99=%.3fms, max=%.3fms",
+                snapshot.count(), toMillis(snapshot.meanNanos()), toMillis(snapshot.p50Nanos()),
+                toMillis(snapshot.p95Nanos()), toMillis(snapshot.p99Nanos()), toMillis(snapshot.maxNanos()));
+    }
+
+    private double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+}
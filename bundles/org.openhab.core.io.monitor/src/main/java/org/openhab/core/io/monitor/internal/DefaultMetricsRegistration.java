@@ -13,16 +13,24 @@
 package org.openhab.core.io.monitor.internal;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.automation.RuleRegistry;
+import org.openhab.core.cache.lru.MediaCacheStatistics;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.events.EventStatistics;
 import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.monitor.internal.metrics.BundleStateMetric;
+import org.openhab.core.io.monitor.internal.metrics.EventBusMetric;
 import org.openhab.core.io.monitor.internal.metrics.EventCountMetric;
 import org.openhab.core.io.monitor.internal.metrics.JVMMetric;
+import org.openhab.core.io.monitor.internal.metrics.MediaCacheMetric;
 import org.openhab.core.io.monitor.internal.metrics.OpenhabCoreMeterBinder;
 import org.openhab.core.io.monitor.internal.metrics.RuleMetric;
+import org.openhab.core.io.monitor.internal.metrics.ThingHandlerCommandMetric;
+import org.openhab.core.io.monitor.internal.metrics.ThingInitializationMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThingStateMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThreadPoolMetric;
 import org.openhab.core.service.ReadyMarker;
@@ -35,6 +43,8 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,26 +57,40 @@ import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
  *
  * @author Robert Bach - Initial contribution
  */
-@Component(immediate = true, service = MeterRegistryProvider.class)
+@Component(immediate = true, service = MeterRegistryProvider.class, //
+        configurationPid = DefaultMetricsRegistration.CONFIGURATION_PID)
 @NonNullByDefault
 public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, MeterRegistryProvider {
 
     private final Logger logger = LoggerFactory.getLogger(DefaultMetricsRegistration.class);
     public static final Tag OH_CORE_METRIC_TAG = Tag.of("openhab_core_metric", "true");
+    public static final String CONFIGURATION_PID = "org.openhab.metrics";
+    /**
+     * Enables the latency histograms (rule run, thing handler command and thing initialization durations), which are
+     * more expensive than plain counters
+     */
+    public static final String CONFIG_LATENCY_HISTOGRAMS = "latencyHistograms";
     private final BundleContext bundleContext;
     private final Set<OpenhabCoreMeterBinder> meters = new HashSet<>();
     private final CompositeMeterRegistry registry = Metrics.globalRegistry;
     private final ReadyService readyService;
     private final ThingRegistry thingRegistry;
     private final RuleRegistry ruleRegistry;
+    private final EventStatistics eventStatistics;
+    private final boolean latencyHistograms;
+    private final MediaCacheMetric mediaCacheMetric = new MediaCacheMetric(Set.of(OH_CORE_METRIC_TAG));
 
     @Activate
     public DefaultMetricsRegistration(BundleContext bundleContext, final @Reference ReadyService readyService,
-            final @Reference ThingRegistry thingRegistry, final @Reference RuleRegistry ruleRegistry) {
+            final @Reference ThingRegistry thingRegistry, final @Reference RuleRegistry ruleRegistry,
+            final @Reference EventStatistics eventStatistics, Map<String, Object> config) {
         this.bundleContext = bundleContext;
         this.readyService = readyService;
         this.thingRegistry = thingRegistry;
         this.ruleRegistry = ruleRegistry;
+        this.eventStatistics = eventStatistics;
+        this.latencyHistograms = ConfigParser.valueAsOrElse(config.get(CONFIG_LATENCY_HISTOGRAMS), Boolean.class,
+                false);
     }
 
     @Activate
@@ -90,12 +114,27 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
         meters.add(new BundleStateMetric(bundleContext, tags));
         meters.add(new ThingStateMetric(bundleContext, thingRegistry, tags));
         meters.add(new EventCountMetric(bundleContext, tags));
-        meters.add(new RuleMetric(bundleContext, tags, ruleRegistry));
+        meters.add(new RuleMetric(bundleContext, tags, ruleRegistry, latencyHistograms));
+        meters.add(new EventBusMetric(eventStatistics, tags, latencyHistograms));
+        meters.add(mediaCacheMetric);
+        meters.add(new ThingInitializationMetric(bundleContext, tags, latencyHistograms));
+        if (latencyHistograms) {
+            meters.add(new ThingHandlerCommandMetric(bundleContext, tags));
+        }
         meters.add(new ThreadPoolMetric(tags));
 
         meters.forEach(m -> m.bindTo(registry));
     }
 
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addMediaCacheStatistics(MediaCacheStatistics mediaCacheStatistics) {
+        mediaCacheMetric.addCache(mediaCacheStatistics);
+    }
+
+    protected void removeMediaCacheStatistics(MediaCacheStatistics mediaCacheStatistics) {
+        mediaCacheMetric.removeCache(mediaCacheStatistics);
+    }
+
     private void unregisterMeters() {
         meters.forEach(OpenhabCoreMeterBinder::unbind);
     }
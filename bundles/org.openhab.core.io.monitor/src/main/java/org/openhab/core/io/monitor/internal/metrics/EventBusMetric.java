@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.events.EventStatistics;
+import org.openhab.core.events.EventStatistics.LatencyListener;
+import org.openhab.core.events.EventStatistics.SubscriberStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link EventBusMetric} class implements a set of metrics for the openHAB event bus: published and dropped
+ * events, the event queue and the handling time of the event subscribers.
+ *
+ * The latencies are recorded in timers, whose percentiles are calculated over a recent time window.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class EventBusMetric implements OpenhabCoreMeterBinder, LatencyListener {
+
+    public static final String METRIC_PREFIX = "openhab.event.";
+    private static final Tag CORE_EVENT_BUS_METRIC_TAG = Tag.of("metric", "openhab.core.metric.eventbus");
+    private static final String TYPE_TAG_NAME = "type";
+    private static final String SUBSCRIBER_TAG_NAME = "subscriber";
+    private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+    // event types and subscribers appear over time, so new meters are registered periodically
+    private static final long REFRESH_INTERVAL_MINUTES = 1;
+    // all subscriber meters are read within one scrape, so they share a snapshot of the subscriber statistics
+    private static final long SNAPSHOT_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Logger logger = LoggerFactory.getLogger(EventBusMetric.class);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
+    private final EventStatistics statistics;
+    private final boolean percentileHistogram;
+    private final Set<Tag> tags = new HashSet<>();
+    private final Set<String> registeredEventTypes = new HashSet<>();
+    private final Set<String> registeredSubscribers = new HashSet<>();
+    private final Map<String, Timer> subscriberTimers = new ConcurrentHashMap<>();
+    private final Object snapshotLock = new Object();
+    private Map<String, SubscriberStatistics> subscriberSnapshot = Map.of();
+    private long subscriberSnapshotTime = System.nanoTime() - SNAPSHOT_MAX_AGE_NANOS;
+    private volatile @Nullable MeterRegistry meterRegistry;
+    private volatile @Nullable Timer queueWaitTimer;
+    private @Nullable ScheduledFuture<?> refreshJob;
+
+    /**
+     * @param statistics the statistics of the event bus
+     * @param tags the tags to add to all meters
+     * @param percentileHistogram whether the timers publish a percentile histogram
+     */
+    public EventBusMetric(EventStatistics statistics, Collection<Tag> tags, boolean percentileHistogram) {
+        this.statistics = statistics;
+        this.percentileHistogram = percentileHistogram;
+        this.tags.addAll(tags);
+        this.tags.add(CORE_EVENT_BUS_METRIC_TAG);
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("EventBusMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(METRIC_PREFIX + "queue.size", statistics, EventStatistics::getQueueSize).tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + "dropped", statistics, EventStatistics::getDroppedEventCount)
+                .tags(tags).register(meterRegistry);
+        queueWaitTimer = createTimer(meterRegistry, METRIC_PREFIX + "queue.wait", Tags.of(tags));
+        statistics.addLatencyListener(this);
+        registerNewMeters();
+        refreshJob = scheduler.scheduleWithFixedDelay(this::registerNewMeters, REFRESH_INTERVAL_MINUTES,
+                REFRESH_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void unbind() {
+        ScheduledFuture<?> refreshJob = this.refreshJob;
+        if (refreshJob != null) {
+            refreshJob.cancel(false);
+            this.refreshJob = null;
+        }
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        statistics.removeLatencyListener(this);
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_EVENT_BUS_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        this.meterRegistry = null;
+        queueWaitTimer = null;
+        subscriberTimers.clear();
+        synchronized (this) {
+            registeredEventTypes.clear();
+            registeredSubscribers.clear();
+        }
+    }
+
+    @Override
+    public void eventDequeued(long waitNanos) {
+        Timer queueWaitTimer = this.queueWaitTimer;
+        if (queueWaitTimer != null) {
+            queueWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void eventHandled(String subscriber, long handlingNanos) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        subscriberTimers.computeIfAbsent(subscriber, s -> createTimer(meterRegistry,
+                METRIC_PREFIX + "subscriber.handling", Tags.of(tags).and(SUBSCRIBER_TAG_NAME, s)))
+                .record(handlingNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer createTimer(MeterRegistry meterRegistry, String name, Tags timerTags) {
+        return Timer.builder(name).tags(timerTags).publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram(percentileHistogram).register(meterRegistry);
+    }
+
+    private synchronized void registerNewMeters() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        for (String type : statistics.getPublishedEventCounts().keySet()) {
+            if (registeredEventTypes.add(type)) {
+                FunctionCounter.builder(METRIC_PREFIX + "published", statistics,
+                        s -> s.getPublishedEventCounts().getOrDefault(type, 0L)).tags(tags).tag(TYPE_TAG_NAME, type)
+                        .register(meterRegistry);
+            }
+        }
+        for (String subscriber : getSubscriberStatistics().keySet()) {
+            if (registeredSubscribers.add(subscriber)) {
+                Tags subscriberTags = Tags.of(tags).and(SUBSCRIBER_TAG_NAME, subscriber);
+                FunctionCounter.builder(METRIC_PREFIX + "subscriber.handled", this,
+                        m -> m.getSubscriberValue(subscriber, SubscriberStatistics::handledEvents))
+                        .tags(subscriberTags).register(meterRegistry);
+                FunctionCounter.builder(METRIC_PREFIX + "subscriber.failed", this,
+                        m -> m.getSubscriberValue(subscriber, SubscriberStatistics::failedEvents))
+                        .tags(subscriberTags).register(meterRegistry);
+                Gauge.builder(METRIC_PREFIX + "subscriber.backlog", this,
+                        m -> m.getSubscriberValue(subscriber, SubscriberStatistics::backlog)).tags(subscriberTags)
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    private double getSubscriberValue(String subscriber, ToLongFunction<SubscriberStatistics> value) {
+        SubscriberStatistics subscriberStatistics = getSubscriberStatistics().get(subscriber);
+        return subscriberStatistics == null ? 0 : value.applyAsLong(subscriberStatistics);
+    }
+
+    private Map<String, SubscriberStatistics> getSubscriberStatistics() {
+        synchronized (snapshotLock) {
+            long now = System.nanoTime();
+            if (now - subscriberSnapshotTime >= SNAPSHOT_MAX_AGE_NANOS) {
+                subscriberSnapshot = statistics.getSubscriberStatistics();
+                subscriberSnapshotTime = now;
+            }
+            return subscriberSnapshot;
+        }
+    }
+}
@@ -14,7 +14,9 @@ package org.openhab.core.io.monitor.internal.metrics;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -27,6 +29,7 @@ import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -46,6 +49,7 @@ public class EventCountMetric implements OpenhabCoreMeterBinder, EventSubscriber
     private static final String TOPIC_TAG_NAME = "topic";
     private @Nullable MeterRegistry meterRegistry;
     private final Set<Tag> tags = new HashSet<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
     private @Nullable ServiceRegistration<?> eventSubscriberRegistration;
     private BundleContext bundleContext;
 
@@ -76,6 +80,7 @@ public class EventCountMetric implements OpenhabCoreMeterBinder, EventSubscriber
             }
         }
         this.meterRegistry = null;
+        counters.clear();
 
         ServiceRegistration<?> eventSubscriberRegistration = this.eventSubscriberRegistration;
         if (eventSubscriberRegistration != null) {
@@ -98,8 +103,8 @@ public class EventCountMetric implements OpenhabCoreMeterBinder, EventSubscriber
         }
         String topic = event.getTopic();
         logger.debug("Received event on topic {}.", topic);
-        Set<Tag> tagsWithTopic = new HashSet<>(tags);
-        tagsWithTopic.add(Tag.of(TOPIC_TAG_NAME, topic));
-        meterRegistry.counter(METRIC_NAME, tagsWithTopic).increment();
+        counters.computeIfAbsent(topic,
+                t -> Counter.builder(METRIC_NAME).tags(tags).tag(TOPIC_TAG_NAME, t).register(meterRegistry))
+                .increment();
     }
 }
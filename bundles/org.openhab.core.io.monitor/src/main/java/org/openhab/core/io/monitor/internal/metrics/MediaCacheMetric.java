@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.cache.lru.MediaCacheStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link MediaCacheMetric} class implements a set of metrics for the media caches (e.g. the TTS cache): hits,
+ * misses, evictions and the current size.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class MediaCacheMetric implements OpenhabCoreMeterBinder {
+
+    public static final String METRIC_PREFIX = "openhab.cache.media.";
+    private static final Tag CORE_MEDIA_CACHE_METRIC_TAG = Tag.of("metric", "openhab.core.metric.mediacache");
+    private static final String CACHE_TAG_NAME = "cache";
+
+    private final Logger logger = LoggerFactory.getLogger(MediaCacheMetric.class);
+    private final Set<Tag> tags = new HashSet<>();
+    private final Set<MediaCacheStatistics> caches = new CopyOnWriteArraySet<>();
+    private @Nullable MeterRegistry meterRegistry;
+
+    public MediaCacheMetric(Collection<Tag> tags) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_MEDIA_CACHE_METRIC_TAG);
+    }
+
+    @Override
+    public synchronized void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("MediaCacheMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        caches.forEach(cache -> registerMeters(meterRegistry, cache));
+    }
+
+    @Override
+    public synchronized void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_MEDIA_CACHE_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        this.meterRegistry = null;
+    }
+
+    public synchronized void addCache(MediaCacheStatistics cache) {
+        caches.add(cache);
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry != null) {
+            registerMeters(meterRegistry, cache);
+        }
+    }
+
+    public synchronized void removeCache(MediaCacheStatistics cache) {
+        caches.remove(cache);
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        Tag cacheTag = Tag.of(CACHE_TAG_NAME, cache.getCacheId());
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_MEDIA_CACHE_METRIC_TAG)
+                    && meter.getId().getTags().contains(cacheTag)) {
+                meterRegistry.remove(meter);
+            }
+        }
+    }
+
+    private void registerMeters(MeterRegistry meterRegistry, MediaCacheStatistics cache) {
+        Tags cacheTags = Tags.of(tags).and(CACHE_TAG_NAME, cache.getCacheId());
+        FunctionCounter.builder(METRIC_PREFIX + "hits", cache, MediaCacheStatistics::getHitCount).tags(cacheTags)
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + "misses", cache, MediaCacheStatistics::getMissCount).tags(cacheTags)
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + "evictions", cache, MediaCacheStatistics::getEvictionCount)
+                .tags(cacheTags).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "size", cache, MediaCacheStatistics::getCurrentSize).tags(cacheTags)
+                .baseUnit("bytes").register(meterRegistry);
+    }
+}
@@ -14,7 +14,10 @@ package org.openhab.core.io.monitor.internal.metrics;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -29,9 +32,11 @@ import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 
 /**
  * The {@link RuleMetric} class implements a gauge metric for rules RUNNING events (per rule)
@@ -42,6 +47,7 @@ import io.micrometer.core.instrument.Tag;
 public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
 
     public static final String METRIC_NAME = "openhab.rule.runs";
+    public static final String DURATION_METRIC_NAME = "openhab.rule.duration";
     public static final String RULES_TOPIC_PREFIX = "openhab/rules/";
     public static final String RULES_TOPIC_SUFFIX = "/state";
     private final Logger logger = LoggerFactory.getLogger(RuleMetric.class);
@@ -50,11 +56,24 @@ public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
     private static final String RULE_NAME_TAG_NAME = "rulename";
     private @Nullable MeterRegistry meterRegistry;
     private final Set<Tag> tags = new HashSet<>();
+    // the meters are cached by rule id, the rule name is only looked up when a meter is created
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Long> runStarts = new ConcurrentHashMap<>();
+    private final boolean latencyHistograms;
     private @Nullable ServiceRegistration<?> eventSubscriberRegistration;
     private BundleContext bundleContext;
     private RuleRegistry ruleRegistry;
 
-    public RuleMetric(BundleContext bundleContext, Collection<Tag> tags, RuleRegistry ruleRegistry) {
+    /**
+     * @param bundleContext the bundle context to register the event subscriber with
+     * @param tags the tags to add to all meters
+     * @param ruleRegistry the registry to look up rule names
+     * @param latencyHistograms whether the duration of rule runs is recorded, in a percentile histogram
+     */
+    public RuleMetric(BundleContext bundleContext, Collection<Tag> tags, RuleRegistry ruleRegistry,
+            boolean latencyHistograms) {
+        this.latencyHistograms = latencyHistograms;
         this.tags.addAll(tags);
         this.tags.add(CORE_RULE_METRIC_TAG);
         this.bundleContext = bundleContext;
@@ -81,6 +100,9 @@ public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
             }
         }
         this.meterRegistry = null;
+        counters.clear();
+        timers.clear();
+        runStarts.clear();
 
         ServiceRegistration<?> eventSubscriberRegistration = this.eventSubscriberRegistration;
         if (eventSubscriberRegistration != null) {
@@ -104,23 +126,34 @@ public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
 
         String topic = event.getTopic();
         String ruleId = topic.substring(RULES_TOPIC_PREFIX.length(), topic.lastIndexOf(RULES_TOPIC_SUFFIX));
-        if (!event.getPayload().contains(RuleStatus.RUNNING.name())) {
-            logger.trace("Skipping rule status info with status other than RUNNING {}", event.getPayload());
-            return;
+        String payload = event.getPayload();
+        if (payload.contains(RuleStatus.RUNNING.name())) {
+            logger.debug("Rule {} RUNNING - updating metric.", ruleId);
+            counters.computeIfAbsent(ruleId,
+                    id -> Counter.builder(METRIC_NAME).tags(getRuleTags(id)).register(meterRegistry)).increment();
+            if (latencyHistograms) {
+                runStarts.put(ruleId, System.nanoTime());
+            }
+        } else if (latencyHistograms && payload.contains(RuleStatus.IDLE.name())) {
+            Long runStart = runStarts.remove(ruleId);
+            if (runStart != null) {
+                timers.computeIfAbsent(ruleId, id -> Timer.builder(DURATION_METRIC_NAME).tags(getRuleTags(id))
+                        .publishPercentileHistogram().register(meterRegistry))
+                        .record(System.nanoTime() - runStart, TimeUnit.NANOSECONDS);
+            }
+        } else {
+            logger.trace("Skipping rule status info with status other than RUNNING {}", payload);
         }
+    }
 
-        logger.debug("Rule {} RUNNING - updating metric.", ruleId);
+    private Set<Tag> getRuleTags(String ruleId) {
         Set<Tag> tagsWithRule = new HashSet<>(tags);
         tagsWithRule.add(Tag.of(RULE_ID_TAG_NAME, ruleId));
-        String ruleName = getRuleName(ruleId);
+        Rule rule = ruleRegistry.get(ruleId);
+        String ruleName = rule == null ? null : rule.getName();
         if (ruleName != null) {
             tagsWithRule.add(Tag.of(RULE_NAME_TAG_NAME, ruleName));
         }
-        meterRegistry.counter(METRIC_NAME, tagsWithRule).increment();
-    }
-
-    private @Nullable String getRuleName(String ruleId) {
-        Rule rule = ruleRegistry.get(ruleId);
-        return rule == null ? null : rule.getName();
+        return tagsWithRule;
     }
 }
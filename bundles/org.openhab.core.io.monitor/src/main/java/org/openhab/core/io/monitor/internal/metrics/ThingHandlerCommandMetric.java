@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.binding.ThingHandler;
+import org.openhab.core.thing.binding.ThingHandlerCommandListener;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link ThingHandlerCommandMetric} class implements a timer metric for the time thing handlers take to handle a
+ * command (per thing type and handler class)
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class ThingHandlerCommandMetric implements OpenhabCoreMeterBinder, ThingHandlerCommandListener {
+
+    public static final String METRIC_NAME = "openhab.thing.handler.command.duration";
+    private static final Tag CORE_THING_HANDLER_COMMAND_METRIC_TAG = Tag.of("metric",
+            "openhab.core.metric.thing.handler.commands");
+    private static final String THING_TYPE_TAG_NAME = "thingtype";
+    private static final String HANDLER_TAG_NAME = "handler";
+    private final Logger logger = LoggerFactory.getLogger(ThingHandlerCommandMetric.class);
+    private @Nullable MeterRegistry meterRegistry;
+    private final Set<Tag> tags = new HashSet<>();
+    private final Map<HandlerKey, Timer> timers = new ConcurrentHashMap<>();
+    private @Nullable ServiceRegistration<?> commandListenerRegistration;
+    private final BundleContext bundleContext;
+
+    /**
+     * @param bundleContext the bundle context to register the command listener with
+     * @param tags the tags to add to all meters
+     */
+    public ThingHandlerCommandMetric(BundleContext bundleContext, Collection<Tag> tags) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_THING_HANDLER_COMMAND_METRIC_TAG);
+        this.bundleContext = bundleContext;
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("ThingHandlerCommandMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        commandListenerRegistration = bundleContext.registerService(ThingHandlerCommandListener.class.getName(),
+                this, null);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        ServiceRegistration<?> commandListenerRegistration = this.commandListenerRegistration;
+        if (commandListenerRegistration != null) {
+            commandListenerRegistration.unregister();
+            this.commandListenerRegistration = null;
+        }
+
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_THING_HANDLER_COMMAND_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        this.meterRegistry = null;
+        timers.clear();
+    }
+
+    @Override
+    public void commandHandled(ThingHandler handler, ChannelUID channelUID, long durationNanos) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        HandlerKey handlerKey = new HandlerKey(handler.getThing().getThingTypeUID(), handler.getClass().getName());
+        timers.computeIfAbsent(handlerKey, key -> Timer.builder(METRIC_NAME).tags(getHandlerTags(key))
+                .publishPercentileHistogram().register(meterRegistry)).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Set<Tag> getHandlerTags(HandlerKey handlerKey) {
+        Set<Tag> tagsWithHandler = new HashSet<>(tags);
+        tagsWithHandler.add(Tag.of(THING_TYPE_TAG_NAME, handlerKey.thingTypeUID().getAsString()));
+        tagsWithHandler.add(Tag.of(HANDLER_TAG_NAME, handlerKey.handlerClassName()));
+        return tagsWithHandler;
+    }
+
+    private record HandlerKey(ThingTypeUID thingTypeUID, String handlerClassName) {
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingInitializationListener;
+import org.openhab.core.thing.ThingTypeUID;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link ThingInitializationMetric} class implements a timer metric for the time things take from the start of
+ * their initialization until they are ONLINE (per thing type)
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class ThingInitializationMetric implements OpenhabCoreMeterBinder, ThingInitializationListener {
+
+    public static final String METRIC_NAME = "openhab.thing.initialization.duration";
+    private static final Tag CORE_THING_INITIALIZATION_METRIC_TAG = Tag.of("metric",
+            "openhab.core.metric.thing.initialization");
+    private static final String THING_TYPE_TAG_NAME = "thingtype";
+    private final Logger logger = LoggerFactory.getLogger(ThingInitializationMetric.class);
+    private @Nullable MeterRegistry meterRegistry;
+    private final Set<Tag> tags = new HashSet<>();
+    private final Map<ThingTypeUID, Timer> timers = new ConcurrentHashMap<>();
+    private @Nullable ServiceRegistration<?> initializationListenerRegistration;
+    private final BundleContext bundleContext;
+    private final boolean percentileHistogram;
+
+    /**
+     * @param bundleContext the bundle context to register the initialization listener with
+     * @param tags the tags to add to all meters
+     * @param percentileHistogram whether the timers publish a percentile histogram
+     */
+    public ThingInitializationMetric(BundleContext bundleContext, Collection<Tag> tags, boolean percentileHistogram) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_THING_INITIALIZATION_METRIC_TAG);
+        this.bundleContext = bundleContext;
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("ThingInitializationMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        initializationListenerRegistration = bundleContext
+                .registerService(ThingInitializationListener.class.getName(), this, null);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        ServiceRegistration<?> initializationListenerRegistration = this.initializationListenerRegistration;
+        if (initializationListenerRegistration != null) {
+            initializationListenerRegistration.unregister();
+            this.initializationListenerRegistration = null;
+        }
+
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_THING_INITIALIZATION_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        this.meterRegistry = null;
+        timers.clear();
+    }
+
+    @Override
+    public void thingOnline(Thing thing, Duration timeToOnline) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        timers.computeIfAbsent(thing.getThingTypeUID(), thingTypeUID -> {
+            Set<Tag> thingTypeTags = new HashSet<>(tags);
+            thingTypeTags.add(Tag.of(THING_TYPE_TAG_NAME, thingTypeUID.getAsString()));
+            return Timer.builder(METRIC_NAME).tags(thingTypeTags).publishPercentileHistogram(percentileHistogram)
+                    .register(meterRegistry);
+        }).record(timeToOnline);
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.cache.lru.MediaCacheStatistics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link MediaCacheMetric}
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class MediaCacheMetricTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private @Mock @NonNullByDefault({}) MediaCacheStatistics cacheMock;
+
+    @Test
+    public void testCacheStatisticsArePublished() {
+        when(cacheMock.getCacheId()).thenReturn("tts");
+        when(cacheMock.getHitCount()).thenReturn(3L);
+        when(cacheMock.getMissCount()).thenReturn(2L);
+        when(cacheMock.getEvictionCount()).thenReturn(1L);
+        when(cacheMock.getCurrentSize()).thenReturn(1024L);
+
+        MediaCacheMetric metric = new MediaCacheMetric(Set.of());
+        metric.addCache(cacheMock);
+        metric.bindTo(meterRegistry);
+
+        assertEquals(3.0, meterRegistry.get(MediaCacheMetric.METRIC_PREFIX + "hits").tag("cache", "tts")
+                .functionCounter().count());
+        assertEquals(2.0, meterRegistry.get(MediaCacheMetric.METRIC_PREFIX + "misses").tag("cache", "tts")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get(MediaCacheMetric.METRIC_PREFIX + "evictions").tag("cache", "tts")
+                .functionCounter().count());
+        assertEquals(1024.0, meterRegistry.get(MediaCacheMetric.METRIC_PREFIX + "size").tag("cache", "tts").gauge()
+                .value());
+    }
+
+    @Test
+    public void testMetersOfRemovedCacheAreRemoved() {
+        when(cacheMock.getCacheId()).thenReturn("tts");
+
+        MediaCacheMetric metric = new MediaCacheMetric(Set.of());
+        metric.bindTo(meterRegistry);
+        metric.addCache(cacheMock);
+        assertEquals(4, meterRegistry.getMeters().size());
+
+        metric.removeCache(cacheMock);
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.automation.Rule;
+import org.openhab.core.automation.RuleRegistry;
+import org.openhab.core.automation.RuleStatus;
+import org.openhab.core.automation.RuleStatusInfo;
+import org.openhab.core.automation.internal.RuleEventFactory;
+import org.openhab.core.events.Event;
+import org.osgi.framework.BundleContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link RuleMetric}
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class RuleMetricTest {
+
+    private static final String RULE_ID = "rule1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    public void testRunsAreCountedWithOneCounterPerRule() {
+        RuleMetric ruleMetric = new RuleMetric(mock(BundleContext.class), Set.of(), mock(RuleRegistry.class), false);
+        ruleMetric.bindTo(meterRegistry);
+
+        ruleMetric.receive(createEvent(RuleStatus.RUNNING));
+        ruleMetric.receive(createEvent(RuleStatus.IDLE));
+        ruleMetric.receive(createEvent(RuleStatus.RUNNING));
+
+        Counter counter = meterRegistry.get(RuleMetric.METRIC_NAME).tag("rule", RULE_ID).counter();
+        assertEquals(2.0, counter.count());
+        assertEquals(1, meterRegistry.getMeters().size());
+    }
+
+    @Test
+    public void testRunDurationIsRecordedWhenLatencyHistogramsAreEnabled() {
+        RuleMetric ruleMetric = new RuleMetric(mock(BundleContext.class), Set.of(), mock(RuleRegistry.class), true);
+        ruleMetric.bindTo(meterRegistry);
+
+        ruleMetric.receive(createEvent(RuleStatus.RUNNING));
+        ruleMetric.receive(createEvent(RuleStatus.IDLE));
+        // an IDLE status without a preceding run is not recorded
+        ruleMetric.receive(createEvent(RuleStatus.IDLE));
+
+        Timer timer = meterRegistry.get(RuleMetric.DURATION_METRIC_NAME).tag("rule", RULE_ID).timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    public void testRuleNameIsOnlyLookedUpWhenTheMeterIsCreated() {
+        Rule rule = mock(Rule.class);
+        when(rule.getName()).thenReturn("Rule 1");
+        RuleRegistry ruleRegistry = mock(RuleRegistry.class);
+        when(ruleRegistry.get(RULE_ID)).thenReturn(rule);
+        RuleMetric ruleMetric = new RuleMetric(mock(BundleContext.class), Set.of(), ruleRegistry, false);
+        ruleMetric.bindTo(meterRegistry);
+
+        ruleMetric.receive(createEvent(RuleStatus.RUNNING));
+        ruleMetric.receive(createEvent(RuleStatus.IDLE));
+        ruleMetric.receive(createEvent(RuleStatus.RUNNING));
+
+        Counter counter = meterRegistry.get(RuleMetric.METRIC_NAME).tag("rulename", "Rule 1").counter();
+        assertEquals(2.0, counter.count());
+        verify(ruleRegistry, times(1)).get(RULE_ID);
+    }
+
+    @Test
+    public void testMetersAreRecreatedAfterRebind() {
+        RuleMetric ruleMetric = new RuleMetric(mock(BundleContext.class), Set.of(), mock(RuleRegistry.class), false);
+        ruleMetric.bindTo(meterRegistry);
+        ruleMetric.receive(createEvent(RuleStatus.RUNNING));
+
+        ruleMetric.unbind();
+        assertTrue(meterRegistry.getMeters().isEmpty());
+
+        ruleMetric.bindTo(meterRegistry);
+        ruleMetric.receive(createEvent(RuleStatus.RUNNING));
+
+        Counter counter = meterRegistry.get(RuleMetric.METRIC_NAME).tag("rule", RULE_ID).counter();
+        assertEquals(1.0, counter.count());
+    }
+
+    private Event createEvent(RuleStatus status) {
+        return RuleEventFactory.createRuleStatusInfoEvent(new RuleStatusInfo(status), RULE_ID, "test");
+    }
+}
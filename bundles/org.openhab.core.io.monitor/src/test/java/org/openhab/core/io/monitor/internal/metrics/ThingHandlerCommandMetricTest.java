@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandler;
+import org.osgi.framework.BundleContext;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link ThingHandlerCommandMetric}
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class ThingHandlerCommandMetricTest {
+
+    private static final ThingTypeUID THING_TYPE_UID = new ThingTypeUID("binding", "type");
+    private static final ThingUID THING_UID = new ThingUID(THING_TYPE_UID, "thing");
+    private static final ChannelUID CHANNEL_UID = new ChannelUID(THING_UID, "channel");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private @Mock @NonNullByDefault({}) ThingHandler thingHandlerMock;
+    private @Mock @NonNullByDefault({}) Thing thingMock;
+
+    @BeforeEach
+    public void setup() {
+        when(thingHandlerMock.getThing()).thenReturn(thingMock);
+        when(thingMock.getThingTypeUID()).thenReturn(THING_TYPE_UID);
+    }
+
+    @Test
+    public void testCommandDurationIsRecordedPerThingTypeAndHandler() {
+        ThingHandlerCommandMetric metric = new ThingHandlerCommandMetric(mock(BundleContext.class), Set.of());
+        metric.bindTo(meterRegistry);
+
+        metric.commandHandled(thingHandlerMock, CHANNEL_UID, TimeUnit.MILLISECONDS.toNanos(5));
+        metric.commandHandled(thingHandlerMock, CHANNEL_UID, TimeUnit.MILLISECONDS.toNanos(15));
+
+        Timer timer = meterRegistry.get(ThingHandlerCommandMetric.METRIC_NAME)
+                .tag("thingtype", THING_TYPE_UID.getAsString())
+                .tag("handler", thingHandlerMock.getClass().getName()).timer();
+        assertEquals(2, timer.count());
+        assertEquals(20.0, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testMetersAreRemovedOnUnbind() {
+        ThingHandlerCommandMetric metric = new ThingHandlerCommandMetric(mock(BundleContext.class), Set.of());
+        metric.bindTo(meterRegistry);
+        metric.commandHandled(thingHandlerMock, CHANNEL_UID, 1000);
+
+        metric.unbind();
+        assertTrue(meterRegistry.getMeters().isEmpty());
+
+        // commands handled while unbound are not recorded
+        metric.commandHandled(thingHandlerMock, CHANNEL_UID, 1000);
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingTypeUID;
+import org.osgi.framework.BundleContext;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link ThingInitializationMetric}
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class ThingInitializationMetricTest {
+
+    private static final ThingTypeUID THING_TYPE_UID = new ThingTypeUID("binding", "type");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private @Mock @NonNullByDefault({}) Thing thingMock;
+
+    @Test
+    public void testTimeToOnlineIsRecordedPerThingType() {
+        when(thingMock.getThingTypeUID()).thenReturn(THING_TYPE_UID);
+        ThingInitializationMetric metric = new ThingInitializationMetric(mock(BundleContext.class), Set.of(), false);
+        metric.bindTo(meterRegistry);
+
+        metric.thingOnline(thingMock, Duration.ofMillis(100));
+        metric.thingOnline(thingMock, Duration.ofMillis(300));
+
+        Timer timer = meterRegistry.get(ThingInitializationMetric.METRIC_NAME)
+                .tag("thingtype", THING_TYPE_UID.getAsString()).timer();
+        assertEquals(2, timer.count());
+        assertEquals(400.0, timer.totalTime(TimeUnit.MILLISECONDS));
+
+        metric.unbind();
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
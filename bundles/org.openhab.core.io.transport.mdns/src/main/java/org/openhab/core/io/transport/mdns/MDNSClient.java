@@ -15,6 +15,7 @@ package org.openhab.core.io.transport.mdns;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import javax.jmdns.JmDNS;
 import javax.jmdns.ServiceInfo;
@@ -88,6 +89,34 @@ public interface MDNSClient {
      */
     ServiceInfo[] list(String type, Duration timeout);
 
+    /**
+     * Returns the already known service infos of the specified type, without querying the network. Services of a type
+     * are kept once the type has been requested by this method or by {@link #query(String, Duration)}, and are
+     * updated from the announcements on the network.
+     * <p>
+     * Implementations without a cache fall back to {@link #list(String)}.
+     *
+     * @param type service type name
+     * @return an array of service instances
+     */
+    default ServiceInfo[] listCached(String type) {
+        return list(type);
+    }
+
+    /**
+     * Queries the network for service infos of the specified type. If a query for this type with the same timeout is
+     * already running, no further query is started and the running query is returned instead.
+     * <p>
+     * Implementations without query sharing fall back to {@link #list(String, Duration)} run asynchronously.
+     *
+     * @param type service type name
+     * @param timeout the amount of time it should wait if no service info is found.
+     * @return a future which is completed with the service instances found
+     */
+    default CompletableFuture<ServiceInfo[]> query(String type, Duration timeout) {
+        return CompletableFuture.supplyAsync(() -> list(type, timeout));
+    }
+
     /**
      * Close properly JmDNS instances
      *
@@ -24,12 +24,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 import javax.jmdns.JmDNS;
 import javax.jmdns.ServiceInfo;
 import javax.jmdns.ServiceListener;
 
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.io.transport.mdns.MDNSClient;
 import org.openhab.core.io.transport.mdns.ServiceDescription;
 import org.openhab.core.net.CidrAddress;
@@ -50,12 +53,24 @@ import org.slf4j.LoggerFactory;
  */
 @Component(immediate = true, service = MDNSClient.class)
 public class MDNSClientImpl implements MDNSClient, NetworkAddressChangeListener {
+    private static final String THREAD_POOL_NAME = "mdns";
+
     private final Logger logger = LoggerFactory.getLogger(MDNSClientImpl.class);
 
     private final Map<InetAddress, JmDNS> jmdnsInstances = new ConcurrentHashMap<>();
 
     private final Set<ServiceDescription> activeServices = ConcurrentHashMap.newKeySet();
 
+    // one cache per JmDNS instance, so the services of an interface can be dropped with its instance
+    private final Map<InetAddress, ServiceInfoCache> serviceInfoCaches = new ConcurrentHashMap<>();
+
+    private final Set<String> cachedServiceTypes = ConcurrentHashMap.newKeySet();
+
+    private record QueryKey(String type, Duration timeout) {
+    }
+
+    private final Map<QueryKey, CompletableFuture<ServiceInfo[]>> runningQueries = new ConcurrentHashMap<>();
+
     private final NetworkAddressService networkAddressService;
 
     @Activate
@@ -143,11 +158,18 @@ public class MDNSClientImpl implements MDNSClient, NetworkAddressChangeListener
 
     private void start() {
         for (InetAddress address : getAllInetAddresses()) {
-            createJmDNSByAddress(address);
+            startJmDNSByAddress(address);
+        }
+    }
+
+    private void startJmDNSByAddress(InetAddress address) {
+        JmDNS jmdns = createJmDNSByAddress(address);
+        if (jmdns == null) {
+            return;
         }
         for (ServiceDescription description : activeServices) {
             try {
-                registerServiceInternal(description);
+                registerServiceAt(jmdns, description);
             } catch (IOException e) {
                 logger.warn("Exception while registering service {}", description, e);
             }
@@ -179,15 +201,19 @@ public class MDNSClientImpl implements MDNSClient, NetworkAddressChangeListener
 
     private void registerServiceInternal(ServiceDescription description) throws IOException {
         for (JmDNS instance : jmdnsInstances.values()) {
-            logger.debug("Registering new service {} at {}:{} ({})", description.serviceType,
-                    instance.getInetAddress().getHostAddress(), description.servicePort, instance.getName());
-            // Create one ServiceInfo object for each JmDNS instance
-            ServiceInfo serviceInfo = ServiceInfo.create(description.serviceType, description.serviceName,
-                    description.servicePort, 0, 0, description.serviceProperties);
-            instance.registerService(serviceInfo);
+            registerServiceAt(instance, description);
         }
     }
 
+    private void registerServiceAt(JmDNS instance, ServiceDescription description) throws IOException {
+        logger.debug("Registering new service {} at {}:{} ({})", description.serviceType,
+                instance.getInetAddress().getHostAddress(), description.servicePort, instance.getName());
+        // Create one ServiceInfo object for each JmDNS instance
+        ServiceInfo serviceInfo = ServiceInfo.create(description.serviceType, description.serviceName,
+                description.servicePort, 0, 0, description.serviceProperties);
+        instance.registerService(serviceInfo);
+    }
+
     @Override
     public void unregisterService(ServiceDescription description) {
         activeServices.remove(description);
@@ -215,8 +241,10 @@ public class MDNSClientImpl implements MDNSClient, NetworkAddressChangeListener
     @Override
     public ServiceInfo[] list(String type) {
         ServiceInfo[] services = new ServiceInfo[0];
-        for (JmDNS instance : jmdnsInstances.values()) {
-            services = concatenate(services, instance.list(type));
+        for (Map.Entry<InetAddress, JmDNS> instance : jmdnsInstances.entrySet()) {
+            ServiceInfo[] instanceServices = instance.getValue().list(type);
+            cacheServices(instance.getKey(), type, instanceServices);
+            services = concatenate(services, instanceServices);
         }
         return services;
     }
@@ -224,19 +252,60 @@ public class MDNSClientImpl implements MDNSClient, NetworkAddressChangeListener
     @Override
     public ServiceInfo[] list(String type, Duration timeout) {
         ServiceInfo[] services = new ServiceInfo[0];
-        for (JmDNS instance : jmdnsInstances.values()) {
-            services = concatenate(services, instance.list(type, timeout.toMillis()));
+        for (Map.Entry<InetAddress, JmDNS> instance : jmdnsInstances.entrySet()) {
+            ServiceInfo[] instanceServices = instance.getValue().list(type, timeout.toMillis());
+            cacheServices(instance.getKey(), type, instanceServices);
+            services = concatenate(services, instanceServices);
+        }
+        return services;
+    }
+
+    @Override
+    public ServiceInfo[] listCached(String type) {
+        addCachedServiceType(type);
+        ServiceInfo[] services = new ServiceInfo[0];
+        for (ServiceInfoCache serviceInfoCache : serviceInfoCaches.values()) {
+            services = concatenate(services, serviceInfoCache.get(type));
         }
         return services;
     }
 
+    @Override
+    public CompletableFuture<ServiceInfo[]> query(String type, Duration timeout) {
+        addCachedServiceType(type);
+        // only share queries with the same timeout, so no caller waits longer or shorter than requested
+        QueryKey key = new QueryKey(type, timeout);
+        CompletableFuture<ServiceInfo[]> query = runningQueries.computeIfAbsent(key, k -> CompletableFuture
+                .supplyAsync(() -> list(k.type(), k.timeout()), ThreadPoolManager.getPool(THREAD_POOL_NAME)));
+        query.whenComplete((services, e) -> runningQueries.remove(key, query));
+        return query;
+    }
+
     @Override
     public void close() {
-        for (JmDNS jmdns : jmdnsInstances.values()) {
-            closeQuietly(jmdns);
-            logger.debug("mDNS service has been stopped ({})", jmdns.getName());
+        for (InetAddress address : Set.copyOf(jmdnsInstances.keySet())) {
+            closeJmDNSByAddress(address);
+        }
+    }
+
+    private void addCachedServiceType(String type) {
+        if (cachedServiceTypes.add(type)) {
+            jmdnsInstances.forEach((address, jmdns) -> {
+                ServiceInfoCache serviceInfoCache = serviceInfoCaches.get(address);
+                if (serviceInfoCache != null) {
+                    jmdns.addServiceListener(type, serviceInfoCache);
+                }
+            });
+        }
+    }
+
+    private void cacheServices(InetAddress address, String type, ServiceInfo[] services) {
+        ServiceInfoCache serviceInfoCache = serviceInfoCaches.get(address);
+        if (serviceInfoCache != null && cachedServiceTypes.contains(type)) {
+            for (ServiceInfo service : services) {
+                serviceInfoCache.put(service);
+            }
         }
-        jmdnsInstances.clear();
     }
 
     private void closeQuietly(JmDNS jmdns) {
@@ -264,20 +333,50 @@ public class MDNSClientImpl implements MDNSClient, NetworkAddressChangeListener
         return c;
     }
 
-    private void createJmDNSByAddress(InetAddress address) {
+    private @Nullable JmDNS createJmDNSByAddress(InetAddress address) {
         try {
             JmDNS jmdns = JmDNS.create(address, null);
+            ServiceInfoCache serviceInfoCache = new ServiceInfoCache();
+            serviceInfoCaches.put(address, serviceInfoCache);
             jmdnsInstances.put(address, jmdns);
+            cachedServiceTypes.forEach(type -> jmdns.addServiceListener(type, serviceInfoCache));
             logger.debug("mDNS service has been started ({} for IP {})", jmdns.getName(), address.getHostAddress());
+            return jmdns;
         } catch (IOException e) {
             logger.debug("JmDNS instantiation failed ({})!", address.getHostAddress());
+            return null;
+        }
+    }
+
+    private void closeJmDNSByAddress(InetAddress address) {
+        JmDNS jmdns = jmdnsInstances.remove(address);
+        ServiceInfoCache serviceInfoCache = serviceInfoCaches.remove(address);
+        if (serviceInfoCache != null) {
+            if (jmdns != null) {
+                cachedServiceTypes.forEach(type -> jmdns.removeServiceListener(type, serviceInfoCache));
+            }
+            serviceInfoCache.clear();
+        }
+        if (jmdns != null) {
+            closeQuietly(jmdns);
+            logger.debug("mDNS service has been stopped ({})", jmdns.getName());
         }
     }
 
     @Override
     public void onChanged(List<CidrAddress> added, List<CidrAddress> removed) {
         logger.debug("ip address change: added {}, removed {}", added, removed);
-        close();
-        start();
+        Set<InetAddress> addresses = getAllInetAddresses();
+        // the instances of unchanged addresses are kept together with their cached services
+        for (InetAddress address : Set.copyOf(jmdnsInstances.keySet())) {
+            if (!addresses.contains(address)) {
+                closeJmDNSByAddress(address);
+            }
+        }
+        for (InetAddress address : addresses) {
+            if (!jmdnsInstances.containsKey(address)) {
+                startJmDNSByAddress(address);
+            }
+        }
     }
 }
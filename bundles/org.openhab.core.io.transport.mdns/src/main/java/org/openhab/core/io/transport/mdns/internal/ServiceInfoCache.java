@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mdns.internal;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import javax.jmdns.ServiceEvent;
+import javax.jmdns.ServiceInfo;
+import javax.jmdns.ServiceListener;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Cache of resolved {@link ServiceInfo}s by service type and name.
+ * <p>
+ * The cache is registered as {@link ServiceListener} at the JmDNS instances for the types it should keep. Services
+ * are removed when JmDNS reports them as removed, which happens on goodbye announcements and when the records of the
+ * service expire. Services which have not been resolved again within the default TTL of mDNS service records are
+ * dropped as well, in case their removal has been missed. A fixed TTL is used for this, because JmDNS does not expose
+ * the TTL of the records a {@link ServiceInfo} has been resolved from.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+class ServiceInfoCache implements ServiceListener {
+
+    /**
+     * TTL recommended by RFC 6762 for the records of a service.
+     */
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(75);
+
+    private record CachedServiceInfo(ServiceInfo serviceInfo, long resolvedAt) {
+    }
+
+    private final Map<String, Map<String, CachedServiceInfo>> services = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final long ttlNanos;
+
+    ServiceInfoCache() {
+        this(System::nanoTime, DEFAULT_TTL);
+    }
+
+    ServiceInfoCache(LongSupplier clock, Duration ttl) {
+        this.clock = clock;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Adds or updates a resolved service.
+     *
+     * @param serviceInfo the service, which is ignored if it has not been resolved
+     */
+    void put(ServiceInfo serviceInfo) {
+        if (serviceInfo.hasData()) {
+            services.computeIfAbsent(key(serviceInfo.getType()), type -> new ConcurrentHashMap<>())
+                    .put(key(serviceInfo.getName()), new CachedServiceInfo(serviceInfo, clock.getAsLong()));
+        }
+    }
+
+    /**
+     * Returns the cached services of a type.
+     *
+     * @param type the full qualified service type
+     * @return the services which have not expired
+     */
+    ServiceInfo[] get(String type) {
+        Map<String, CachedServiceInfo> servicesOfType = services.get(key(type));
+        if (servicesOfType == null) {
+            return new ServiceInfo[0];
+        }
+        long now = clock.getAsLong();
+        servicesOfType.values().removeIf(cached -> now - cached.resolvedAt() > ttlNanos);
+        return servicesOfType.values().stream().map(CachedServiceInfo::serviceInfo).toArray(ServiceInfo[]::new);
+    }
+
+    void clear() {
+        services.clear();
+    }
+
+    @Override
+    public void serviceAdded(@Nullable ServiceEvent event) {
+        if (event == null) {
+            return;
+        }
+        ServiceInfo serviceInfo = event.getInfo();
+        if (serviceInfo != null && serviceInfo.hasData()) {
+            put(serviceInfo);
+        } else {
+            // answered by serviceResolved, without blocking the JmDNS thread
+            event.getDNS().requestServiceInfo(event.getType(), event.getName());
+        }
+    }
+
+    @Override
+    public void serviceRemoved(@Nullable ServiceEvent event) {
+        if (event == null) {
+            return;
+        }
+        Map<String, CachedServiceInfo> servicesOfType = services.get(key(event.getType()));
+        if (servicesOfType != null) {
+            servicesOfType.remove(key(event.getName()));
+        }
+    }
+
+    @Override
+    public void serviceResolved(@Nullable ServiceEvent event) {
+        if (event != null && event.getInfo() != null) {
+            put(event.getInfo());
+        }
+    }
+
+    private static String key(@Nullable String name) {
+        // mDNS names are case insensitive
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mdns.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.jmdns.JmDNS;
+import javax.jmdns.ServiceEvent;
+import javax.jmdns.ServiceInfo;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests {@link ServiceInfoCache}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class ServiceInfoCacheTest {
+
+    private static final String TYPE = "_hue._tcp.local.";
+    private static final Duration TTL = Duration.ofMinutes(75);
+
+    private @Mock @NonNullByDefault({}) JmDNS jmdnsMock;
+    private @Mock @NonNullByDefault({}) ServiceInfo bridgeMock;
+    private @Mock @NonNullByDefault({}) ServiceInfo otherBridgeMock;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ServiceInfoCache cache = new ServiceInfoCache(clock::get, TTL);
+
+    @BeforeEach
+    public void setup() {
+        mockServiceInfo(bridgeMock, "Bridge");
+        mockServiceInfo(otherBridgeMock, "Other Bridge");
+    }
+
+    @Test
+    public void resolvedServicesAreCachedByTypeAndName() {
+        cache.serviceResolved(event(bridgeMock));
+        cache.serviceResolved(event(otherBridgeMock));
+        cache.serviceResolved(event(bridgeMock));
+
+        assertThat(cache.get(TYPE), is(arrayContainingInAnyOrder(bridgeMock, otherBridgeMock)));
+        assertThat(cache.get("_HUE._tcp.local."), is(arrayWithSize(2)));
+        assertThat(cache.get("_other._tcp.local."), is(emptyArray()));
+    }
+
+    @Test
+    public void unresolvedServicesAreResolvedWithoutBeingCached() {
+        when(bridgeMock.hasData()).thenReturn(false);
+
+        cache.serviceAdded(event(bridgeMock));
+
+        verify(jmdnsMock).requestServiceInfo(TYPE, "Bridge");
+        assertThat(cache.get(TYPE), is(emptyArray()));
+    }
+
+    @Test
+    public void removedServicesAreDropped() {
+        cache.serviceResolved(event(bridgeMock));
+        cache.serviceResolved(event(otherBridgeMock));
+
+        cache.serviceRemoved(event(bridgeMock));
+
+        assertThat(cache.get(TYPE), is(arrayContaining(otherBridgeMock)));
+    }
+
+    @Test
+    public void servicesWhichAreNotResolvedAgainWithinTheTtlExpire() {
+        cache.serviceResolved(event(bridgeMock));
+        clock.addAndGet(TTL.toNanos() / 2);
+        cache.serviceResolved(event(otherBridgeMock));
+        clock.addAndGet(TTL.toNanos() / 2 + 1);
+
+        assertThat(cache.get(TYPE), is(arrayContaining(otherBridgeMock)));
+    }
+
+    private void mockServiceInfo(ServiceInfo serviceInfoMock, String name) {
+        when(serviceInfoMock.getType()).thenReturn(TYPE);
+        when(serviceInfoMock.getName()).thenReturn(name);
+        when(serviceInfoMock.hasData()).thenReturn(true);
+    }
+
+    private ServiceEvent event(ServiceInfo serviceInfo) {
+        String name = serviceInfo.getName();
+        ServiceEvent event = mock(ServiceEvent.class);
+        when(event.getDNS()).thenReturn(jmdnsMock);
+        when(event.getType()).thenReturn(TYPE);
+        when(event.getName()).thenReturn(name);
+        when(event.getInfo()).thenReturn(serviceInfo);
+        return event;
+    }
+}
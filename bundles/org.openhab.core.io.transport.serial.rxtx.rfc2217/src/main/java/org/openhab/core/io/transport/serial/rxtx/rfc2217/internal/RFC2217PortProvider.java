@@ -12,34 +12,106 @@
  */
 package org.openhab.core.io.transport.serial.rxtx.rfc2217.internal;
 
+import static java.lang.Long.parseLong;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.io.transport.serial.PortInUseException;
 import org.openhab.core.io.transport.serial.ProtocolType;
 import org.openhab.core.io.transport.serial.ProtocolType.PathType;
+import org.openhab.core.io.transport.serial.SerialPort;
 import org.openhab.core.io.transport.serial.SerialPortIdentifier;
 import org.openhab.core.io.transport.serial.SerialPortProvider;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import gnu.io.rfc2217.TelnetSerialPort;
 
 /**
+ * Provides remote serial ports using RFC 2217.
+ * <p>
+ * All remote serial ports share a single event loop thread. Received data is buffered in a ring buffer of
+ * {@code receiveBufferSize} bytes per port, and lost connections are reestablished with a delay that doubles up to
+ * {@code maxReconnectDelay} seconds. The former RXTX based client can be used by setting {@code legacyClient}.
  *
  * @author Matthias Steigenberger - Initial contribution
  */
 @NonNullByDefault
-@Component(service = SerialPortProvider.class)
+@Component(service = SerialPortProvider.class, configurationPid = "transport.serial.rfc2217")
 public class RFC2217PortProvider implements SerialPortProvider {
 
+    public static final String RECEIVE_BUFFER_SIZE_ATTRIBUTE = "receiveBufferSize";
+    public static final String MAX_RECONNECT_DELAY_ATTRIBUTE = "maxReconnectDelay";
+    public static final String LEGACY_CLIENT_ATTRIBUTE = "legacyClient";
+
     private static final String PROTOCOL = "rfc2217";
+    private static final String THREAD_POOL_NAME = "rfc2217";
+    private static final int DEFAULT_RECEIVE_BUFFER_SIZE = 65536;
+    private static final long DEFAULT_MAX_RECONNECT_DELAY_SECONDS = 60;
+
+    private record OpenPort(String owner, SerialPort port) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RFC2217PortProvider.class);
+    private final Map<URI, OpenPort> openPorts = new ConcurrentHashMap<>();
+
+    private volatile int receiveBufferSize = DEFAULT_RECEIVE_BUFFER_SIZE;
+    private volatile long maxReconnectDelayMs = TimeUnit.SECONDS.toMillis(DEFAULT_MAX_RECONNECT_DELAY_SECONDS);
+    private volatile boolean legacyClient;
+    private @Nullable Rfc2217EventLoop eventLoop;
+
+    @Activate
+    public RFC2217PortProvider(Map<String, Object> config) {
+        modified(config);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        Object receiveBufferSize = config.get(RECEIVE_BUFFER_SIZE_ATTRIBUTE);
+        this.receiveBufferSize = receiveBufferSize == null ? DEFAULT_RECEIVE_BUFFER_SIZE
+                : Math.max(Integer.parseInt(receiveBufferSize.toString()), 1);
+        Object maxReconnectDelay = config.get(MAX_RECONNECT_DELAY_ATTRIBUTE);
+        this.maxReconnectDelayMs = TimeUnit.SECONDS.toMillis(maxReconnectDelay == null
+                ? DEFAULT_MAX_RECONNECT_DELAY_SECONDS
+                : parseLong(maxReconnectDelay.toString()));
+        Object legacyClient = config.get(LEGACY_CLIENT_ATTRIBUTE);
+        this.legacyClient = legacyClient != null && Boolean.parseBoolean(legacyClient.toString());
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        openPorts.values().forEach(openPort -> openPort.port().close());
+        synchronized (this) {
+            Rfc2217EventLoop eventLoop = this.eventLoop;
+            if (eventLoop != null) {
+                eventLoop.close();
+                this.eventLoop = null;
+            }
+        }
+    }
 
     @Override
     public @Nullable SerialPortIdentifier getPortIdentifier(URI portName) {
-        TelnetSerialPort telnetSerialPort = new TelnetSerialPort();
-        telnetSerialPort.setName(portName.toString());
-        return new SerialPortIdentifierImpl(telnetSerialPort, portName);
+        if (legacyClient) {
+            TelnetSerialPort telnetSerialPort = new TelnetSerialPort();
+            telnetSerialPort.setName(portName.toString());
+            return new SerialPortIdentifierImpl(telnetSerialPort, portName);
+        }
+        return new Rfc2217SerialPortIdentifier(this, portName);
     }
 
     @Override
@@ -51,4 +123,62 @@ public class RFC2217PortProvider implements SerialPortProvider {
     public Stream<SerialPortIdentifier> getSerialPortIdentifiers() {
         return Stream.empty();
     }
+
+    SerialPort openPort(URI uri, String owner, int timeout) throws PortInUseException {
+        String host = uri.getHost();
+        if (host == null || uri.getPort() < 0) {
+            throw new IllegalStateException(String.format("Invalid remote serial port %s", uri));
+        }
+        InetSocketAddress address = new InetSocketAddress(host, uri.getPort());
+        if (address.isUnresolved()) {
+            throw new IllegalStateException(String.format("Unable to resolve host of remote serial port %s", uri));
+        }
+
+        Rfc2217SerialPort port;
+        synchronized (openPorts) {
+            OpenPort openPort = openPorts.get(uri);
+            if (openPort != null) {
+                throw new PortInUseException(new IllegalStateException(
+                        String.format("Remote serial port %s is currently owned by %s", uri, openPort.owner())));
+            }
+            port = new Rfc2217SerialPort(uri.toString(), address, getEventLoop(),
+                    ThreadPoolManager.getPool(THREAD_POOL_NAME), receiveBufferSize, maxReconnectDelayMs, timeout,
+                    () -> openPorts.remove(uri));
+            openPorts.put(uri, new OpenPort(owner, port));
+        }
+
+        try {
+            port.connect().get();
+            return port;
+        } catch (ExecutionException e) {
+            port.close();
+            throw new IllegalStateException(
+                    String.format("Unable to establish remote connection to serial port %s", uri), e.getCause());
+        } catch (InterruptedException e) {
+            port.close();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                    String.format("Interrupted while connecting to remote serial port %s", uri), e);
+        }
+    }
+
+    @Nullable
+    String getOwner(URI uri) {
+        OpenPort openPort = openPorts.get(uri);
+        return openPort == null ? null : openPort.owner();
+    }
+
+    private synchronized Rfc2217EventLoop getEventLoop() {
+        Rfc2217EventLoop eventLoop = this.eventLoop;
+        if (eventLoop == null) {
+            try {
+                eventLoop = new Rfc2217EventLoop();
+            } catch (IOException e) {
+                logger.warn("Failed to create the event loop for remote serial ports: {}", e.getMessage());
+                throw new IllegalStateException("Failed to create the event loop for remote serial ports", e);
+            }
+            this.eventLoop = eventLoop;
+        }
+        return eventLoop;
+    }
 }
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial.rxtx.rfc2217.internal;
+
+import java.io.InterruptedIOException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A fixed size buffer for the data received from a remote port, which is read by the {@link java.io.InputStream} of
+ * the port.
+ * <p>
+ * The writer is expected to stop writing once less than a minimum of free space is left, see
+ * {@link #suspendWriterIfFull()}, and is resumed by the given handler once enough data has been read. If more data is
+ * written than fits into the buffer anyway, the oldest data is dropped.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+final class ReceiveRingBuffer {
+
+    private final byte[] buffer;
+    private final int minFreeSpace;
+    private final Runnable resumeWriterHandler;
+    private int readIndex;
+    private int size;
+    private boolean closed;
+    private boolean writerSuspended;
+
+    /**
+     * Creates a new buffer.
+     *
+     * @param capacity the size of the buffer
+     * @param minFreeSpace the free space below which the writer is suspended, which is limited to the capacity
+     * @param resumeWriterHandler called (while holding the lock of the buffer) once a suspended writer may continue
+     */
+    ReceiveRingBuffer(int capacity, int minFreeSpace, Runnable resumeWriterHandler) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        this.buffer = new byte[capacity];
+        this.minFreeSpace = Math.max(1, Math.min(minFreeSpace, capacity));
+        this.resumeWriterHandler = resumeWriterHandler;
+    }
+
+    /**
+     * Adds received data to the buffer.
+     *
+     * @param data the data
+     * @param offset the offset of the data to add
+     * @param length the length of the data to add
+     * @return the number of bytes dropped to make room for the data
+     */
+    synchronized int write(byte[] data, int offset, int length) {
+        int dropped = 0;
+        if (length > buffer.length) {
+            dropped = length - buffer.length;
+            offset += dropped;
+            length = buffer.length;
+        }
+        int overflow = size + length - buffer.length;
+        if (overflow > 0) {
+            readIndex = (readIndex + overflow) % buffer.length;
+            size -= overflow;
+            dropped += overflow;
+        }
+        int writeIndex = (readIndex + size) % buffer.length;
+        int firstPart = Math.min(length, buffer.length - writeIndex);
+        System.arraycopy(data, offset, buffer, writeIndex, firstPart);
+        System.arraycopy(data, offset + firstPart, buffer, 0, length - firstPart);
+        size += length;
+        notifyAll();
+        return dropped;
+    }
+
+    /**
+     * Reads data from the buffer, waiting for the data if necessary.
+     *
+     * @param data the array to read into
+     * @param offset the offset in the array
+     * @param length the maximum number of bytes to read
+     * @param timeout the maximum time to wait in milliseconds, or a negative value to wait without a time limit
+     * @param threshold the number of bytes to wait for, if less than length
+     * @return the number of bytes read, which is 0 if the timeout elapsed, or -1 if the buffer has been closed
+     * @throws InterruptedIOException if the thread has been interrupted while waiting
+     */
+    synchronized int read(byte[] data, int offset, int length, long timeout, int threshold)
+            throws InterruptedIOException {
+        if (length == 0) {
+            return 0;
+        }
+        int required = Math.max(1, Math.min(threshold, length));
+        long deadline = System.currentTimeMillis() + timeout;
+        try {
+            while (size < required && !closed) {
+                if (timeout < 0) {
+                    wait();
+                } else {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    wait(remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for received data");
+        }
+        if (size == 0) {
+            return closed ? -1 : 0;
+        }
+        int count = Math.min(length, size);
+        int firstPart = Math.min(count, buffer.length - readIndex);
+        System.arraycopy(buffer, readIndex, data, offset, firstPart);
+        System.arraycopy(buffer, 0, data, offset + firstPart, count - firstPart);
+        readIndex = (readIndex + count) % buffer.length;
+        size -= count;
+        resumeWriterIfNotFull();
+        return count;
+    }
+
+    /**
+     * Suspends the writer if less than the minimum free space is left in the buffer.
+     *
+     * @return true if the writer has to stop writing until it is resumed by the handler
+     */
+    synchronized boolean suspendWriterIfFull() {
+        if (!closed && buffer.length - size < minFreeSpace) {
+            writerSuspended = true;
+        }
+        return writerSuspended;
+    }
+
+    private void resumeWriterIfNotFull() {
+        if (writerSuspended && buffer.length - size >= minFreeSpace) {
+            writerSuspended = false;
+            resumeWriterHandler.run();
+        }
+    }
+
+    synchronized int available() {
+        return size;
+    }
+
+    synchronized void clear() {
+        readIndex = 0;
+        size = 0;
+        resumeWriterIfNotFull();
+    }
+
+    /**
+     * Closes the buffer, so that waiting and further reads return -1 once the remaining data has been read.
+     */
+    synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+}
@@ -0,0 +1,463 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial.rxtx.rfc2217.internal;
+
+import static org.openhab.core.io.transport.serial.rxtx.rfc2217.internal.Rfc2217Protocol.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Telnet connection to a remote serial port, which is handled by a {@link Rfc2217EventLoop}.
+ * <p>
+ * Data written while the connection is being established or reestablished is kept until it can be sent, up to a
+ * maximum size. If the connection is lost, it is reestablished with an increasing delay. Reading can be suspended
+ * while the received data cannot be consumed, so that TCP flow control slows down the remote side.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+final class Rfc2217Connection {
+
+    /**
+     * Receives the events of a connection. All methods are called by the event loop thread.
+     */
+    interface Listener {
+
+        /**
+         * The connection has been (re)established.
+         *
+         * @return the COM-PORT-OPTION commands to send before any pending data, e.g. the port settings
+         */
+        List<ByteBuffer> connected();
+
+        void dataReceived(byte[] data, int offset, int length);
+
+        void comPortCommandReceived(int command, byte[] value);
+
+        void disconnected();
+    }
+
+    private enum DecoderState {
+        DATA,
+        IAC,
+        NEGOTIATION,
+        SUBNEGOTIATION,
+        SUBNEGOTIATION_IAC
+    }
+
+    private static final long INITIAL_RECONNECT_DELAY_MS = 500;
+    private static final long DEFAULT_CONNECT_TIMEOUT_MS = 10000;
+    private static final int MAX_BUFFERS_PER_WRITE = 64;
+    private static final int MAX_SUBNEGOTIATION_LENGTH = 64;
+    private static final Set<Integer> LOCAL_OPTIONS = Set.of(OPTION_BINARY, OPTION_COM_PORT);
+    private static final Set<Integer> REMOTE_OPTIONS = Set.of(OPTION_BINARY, OPTION_SUPPRESS_GO_AHEAD);
+
+    private final Logger logger = LoggerFactory.getLogger(Rfc2217Connection.class);
+
+    private final Rfc2217EventLoop eventLoop;
+    private final InetSocketAddress address;
+    private final Listener listener;
+    private final long connectTimeoutMs;
+    private final long maxReconnectDelayMs;
+    private final int maxPendingWriteBytes;
+
+    private final Queue<ByteBuffer> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingWriteBytes = new AtomicInteger();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private final AtomicBoolean connectRequested = new AtomicBoolean();
+    private final CompletableFuture<@Nullable Void> firstConnection = new CompletableFuture<>();
+    private volatile boolean closed;
+
+    // accessed by the event loop thread only
+    private @Nullable SocketChannel channel;
+    private @Nullable SelectionKey key;
+    private boolean connected;
+    private boolean readingSuspended;
+    private int connectionAttempt;
+    private long reconnectDelayMs = INITIAL_RECONNECT_DELAY_MS;
+    private final Deque<ByteBuffer> controlWrites = new ArrayDeque<>();
+    private final Set<Integer> localOptions = new HashSet<>();
+    private final Set<Integer> remoteOptions = new HashSet<>();
+    private DecoderState decoderState = DecoderState.DATA;
+    private int negotiationVerb;
+    private final ByteArrayOutputStream subnegotiation = new ByteArrayOutputStream(MAX_SUBNEGOTIATION_LENGTH);
+
+    Rfc2217Connection(Rfc2217EventLoop eventLoop, InetSocketAddress address, Listener listener, long connectTimeoutMs,
+            long maxReconnectDelayMs, int maxPendingWriteBytes) {
+        this.eventLoop = eventLoop;
+        this.address = address;
+        this.listener = listener;
+        this.connectTimeoutMs = connectTimeoutMs > 0 ? connectTimeoutMs : DEFAULT_CONNECT_TIMEOUT_MS;
+        this.maxReconnectDelayMs = Math.max(maxReconnectDelayMs, INITIAL_RECONNECT_DELAY_MS);
+        this.maxPendingWriteBytes = maxPendingWriteBytes;
+    }
+
+    /**
+     * Establishes the connection, unless this has already been requested.
+     *
+     * @return a future which is completed when the connection has been established the first time, or completed
+     *         exceptionally if this failed
+     */
+    CompletableFuture<@Nullable Void> connect() {
+        if (connectRequested.compareAndSet(false, true)) {
+            eventLoop.execute(this::openChannel);
+        }
+        return firstConnection;
+    }
+
+    /**
+     * Sends encoded data or commands, without waiting for them to be sent.
+     *
+     * @param data the encoded data
+     * @throws IOException if the connection is closed or too much data is pending
+     */
+    void send(ByteBuffer data) throws IOException {
+        if (closed) {
+            throw new IOException("The connection to " + address + " is closed");
+        }
+        if (pendingWriteBytes.addAndGet(data.remaining()) > maxPendingWriteBytes) {
+            pendingWriteBytes.addAndGet(-data.remaining());
+            throw new IOException("Too much data is pending to be sent to " + address);
+        }
+        pendingWrites.add(data);
+        if (writeScheduled.compareAndSet(false, true)) {
+            eventLoop.execute(() -> {
+                writeScheduled.set(false);
+                enableWrite();
+            });
+        }
+    }
+
+    /**
+     * Stops reading from the socket until {@link #resumeReading()} is called. Called by the event loop thread.
+     */
+    void suspendReading() {
+        readingSuspended = true;
+        SelectionKey key = this.key;
+        if (connected && key != null && key.isValid()) {
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Reads from the socket again after {@link #suspendReading()}. Can be called by any thread.
+     */
+    void resumeReading() {
+        eventLoop.execute(() -> {
+            readingSuspended = false;
+            SelectionKey key = this.key;
+            if (connected && key != null && key.isValid()) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+            }
+        });
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+        pendingWrites.clear();
+        pendingWriteBytes.set(0);
+        eventLoop.execute(this::closeChannel);
+    }
+
+    /**
+     * Handles the readiness of the socket. Called by the event loop thread.
+     *
+     * @param selectedKey the selected key of the socket
+     */
+    void handleSelectedKey(SelectionKey selectedKey) {
+        SocketChannel channel = this.channel;
+        if (channel == null || selectedKey != key || !selectedKey.isValid()) {
+            return;
+        }
+        try {
+            if (selectedKey.isConnectable() && channel.finishConnect()) {
+                connectionEstablished(selectedKey);
+            }
+            if (selectedKey.isValid() && selectedKey.isReadable()) {
+                read(channel);
+            }
+            if (selectedKey.isValid() && selectedKey.isWritable()) {
+                flush(channel, selectedKey);
+            }
+        } catch (IOException e) {
+            connectionFailed(e);
+        }
+    }
+
+    private void openChannel() {
+        if (closed) {
+            return;
+        }
+        int attempt = ++connectionAttempt;
+        try {
+            SocketChannel channel = SocketChannel.open();
+            this.channel = channel;
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+            boolean connected = channel.connect(address);
+            SelectionKey key = channel.register(eventLoop.getSelector(),
+                    connected ? SelectionKey.OP_READ : SelectionKey.OP_CONNECT, this);
+            this.key = key;
+            if (connected) {
+                connectionEstablished(key);
+            } else {
+                eventLoop.schedule(() -> {
+                    if (attempt == connectionAttempt && !this.connected && !closed) {
+                        connectionFailed(new SocketTimeoutException("Connecting to " + address + " timed out"));
+                    }
+                }, connectTimeoutMs);
+            }
+        } catch (IOException e) {
+            connectionFailed(e);
+        }
+    }
+
+    private void connectionEstablished(SelectionKey key) {
+        if (firstConnection.isDone()) {
+            logger.info("Reconnected to remote serial port {}", address);
+        } else {
+            logger.debug("Connected to remote serial port {}", address);
+        }
+        connected = true;
+        reconnectDelayMs = INITIAL_RECONNECT_DELAY_MS;
+        decoderState = DecoderState.DATA;
+        localOptions.clear();
+        remoteOptions.clear();
+        controlWrites.clear();
+        // the options are considered as enabled when requesting them, so that the acknowledgements are not answered
+        for (int option : LOCAL_OPTIONS) {
+            localOptions.add(option);
+            controlWrites.add(negotiation(WILL, option));
+        }
+        for (int option : REMOTE_OPTIONS) {
+            remoteOptions.add(option);
+            controlWrites.add(negotiation(DO, option));
+        }
+        controlWrites.addAll(listener.connected());
+        key.interestOps(readInterest() | SelectionKey.OP_WRITE);
+        firstConnection.complete(null);
+    }
+
+    private void connectionFailed(IOException e) {
+        boolean wasConnected = connected;
+        closeChannel();
+        if (!firstConnection.isDone()) {
+            closed = true;
+            firstConnection.completeExceptionally(e);
+            return;
+        }
+        if (closed) {
+            return;
+        }
+        if (wasConnected) {
+            logger.warn("Connection to remote serial port {} lost, reconnecting: {}", address, e.getMessage());
+            listener.disconnected();
+        } else {
+            logger.debug("Reconnecting to remote serial port {} failed, retrying in {} ms: {}", address,
+                    reconnectDelayMs, e.getMessage());
+        }
+        eventLoop.schedule(this::openChannel, reconnectDelayMs);
+        reconnectDelayMs = Math.min(reconnectDelayMs * 2, maxReconnectDelayMs);
+    }
+
+    private void closeChannel() {
+        connected = false;
+        SelectionKey key = this.key;
+        if (key != null) {
+            key.cancel();
+            this.key = null;
+        }
+        SocketChannel channel = this.channel;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close the connection to {}: {}", address, e.getMessage());
+            }
+            this.channel = null;
+        }
+    }
+
+    private void enableWrite() {
+        SelectionKey key = this.key;
+        if (connected && key != null && key.isValid()) {
+            key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+        }
+    }
+
+    private void flush(SocketChannel channel, SelectionKey key) throws IOException {
+        ByteBuffer controlWrite;
+        while ((controlWrite = controlWrites.peek()) != null) {
+            channel.write(controlWrite);
+            if (controlWrite.hasRemaining()) {
+                return;
+            }
+            controlWrites.poll();
+        }
+
+        while (!pendingWrites.isEmpty()) {
+            // write several buffers at once, e.g. the single bytes written to the output stream by some bindings
+            ByteBuffer[] batch = pendingWrites.stream().limit(MAX_BUFFERS_PER_WRITE).toArray(ByteBuffer[]::new);
+            long written = channel.write(batch);
+            pendingWriteBytes.addAndGet((int) -written);
+            ByteBuffer pendingWrite;
+            while ((pendingWrite = pendingWrites.peek()) != null && !pendingWrite.hasRemaining()) {
+                pendingWrites.poll();
+            }
+            if (Arrays.stream(batch).anyMatch(ByteBuffer::hasRemaining)) {
+                return;
+            }
+        }
+        key.interestOps(readInterest());
+        if (!pendingWrites.isEmpty()) {
+            enableWrite();
+        }
+    }
+
+    private int readInterest() {
+        return readingSuspended ? 0 : SelectionKey.OP_READ;
+    }
+
+    private void read(SocketChannel channel) throws IOException {
+        ByteBuffer readBuffer = eventLoop.getReadBuffer();
+        readBuffer.clear();
+        if (channel.read(readBuffer) < 0) {
+            throw new IOException("The connection has been closed by the remote side");
+        }
+        readBuffer.flip();
+        byte[] data = eventLoop.getDecodeBuffer();
+        int length = 0;
+        while (readBuffer.hasRemaining()) {
+            int b = readBuffer.get() & 0xFF;
+            switch (decoderState) {
+                case DATA:
+                    if (b == IAC) {
+                        decoderState = DecoderState.IAC;
+                    } else {
+                        data[length++] = (byte) b;
+                    }
+                    break;
+                case IAC:
+                    decoderState = DecoderState.DATA;
+                    if (b == IAC) {
+                        data[length++] = (byte) b;
+                    } else if (b == WILL || b == WONT || b == DO || b == DONT) {
+                        negotiationVerb = b;
+                        decoderState = DecoderState.NEGOTIATION;
+                    } else if (b == SB) {
+                        subnegotiation.reset();
+                        decoderState = DecoderState.SUBNEGOTIATION;
+                    }
+                    break;
+                case NEGOTIATION:
+                    decoderState = DecoderState.DATA;
+                    handleNegotiation(negotiationVerb, b);
+                    break;
+                case SUBNEGOTIATION:
+                    if (b == IAC) {
+                        decoderState = DecoderState.SUBNEGOTIATION_IAC;
+                    } else if (subnegotiation.size() < MAX_SUBNEGOTIATION_LENGTH) {
+                        subnegotiation.write(b);
+                    }
+                    break;
+                case SUBNEGOTIATION_IAC:
+                    if (b == IAC) {
+                        subnegotiation.write(b);
+                        decoderState = DecoderState.SUBNEGOTIATION;
+                    } else {
+                        decoderState = DecoderState.DATA;
+                        if (b == SE) {
+                            handleSubnegotiation(subnegotiation.toByteArray());
+                        }
+                    }
+                    break;
+            }
+        }
+        if (length > 0) {
+            listener.dataReceived(data, 0, length);
+        }
+    }
+
+    private void handleNegotiation(int verb, int option) {
+        switch (verb) {
+            case DO:
+                if (!LOCAL_OPTIONS.contains(option)) {
+                    sendControl(negotiation(WONT, option));
+                } else if (localOptions.add(option)) {
+                    sendControl(negotiation(WILL, option));
+                }
+                break;
+            case DONT:
+                if (localOptions.remove(option)) {
+                    sendControl(negotiation(WONT, option));
+                    if (option == OPTION_COM_PORT) {
+                        logger.warn("Remote serial port {} does not support RFC2217, the port settings are ignored",
+                                address);
+                    }
+                }
+                break;
+            case WILL:
+                if (!REMOTE_OPTIONS.contains(option)) {
+                    sendControl(negotiation(DONT, option));
+                } else if (remoteOptions.add(option)) {
+                    sendControl(negotiation(DO, option));
+                }
+                break;
+            case WONT:
+                if (remoteOptions.remove(option)) {
+                    sendControl(negotiation(DONT, option));
+                }
+                break;
+        }
+    }
+
+    private void handleSubnegotiation(byte[] subnegotiation) {
+        if (subnegotiation.length >= 2 && (subnegotiation[0] & 0xFF) == OPTION_COM_PORT) {
+            listener.comPortCommandReceived(subnegotiation[1] & 0xFF,
+                    Arrays.copyOfRange(subnegotiation, 2, subnegotiation.length));
+        }
+    }
+
+    private void sendControl(ByteBuffer data) {
+        controlWrites.add(data);
+        enableWrite();
+    }
+}
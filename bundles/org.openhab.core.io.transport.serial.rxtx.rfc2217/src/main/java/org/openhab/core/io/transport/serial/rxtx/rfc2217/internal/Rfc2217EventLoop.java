@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial.rxtx.rfc2217.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single thread which handles the socket I/O of all {@link Rfc2217Connection}s by a {@link Selector}.
+ * <p>
+ * All methods of the connections which access their sockets are called by this thread only. Other threads pass
+ * their work to the thread by {@link #execute(Runnable)}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+final class Rfc2217EventLoop implements Closeable {
+
+    private static final String THREAD_NAME = "OH-rfc2217";
+    static final int READ_BUFFER_SIZE = 8192;
+
+    private record Timer(long deadlineNanos, Runnable task) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(Rfc2217EventLoop.class);
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<Timer> timers = new PriorityQueue<>(Comparator.comparingLong(Timer::deadlineNanos));
+
+    // shared by all connections, as they are only read by the event loop thread
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    private final byte[] decodeBuffer = new byte[READ_BUFFER_SIZE];
+
+    private volatile boolean running = true;
+
+    Rfc2217EventLoop() throws IOException {
+        selector = Selector.open();
+        ThreadFactoryBuilder.create().withName(THREAD_NAME).withDaemonThreads(true).build().newThread(this::run)
+                .start();
+    }
+
+    /**
+     * Runs a task by the event loop thread.
+     *
+     * @param task the task
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Runs a task by the event loop thread after a delay.
+     *
+     * @param task the task
+     * @param delay the delay in milliseconds
+     */
+    void schedule(Runnable task, long delay) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+        execute(() -> timers.add(new Timer(deadlineNanos, task)));
+    }
+
+    Selector getSelector() {
+        return selector;
+    }
+
+    ByteBuffer getReadBuffer() {
+        return readBuffer;
+    }
+
+    byte[] getDecodeBuffer() {
+        return decodeBuffer;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                runTasks();
+                long timeout = runDueTimers();
+                if (!tasks.isEmpty()) {
+                    selector.selectNow();
+                } else {
+                    selector.select(timeout);
+                }
+                for (SelectionKey key : selector.selectedKeys()) {
+                    if (key.attachment() instanceof Rfc2217Connection connection) {
+                        runSafely(() -> connection.handleSelectedKey(key));
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            logger.warn("The RFC2217 event loop failed: {}", e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                try {
+                    key.channel().close();
+                } catch (IOException e) {
+                    logger.debug("Failed to close a connection: {}", e.getMessage());
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close the selector: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            runSafely(task);
+        }
+    }
+
+    /**
+     * Runs the timers which are due.
+     *
+     * @return the time in milliseconds until the next timer is due, or 0 if there is no timer
+     */
+    private long runDueTimers() {
+        Timer timer;
+        while ((timer = timers.peek()) != null) {
+            long remainingNanos = timer.deadlineNanos() - System.nanoTime();
+            if (remainingNanos > 0) {
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+            }
+            timers.poll();
+            runSafely(timer.task());
+        }
+        return 0;
+    }
+
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            logger.warn("An RFC2217 event loop task failed", e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial.rxtx.rfc2217.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Constants and encoding helpers of the Telnet protocol and its COM-PORT-OPTION defined by RFC 2217.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+final class Rfc2217Protocol {
+
+    // Telnet commands
+    static final int IAC = 255;
+    static final int DONT = 254;
+    static final int DO = 253;
+    static final int WONT = 252;
+    static final int WILL = 251;
+    static final int SB = 250;
+    static final int SE = 240;
+
+    // Telnet options
+    static final int OPTION_BINARY = 0;
+    static final int OPTION_SUPPRESS_GO_AHEAD = 3;
+    static final int OPTION_COM_PORT = 44;
+
+    // COM-PORT-OPTION commands sent by the client, the server responds with the command plus SERVER_OFFSET
+    static final int SET_BAUDRATE = 1;
+    static final int SET_DATASIZE = 2;
+    static final int SET_PARITY = 3;
+    static final int SET_STOPSIZE = 4;
+    static final int SET_CONTROL = 5;
+    static final int NOTIFY_LINESTATE = 6;
+    static final int NOTIFY_MODEMSTATE = 7;
+    static final int SET_LINESTATE_MASK = 10;
+    static final int SET_MODEMSTATE_MASK = 11;
+    static final int SERVER_OFFSET = 100;
+
+    // values of SET_PARITY
+    static final int PARITY_NONE = 1;
+    static final int PARITY_ODD = 2;
+    static final int PARITY_EVEN = 3;
+    static final int PARITY_MARK = 4;
+    static final int PARITY_SPACE = 5;
+
+    // values of SET_STOPSIZE
+    static final int STOPSIZE_1 = 1;
+    static final int STOPSIZE_2 = 2;
+    static final int STOPSIZE_1_5 = 3;
+
+    // values of SET_CONTROL
+    static final int CONTROL_FLOW_NONE = 1;
+    static final int CONTROL_FLOW_XONXOFF = 2;
+    static final int CONTROL_FLOW_HARDWARE = 3;
+    static final int CONTROL_BREAK_ON = 5;
+    static final int CONTROL_BREAK_OFF = 6;
+    static final int CONTROL_DTR_ON = 8;
+    static final int CONTROL_DTR_OFF = 9;
+    static final int CONTROL_RTS_ON = 11;
+    static final int CONTROL_RTS_OFF = 12;
+
+    // bits of NOTIFY_LINESTATE
+    static final int LINESTATE_BREAK = 0x10;
+    static final int LINESTATE_FRAMING_ERROR = 0x08;
+    static final int LINESTATE_PARITY_ERROR = 0x04;
+    static final int LINESTATE_OVERRUN_ERROR = 0x02;
+
+    // bits of NOTIFY_MODEMSTATE
+    static final int MODEMSTATE_CD = 0x80;
+    static final int MODEMSTATE_RI = 0x40;
+    static final int MODEMSTATE_DSR = 0x20;
+    static final int MODEMSTATE_CTS = 0x10;
+
+    private Rfc2217Protocol() {
+        // constants and static methods only
+    }
+
+    /**
+     * Encodes an option negotiation, e.g. IAC WILL COM-PORT-OPTION.
+     *
+     * @param verb the verb, i.e. {@link #WILL}, {@link #WONT}, {@link #DO} or {@link #DONT}
+     * @param option the option
+     * @return the encoded negotiation
+     */
+    static ByteBuffer negotiation(int verb, int option) {
+        return ByteBuffer.wrap(new byte[] { (byte) IAC, (byte) verb, (byte) option });
+    }
+
+    /**
+     * Encodes a COM-PORT-OPTION subnegotiation.
+     *
+     * @param command the command
+     * @param value the value of the command
+     * @return the encoded subnegotiation
+     */
+    static ByteBuffer comPortCommand(int command, byte... value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(value.length + 8);
+        out.write(IAC);
+        out.write(SB);
+        out.write(OPTION_COM_PORT);
+        out.write(command);
+        writeEscaped(out, value, 0, value.length);
+        out.write(IAC);
+        out.write(SE);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    /**
+     * Encodes data, i.e. doubles all IAC bytes.
+     *
+     * @param data the data
+     * @param offset the offset of the data to encode
+     * @param length the length of the data to encode
+     * @return the encoded data
+     */
+    static ByteBuffer data(byte[] data, int offset, int length) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length + 16);
+        writeEscaped(out, data, offset, length);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    private static void writeEscaped(ByteArrayOutputStream out, byte[] data, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if ((data[i] & 0xFF) == IAC) {
+                out.write(IAC);
+            }
+            out.write(data[i]);
+        }
+    }
+}
@@ -0,0 +1,550 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial.rxtx.rfc2217.internal;
+
+import static org.openhab.core.io.transport.serial.rxtx.rfc2217.internal.Rfc2217Protocol.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Queue;
+import java.util.TooManyListenersException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.serial.SerialPort;
+import org.openhab.core.io.transport.serial.SerialPortEvent;
+import org.openhab.core.io.transport.serial.SerialPortEventListener;
+import org.openhab.core.io.transport.serial.UnsupportedCommOperationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SerialPort} which is connected to a remote serial port using RFC 2217.
+ * <p>
+ * Received data is kept in a ring buffer, from which the input stream reads. Reading from the socket is suspended
+ * while the buffer cannot take the data of another read, so data is only dropped if the buffer is smaller than a
+ * single read. The port settings are sent again whenever the connection has been reestablished. Events are delivered
+ * by the given executor, so that a slow listener cannot delay the other remote ports.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+final class Rfc2217SerialPort implements SerialPort, Rfc2217Connection.Listener {
+
+    private static final int MAX_PENDING_WRITE_BYTES = 65536;
+    private static final int MODEMSTATE_MASK = MODEMSTATE_CD | MODEMSTATE_RI | MODEMSTATE_DSR | MODEMSTATE_CTS;
+    private static final int LINESTATE_MASK = LINESTATE_BREAK | LINESTATE_FRAMING_ERROR | LINESTATE_PARITY_ERROR
+            | LINESTATE_OVERRUN_ERROR;
+
+    private final Logger logger = LoggerFactory.getLogger(Rfc2217SerialPort.class);
+
+    private final String name;
+    private final Rfc2217EventLoop eventLoop;
+    private final Rfc2217Connection connection;
+    private final ReceiveRingBuffer receiveBuffer;
+    private final Executor eventExecutor;
+    private final Runnable closeHandler;
+    private final InputStream inputStream = new Rfc2217InputStream();
+    private final OutputStream outputStream = new Rfc2217OutputStream();
+
+    private volatile int baudRate = 9600;
+    private volatile int dataBits = DATABITS_8;
+    private volatile int stopBits = STOPBITS_1;
+    private volatile int parity = PARITY_NONE;
+    private volatile int flowControlMode = FLOWCONTROL_NONE;
+    private volatile boolean rts = true;
+    private volatile boolean dtr = true;
+    private volatile int modemState;
+    private volatile int receiveTimeout = -1;
+    private volatile int receiveThreshold = 1;
+
+    private volatile @Nullable SerialPortEventListener eventListener;
+    private volatile int enabledEvents;
+    private final Queue<SerialPortEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private final AtomicBoolean dataAvailablePending = new AtomicBoolean();
+    private final AtomicLong droppedBytes = new AtomicLong();
+
+    Rfc2217SerialPort(String name, InetSocketAddress address, Rfc2217EventLoop eventLoop, Executor eventExecutor,
+            int receiveBufferSize, long maxReconnectDelayMs, long connectTimeoutMs, Runnable closeHandler) {
+        this.name = name;
+        this.eventLoop = eventLoop;
+        this.eventExecutor = eventExecutor;
+        this.closeHandler = closeHandler;
+        this.receiveBuffer = new ReceiveRingBuffer(receiveBufferSize, Rfc2217EventLoop.READ_BUFFER_SIZE,
+                this::resumeReading);
+        this.connection = new Rfc2217Connection(eventLoop, address, this, connectTimeoutMs, maxReconnectDelayMs,
+                MAX_PENDING_WRITE_BYTES);
+    }
+
+    CompletableFuture<@Nullable Void> connect() {
+        return connection.connect();
+    }
+
+    /**
+     * Returns the number of received bytes which have been dropped, because the receive buffer was full.
+     *
+     * @return the number of dropped bytes
+     */
+    long getDroppedBytes() {
+        return droppedBytes.get();
+    }
+
+    private void resumeReading() {
+        connection.resumeReading();
+    }
+
+    @Override
+    public void close() {
+        if (connection.isClosed()) {
+            return;
+        }
+        connection.close();
+        receiveBuffer.close();
+        eventListener = null;
+        closeHandler.run();
+    }
+
+    @Override
+    public void setSerialPortParams(int baudrate, int dataBits, int stopBits, int parity)
+            throws UnsupportedCommOperationException {
+        if (baudrate <= 0 || dataBits < DATABITS_5 || dataBits > DATABITS_8) {
+            throw new UnsupportedCommOperationException();
+        }
+        byte stopSize = toStopSize(stopBits);
+        byte parityValue = toParity(parity);
+        this.baudRate = baudrate;
+        this.dataBits = dataBits;
+        this.stopBits = stopBits;
+        this.parity = parity;
+        send(comPortCommand(SET_BAUDRATE, toBytes(baudrate)), comPortCommand(SET_DATASIZE, (byte) dataBits),
+                comPortCommand(SET_PARITY, parityValue), comPortCommand(SET_STOPSIZE, stopSize));
+    }
+
+    @Override
+    public int getBaudRate() {
+        return baudRate;
+    }
+
+    @Override
+    public int getDataBits() {
+        return dataBits;
+    }
+
+    @Override
+    public int getStopBits() {
+        return stopBits;
+    }
+
+    @Override
+    public int getParity() {
+        return parity;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        return outputStream;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void addEventListener(SerialPortEventListener listener) throws TooManyListenersException {
+        synchronized (this) {
+            if (eventListener != null) {
+                throw new TooManyListenersException();
+            }
+            eventListener = listener;
+        }
+    }
+
+    @Override
+    public void removeEventListener() {
+        eventListener = null;
+    }
+
+    @Override
+    public void notifyOnDataAvailable(boolean enable) {
+        enableEvent(SerialPortEvent.DATA_AVAILABLE, enable);
+    }
+
+    @Override
+    public void notifyOnBreakInterrupt(boolean enable) {
+        enableEvent(SerialPortEvent.BI, enable);
+    }
+
+    @Override
+    public void notifyOnFramingError(boolean enable) {
+        enableEvent(SerialPortEvent.FE, enable);
+    }
+
+    @Override
+    public void notifyOnOverrunError(boolean enable) {
+        enableEvent(SerialPortEvent.OE, enable);
+    }
+
+    @Override
+    public void notifyOnParityError(boolean enable) {
+        enableEvent(SerialPortEvent.PE, enable);
+    }
+
+    @Override
+    public void notifyOnOutputEmpty(boolean enable) {
+        enableEvent(SerialPortEvent.OUTPUT_BUFFER_EMPTY, enable);
+    }
+
+    @Override
+    public void notifyOnCTS(boolean enable) {
+        enableEvent(SerialPortEvent.CTS, enable);
+    }
+
+    @Override
+    public void notifyOnDSR(boolean enable) {
+        enableEvent(SerialPortEvent.DSR, enable);
+    }
+
+    @Override
+    public void notifyOnRingIndicator(boolean enable) {
+        enableEvent(SerialPortEvent.RI, enable);
+    }
+
+    @Override
+    public void notifyOnCarrierDetect(boolean enable) {
+        enableEvent(SerialPortEvent.CD, enable);
+    }
+
+    @Override
+    public void enableReceiveTimeout(int timeout) throws UnsupportedCommOperationException, IllegalArgumentException {
+        if (timeout < 0) {
+            throw new IllegalArgumentException(String.format("timeout must be non negative (is: %d)", timeout));
+        }
+        receiveTimeout = timeout;
+    }
+
+    @Override
+    public void disableReceiveTimeout() {
+        receiveTimeout = -1;
+    }
+
+    @Override
+    public void setFlowControlMode(int flowcontrolRtsctsOut) throws UnsupportedCommOperationException {
+        int control;
+        if (flowcontrolRtsctsOut == FLOWCONTROL_NONE) {
+            control = CONTROL_FLOW_NONE;
+        } else if ((flowcontrolRtsctsOut & (FLOWCONTROL_RTSCTS_IN | FLOWCONTROL_RTSCTS_OUT)) != 0) {
+            control = CONTROL_FLOW_HARDWARE;
+        } else if ((flowcontrolRtsctsOut & (FLOWCONTROL_XONXOFF_IN | FLOWCONTROL_XONXOFF_OUT)) != 0) {
+            control = CONTROL_FLOW_XONXOFF;
+        } else {
+            throw new UnsupportedCommOperationException();
+        }
+        flowControlMode = flowcontrolRtsctsOut;
+        send(comPortCommand(SET_CONTROL, (byte) control));
+    }
+
+    @Override
+    public int getFlowControlMode() {
+        return flowControlMode;
+    }
+
+    @Override
+    public void enableReceiveThreshold(int i) throws UnsupportedCommOperationException {
+        if (i < 0) {
+            throw new IllegalArgumentException(String.format("threshold must be non negative (is: %d)", i));
+        }
+        receiveThreshold = Math.max(i, 1);
+    }
+
+    @Override
+    public void setRTS(boolean rts) {
+        this.rts = rts;
+        send(comPortCommand(SET_CONTROL, (byte) (rts ? CONTROL_RTS_ON : CONTROL_RTS_OFF)));
+    }
+
+    @Override
+    public boolean isRTS() {
+        return rts;
+    }
+
+    @Override
+    public void setDTR(boolean state) {
+        this.dtr = state;
+        send(comPortCommand(SET_CONTROL, (byte) (state ? CONTROL_DTR_ON : CONTROL_DTR_OFF)));
+    }
+
+    @Override
+    public boolean isDTR() {
+        return dtr;
+    }
+
+    @Override
+    public boolean isCTS() {
+        return (modemState & MODEMSTATE_CTS) != 0;
+    }
+
+    @Override
+    public boolean isDSR() {
+        return (modemState & MODEMSTATE_DSR) != 0;
+    }
+
+    @Override
+    public boolean isCD() {
+        return (modemState & MODEMSTATE_CD) != 0;
+    }
+
+    @Override
+    public boolean isRI() {
+        return (modemState & MODEMSTATE_RI) != 0;
+    }
+
+    @Override
+    public void sendBreak(int duration) {
+        send(comPortCommand(SET_CONTROL, (byte) CONTROL_BREAK_ON));
+        eventLoop.schedule(() -> send(comPortCommand(SET_CONTROL, (byte) CONTROL_BREAK_OFF)), Math.max(duration, 1));
+    }
+
+    @Override
+    public List<ByteBuffer> connected() {
+        return List.of(comPortCommand(SET_BAUDRATE, toBytes(baudRate)), comPortCommand(SET_DATASIZE, (byte) dataBits),
+                comPortCommand(SET_PARITY, toParityOrNone(parity)),
+                comPortCommand(SET_STOPSIZE, toStopSizeOr1(stopBits)),
+                comPortCommand(SET_CONTROL, (byte) toFlowControl(flowControlMode)),
+                comPortCommand(SET_CONTROL, (byte) (dtr ? CONTROL_DTR_ON : CONTROL_DTR_OFF)),
+                comPortCommand(SET_CONTROL, (byte) (rts ? CONTROL_RTS_ON : CONTROL_RTS_OFF)),
+                comPortCommand(SET_LINESTATE_MASK, (byte) LINESTATE_MASK),
+                comPortCommand(SET_MODEMSTATE_MASK, (byte) MODEMSTATE_MASK));
+    }
+
+    @Override
+    public void dataReceived(byte[] data, int offset, int length) {
+        int dropped = receiveBuffer.write(data, offset, length);
+        if (dropped > 0) {
+            logger.warn("Receive buffer of remote serial port {} is full, dropped {} bytes ({} in total)", name,
+                    dropped, droppedBytes.addAndGet(dropped));
+        }
+        if (receiveBuffer.suspendWriterIfFull()) {
+            connection.suspendReading();
+        }
+        if (isEventEnabled(SerialPortEvent.DATA_AVAILABLE) && dataAvailablePending.compareAndSet(false, true)) {
+            // a single pending event is enough, the listener reads all available data
+            fireEvent(new Rfc2217SerialPortEvent(SerialPortEvent.DATA_AVAILABLE, true));
+        }
+    }
+
+    @Override
+    public void comPortCommandReceived(int command, byte[] value) {
+        if (value.length == 0) {
+            return;
+        }
+        int state = value[value.length - 1] & 0xFF;
+        if (command == SERVER_OFFSET + NOTIFY_MODEMSTATE) {
+            int oldState = modemState;
+            modemState = state;
+            fireModemStateEvent(SerialPortEvent.CTS, MODEMSTATE_CTS, oldState, state);
+            fireModemStateEvent(SerialPortEvent.DSR, MODEMSTATE_DSR, oldState, state);
+            fireModemStateEvent(SerialPortEvent.RI, MODEMSTATE_RI, oldState, state);
+            fireModemStateEvent(SerialPortEvent.CD, MODEMSTATE_CD, oldState, state);
+        } else if (command == SERVER_OFFSET + NOTIFY_LINESTATE) {
+            fireLineStateEvent(SerialPortEvent.BI, LINESTATE_BREAK, state);
+            fireLineStateEvent(SerialPortEvent.FE, LINESTATE_FRAMING_ERROR, state);
+            fireLineStateEvent(SerialPortEvent.PE, LINESTATE_PARITY_ERROR, state);
+            fireLineStateEvent(SerialPortEvent.OE, LINESTATE_OVERRUN_ERROR, state);
+        }
+    }
+
+    @Override
+    public void disconnected() {
+        modemState = 0;
+    }
+
+    private void send(ByteBuffer... commands) {
+        try {
+            for (ByteBuffer command : commands) {
+                connection.send(command);
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to send command to remote serial port {}: {}", name, e.getMessage());
+        }
+    }
+
+    private void enableEvent(int eventType, boolean enable) {
+        synchronized (this) {
+            enabledEvents = enable ? enabledEvents | (1 << eventType) : enabledEvents & ~(1 << eventType);
+        }
+    }
+
+    private boolean isEventEnabled(int eventType) {
+        return (enabledEvents & (1 << eventType)) != 0;
+    }
+
+    private void fireModemStateEvent(int eventType, int bit, int oldState, int newState) {
+        if ((oldState & bit) != (newState & bit) && isEventEnabled(eventType)) {
+            fireEvent(new Rfc2217SerialPortEvent(eventType, (newState & bit) != 0));
+        }
+    }
+
+    private void fireLineStateEvent(int eventType, int bit, int state) {
+        if ((state & bit) != 0 && isEventEnabled(eventType)) {
+            fireEvent(new Rfc2217SerialPortEvent(eventType, true));
+        }
+    }
+
+    private void fireEvent(SerialPortEvent event) {
+        if (eventListener == null) {
+            dataAvailablePending.set(false);
+            return;
+        }
+        pendingEvents.add(event);
+        if (dispatching.compareAndSet(false, true)) {
+            eventExecutor.execute(this::dispatchEvents);
+        }
+    }
+
+    private void dispatchEvents() {
+        do {
+            SerialPortEvent event;
+            while ((event = pendingEvents.poll()) != null) {
+                if (event.getEventType() == SerialPortEvent.DATA_AVAILABLE) {
+                    dataAvailablePending.set(false);
+                }
+                SerialPortEventListener listener = eventListener;
+                if (listener != null) {
+                    try {
+                        listener.serialEvent(event);
+                    } catch (RuntimeException e) {
+                        logger.warn("Serial port event listener of {} failed: {}", name, e.getMessage(), e);
+                    }
+                }
+            }
+            dispatching.set(false);
+            // events added after polling the queue and before resetting the flag would otherwise not be dispatched
+        } while (!pendingEvents.isEmpty() && dispatching.compareAndSet(false, true));
+    }
+
+    private static byte[] toBytes(int value) {
+        return new byte[] { (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value };
+    }
+
+    private static byte toParity(int parity) throws UnsupportedCommOperationException {
+        return switch (parity) {
+            case SerialPort.PARITY_NONE -> (byte) Rfc2217Protocol.PARITY_NONE;
+            case SerialPort.PARITY_ODD -> (byte) Rfc2217Protocol.PARITY_ODD;
+            case SerialPort.PARITY_EVEN -> (byte) Rfc2217Protocol.PARITY_EVEN;
+            case SerialPort.PARITY_MARK -> (byte) Rfc2217Protocol.PARITY_MARK;
+            case SerialPort.PARITY_SPACE -> (byte) Rfc2217Protocol.PARITY_SPACE;
+            default -> throw new UnsupportedCommOperationException();
+        };
+    }
+
+    private static byte toParityOrNone(int parity) {
+        try {
+            return toParity(parity);
+        } catch (UnsupportedCommOperationException e) {
+            return (byte) Rfc2217Protocol.PARITY_NONE;
+        }
+    }
+
+    private static byte toStopSize(int stopBits) throws UnsupportedCommOperationException {
+        return switch (stopBits) {
+            case STOPBITS_1 -> (byte) STOPSIZE_1;
+            case STOPBITS_2 -> (byte) STOPSIZE_2;
+            case STOPBITS_1_5 -> (byte) STOPSIZE_1_5;
+            default -> throw new UnsupportedCommOperationException();
+        };
+    }
+
+    private static byte toStopSizeOr1(int stopBits) {
+        try {
+            return toStopSize(stopBits);
+        } catch (UnsupportedCommOperationException e) {
+            return (byte) STOPSIZE_1;
+        }
+    }
+
+    private static int toFlowControl(int flowControlMode) {
+        if ((flowControlMode & (FLOWCONTROL_RTSCTS_IN | FLOWCONTROL_RTSCTS_OUT)) != 0) {
+            return CONTROL_FLOW_HARDWARE;
+        } else if ((flowControlMode & (FLOWCONTROL_XONXOFF_IN | FLOWCONTROL_XONXOFF_OUT)) != 0) {
+            return CONTROL_FLOW_XONXOFF;
+        }
+        return CONTROL_FLOW_NONE;
+    }
+
+    private class Rfc2217InputStream extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            byte[] data = new byte[1];
+            return read(data, 0, 1) > 0 ? data[0] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte @Nullable [] data, int offset, int length) throws IOException {
+            if (data == null) {
+                throw new NullPointerException();
+            }
+            // like RXTX, a receive timeout results in 0 bytes being read
+            return receiveBuffer.read(data, offset, length, receiveTimeout, receiveThreshold);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return receiveBuffer.available();
+        }
+
+        @Override
+        public void close() {
+            // the stream is closed together with the port
+        }
+    }
+
+    private class Rfc2217OutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte @Nullable [] data, int offset, int length) throws IOException {
+            if (data == null) {
+                throw new NullPointerException();
+            }
+            if (length > 0) {
+                connection.send(Rfc2217Protocol.data(data, offset, length));
+            }
+        }
+
+        @Override
+        public void close() {
+            // the stream is closed together with the port
+        }
+    }
+}
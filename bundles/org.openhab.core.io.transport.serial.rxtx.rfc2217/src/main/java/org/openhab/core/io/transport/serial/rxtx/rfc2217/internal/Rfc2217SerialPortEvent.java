@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial.rxtx.rfc2217.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.serial.SerialPortEvent;
+
+/**
+ * A {@link SerialPortEvent} of a {@link Rfc2217SerialPort}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+record Rfc2217SerialPortEvent(int eventType, boolean newValue) implements SerialPortEvent {
+
+    @Override
+    public int getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public boolean getNewValue() {
+        return newValue;
+    }
+}
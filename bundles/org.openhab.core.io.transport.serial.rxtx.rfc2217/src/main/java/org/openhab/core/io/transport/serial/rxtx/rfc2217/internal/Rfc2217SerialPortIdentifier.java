@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial.rxtx.rfc2217.internal;
+
+import java.net.URI;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.serial.PortInUseException;
+import org.openhab.core.io.transport.serial.SerialPort;
+import org.openhab.core.io.transport.serial.SerialPortIdentifier;
+
+/**
+ * Serial port identifier for a remote serial port, which is accessed by the NIO based RFC2217 client.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class Rfc2217SerialPortIdentifier implements SerialPortIdentifier {
+
+    private final RFC2217PortProvider provider;
+    private final URI uri;
+
+    Rfc2217SerialPortIdentifier(RFC2217PortProvider provider, URI uri) {
+        this.provider = provider;
+        this.uri = uri;
+    }
+
+    @Override
+    public String getName() {
+        return uri.toString();
+    }
+
+    @Override
+    public SerialPort open(String owner, int timeout) throws PortInUseException {
+        return provider.openPort(uri, owner, timeout);
+    }
+
+    @Override
+    public boolean isCurrentlyOwned() {
+        return provider.getOwner(uri) != null;
+    }
+
+    @Override
+    public @Nullable String getCurrentOwner() {
+        return provider.getOwner(uri);
+    }
+}
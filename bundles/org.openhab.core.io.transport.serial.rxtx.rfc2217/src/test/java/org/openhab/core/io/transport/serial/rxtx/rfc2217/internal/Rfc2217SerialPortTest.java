@@ -0,0 +1,299 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial.rxtx.rfc2217.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.core.io.transport.serial.rxtx.rfc2217.internal.Rfc2217Protocol.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.serial.SerialPort;
+import org.openhab.core.io.transport.serial.SerialPortEvent;
+
+/**
+ * Tests {@link Rfc2217SerialPort} against a local stub of a remote serial port server like ser2net.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class Rfc2217SerialPortTest {
+
+    private static final long TIMEOUT_MS = 5000;
+
+    private @NonNullByDefault({}) Rfc2217EventLoop eventLoop;
+    private @NonNullByDefault({}) ServerSocket serverSocket;
+    private @Nullable Rfc2217SerialPort port;
+
+    private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+    private final List<SerialPortEvent> events = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setup() throws IOException {
+        eventLoop = new Rfc2217EventLoop();
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Rfc2217SerialPort port = this.port;
+        if (port != null) {
+            port.close();
+        }
+        serverSocket.close();
+        eventLoop.close();
+    }
+
+    @Test
+    public void sendsNegotiationAndPortSettingsWhenConnected() throws Exception {
+        Rfc2217SerialPort port = openPort();
+        try (Socket socket = accept()) {
+            waitForConnect(port);
+
+            waitForReceived(negotiation(WILL, OPTION_COM_PORT));
+            waitForReceived(comPortCommand(SET_BAUDRATE, (byte) 0, (byte) 0, (byte) 0x25, (byte) 0x80));
+            waitForReceived(comPortCommand(SET_CONTROL, (byte) CONTROL_RTS_ON));
+
+            port.setSerialPortParams(115200, SerialPort.DATABITS_7, SerialPort.STOPBITS_2, SerialPort.PARITY_EVEN);
+            waitForReceived(comPortCommand(SET_BAUDRATE, (byte) 0, (byte) 0x01, (byte) 0xC2, (byte) 0x00));
+            waitForReceived(comPortCommand(SET_DATASIZE, (byte) 7));
+            waitForReceived(comPortCommand(SET_PARITY, (byte) PARITY_EVEN));
+            waitForReceived(comPortCommand(SET_STOPSIZE, (byte) STOPSIZE_2));
+        }
+    }
+
+    @Test
+    public void escapesDataInBothDirections() throws Exception {
+        Rfc2217SerialPort port = openPort();
+        try (Socket socket = accept()) {
+            waitForConnect(port);
+
+            port.getOutputStream().write(new byte[] { 1, (byte) 0xFF, 2 });
+            waitForReceived(ByteBuffer.wrap(new byte[] { 1, (byte) 0xFF, (byte) 0xFF, 2 }));
+
+            socket.getOutputStream().write(new byte[] { 3, (byte) IAC, (byte) IAC, 4, (byte) IAC, (byte) WILL,
+                    (byte) OPTION_BINARY, 5 });
+            assertArrayEquals(new byte[] { 3, (byte) 0xFF, 4, 5 }, read(port, 4));
+        }
+    }
+
+    @Test
+    public void notifiesModemStateChanges() throws Exception {
+        Rfc2217SerialPort port = openPort();
+        port.addEventListener(events::add);
+        port.notifyOnCTS(true);
+        try (Socket socket = accept()) {
+            waitForConnect(port);
+
+            socket.getOutputStream().write(comPortCommand(SERVER_OFFSET + NOTIFY_MODEMSTATE, (byte) MODEMSTATE_CTS)
+                    .array());
+            waitFor(() -> port.isCTS());
+            waitFor(() -> !events.isEmpty());
+            assertThat(events.get(0).getEventType(), is(SerialPortEvent.CTS));
+            assertThat(events.get(0).getNewValue(), is(true));
+            assertThat(port.isDSR(), is(false));
+        }
+    }
+
+    @Test
+    public void reconnectsAndResendsPortSettingsAfterConnectionLoss() throws Exception {
+        Rfc2217SerialPort port = openPort();
+        port.setSerialPortParams(19200, SerialPort.DATABITS_8, SerialPort.STOPBITS_1, SerialPort.PARITY_NONE);
+        try (Socket socket = accept()) {
+            waitForConnect(port);
+        }
+        synchronized (received) {
+            received.reset();
+        }
+
+        try (Socket socket = accept()) {
+            waitForReceived(comPortCommand(SET_BAUDRATE, (byte) 0, (byte) 0, (byte) 0x4B, (byte) 0x00));
+
+            socket.getOutputStream().write(new byte[] { 6, 7 });
+            assertArrayEquals(new byte[] { 6, 7 }, read(port, 2));
+        }
+    }
+
+    @Test
+    public void keepsOnlyTheLatestDataIfTheReceiveBufferIsFull() throws Exception {
+        Rfc2217SerialPort port = openPort();
+        try (Socket socket = accept()) {
+            waitForConnect(port);
+
+            byte[] data = new byte[20];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) i;
+            }
+            socket.getOutputStream().write(data);
+            waitFor(() -> {
+                try {
+                    return port.getInputStream().available() == 16;
+                } catch (IOException e) {
+                    return false;
+                }
+            });
+            byte[] expected = new byte[16];
+            System.arraycopy(data, 4, expected, 0, expected.length);
+            assertArrayEquals(expected, read(port, 16));
+            assertThat(port.getDroppedBytes(), is(4L));
+        }
+    }
+
+    @Test
+    public void suspendsReadingInsteadOfDroppingDataIfTheReceiveBufferIsFull() throws Exception {
+        Rfc2217SerialPort port = openPort(2 * Rfc2217EventLoop.READ_BUFFER_SIZE);
+        try (Socket socket = accept()) {
+            waitForConnect(port);
+
+            byte[] data = new byte[20 * Rfc2217EventLoop.READ_BUFFER_SIZE];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) (i % 127);
+            }
+            Thread writer = new Thread(() -> {
+                try {
+                    socket.getOutputStream().write(data);
+                } catch (IOException e) {
+                    // the socket has been closed
+                }
+            });
+            writer.setDaemon(true);
+            writer.start();
+
+            // let the remote side fill the receive buffer before anything is read
+            waitFor(() -> {
+                try {
+                    return port.getInputStream().available() > Rfc2217EventLoop.READ_BUFFER_SIZE;
+                } catch (IOException e) {
+                    return false;
+                }
+            });
+            Thread.sleep(100);
+
+            assertArrayEquals(data, read(port, data.length));
+            assertThat(port.getDroppedBytes(), is(0L));
+        }
+    }
+
+    @Test
+    public void failsIfTheServerIsNotReachable() throws IOException {
+        serverSocket.close();
+        Rfc2217SerialPort port = openPort();
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> port.connect().get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertThat(e.getCause(), is(instanceOf(IOException.class)));
+    }
+
+    private Rfc2217SerialPort openPort() {
+        return openPort(16);
+    }
+
+    private Rfc2217SerialPort openPort(int receiveBufferSize) {
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                serverSocket.getLocalPort());
+        Rfc2217SerialPort port = new Rfc2217SerialPort("rfc2217://localhost", address, eventLoop, Runnable::run,
+                receiveBufferSize, 100, TIMEOUT_MS, () -> {
+                });
+        this.port = port;
+        port.connect();
+        return port;
+    }
+
+    private void waitForConnect(Rfc2217SerialPort port) throws Exception {
+        port.connect().get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private Socket accept() throws IOException {
+        serverSocket.setSoTimeout((int) TIMEOUT_MS);
+        Socket socket = serverSocket.accept();
+        Thread reader = new Thread(() -> {
+            byte[] buffer = new byte[256];
+            try (InputStream in = socket.getInputStream()) {
+                int length;
+                while ((length = in.read(buffer)) >= 0) {
+                    synchronized (received) {
+                        received.write(buffer, 0, length);
+                    }
+                }
+            } catch (IOException e) {
+                // the socket has been closed
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+        return socket;
+    }
+
+    private void waitForReceived(ByteBuffer expected) throws InterruptedException {
+        byte[] expectedBytes = expected.array();
+        waitFor(() -> {
+            byte[] data;
+            synchronized (received) {
+                data = received.toByteArray();
+            }
+            return indexOf(data, expectedBytes) >= 0;
+        });
+    }
+
+    private byte[] read(Rfc2217SerialPort port, int length) throws Exception {
+        port.enableReceiveTimeout((int) TIMEOUT_MS);
+        byte[] data = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            int count = port.getInputStream().read(data, offset, length - offset);
+            assertThat(count, is(greaterThan(0)));
+            offset += count;
+        }
+        return data;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within " + TIMEOUT_MS + " ms");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        outer: for (int i = 0; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link SerialFrameDecoder} for frames which are terminated by a delimiter, e.g. a line feed.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class DelimiterFrameDecoder implements SerialFrameDecoder {
+
+    private final byte[] delimiter;
+    private final boolean stripDelimiter;
+
+    /**
+     * Creates a decoder which removes the delimiter from the frames.
+     *
+     * @param delimiter the delimiter
+     */
+    public DelimiterFrameDecoder(byte... delimiter) {
+        this(delimiter, true);
+    }
+
+    /**
+     * Creates a decoder.
+     *
+     * @param delimiter the delimiter
+     * @param stripDelimiter true if the delimiter is removed from the frames, false if it is kept
+     */
+    public DelimiterFrameDecoder(byte[] delimiter, boolean stripDelimiter) {
+        if (delimiter.length == 0) {
+            throw new IllegalArgumentException("The delimiter must not be empty");
+        }
+        this.delimiter = delimiter.clone();
+        this.stripDelimiter = stripDelimiter;
+    }
+
+    @Override
+    public void decode(ByteBuffer data, Consumer<ByteBuffer> frames) {
+        int frameStart = data.position();
+        int index = frameStart;
+        while (index <= data.limit() - delimiter.length) {
+            if (isDelimiterAt(data, index)) {
+                int frameLength = index - frameStart + (stripDelimiter ? 0 : delimiter.length);
+                index += delimiter.length;
+                data.position(index);
+                frames.accept(data.slice(frameStart, frameLength));
+                frameStart = index;
+            } else {
+                index++;
+            }
+        }
+    }
+
+    private boolean isDelimiterAt(ByteBuffer data, int index) {
+        for (int i = 0; i < delimiter.length; i++) {
+            if (data.get(index + i) != delimiter[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
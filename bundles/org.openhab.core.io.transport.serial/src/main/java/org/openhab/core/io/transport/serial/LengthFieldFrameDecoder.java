@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link SerialFrameDecoder} for frames which contain their length in a header field.
+ * <p>
+ * The frames passed on include the header.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class LengthFieldFrameDecoder implements SerialFrameDecoder {
+
+    private final int lengthFieldOffset;
+    private final int lengthFieldLength;
+    private final int lengthAdjustment;
+    private final ByteOrder byteOrder;
+
+    /**
+     * Creates a decoder for frames whose big endian length field contains the number of bytes following the field.
+     *
+     * @param lengthFieldOffset the offset of the length field from the start of the frame
+     * @param lengthFieldLength the length of the length field in bytes, i.e. 1, 2 or 4
+     */
+    public LengthFieldFrameDecoder(int lengthFieldOffset, int lengthFieldLength) {
+        this(lengthFieldOffset, lengthFieldLength, 0, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Creates a decoder.
+     *
+     * @param lengthFieldOffset the offset of the length field from the start of the frame
+     * @param lengthFieldLength the length of the length field in bytes, i.e. 1, 2 or 4
+     * @param lengthAdjustment the value to add to the length field to get the number of bytes following the field,
+     *            e.g. the length of a trailing checksum which is not included in the length field
+     * @param byteOrder the byte order of the length field
+     */
+    public LengthFieldFrameDecoder(int lengthFieldOffset, int lengthFieldLength, int lengthAdjustment,
+            ByteOrder byteOrder) {
+        if (lengthFieldOffset < 0) {
+            throw new IllegalArgumentException("The length field offset must not be negative");
+        }
+        if (lengthFieldLength != 1 && lengthFieldLength != 2 && lengthFieldLength != 4) {
+            throw new IllegalArgumentException("The length field must have a length of 1, 2 or 4 bytes");
+        }
+        this.lengthFieldOffset = lengthFieldOffset;
+        this.lengthFieldLength = lengthFieldLength;
+        this.lengthAdjustment = lengthAdjustment;
+        this.byteOrder = byteOrder;
+    }
+
+    @Override
+    public void decode(ByteBuffer data, Consumer<ByteBuffer> frames) throws IOException {
+        ByteBuffer orderedData = data.duplicate().order(byteOrder);
+        int headerLength = lengthFieldOffset + lengthFieldLength;
+        while (data.remaining() >= headerLength) {
+            int frameStart = data.position();
+            long frameLength = headerLength + getLengthFieldValue(orderedData, frameStart + lengthFieldOffset)
+                    + lengthAdjustment;
+            if (frameLength < headerLength || frameLength > data.capacity()) {
+                throw new IOException("Invalid frame length " + frameLength);
+            }
+            if (data.remaining() < frameLength) {
+                return;
+            }
+            data.position(frameStart + (int) frameLength);
+            frames.accept(data.slice(frameStart, (int) frameLength));
+        }
+    }
+
+    private long getLengthFieldValue(ByteBuffer data, int index) {
+        return switch (lengthFieldLength) {
+            case 1 -> Byte.toUnsignedLong(data.get(index));
+            case 2 -> Short.toUnsignedLong(data.getShort(index));
+            default -> Integer.toUnsignedLong(data.getInt(index));
+        };
+    }
+}
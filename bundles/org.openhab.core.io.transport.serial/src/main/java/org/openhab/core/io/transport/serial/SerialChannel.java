@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A non-blocking channel for a {@link SerialPort}, opened by the {@link SerialChannelManager}.
+ * <p>
+ * The received data is decoded into frames by a {@link SerialFrameDecoder} and passed to a {@link SerialFrameHandler}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public interface SerialChannel extends Closeable {
+
+    /**
+     * Gets the port of this channel.
+     *
+     * @return the port
+     */
+    SerialPort getPort();
+
+    /**
+     * Writes data to the port, without waiting for the data to be written.
+     *
+     * @param data the data to write, which must not be modified until the returned future is completed
+     * @return a future which is completed when the data has been written, or completed exceptionally if writing
+     *         failed or the channel has been closed before
+     */
+    CompletableFuture<@Nullable Void> write(ByteBuffer data);
+
+    /**
+     * Checks if this channel is open.
+     *
+     * @return true if the channel is open, false if it has been closed
+     */
+    boolean isOpen();
+
+    /**
+     * Closes this channel and its port.
+     */
+    @Override
+    void close();
+}
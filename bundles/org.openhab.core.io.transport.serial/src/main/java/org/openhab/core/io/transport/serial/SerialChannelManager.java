@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial;
+
+import java.io.IOException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Opens non-blocking {@link SerialChannel}s for serial ports.
+ * <p>
+ * In contrast to reading the {@link SerialPort#getInputStream()} directly, channels do not need a thread of their
+ * own. All channels are read by a single reader thread, which is notified about available data by the
+ * {@link SerialPortEvent#DATA_AVAILABLE} events of the ports.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public interface SerialChannelManager {
+
+    /**
+     * Opens a channel for a port. The channel takes over the port, i.e. it registers itself as the event listener of
+     * the port and closes the port when the channel is closed. The port parameters have to be set before.
+     *
+     * @param port the opened port, which is obtained from the {@link SerialPortManager}
+     * @param decoder the decoder which splits the received data into frames
+     * @param handler the handler of the decoded frames
+     * @return the opened channel
+     * @throws IOException if the port streams cannot be obtained
+     */
+    SerialChannel open(SerialPort port, SerialFrameDecoder decoder, SerialFrameHandler handler) throws IOException;
+}
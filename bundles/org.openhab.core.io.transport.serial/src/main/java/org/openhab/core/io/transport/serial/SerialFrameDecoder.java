@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Splits the data received by a {@link SerialChannel} into frames.
+ * <p>
+ * Decoders do not keep any state, the received data which does not form a complete frame yet is kept by the channel.
+ * So a single decoder instance can be used for several channels.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public interface SerialFrameDecoder {
+
+    /**
+     * Decodes the complete frames contained in the received data.
+     *
+     * @param data the received data, ready to be read. The bytes of all decoded frames have to be consumed, the
+     *            remaining bytes are passed again together with the data received next.
+     * @param frames the consumer of the decoded frames, a frame is only valid during the call of the consumer
+     * @throws IOException if the received data is corrupt, it is discarded then
+     */
+    void decode(ByteBuffer data, Consumer<ByteBuffer> frames) throws IOException;
+
+    /**
+     * Gets the time without any received data after which {@link #decodeIdle(ByteBuffer, Consumer)} is called.
+     *
+     * @return the idle time or {@link Duration#ZERO} if frames are not delimited by idle times
+     */
+    default Duration getIdleTime() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Decodes the remaining received data, after no data has been received for the idle time.
+     *
+     * @param data the remaining received data, ready to be read
+     * @param frames the consumer of the decoded frames, a frame is only valid during the call of the consumer
+     * @throws IOException if the received data is corrupt, it is discarded then
+     */
+    default void decodeIdle(ByteBuffer data, Consumer<ByteBuffer> frames) throws IOException {
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Receives the frames decoded by a {@link SerialChannel}.
+ * <p>
+ * The handler of a channel is called by a thread pool, one call after the other in the order of the received frames.
+ * So a slow handler only delays the frames of its own channel, but long running work should still be passed on to
+ * another thread.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public interface SerialFrameHandler {
+
+    /**
+     * Handles a received frame.
+     *
+     * @param channel the channel which received the frame
+     * @param frame the frame, which is a copy of the received data and may be kept
+     */
+    void frameReceived(SerialChannel channel, ByteBuffer frame);
+
+    /**
+     * Handles an error while reading from the port or decoding the received data. The received data which has not
+     * been decoded yet is discarded.
+     *
+     * @param channel the channel the error occurred on
+     * @param exception the error
+     */
+    default void errorOccurred(SerialChannel channel, IOException exception) {
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link SerialFrameDecoder} for frames which are separated by a silent interval, e.g. Modbus RTU frames.
+ * <p>
+ * The interval is measured from the time the data has been read from the port, so it should not be shorter than a
+ * few milliseconds.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class SilentIntervalFrameDecoder implements SerialFrameDecoder {
+
+    // Modbus RTU frames are separated by the time of 3.5 characters of 11 bits, but at least by 1.75 ms
+    private static final double MODBUS_RTU_SILENT_CHARACTERS = 3.5;
+    private static final int MODBUS_RTU_BITS_PER_CHARACTER = 11;
+    private static final Duration MODBUS_RTU_MIN_SILENT_INTERVAL = Duration.ofMillis(1).plusNanos(750_000);
+
+    private final Duration silentInterval;
+
+    /**
+     * Creates a decoder.
+     *
+     * @param silentInterval the time without received data which ends a frame
+     */
+    public SilentIntervalFrameDecoder(Duration silentInterval) {
+        if (silentInterval.isNegative() || silentInterval.isZero()) {
+            throw new IllegalArgumentException("The silent interval must be positive");
+        }
+        this.silentInterval = silentInterval;
+    }
+
+    /**
+     * Creates a decoder for Modbus RTU frames.
+     *
+     * @param baudRate the baud rate of the port
+     * @return the decoder
+     */
+    public static SilentIntervalFrameDecoder forModbusRtu(int baudRate) {
+        long silentIntervalNanos = (long) Math
+                .ceil(MODBUS_RTU_SILENT_CHARACTERS * MODBUS_RTU_BITS_PER_CHARACTER * 1_000_000_000L / baudRate);
+        Duration silentInterval = Duration.ofNanos(silentIntervalNanos);
+        return new SilentIntervalFrameDecoder(silentInterval.compareTo(MODBUS_RTU_MIN_SILENT_INTERVAL) < 0
+                ? MODBUS_RTU_MIN_SILENT_INTERVAL
+                : silentInterval);
+    }
+
+    @Override
+    public void decode(ByteBuffer data, Consumer<ByteBuffer> frames) {
+        // a frame is only complete after the silent interval
+    }
+
+    @Override
+    public Duration getIdleTime() {
+        return silentInterval;
+    }
+
+    @Override
+    public void decodeIdle(ByteBuffer data, Consumer<ByteBuffer> frames) {
+        if (data.hasRemaining()) {
+            int frameStart = data.position();
+            int frameLength = data.remaining();
+            data.position(data.limit());
+            frames.accept(data.slice(frameStart, frameLength));
+        }
+    }
+}
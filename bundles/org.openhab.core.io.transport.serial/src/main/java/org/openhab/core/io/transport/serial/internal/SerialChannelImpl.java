@@ -0,0 +1,267 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.TooManyListenersException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.serial.SerialChannel;
+import org.openhab.core.io.transport.serial.SerialFrameDecoder;
+import org.openhab.core.io.transport.serial.SerialFrameHandler;
+import org.openhab.core.io.transport.serial.SerialPort;
+import org.openhab.core.io.transport.serial.SerialPortEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SerialChannel} implementation, which is read by the reader thread of the {@link SerialChannelManagerImpl}.
+ * <p>
+ * The received frames are passed to the handler and the data is written to the port by sequential executors of the
+ * channel, so neither blocks the reader thread.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+class SerialChannelImpl implements SerialChannel {
+
+    private record PendingWrite(ByteBuffer data, CompletableFuture<@Nullable Void> future) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(SerialChannelImpl.class);
+
+    private final SerialChannelManagerImpl manager;
+    private final SerialPort port;
+    private final InputStream inputStream;
+    private final OutputStream outputStream;
+    private final SerialFrameDecoder decoder;
+    private final SerialFrameHandler handler;
+    private final long idleTimeNanos;
+    private final Executor handlerExecutor;
+    private final Executor writeExecutor;
+
+    private final AtomicBoolean open = new AtomicBoolean(true);
+    private final AtomicBoolean dataAvailable = new AtomicBoolean(true);
+    private final Queue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    // the received data which has not been decoded yet, guarded by this
+    private @Nullable ByteBuffer buffer;
+    private boolean processing;
+    private volatile boolean notifiesDataAvailable;
+    private long lastReadNanos;
+
+    SerialChannelImpl(SerialChannelManagerImpl manager, SerialPort port, SerialFrameDecoder decoder,
+            SerialFrameHandler handler, ByteBuffer buffer) throws IOException {
+        InputStream inputStream = port.getInputStream();
+        OutputStream outputStream = port.getOutputStream();
+        if (inputStream == null || outputStream == null) {
+            throw new IOException("Cannot get the streams of port " + port.getName());
+        }
+        this.manager = manager;
+        this.port = port;
+        this.inputStream = inputStream;
+        this.outputStream = outputStream;
+        this.decoder = decoder;
+        this.handler = handler;
+        this.idleTimeNanos = decoder.getIdleTime().toNanos();
+        this.handlerExecutor = new SequentialExecutor(manager.getExecutor());
+        this.writeExecutor = new SequentialExecutor(manager.getExecutor());
+        this.buffer = buffer;
+    }
+
+    /**
+     * Registers this channel as event listener of its port. If the port already has another listener, the port is
+     * polled instead.
+     */
+    synchronized void start() {
+        try {
+            port.addEventListener(event -> {
+                if (event.getEventType() == SerialPortEvent.DATA_AVAILABLE) {
+                    dataAvailable.set(true);
+                    manager.wakeUp();
+                }
+            });
+            port.notifyOnDataAvailable(true);
+            notifiesDataAvailable = true;
+        } catch (TooManyListenersException e) {
+            logger.debug("Port '{}' already has an event listener, polling it for received data", port.getName());
+        }
+    }
+
+    @Override
+    public SerialPort getPort() {
+        return port;
+    }
+
+    @Override
+    public CompletableFuture<@Nullable Void> write(ByteBuffer data) {
+        CompletableFuture<@Nullable Void> future = new CompletableFuture<>();
+        if (!open.get()) {
+            future.completeExceptionally(new IOException("The channel is closed"));
+            return future;
+        }
+        pendingWrites.add(new PendingWrite(data, future));
+        writeExecutor.execute(this::writePendingData);
+        return future;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open.get();
+    }
+
+    @Override
+    public void close() {
+        if (open.compareAndSet(true, false)) {
+            manager.unregister(this);
+            if (notifiesDataAvailable) {
+                port.removeEventListener();
+            }
+            port.close();
+            PendingWrite pendingWrite;
+            while ((pendingWrite = pendingWrites.poll()) != null) {
+                pendingWrite.future().completeExceptionally(new IOException("The channel has been closed"));
+            }
+            synchronized (this) {
+                if (!processing) {
+                    releaseBuffer();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the available data and decodes it. This is only called by the reader thread.
+     *
+     * @return the time in nanoseconds after which this channel needs to be processed again without being woken up,
+     *         or {@link Long#MAX_VALUE}
+     */
+    synchronized long process() {
+        ByteBuffer buffer = this.buffer;
+        if (buffer == null) {
+            return Long.MAX_VALUE;
+        }
+        processing = true;
+        try {
+            if (dataAvailable.getAndSet(false) || !notifiesDataAvailable) {
+                readAvailableData(buffer);
+            }
+            if (open.get() && idleTimeNanos > 0 && buffer.position() > 0) {
+                long idleNanos = System.nanoTime() - lastReadNanos;
+                if (idleNanos < idleTimeNanos) {
+                    return idleTimeNanos - idleNanos;
+                }
+                decode(buffer, true);
+            }
+        } catch (IOException e) {
+            buffer.clear();
+            handlerExecutor.execute(() -> {
+                if (open.get()) {
+                    handler.errorOccurred(this, e);
+                }
+            });
+        } finally {
+            processing = false;
+            if (!open.get()) {
+                releaseBuffer();
+            }
+        }
+        return notifiesDataAvailable ? Long.MAX_VALUE : SerialChannelManagerImpl.POLL_INTERVAL_NANOS;
+    }
+
+    private void writePendingData() {
+        PendingWrite pendingWrite;
+        while ((pendingWrite = pendingWrites.poll()) != null) {
+            if (!open.get()) {
+                pendingWrite.future().completeExceptionally(new IOException("The channel has been closed"));
+                continue;
+            }
+            ByteBuffer data = pendingWrite.data();
+            try {
+                if (data.hasArray()) {
+                    outputStream.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+                } else {
+                    byte[] bytes = new byte[data.remaining()];
+                    data.duplicate().get(bytes);
+                    outputStream.write(bytes);
+                }
+                outputStream.flush();
+                pendingWrite.future().complete(null);
+            } catch (IOException e) {
+                pendingWrite.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    private void readAvailableData(ByteBuffer buffer) throws IOException {
+        int available;
+        while (open.get() && (available = inputStream.available()) > 0) {
+            if (!buffer.hasRemaining()) {
+                throw new IOException("The received data exceeds the buffer size of " + buffer.capacity() + " bytes");
+            }
+            int read = inputStream.read(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                    Math.min(available, buffer.remaining()));
+            if (read < 0) {
+                throw new IOException("The end of the stream has been reached");
+            }
+            buffer.position(buffer.position() + read);
+            lastReadNanos = System.nanoTime();
+            decode(buffer, false);
+        }
+    }
+
+    private void decode(ByteBuffer buffer, boolean idle) throws IOException {
+        buffer.flip();
+        try {
+            if (idle) {
+                decoder.decodeIdle(buffer, this::frameReceived);
+            } else {
+                decoder.decode(buffer, this::frameReceived);
+            }
+        } finally {
+            buffer.compact();
+        }
+    }
+
+    private void frameReceived(ByteBuffer frame) {
+        // the frame is a view of the receive buffer, which is reused by the reader thread
+        ByteBuffer copy = ByteBuffer.allocate(frame.remaining());
+        copy.put(frame.duplicate()).flip();
+        handlerExecutor.execute(() -> {
+            if (open.get()) {
+                try {
+                    handler.frameReceived(this, copy);
+                } catch (RuntimeException e) {
+                    logger.warn("The handler of port '{}' failed to handle a received frame", port.getName(), e);
+                }
+            }
+        });
+    }
+
+    private void releaseBuffer() {
+        ByteBuffer buffer = this.buffer;
+        if (buffer != null) {
+            this.buffer = null;
+            manager.releaseBuffer(buffer);
+        }
+    }
+}
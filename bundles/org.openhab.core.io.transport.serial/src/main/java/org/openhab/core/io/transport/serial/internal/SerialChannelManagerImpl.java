@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadFactoryBuilder;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.io.transport.serial.SerialChannel;
+import org.openhab.core.io.transport.serial.SerialChannelManager;
+import org.openhab.core.io.transport.serial.SerialFrameDecoder;
+import org.openhab.core.io.transport.serial.SerialFrameHandler;
+import org.openhab.core.io.transport.serial.SerialPort;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SerialChannelManager} implementation, which reads all channels by a single thread.
+ * <p>
+ * The thread sleeps until a port notifies about available data or a decoder idle time elapses. Ports which do not
+ * notify about available data are polled. The frame handlers are called and the data is written by a thread pool.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = SerialChannelManager.class)
+public class SerialChannelManagerImpl implements SerialChannelManager {
+
+    static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private static final String THREAD_NAME = "OH-serial-channels";
+    private static final String THREAD_POOL_NAME = "serialchannels";
+    private static final int BUFFER_SIZE = 4096;
+    private static final int MAX_POOLED_BUFFERS = 16;
+
+    private final Logger logger = LoggerFactory.getLogger(SerialChannelManagerImpl.class);
+
+    private final ByteBufferPool bufferPool = new ByteBufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+    private final List<SerialChannelImpl> channels = new CopyOnWriteArrayList<>();
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final ExecutorService executor = ThreadPoolManager.getPool(THREAD_POOL_NAME);
+
+    private @Nullable Thread readerThread;
+
+    @Override
+    public SerialChannel open(SerialPort port, SerialFrameDecoder decoder, SerialFrameHandler handler)
+            throws IOException {
+        SerialChannelImpl channel;
+        ByteBuffer buffer = bufferPool.acquire();
+        try {
+            channel = new SerialChannelImpl(this, port, decoder, handler, buffer);
+        } catch (IOException e) {
+            bufferPool.release(buffer);
+            throw e;
+        }
+        channel.start();
+        channels.add(channel);
+        startReaderThread();
+        wakeUp();
+        return channel;
+    }
+
+    @Deactivate
+    public void deactivate() {
+        channels.forEach(SerialChannelImpl::close);
+        Thread thread;
+        synchronized (this) {
+            thread = readerThread;
+            readerThread = null;
+        }
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    void wakeUp() {
+        wakeUps.release();
+    }
+
+    Executor getExecutor() {
+        return executor;
+    }
+
+    void unregister(SerialChannelImpl channel) {
+        channels.remove(channel);
+    }
+
+    void releaseBuffer(ByteBuffer buffer) {
+        bufferPool.release(buffer);
+    }
+
+    private synchronized void startReaderThread() {
+        if (readerThread == null) {
+            Thread thread = ThreadFactoryBuilder.create().withName(THREAD_NAME).withDaemonThreads(true).build()
+                    .newThread(this::processChannels);
+            readerThread = thread;
+            thread.start();
+        }
+    }
+
+    private void processChannels() {
+        while (!Thread.currentThread().isInterrupted()) {
+            long waitNanos = Long.MAX_VALUE;
+            for (SerialChannelImpl channel : channels) {
+                try {
+                    waitNanos = Math.min(waitNanos, channel.process());
+                } catch (RuntimeException e) {
+                    logger.warn("Processing the serial channel of port '{}' failed", channel.getPort().getName(), e);
+                }
+            }
+            try {
+                if (waitNanos == Long.MAX_VALUE) {
+                    wakeUps.acquire();
+                } else {
+                    wakeUps.tryAcquire(waitNanos, TimeUnit.NANOSECONDS);
+                }
+                wakeUps.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link DelimiterFrameDecoder}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class DelimiterFrameDecoderTest {
+
+    private final List<String> frames = new ArrayList<>();
+
+    @Test
+    public void testCompleteFramesAreDecodedAndRemainderIsKept() {
+        ByteBuffer data = toBuffer("first\r\nsecond\r\nthi");
+
+        new DelimiterFrameDecoder((byte) '\r', (byte) '\n').decode(data, this::addFrame);
+
+        assertThat(frames, is(List.of("first", "second")));
+        assertThat(StandardCharsets.US_ASCII.decode(data).toString(), is("thi"));
+    }
+
+    @Test
+    public void testDelimiterIsKeptIfConfigured() {
+        ByteBuffer data = toBuffer("first\nsecond\n");
+
+        new DelimiterFrameDecoder(new byte[] { '\n' }, false).decode(data, this::addFrame);
+
+        assertThat(frames, is(List.of("first\n", "second\n")));
+        assertThat(data.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void testEmptyDelimiterIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new DelimiterFrameDecoder());
+    }
+
+    private void addFrame(ByteBuffer frame) {
+        frames.add(StandardCharsets.US_ASCII.decode(frame).toString());
+    }
+
+    private static ByteBuffer toBuffer(String data) {
+        return ByteBuffer.wrap(data.getBytes(StandardCharsets.US_ASCII));
+    }
+}
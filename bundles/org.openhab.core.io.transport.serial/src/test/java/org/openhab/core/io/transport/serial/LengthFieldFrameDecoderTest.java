@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link LengthFieldFrameDecoder}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class LengthFieldFrameDecoderTest {
+
+    private final List<List<Byte>> frames = new ArrayList<>();
+
+    @Test
+    public void testCompleteFramesAreDecodedAndRemainderIsKept() throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(new byte[] { 0x7E, 2, 10, 11, 0x7E, 1, 20, 0x7E, 3, 30 });
+
+        new LengthFieldFrameDecoder(1, 1).decode(data, this::addFrame);
+
+        assertThat(frames, is(List.of(List.of((byte) 0x7E, (byte) 2, (byte) 10, (byte) 11),
+                List.of((byte) 0x7E, (byte) 1, (byte) 20))));
+        assertThat(data.position(), is(7));
+    }
+
+    @Test
+    public void testLengthAdjustmentAndByteOrderAreRespected() throws IOException {
+        // little endian length of 1 byte of payload, followed by a checksum byte which is not included in the length
+        ByteBuffer data = ByteBuffer.wrap(new byte[] { 1, 0, 42, 99 });
+
+        new LengthFieldFrameDecoder(0, 2, 1, ByteOrder.LITTLE_ENDIAN).decode(data, this::addFrame);
+
+        assertThat(frames, is(List.of(List.of((byte) 1, (byte) 0, (byte) 42, (byte) 99))));
+        assertThat(data.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void testFramesExceedingTheBufferAreRejected() {
+        ByteBuffer data = ByteBuffer.wrap(new byte[] { (byte) 0xFF, 1, 2 });
+
+        assertThrows(IOException.class, () -> new LengthFieldFrameDecoder(0, 1).decode(data, this::addFrame));
+    }
+
+    private void addFrame(ByteBuffer frame) {
+        byte[] bytes = new byte[frame.remaining()];
+        frame.get(bytes);
+        List<Byte> frameBytes = new ArrayList<>();
+        for (byte b : bytes) {
+            frameBytes.add(b);
+        }
+        frames.add(frameBytes);
+    }
+}
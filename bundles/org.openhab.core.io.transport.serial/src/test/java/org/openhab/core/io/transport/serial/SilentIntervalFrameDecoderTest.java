@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SilentIntervalFrameDecoder}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class SilentIntervalFrameDecoderTest {
+
+    private final List<Integer> frameLengths = new ArrayList<>();
+
+    @Test
+    public void testFrameIsOnlyDecodedAfterSilentInterval() {
+        SilentIntervalFrameDecoder decoder = new SilentIntervalFrameDecoder(Duration.ofMillis(5));
+        ByteBuffer data = ByteBuffer.wrap(new byte[] { 1, 3, 0, 0, 0, 1 });
+
+        decoder.decode(data, frame -> frameLengths.add(frame.remaining()));
+        assertThat(frameLengths, is(List.of()));
+
+        decoder.decodeIdle(data, frame -> frameLengths.add(frame.remaining()));
+        assertThat(frameLengths, is(List.of(6)));
+        assertThat(data.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void testModbusRtuSilentInterval() {
+        // 3.5 characters of 11 bits at 9600 baud
+        assertThat(SilentIntervalFrameDecoder.forModbusRtu(9600).getIdleTime(), is(Duration.ofNanos(4010417)));
+        // fixed interval above 19200 baud
+        assertThat(SilentIntervalFrameDecoder.forModbusRtu(115200).getIdleTime(), is(Duration.ofNanos(1750000)));
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.serial.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.TooManyListenersException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.io.transport.serial.DelimiterFrameDecoder;
+import org.openhab.core.io.transport.serial.SerialChannel;
+import org.openhab.core.io.transport.serial.SerialFrameHandler;
+import org.openhab.core.io.transport.serial.SerialPort;
+import org.openhab.core.io.transport.serial.SerialPortEvent;
+import org.openhab.core.io.transport.serial.SerialPortEventListener;
+import org.openhab.core.io.transport.serial.SilentIntervalFrameDecoder;
+
+/**
+ * Tests {@link SerialChannelManagerImpl}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class SerialChannelManagerImplTest {
+
+    private static final long TIMEOUT_MS = 5000;
+
+    private @Mock @NonNullByDefault({}) SerialPort serialPortMock;
+    private @Mock @NonNullByDefault({}) SerialPortEvent dataAvailableEventMock;
+
+    private final SerialChannelManagerImpl channelManager = new SerialChannelManagerImpl();
+    private final PipedOutputStream portInput = new PipedOutputStream();
+    private final ByteArrayOutputStream portOutput = new ByteArrayOutputStream();
+    private final List<String> frames = new CopyOnWriteArrayList<>();
+    private final SerialFrameHandler handler = (channel, frame) -> frames
+            .add(StandardCharsets.US_ASCII.decode(frame).toString());
+
+    private @Nullable SerialPortEventListener portEventListener;
+
+    @BeforeEach
+    public void setup() throws IOException, TooManyListenersException {
+        when(serialPortMock.getName()).thenReturn("/dev/ttyTest");
+        when(serialPortMock.getInputStream()).thenReturn(new PipedInputStream(portInput));
+        when(serialPortMock.getOutputStream()).thenReturn(portOutput);
+        when(dataAvailableEventMock.getEventType()).thenReturn(SerialPortEvent.DATA_AVAILABLE);
+        doAnswer(invocation -> portEventListener = invocation.getArgument(0)).when(serialPortMock)
+                .addEventListener(any());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        channelManager.deactivate();
+    }
+
+    @Test
+    public void testFramesAreReceivedOnDataAvailableEvents() throws IOException, InterruptedException {
+        channelManager.open(serialPortMock, new DelimiterFrameDecoder((byte) '\n'), handler);
+
+        sendData("first\nsec");
+        sendData("ond\n");
+
+        verify(serialPortMock, timeout(TIMEOUT_MS).atLeastOnce()).notifyOnDataAvailable(true);
+        waitForFrames(List.of("first", "second"));
+    }
+
+    @Test
+    public void testPortsWithoutEventsArePolled() throws IOException, InterruptedException, TooManyListenersException {
+        doThrow(new TooManyListenersException()).when(serialPortMock).addEventListener(any());
+        channelManager.open(serialPortMock, new DelimiterFrameDecoder((byte) '\n'), handler);
+
+        portInput.write("polled\n".getBytes(StandardCharsets.US_ASCII));
+
+        waitForFrames(List.of("polled"));
+    }
+
+    @Test
+    public void testFrameIsReceivedAfterSilentInterval() throws IOException, InterruptedException {
+        channelManager.open(serialPortMock, new SilentIntervalFrameDecoder(Duration.ofMillis(50)), handler);
+
+        sendData("abc");
+        sendData("def");
+
+        waitForFrames(List.of("abcdef"));
+    }
+
+    @Test
+    public void testDataIsWrittenAndChannelIsClosed()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        SerialChannel channel = channelManager.open(serialPortMock, new DelimiterFrameDecoder((byte) '\n'), handler);
+
+        channel.write(ByteBuffer.wrap("command\n".getBytes(StandardCharsets.US_ASCII))).get(TIMEOUT_MS,
+                TimeUnit.MILLISECONDS);
+        assertThat(portOutput.toString(StandardCharsets.US_ASCII), is("command\n"));
+
+        channel.close();
+        assertThat(channel.isOpen(), is(false));
+        verify(serialPortMock).removeEventListener();
+        verify(serialPortMock).close();
+        assertThrows(ExecutionException.class, () -> channel.write(ByteBuffer.allocate(1)).get());
+    }
+
+    @Test
+    public void testBlockingHandlerDoesNotBlockWrites()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        CountDownLatch handlerReleased = new CountDownLatch(1);
+        SerialChannel channel = channelManager.open(serialPortMock, new DelimiterFrameDecoder((byte) '\n'),
+                (c, frame) -> {
+                    handler.frameReceived(c, frame);
+                    try {
+                        handlerReleased.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+
+        sendData("blocking\n");
+        waitForFrames(List.of("blocking"));
+
+        channel.write(ByteBuffer.wrap("command\n".getBytes(StandardCharsets.US_ASCII))).get(TIMEOUT_MS,
+                TimeUnit.MILLISECONDS);
+        assertThat(portOutput.toString(StandardCharsets.US_ASCII), is("command\n"));
+        handlerReleased.countDown();
+    }
+
+    private void sendData(String data) throws IOException {
+        portInput.write(data.getBytes(StandardCharsets.US_ASCII));
+        SerialPortEventListener listener = portEventListener;
+        if (listener != null) {
+            listener.serialEvent(dataAvailableEventMock);
+        }
+    }
+
+    private void waitForFrames(List<String> expectedFrames) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!frames.equals(expectedFrames) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(frames, is(expectedFrames));
+    }
+}
@@ -16,12 +16,17 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jupnp.UpnpService;
 import org.jupnp.controlpoint.ActionCallback;
@@ -75,15 +80,22 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(POOL_NAME);
 
     private static final int DEFAULT_POLLING_INTERVAL = 60;
+    private static final long MAX_POLLING_START_DELAY_MS = 5000;
+    private static final int MAX_CONCURRENT_PROBES = 4;
+    private static final String CONNECTION_ERROR_MESSAGE = "Connection error or no response received";
     private static final String POOL_NAME = "upnp-io";
 
     private final UpnpService upnpService;
 
     final Set<UpnpIOParticipant> participants = new CopyOnWriteArraySet<>();
-    final Map<UpnpIOParticipant, ScheduledFuture> pollingJobs = new ConcurrentHashMap<>();
+    final Map<PollingKey, PollingGroup> pollingGroups = new ConcurrentHashMap<>();
+    final Map<UpnpIOParticipant, PollingKey> polledParticipants = new ConcurrentHashMap<>();
     final Map<UpnpIOParticipant, Boolean> currentStates = new ConcurrentHashMap<>();
     final Map<Service, UpnpSubscriptionCallback> subscriptionCallbacks = new ConcurrentHashMap<>();
 
+    private final Queue<PollingGroup> pendingProbes = new ConcurrentLinkedQueue<>();
+    private final Semaphore probePermits = new Semaphore(MAX_CONCURRENT_PROBES);
+
     public class UpnpSubscriptionCallback extends SubscriptionCallback {
 
         public UpnpSubscriptionCallback(Service service) {
@@ -212,6 +224,9 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
     public void deactivate() {
         logger.debug("Stopping UPnP IO service...");
         upnpService.getRegistry().removeListener(this);
+        synchronized (pollingGroups) {
+            pollingGroups.values().forEach(group -> group.job.cancel(false));
+        }
     }
 
     private Device getDevice(UpnpIOParticipant participant) {
@@ -366,7 +381,6 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
     public void unregisterParticipant(UpnpIOParticipant participant) {
         if (participant != null) {
             stopPollingForParticipant(participant);
-            pollingJobs.remove(participant);
             currentStates.remove(participant);
             participants.remove(participant);
         }
@@ -416,56 +430,29 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
         }
     }
 
-    private class UPNPPollingRunnable implements Runnable {
+    /**
+     * Identifies the status polls of all participants which poll the same action of the same device service.
+     */
+    record PollingKey(String udn, String serviceID, String actionID) {
+    }
+
+    /**
+     * The participants sharing a single status poll. The poll runs at the shortest interval any of them requested.
+     */
+    static class PollingGroup {
 
-        private final UpnpIOParticipant participant;
-        private final String serviceID;
-        private final String actionID;
+        final PollingKey key;
+        final Map<UpnpIOParticipant, Integer> intervals = new ConcurrentHashMap<>();
+        final AtomicBoolean probePending = new AtomicBoolean();
+        int interval;
+        ScheduledFuture<?> job;
 
-        public UPNPPollingRunnable(UpnpIOParticipant participant, String serviceID, String actionID) {
-            this.participant = participant;
-            this.serviceID = serviceID;
-            this.actionID = actionID;
+        PollingGroup(PollingKey key) {
+            this.key = key;
         }
 
-        @Override
-        public void run() {
-            // It is assumed that during addStatusListener() a check is made whether the participant is correctly
-            // registered
-            try {
-                Device device = getDevice(participant);
-                if (device != null) {
-                    Service service = findService(device, serviceID);
-                    if (service != null) {
-                        Action action = service.getAction(actionID);
-                        if (action != null) {
-                            @SuppressWarnings("unchecked")
-                            ActionInvocation invocation = new ActionInvocation(action);
-                            logger.debug("Polling participant '{}' through Action '{}' of Service '{}' ",
-                                    participant.getUDN(), actionID, serviceID);
-                            new ActionCallback.Default(invocation, upnpService.getControlPoint()).run();
-
-                            ActionException anException = invocation.getFailure();
-                            if (anException != null
-                                    && anException.getMessage().contains("Connection error or no response received")) {
-                                // The UDN is not reachable anymore
-                                setDeviceStatus(participant, false);
-                            } else {
-                                // The UDN functions correctly
-                                setDeviceStatus(participant, true);
-                            }
-                        } else {
-                            logger.debug("Could not find action '{}' for participant '{}'", actionID,
-                                    participant.getUDN());
-                        }
-                    } else {
-                        logger.debug("Could not find service '{}' for participant '{}'", serviceID,
-                                participant.getUDN());
-                    }
-                }
-            } catch (Exception e) {
-                logger.error("An exception occurred while polling an UPNP device: '{}'", e.getMessage(), e);
-            }
+        int getRequiredInterval() {
+            return intervals.values().stream().mapToInt(Integer::intValue).min().orElse(DEFAULT_POLLING_INTERVAL);
         }
     }
 
@@ -476,24 +463,138 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
             int pollingInterval = interval == 0 ? DEFAULT_POLLING_INTERVAL : interval;
 
-            // remove the previous polling job, if any
-            stopPollingForParticipant(participant);
+            synchronized (pollingGroups) {
+                // remove the previous polling job, if any
+                stopPollingForParticipant(participant);
 
-            currentStates.put(participant, true);
+                currentStates.put(participant, true);
 
-            Runnable pollingRunnable = new UPNPPollingRunnable(participant, serviceID, actionID);
-            pollingJobs.put(participant,
-                    scheduler.scheduleWithFixedDelay(pollingRunnable, 0, pollingInterval, TimeUnit.SECONDS));
+                PollingKey key = new PollingKey(participant.getUDN(), serviceID, actionID);
+                PollingGroup group = pollingGroups.computeIfAbsent(key, PollingGroup::new);
+                group.intervals.put(participant, pollingInterval);
+                polledParticipants.put(participant, key);
+                schedulePolling(group);
+            }
         }
     }
 
     private void stopPollingForParticipant(UpnpIOParticipant participant) {
-        if (pollingJobs.containsKey(participant)) {
-            ScheduledFuture<?> pollingJob = pollingJobs.get(participant);
-            if (pollingJob != null) {
-                pollingJob.cancel(true);
+        synchronized (pollingGroups) {
+            PollingKey key = polledParticipants.remove(participant);
+            PollingGroup group = key != null ? pollingGroups.get(key) : null;
+            if (group != null) {
+                group.intervals.remove(participant);
+                if (group.intervals.isEmpty()) {
+                    pollingGroups.remove(key);
+                    group.job.cancel(false);
+                } else {
+                    schedulePolling(group);
+                }
+            }
+        }
+    }
+
+    /**
+     * (Re)schedules the polling job of a group if there is none yet or the required interval has changed. The first
+     * poll is started with a random delay, so that participants being added at once do not result in a burst of
+     * requests.
+     */
+    private void schedulePolling(PollingGroup group) {
+        int requiredInterval = group.getRequiredInterval();
+        if (group.job == null || group.interval != requiredInterval) {
+            if (group.job != null) {
+                group.job.cancel(false);
+            }
+            long pollingIntervalMs = TimeUnit.SECONDS.toMillis(requiredInterval);
+            long initialDelayMs = ThreadLocalRandom.current()
+                    .nextLong(Math.min(pollingIntervalMs, MAX_POLLING_START_DELAY_MS) + 1);
+            group.interval = requiredInterval;
+            group.job = scheduler.scheduleWithFixedDelay(() -> requestProbe(group), initialDelayMs, pollingIntervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void requestProbe(PollingGroup group) {
+        if (group.probePending.compareAndSet(false, true)) {
+            pendingProbes.add(group);
+            startPendingProbes();
+        } else {
+            logger.debug("Skipping poll of device '{}', as the previous poll has not completed yet", group.key.udn());
+        }
+    }
+
+    private void startPendingProbes() {
+        while (!pendingProbes.isEmpty() && probePermits.tryAcquire()) {
+            PollingGroup group = pendingProbes.poll();
+            if (group == null) {
+                probePermits.release();
+            } else if (!startProbe(group)) {
+                finishProbe(group, null);
+            }
+        }
+    }
+
+    /**
+     * Asynchronously invokes the polling action of a group. The result is propagated to all participants of the
+     * group by {@link #finishProbe(PollingGroup, Boolean)}.
+     *
+     * @return true if the action has been invoked, false otherwise
+     */
+    @SuppressWarnings("unchecked")
+    private boolean startProbe(PollingGroup group) {
+        PollingKey key = group.key;
+        try {
+            Device device = upnpService.getRegistry().getDevice(new UDN(key.udn()), true);
+            if (device != null) {
+                Service service = findService(device, key.serviceID());
+                if (service != null) {
+                    Action action = service.getAction(key.actionID());
+                    if (action != null) {
+                        ActionInvocation invocation = new ActionInvocation(action);
+                        logger.debug("Polling device '{}' for {} participant(s) through Action '{}' of Service '{}' ",
+                                key.udn(), group.intervals.size(), key.actionID(), key.serviceID());
+                        upnpService.getControlPoint().execute(new ActionCallback(invocation) {
+                            @Override
+                            public void success(ActionInvocation invocation) {
+                                // The UDN functions correctly
+                                finishProbe(group, true);
+                            }
+
+                            @Override
+                            public void failure(ActionInvocation invocation, UpnpResponse operation,
+                                    String defaultMsg) {
+                                ActionException anException = invocation.getFailure();
+                                // The UDN is not reachable anymore if there is a connection error
+                                finishProbe(group, anException == null || anException.getMessage() == null
+                                        || !anException.getMessage().contains(CONNECTION_ERROR_MESSAGE));
+                            }
+                        });
+                        return true;
+                    } else {
+                        logger.debug("Could not find action '{}' for device '{}'", key.actionID(), key.udn());
+                    }
+                } else {
+                    logger.debug("Could not find service '{}' for device '{}'", key.serviceID(), key.udn());
+                }
+            }
+        } catch (Exception e) {
+            logger.error("An exception occurred while polling an UPNP device: '{}'", e.getMessage(), e);
+        }
+        return false;
+    }
+
+    private void finishProbe(PollingGroup group, Boolean reachable) {
+        try {
+            if (reachable != null && pollingGroups.get(group.key) == group) {
+                for (UpnpIOParticipant participant : group.intervals.keySet()) {
+                    setDeviceStatus(participant, reachable);
+                }
             }
+        } finally {
+            group.probePending.set(false);
+            probePermits.release();
         }
+        startPendingProbes();
     }
 
     @Override
@@ -108,7 +108,7 @@ public class UpnpIOServiceTest {
         upnpIoService.registerParticipant(upnpIoParticipantMock);
         assertEquals(1, upnpIoService.participants.size());
         assertTrue(upnpIoService.participants.contains(upnpIoParticipantMock));
-        assertTrue(upnpIoService.pollingJobs.keySet().isEmpty());
+        assertTrue(upnpIoService.polledParticipants.keySet().isEmpty());
         assertTrue(upnpIoService.currentStates.keySet().isEmpty());
         assertTrue(upnpIoService.subscriptionCallbacks.keySet().isEmpty());
     }
@@ -118,8 +118,8 @@ public class UpnpIOServiceTest {
         upnpIoService.addStatusListener(upnpIoParticipantMock, SERVICE_ID, ACTION_ID, 60);
         assertEquals(1, upnpIoService.participants.size());
         assertTrue(upnpIoService.participants.contains(upnpIoParticipantMock));
-        assertEquals(1, upnpIoService.pollingJobs.keySet().size());
-        assertTrue(upnpIoService.pollingJobs.containsKey(upnpIoParticipantMock));
+        assertEquals(1, upnpIoService.polledParticipants.keySet().size());
+        assertTrue(upnpIoService.polledParticipants.containsKey(upnpIoParticipantMock));
         assertEquals(1, upnpIoService.currentStates.keySet().size());
         assertTrue(upnpIoService.currentStates.containsKey(upnpIoParticipantMock));
         assertTrue(upnpIoService.subscriptionCallbacks.keySet().isEmpty());
@@ -128,19 +128,54 @@ public class UpnpIOServiceTest {
         assertThatEverythingIsEmpty();
     }
 
+    @Test
+    public void testStatusListenersOfSameDeviceActionSharePolling() {
+        when(upnpIoParticipant2Mock.getUDN()).thenReturn(UDN_1_STRING);
+
+        upnpIoService.addStatusListener(upnpIoParticipantMock, SERVICE_ID, ACTION_ID, 60);
+        upnpIoService.addStatusListener(upnpIoParticipant2Mock, SERVICE_ID, ACTION_ID, 30);
+        assertEquals(2, upnpIoService.polledParticipants.size());
+        assertEquals(1, upnpIoService.pollingGroups.size());
+
+        UpnpIOServiceImpl.PollingGroup group = upnpIoService.pollingGroups
+                .get(new UpnpIOServiceImpl.PollingKey(UDN_1_STRING, SERVICE_ID, ACTION_ID));
+        assertNotNull(group);
+        assertEquals(30, group.interval);
+
+        upnpIoService.removeStatusListener(upnpIoParticipant2Mock);
+        assertEquals(1, upnpIoService.pollingGroups.size());
+        assertEquals(60, group.interval);
+        assertFalse(group.job.isCancelled());
+
+        upnpIoService.removeStatusListener(upnpIoParticipantMock);
+        assertTrue(group.job.isCancelled());
+        assertThatEverythingIsEmpty();
+    }
+
+    @Test
+    public void testStatusListenersOfDifferentDevicesPollSeparately() {
+        upnpIoService.addStatusListener(upnpIoParticipantMock, SERVICE_ID, ACTION_ID, 60);
+        upnpIoService.addStatusListener(upnpIoParticipant2Mock, SERVICE_ID_2, ACTION_ID, 60);
+        assertEquals(2, upnpIoService.pollingGroups.size());
+
+        upnpIoService.removeStatusListener(upnpIoParticipantMock);
+        upnpIoService.removeStatusListener(upnpIoParticipant2Mock);
+        assertThatEverythingIsEmpty();
+    }
+
     @Test
     public void testAddSubscription() {
         upnpIoService.addSubscription(upnpIoParticipantMock, SERVICE_ID, 60);
         assertEquals(1, upnpIoService.participants.size());
         assertTrue(upnpIoService.participants.contains(upnpIoParticipantMock));
-        assertTrue(upnpIoService.pollingJobs.keySet().isEmpty());
+        assertTrue(upnpIoService.polledParticipants.keySet().isEmpty());
         assertTrue(upnpIoService.currentStates.keySet().isEmpty());
         assertEquals(1, upnpIoService.subscriptionCallbacks.size());
 
         upnpIoService.addSubscription(upnpIoParticipant2Mock, SERVICE_ID_2, 60);
         assertEquals(2, upnpIoService.participants.size());
         assertTrue(upnpIoService.participants.contains(upnpIoParticipantMock));
-        assertTrue(upnpIoService.pollingJobs.keySet().isEmpty());
+        assertTrue(upnpIoService.polledParticipants.keySet().isEmpty());
         assertTrue(upnpIoService.currentStates.keySet().isEmpty());
         assertEquals(2, upnpIoService.subscriptionCallbacks.size());
 
@@ -148,7 +183,7 @@ public class UpnpIOServiceTest {
         upnpIoService.unregisterParticipant(upnpIoParticipantMock);
         assertEquals(1, upnpIoService.participants.size());
         assertTrue(upnpIoService.participants.contains(upnpIoParticipant2Mock));
-        assertTrue(upnpIoService.pollingJobs.keySet().isEmpty());
+        assertTrue(upnpIoService.polledParticipants.keySet().isEmpty());
         assertTrue(upnpIoService.currentStates.keySet().isEmpty());
         assertEquals(1, upnpIoService.subscriptionCallbacks.size());
 
@@ -159,7 +194,8 @@ public class UpnpIOServiceTest {
 
     private void assertThatEverythingIsEmpty() {
         assertTrue(upnpIoService.participants.isEmpty());
-        assertTrue(upnpIoService.pollingJobs.keySet().isEmpty());
+        assertTrue(upnpIoService.polledParticipants.keySet().isEmpty());
+        assertTrue(upnpIoService.pollingGroups.keySet().isEmpty());
         assertTrue(upnpIoService.currentStates.keySet().isEmpty());
         assertTrue(upnpIoService.subscriptionCallbacks.keySet().isEmpty());
     }
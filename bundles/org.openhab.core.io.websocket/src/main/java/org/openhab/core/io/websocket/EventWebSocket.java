@@ -12,8 +12,9 @@
  */
 package org.openhab.core.io.websocket;
 
-import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 
@@ -22,6 +23,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.StatusCode;
+import org.eclipse.jetty.websocket.api.WriteCallback;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketError;
@@ -48,6 +50,9 @@ public class EventWebSocket {
     public static final String WEBSOCKET_EVENT_TYPE = "WebSocketEvent";
     public static final String WEBSOCKET_TOPIC_PREFIX = "openhab/websocket/";
 
+    // the maximum number of messages waiting to be sent before a client is considered too slow and disconnected
+    static final int MAX_PENDING_MESSAGES = 1000;
+
     private static final Type STRING_LIST_TYPE = TypeToken.getParameterized(List.class, String.class).getType();
 
     private final Logger logger = LoggerFactory.getLogger(EventWebSocket.class);
@@ -64,6 +69,13 @@ public class EventWebSocket {
     private List<String> typeFilter = List.of();
     private List<String> sourceFilter = List.of();
 
+    // outbound messages, only one message is written to the remote endpoint at a time
+    private final Deque<String> pendingMessages = new ArrayDeque<>();
+    private final WriteCallback writeCallback = new PendingMessagesWriteCallback();
+    private boolean sending = false;
+    private boolean writeInProgress = false;
+    private boolean writeCompletedInline = false;
+
     public EventWebSocket(Gson gson, EventWebSocketAdapter wsAdapter, ItemEventUtility itemEventUtility,
             EventPublisher eventPublisher) {
         this.wsAdapter = wsAdapter;
@@ -78,6 +90,9 @@ public class EventWebSocket {
         remoteIdentifier = "<unknown>";
         this.session = null;
         this.remoteEndpoint = null;
+        synchronized (pendingMessages) {
+            pendingMessages.clear();
+        }
     }
 
     @OnWebSocketConnect
@@ -166,12 +181,7 @@ public class EventWebSocket {
                     "Deserialization error: " + e.getMessage(), null, null);
         }
 
-        try {
-            sendMessage(gson.toJson(responseEvent));
-        } catch (IOException e) {
-            logger.debug("Failed to send WebSocketResponseEvent event {} to {}: {}", responseEvent, remoteIdentifier,
-                    e.getMessage());
-        }
+        sendMessage(gson.toJson(responseEvent));
     }
 
     @OnWebSocketError
@@ -186,23 +196,107 @@ public class EventWebSocket {
     }
 
     public void processEvent(Event event) {
-        try {
-            String source = event.getSource();
-            if ((source == null || !sourceFilter.contains(event.getSource()))
-                    && (typeFilter.isEmpty() || typeFilter.contains(event.getType()))) {
-                sendMessage(gson.toJson(new EventDTO(event)));
-            }
-        } catch (IOException e) {
-            logger.debug("Failed to send event {} to {}: {}", event, remoteIdentifier, e.getMessage());
+        if (acceptsEvent(event)) {
+            sendMessage(gson.toJson(new EventDTO(event)));
         }
     }
 
-    private synchronized void sendMessage(String message) throws IOException {
-        RemoteEndpoint remoteEndpoint = this.remoteEndpoint;
+    /**
+     * Check if an event passes the type and source filters of this connection
+     *
+     * @param event the event
+     * @return true if the event shall be sent to the client
+     */
+    boolean acceptsEvent(Event event) {
+        String source = event.getSource();
+        return (source == null || !sourceFilter.contains(source))
+                && (typeFilter.isEmpty() || typeFilter.contains(event.getType()));
+    }
+
+    /**
+     * Queue a message for sending to the client.
+     * <p>
+     * Messages are written asynchronously and in order. If the client does not keep up and more than
+     * {@link #MAX_PENDING_MESSAGES} messages are waiting, the connection is closed, so that the client can reconnect
+     * and re-synchronize its state.
+     *
+     * @param message the serialized message
+     */
+    void sendMessage(String message) {
         if (remoteEndpoint == null) {
             logger.warn("Could not determine remote endpoint, failed to send '{}'.", message);
             return;
         }
-        remoteEndpoint.sendString(message);
+        synchronized (pendingMessages) {
+            if (pendingMessages.size() >= MAX_PENDING_MESSAGES) {
+                pendingMessages.clear();
+                closeSlowConnection();
+                return;
+            }
+            pendingMessages.add(message);
+            if (sending) {
+                return;
+            }
+            sending = true;
+        }
+        sendPendingMessages();
+    }
+
+    private void sendPendingMessages() {
+        while (true) {
+            String message;
+            RemoteEndpoint remoteEndpoint = this.remoteEndpoint;
+            synchronized (pendingMessages) {
+                message = pendingMessages.poll();
+                if (message == null || remoteEndpoint == null) {
+                    pendingMessages.clear();
+                    sending = false;
+                    return;
+                }
+                writeInProgress = true;
+                writeCompletedInline = false;
+            }
+            remoteEndpoint.sendString(message, writeCallback);
+            synchronized (pendingMessages) {
+                writeInProgress = false;
+                if (!writeCompletedInline) {
+                    // the write callback continues with the next message
+                    return;
+                }
+            }
+        }
+    }
+
+    private void onWriteCompleted() {
+        synchronized (pendingMessages) {
+            if (writeInProgress) {
+                // completed before sendString returned, the loop in sendPendingMessages continues
+                writeCompletedInline = true;
+                return;
+            }
+        }
+        sendPendingMessages();
+    }
+
+    private void closeSlowConnection() {
+        Session session = this.session;
+        logger.warn("Closing WebSocket connection to {}, more than {} messages are waiting to be sent.",
+                remoteIdentifier, MAX_PENDING_MESSAGES);
+        if (session != null) {
+            session.close(StatusCode.TRY_AGAIN_LATER, "Client is too slow");
+        }
+    }
+
+    private class PendingMessagesWriteCallback implements WriteCallback {
+        @Override
+        public void writeFailed(@Nullable Throwable x) {
+            logger.debug("Failed to send message to {}: {}", remoteIdentifier, x != null ? x.getMessage() : "<null>");
+            onWriteCompleted();
+        }
+
+        @Override
+        public void writeSuccess() {
+            onWriteCompleted();
+        }
     }
 }
@@ -56,7 +56,16 @@ public class EventWebSocketAdapter implements EventSubscriber, WebSocketAdapter
 
     @Override
     public void receive(Event event) {
-        webSockets.forEach(ws -> ws.processEvent(event));
+        // serialize only once and only if at least one connection is interested in the event
+        String message = null;
+        for (EventWebSocket webSocket : webSockets) {
+            if (webSocket.acceptsEvent(event)) {
+                if (message == null) {
+                    message = gson.toJson(new EventDTO(event));
+                }
+                webSocket.sendMessage(message);
+            }
+        }
     }
 
     public void registerListener(EventWebSocket eventWebSocket) {
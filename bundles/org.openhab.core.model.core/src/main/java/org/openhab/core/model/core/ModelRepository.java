@@ -13,6 +13,7 @@
 package org.openhab.core.model.core;
 
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.emf.ecore.EObject;
@@ -48,6 +49,17 @@ public interface ModelRepository {
      */
     boolean addOrRefreshModel(String name, InputStream inputStream);
 
+    /**
+     * Adds several models to the repository or refreshes them if they already exist
+     *
+     * Implementations may parse the models in parallel, but they are added in the iteration order of the given map.
+     *
+     * @param models the model names to add/refresh and input streams with their content
+     */
+    default void addOrRefreshModels(Map<String, InputStream> models) {
+        models.forEach(this::addOrRefreshModel);
+    }
+
     /**
      * Removes a model from the repository
      *
@@ -12,7 +12,6 @@
  */
 package org.openhab.core.model.core.internal;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -23,7 +22,12 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.util.URI;
@@ -32,11 +36,13 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.Resource.Diagnostic;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.Diagnostician;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.model.core.EventType;
 import org.openhab.core.model.core.ModelRepository;
 import org.openhab.core.model.core.ModelRepositoryChangeListener;
@@ -51,11 +57,16 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - Initial contribution
  * @author Oliver Libutzki - Added reloadAllModelsOfType method
  * @author Simon Kaufmann - added validation of models before loading them
+ * @author Jonas Weber - Parse models in parallel
  */
 @Component(immediate = true)
 @NonNullByDefault
 public class ModelRepositoryImpl implements ModelRepository {
 
+    // the maximum number of models parsed in parallel
+    private static final int MAX_PARALLEL_PARSERS = 4;
+    private static final String THREAD_POOL_NAME = "modelrepository";
+
     private final Logger logger = LoggerFactory.getLogger(ModelRepositoryImpl.class);
     private final ResourceSet resourceSet;
     private final Map<String, String> resourceOptions = Map.of(XtextResource.OPTION_ENCODING,
@@ -97,56 +108,118 @@ public class ModelRepositoryImpl implements ModelRepository {
 
     @Override
     public boolean addOrRefreshModel(String name, final InputStream originalInputStream) {
+        return loadModel(parseModel(name, originalInputStream, createResourceSet()));
+    }
+
+    /**
+     * Adds several models to the repository.
+     * <p>
+     * Parsing is done in parallel, each thread uses its own resource set for that. The parsed models are then linked
+     * into the repository one after the other, in the iteration order of the given map.
+     */
+    @Override
+    public void addOrRefreshModels(Map<String, InputStream> models) {
+        int threads = Math.min(models.size(),
+                Math.min(MAX_PARALLEL_PARSERS, Runtime.getRuntime().availableProcessors()));
+        if (threads < 2) {
+            models.forEach(this::addOrRefreshModel);
+            return;
+        }
+
+        // resource sets are not thread-safe, so each task borrows one of them for parsing
+        BlockingQueue<ResourceSet> parsingResourceSets = new ArrayBlockingQueue<>(threads);
+        for (int i = 0; i < threads; i++) {
+            parsingResourceSets.add(createResourceSet());
+        }
+
+        ExecutorService executor = ThreadPoolManager.getPool(THREAD_POOL_NAME);
+        List<Future<ParsedModel>> futures = models.entrySet().stream().map(entry -> executor.submit(() -> {
+            ResourceSet parsingResourceSet = parsingResourceSets.take();
+            try {
+                return parseModel(entry.getKey(), entry.getValue(), parsingResourceSet);
+            } finally {
+                parsingResourceSets.add(parsingResourceSet);
+            }
+        })).toList();
+        try {
+            for (Future<ParsedModel> future : futures) {
+                try {
+                    loadModel(future.get());
+                } catch (ExecutionException e) {
+                    logger.warn("Failed to load configuration model: {}", e.getMessage(), e);
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Parses the given model into a new resource without linking it.
+     * <p>
+     * The resource is created in the given resource set and detached from it again after parsing, so that it can be
+     * linked into the repository afterwards.
+     *
+     * @param name the model name
+     * @param originalInputStream the content of the model
+     * @param parsingResourceSet the resource set in which the resource is created
+     * @return the parsed model, its resource is <code>null</code> if the model could not be parsed at all
+     */
+    private ParsedModel parseModel(String name, final InputStream originalInputStream,
+            ResourceSet parsingResourceSet) {
         logger.info("Loading model '{}'", name);
-        Resource resource = null;
-        byte[] bytes = null;
+        // don't use XMI as a default
+        Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().remove("*");
+        Resource resource = parsingResourceSet.createResource(URI.createURI(name));
+        if (resource == null) {
+            logger.warn("Ignoring file '{}' as we do not have a parser for it.", name);
+            return new ParsedModel(name, null, null);
+        }
         try (InputStream inputStream = originalInputStream) {
-            bytes = inputStream.readAllBytes();
-            String validationResult = validateModel(name, new ByteArrayInputStream(bytes));
-            if (validationResult != null) {
-                logger.warn("Configuration model '{}' has errors, therefore ignoring it: {}", name, validationResult);
-                removeModel(name);
-                return false;
-            }
+            resource.load(inputStream, resourceOptions);
+            return new ParsedModel(name, resource, getSyntaxErrors(resource));
         } catch (IOException e) {
             logger.warn("Configuration model '{}' cannot be parsed correctly!", name, e);
+            return new ParsedModel(name, null, null);
+        } finally {
+            parsingResourceSet.getResources().remove(resource);
+        }
+    }
+
+    /**
+     * Links a parsed model into the repository, replacing a previously loaded model with the same name.
+     * <p>
+     * Models with syntactical errors are rejected and a previously loaded model with the same name is removed. The
+     * previously loaded model is kept intact until the new one is known to be free of syntactical errors.
+     *
+     * @param parsedModel the parsed model
+     * @return true, if it was successfully processed, false otherwise
+     */
+    private boolean loadModel(ParsedModel parsedModel) {
+        String name = parsedModel.name();
+        Resource resource = parsedModel.resource();
+        if (resource == null) {
             return false;
         }
-        try (InputStream inputStream = new ByteArrayInputStream(bytes)) {
-            resource = getResource(name);
-            if (resource == null) {
-                synchronized (resourceSet) {
-                    // try again to retrieve the resource as it might have been created by now
-                    resource = getResource(name);
-                    if (resource == null) {
-                        // seems to be a new file
-                        // don't use XMI as a default
-                        Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().remove("*");
-                        resource = resourceSet.createResource(URI.createURI(name));
-                        if (resource != null) {
-                            resource.load(inputStream, resourceOptions);
-                            notifyListeners(name, EventType.ADDED);
-                            return true;
-                        } else {
-                            logger.warn("Ignoring file '{}' as we do not have a parser for it.", name);
-                        }
-                    }
-                }
-            } else {
-                synchronized (resourceSet) {
-                    resource.unload();
-                    resource.load(inputStream, resourceOptions);
-                    notifyListeners(name, EventType.MODIFIED);
-                    return true;
-                }
-            }
-        } catch (IOException e) {
-            logger.warn("Configuration model '{}' cannot be parsed correctly!", name, e);
-            if (resource != null) {
-                resourceSet.getResources().remove(resource);
+        String syntaxErrors = parsedModel.syntaxErrors();
+        if (syntaxErrors != null) {
+            logger.warn("Configuration model '{}' has errors, therefore ignoring it: {}", name, syntaxErrors);
+            removeModel(name);
+            return false;
+        }
+        synchronized (resourceSet) {
+            Resource oldResource = getResource(name);
+            if (oldResource != null) {
+                oldResource.unload();
+                resourceSet.getResources().remove(oldResource);
             }
+            resourceSet.getResources().add(resource);
+            EcoreUtil.resolveAll(resource);
+            validateModel(name, resource);
+            notifyListeners(name, oldResource == null ? EventType.ADDED : EventType.MODIFIED);
+            return true;
         }
-        return false;
     }
 
     @Override
@@ -232,66 +305,53 @@ public class ModelRepositoryImpl implements ModelRepository {
         return resourceSet.getResource(URI.createURI(name), false);
     }
 
+    private ResourceSet createResourceSet() {
+        // resources are only parsed in here, they are linked after being moved to the repository's resource set
+        return new XtextResourceSet();
+    }
+
     /**
-     * Validates the given model.
-     *
-     * There are two "layers" of validation
-     * <ol>
-     * <li>
-     * errors when loading the resource. Usually these are syntax violations which irritate the parser. They will be
-     * returned as a String.
-     * <li>
-     * all kinds of other errors (i.e. violations of validation checks) will only be logged, but not included in the
-     * return value.
-     * </ol>
-     * <p>
-     * Validation will be done on a separate resource, in order to keep the original one intact in case its content
-     * needs to be removed because of syntactical errors.
+     * Returns the syntactical errors found while parsing the given resource. Usually these are syntax violations
+     * which irritate the parser.
      *
-     * @param name
-     * @param inputStream
+     * @param resource the parsed resource
      * @return error messages as a String if any syntactical error were found, <code>null</code> otherwise
-     * @throws IOException if there was an error with the given {@link InputStream}, loading the resource from there
      */
-    private @Nullable String validateModel(String name, InputStream inputStream) throws IOException {
-        // use another resource for validation in order to keep the original one for emergency-removal in case of errors
-        Resource resource = resourceSet.createResource(URI.createURI("tmp_" + name));
+    private @Nullable String getSyntaxErrors(Resource resource) {
+        StringBuilder criticalErrors = new StringBuilder();
+        for (Diagnostic diagnostic : resource.getErrors()) {
+            criticalErrors.append(MessageFormat.format("[{0},{1}]: {2}\n", Integer.toString(diagnostic.getLine()),
+                    Integer.toString(diagnostic.getColumn()), diagnostic.getMessage()));
+        }
+        return criticalErrors.length() > 0 ? criticalErrors.toString() : null;
+    }
+
+    /**
+     * Validates the given linked model. All kinds of errors (i.e. violations of validation checks) will only be
+     * logged.
+     *
+     * @param name the model name
+     * @param resource the linked resource
+     */
+    private void validateModel(String name, Resource resource) {
+        if (resource.getContents().isEmpty()) {
+            return;
+        }
         try {
-            resource.load(inputStream, resourceOptions);
-            StringBuilder criticalErrors = new StringBuilder();
+            final org.eclipse.emf.common.util.Diagnostic diagnostic = safeEmf
+                    .call(() -> Diagnostician.INSTANCE.validate(resource.getContents().get(0)));
             List<String> warnings = new LinkedList<>();
-
-            if (!resource.getContents().isEmpty()) {
-                // Check for syntactical errors
-                for (Diagnostic diagnostic : resource.getErrors()) {
-                    criticalErrors
-                            .append(MessageFormat.format("[{0},{1}]: {2}\n", Integer.toString(diagnostic.getLine()),
-                                    Integer.toString(diagnostic.getColumn()), diagnostic.getMessage()));
-                }
-                if (criticalErrors.length() > 0) {
-                    return criticalErrors.toString();
-                }
-
-                // Check for validation errors, but log them only
-                try {
-                    final org.eclipse.emf.common.util.Diagnostic diagnostic = safeEmf
-                            .call(() -> Diagnostician.INSTANCE.validate(resource.getContents().get(0)));
-                    for (org.eclipse.emf.common.util.Diagnostic d : diagnostic.getChildren()) {
-                        warnings.add(d.getMessage());
-                    }
-                    if (!warnings.isEmpty()) {
-                        logger.info("Validation issues found in configuration model '{}', using it anyway:\n{}", name,
-                                warnings.stream().collect(Collectors.joining("\n")));
-                    }
-                } catch (NullPointerException e) {
-                    // see https://github.com/eclipse/smarthome/issues/3335
-                    logger.debug("Validation of '{}' skipped due to internal errors.", name);
-                }
+            for (org.eclipse.emf.common.util.Diagnostic d : diagnostic.getChildren()) {
+                warnings.add(d.getMessage());
             }
-        } finally {
-            resourceSet.getResources().remove(resource);
+            if (!warnings.isEmpty()) {
+                logger.info("Validation issues found in configuration model '{}', using it anyway:\n{}", name,
+                        warnings.stream().collect(Collectors.joining("\n")));
+            }
+        } catch (NullPointerException e) {
+            // see https://github.com/eclipse/smarthome/issues/3335
+            logger.debug("Validation of '{}' skipped due to internal errors.", name);
         }
-        return null;
     }
 
     private void notifyListeners(String name, EventType type) {
@@ -299,4 +359,7 @@ public class ModelRepositoryImpl implements ModelRepository {
             listener.modelChanged(name, type);
         }
     }
+
+    private record ParsedModel(String name, @Nullable Resource resource, @Nullable String syntaxErrors) {
+    }
 }
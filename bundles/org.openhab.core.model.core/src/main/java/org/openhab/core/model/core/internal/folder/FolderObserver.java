@@ -14,6 +14,7 @@ package org.openhab.core.model.core.internal.folder;
 
 import static org.openhab.core.service.WatchService.Kind.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.DirectoryStream;
@@ -22,6 +23,7 @@ import java.nio.file.Path;
 import java.util.Dictionary;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -182,6 +184,8 @@ public class FolderObserver implements WatchService.WatchEventListener {
     }
 
     private void addModelsToRepo() {
+        // collect all model files first, so that the repository can parse them in parallel, keeping the folder order
+        Map<String, InputStream> models = new LinkedHashMap<>();
         for (Map.Entry<String, Set<String>> entry : folderFileExtMap.entrySet()) {
             String folderName = entry.getKey();
             Set<String> validExtensions = entry.getValue();
@@ -195,11 +199,17 @@ public class FolderObserver implements WatchService.WatchEventListener {
             logger.debug("Adding files in '{}' to the model", folderPath);
             try (DirectoryStream<Path> stream = Files.newDirectoryStream(folderPath,
                     new FileExtensionsFilter(validExtensions))) {
-                stream.forEach(path -> checkPath(path, CREATE));
+                stream.forEach(path -> collectModel(path, models));
             } catch (IOException e) {
                 logger.warn("Failed to list entries in directory: {}", folderPath.toAbsolutePath(), e);
             }
+        }
+
+        if (!models.isEmpty()) {
+            modelRepository.addOrRefreshModels(models);
+        }
 
+        for (Set<String> validExtensions : folderFileExtMap.values()) {
             for (String extension : validExtensions) {
                 if (parsers.contains(extension) && !missingParsers.contains(extension)) {
                     readyService.markReady(new ReadyMarker(READYMARKER_TYPE, extension));
@@ -235,21 +245,56 @@ public class FolderObserver implements WatchService.WatchEventListener {
         }
     }
 
-    private void checkPath(final Path path, final WatchService.Kind kind) {
+    private void collectModel(final Path path, Map<String, InputStream> models) {
         try {
-            if (Files.isHidden(path)) {
-                // we omit parsing of hidden files possibly created by editors or operating systems
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Omitting update of hidden file '{}'", path.toAbsolutePath());
+            synchronized (FolderObserver.class) {
+                if (isModelFile(path)) {
+                    String fileName = path.getFileName().toString();
+                    namePathMap.put(fileName, path);
+                    models.put(fileName, new ByteArrayInputStream(Files.readAllBytes(path)));
                 }
-                return;
             }
+        } catch (IOException e) {
+            logger.warn("Error while reading file '{}': {}", path.toAbsolutePath(), e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether a created or modified file is to be loaded into the model repository. Hidden files are omitted
+     * and files without a parser for their extension are added to the ignored paths.
+     * Must be called while holding the lock on {@link FolderObserver}.
+     *
+     * @param path the path of the file
+     * @return <code>true</code> if the file should be loaded
+     * @throws IOException if the file attributes cannot be read
+     */
+    private boolean isModelFile(final Path path) throws IOException {
+        if (Files.isHidden(path)) {
+            // we omit parsing of hidden files possibly created by editors or operating systems
+            logger.debug("Omitting hidden file '{}'", path.toAbsolutePath());
+            return false;
+        }
+
+        String extension = getExtension(path);
+        if (parsers.contains(extension)) {
+            return true;
+        } else if (extension != null) {
+            ignoredPaths.add(path);
+            if (!activated) {
+                missingParsers.add(extension);
+            }
+            logger.debug("Missing parser for '{}' extension, added ignored path: {}", extension,
+                    path.toAbsolutePath());
+        }
+        return false;
+    }
 
+    private void checkPath(final Path path, final WatchService.Kind kind) {
+        try {
             synchronized (FolderObserver.class) {
                 String fileName = path.getFileName().toString();
                 if (kind == CREATE || kind == MODIFY) {
-                    String extension = getExtension(fileName);
-                    if (parsers.contains(extension)) {
+                    if (isModelFile(path)) {
                         try (InputStream inputStream = Files.newInputStream(path)) {
                             namePathMap.put(fileName, path);
                             modelRepository.addOrRefreshModel(fileName, inputStream);
@@ -257,15 +302,6 @@ public class FolderObserver implements WatchService.WatchEventListener {
                         } catch (IOException e) {
                             logger.warn("Error while opening file during update: {}", path.toAbsolutePath());
                         }
-                    } else if (extension != null) {
-                        ignoredPaths.add(path);
-                        if (!activated) {
-                            missingParsers.add(extension);
-                        }
-                        if (logger.isDebugEnabled()) {
-                            logger.debug("Missing parser for '{}' extension, added ignored path: {}", extension,
-                                    path.toAbsolutePath());
-                        }
                     }
                 } else if (kind == WatchService.Kind.DELETE) {
                     modelRepository.removeModel(fileName);
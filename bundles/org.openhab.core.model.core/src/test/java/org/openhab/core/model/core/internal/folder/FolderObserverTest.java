@@ -15,7 +15,9 @@ package org.openhab.core.model.core.internal.folder;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -35,6 +37,7 @@ import java.util.Comparator;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -209,6 +212,28 @@ public class FolderObserverTest extends JavaTest {
         verifyNoInteractions(modelRepoMock);
     }
 
+    /**
+     * The following method creates files before the observer is activated.
+     * All models are expected to be handed to the repository at once.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExistingFilesAddedAtOnce() throws Exception {
+        String validExtension = "java";
+        File file1 = new File(EXISTING_SUBDIR_PATH, "ExistingMockFile1." + validExtension);
+        File file2 = new File(EXISTING_SUBDIR_PATH, "ExistingMockFile2." + validExtension);
+        Files.writeString(file1.toPath(), INITIAL_FILE_CONTENT, StandardCharsets.UTF_8, StandardOpenOption.CREATE);
+        Files.writeString(file2.toPath(), INITIAL_FILE_CONTENT, StandardCharsets.UTF_8, StandardOpenOption.CREATE);
+
+        configProps.put(EXISTING_SUBDIR_NAME, "txt,jpg," + validExtension);
+        folderObserver.activate(contextMock);
+
+        verify(modelRepoMock).addOrRefreshModels(
+                argThat(models -> models.keySet().equals(Set.of(file1.getName(), file2.getName()))));
+        verify(modelRepoMock, never()).addOrRefreshModel(any(), any());
+    }
+
     /**
      * The following method tests the correct invocation of removeModel() method when a
      * folder-extensions pair is deleted from the configuration properties
@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -51,6 +53,7 @@ import org.openhab.core.model.items.ModelItem;
 import org.openhab.core.model.items.ModelNormalItem;
 import org.openhab.core.types.StateDescriptionFragment;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
+import org.openhab.core.types.StateDescriptionFragmentChangeListener;
 import org.openhab.core.types.StateDescriptionFragmentProvider;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
@@ -88,6 +91,8 @@ public class GenericItemProvider extends AbstractProvider<Item>
 
     private final Map<String, StateDescriptionFragment> stateDescriptionFragments = new ConcurrentHashMap<>();
 
+    private final Set<StateDescriptionFragmentChangeListener> fragmentChangeListeners = new CopyOnWriteArraySet<>();
+
     private Integer rank;
 
     @Activate
@@ -164,6 +169,7 @@ public class GenericItemProvider extends AbstractProvider<Item>
     public Collection<Item> getAll() {
         List<Item> items = new ArrayList<>();
         stateDescriptionFragments.clear();
+        fragmentChangeListeners.forEach(StateDescriptionFragmentChangeListener::allStateDescriptionFragmentsChanged);
         for (String name : modelRepository.getAllModelNamesOfType("items")) {
             items.addAll(getItemsFromModel(name));
         }
@@ -253,8 +259,11 @@ public class GenericItemProvider extends AbstractProvider<Item>
             String format = extractFormat(label);
             if (format != null) {
                 label = label.substring(0, label.indexOf("[")).trim();
-                stateDescriptionFragments.put(modelItem.getName(),
-                        StateDescriptionFragmentBuilder.create().withPattern(format).build());
+                StateDescriptionFragment fragment = StateDescriptionFragmentBuilder.create().withPattern(format)
+                        .build();
+                if (!fragment.equals(stateDescriptionFragments.put(modelItem.getName(), fragment))) {
+                    notifyStateDescriptionFragmentChanged(modelItem.getName());
+                }
             }
             activeItem.setLabel(label);
             activeItem.setCategory(modelItem.getIcon());
@@ -424,7 +433,9 @@ public class GenericItemProvider extends AbstractProvider<Item>
 
     private void notifyAndCleanup(Item oldItem) {
         notifyListenersAboutRemovedElement(oldItem);
-        this.stateDescriptionFragments.remove(oldItem.getName());
+        if (this.stateDescriptionFragments.remove(oldItem.getName()) != null) {
+            notifyStateDescriptionFragmentChanged(oldItem.getName());
+        }
         genericMetaDataProvider.removeMetadataByItemName(oldItem.getName());
     }
 
@@ -515,4 +526,23 @@ public class GenericItemProvider extends AbstractProvider<Item>
     public @Nullable StateDescriptionFragment getStateDescriptionFragment(String itemName, @Nullable Locale locale) {
         return stateDescriptionFragments.get(itemName);
     }
+
+    @Override
+    public boolean isNotifyingChanges() {
+        return true;
+    }
+
+    @Override
+    public void addStateDescriptionFragmentChangeListener(StateDescriptionFragmentChangeListener listener) {
+        fragmentChangeListeners.add(listener);
+    }
+
+    @Override
+    public void removeStateDescriptionFragmentChangeListener(StateDescriptionFragmentChangeListener listener) {
+        fragmentChangeListeners.remove(listener);
+    }
+
+    private void notifyStateDescriptionFragmentChanged(String itemName) {
+        fragmentChangeListeners.forEach(listener -> listener.stateDescriptionFragmentChanged(itemName));
+    }
 }
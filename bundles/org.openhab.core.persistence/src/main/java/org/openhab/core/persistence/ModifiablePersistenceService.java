@@ -13,6 +13,7 @@
 package org.openhab.core.persistence;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -66,6 +67,18 @@ public interface ModifiablePersistenceService extends QueryablePersistenceServic
      */
     void store(Item item, ZonedDateTime date, State state, @Nullable String alias);
 
+    /**
+     * Stores a batch of item values with the state and timestamp contained in each entry.
+     * <p>
+     * The default implementation calls {@link #store(Item, ZonedDateTime, State, String)} for each entry.
+     *
+     * @param entries the values that should be persisted, in the order they were queued.
+     */
+    @Override
+    default void store(Collection<PersistenceStoreEntry> entries) {
+        entries.forEach(entry -> store(entry.item(), entry.timestamp(), entry.state(), entry.alias()));
+    }
+
     /**
      * Removes data associated with an item from a persistence service.
      * If all data is removed for the specified item, the persistence service should free any resources associated with
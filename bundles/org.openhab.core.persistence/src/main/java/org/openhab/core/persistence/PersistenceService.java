@@ -12,8 +12,12 @@
  */
 package org.openhab.core.persistence;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -73,6 +77,24 @@ public interface PersistenceService {
      */
     void store(Item item, @Nullable String alias);
 
+    /**
+     * Stores a batch of item values.
+     * <p>
+     * This method is used if write-behind is enabled for persistence. Services that can store several values in one
+     * operation (e.g. a single transaction or request) should override this method and store the state and timestamp
+     * contained in each entry.
+     * <p>
+     * The default implementation can only store the current state of an item, so it coalesces the entries and calls
+     * {@link #store(Item, String)} once per item and alias.
+     *
+     * @param entries the values that should be persisted, in the order they were queued.
+     */
+    default void store(Collection<PersistenceStoreEntry> entries) {
+        Map<List<@Nullable String>, PersistenceStoreEntry> latestEntries = new LinkedHashMap<>();
+        entries.forEach(entry -> latestEntries.put(Arrays.asList(entry.item().getName(), entry.alias()), entry));
+        latestEntries.values().forEach(entry -> store(entry.item(), entry.alias()));
+    }
+
     /**
      * Provides default persistence strategies that are used for all items if no user defined configuration is found.
      *
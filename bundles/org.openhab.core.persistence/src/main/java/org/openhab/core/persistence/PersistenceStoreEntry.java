@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+
+/**
+ * This class holds a single value that should be stored by a {@link PersistenceService}. The state and the timestamp
+ * are captured when the value is queued, so that they can be stored later without querying the item again.
+ *
+ * @param item the item which state should be persisted
+ * @param state the state of the item at the time it was queued
+ * @param timestamp the time the state was queued
+ * @param alias the alias under which the item should be persisted, may be {@code null}
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public record PersistenceStoreEntry(Item item, State state, ZonedDateTime timestamp, @Nullable String alias) {
+}
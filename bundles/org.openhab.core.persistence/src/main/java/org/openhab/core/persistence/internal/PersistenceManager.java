@@ -39,6 +39,8 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.SafeCaller;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
@@ -52,11 +54,14 @@ import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
 import org.openhab.core.persistence.PersistenceItemConfiguration;
 import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.PersistenceStoreEntry;
 import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.config.PersistenceAllConfig;
 import org.openhab.core.persistence.config.PersistenceConfig;
 import org.openhab.core.persistence.config.PersistenceGroupConfig;
 import org.openhab.core.persistence.config.PersistenceItemConfig;
+import org.openhab.core.persistence.filter.PersistenceFilter;
+import org.openhab.core.persistence.internal.PersistenceWriteBehindQueue.OverflowPolicy;
 import org.openhab.core.persistence.registry.PersistenceServiceConfiguration;
 import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
 import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistryChangeListener;
@@ -76,6 +81,7 @@ import org.openhab.core.types.UnDefType;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -90,10 +96,19 @@ import org.slf4j.LoggerFactory;
  * @author Jan N. Klug - Refactored to use service configuration registry
  * @author Jan N. Klug - Added time series support
  */
-@Component(immediate = true)
+@Component(immediate = true, configurationPid = "org.openhab.persistence")
 @NonNullByDefault
 public class PersistenceManager implements ItemRegistryChangeListener, StateChangeListener, ReadyTracker,
         PersistenceServiceConfigurationRegistryChangeListener, TimeSeriesListener {
+    // constants for the write-behind configuration properties
+    private static final String CONFIG_WRITE_BEHIND = "writeBehind";
+    private static final String CONFIG_WRITE_BEHIND_BATCH_SIZE = "writeBehindBatchSize";
+    private static final String CONFIG_WRITE_BEHIND_FLUSH_INTERVAL = "writeBehindFlushInterval";
+    private static final String CONFIG_WRITE_BEHIND_CAPACITY = "writeBehindCapacity";
+    private static final String CONFIG_WRITE_BEHIND_OVERFLOW_POLICY = "writeBehindOverflowPolicy";
+
+    private static final String WRITE_BEHIND_THREAD_POOL_NAME = "persistence";
+
     private final Logger logger = LoggerFactory.getLogger(PersistenceManager.class);
 
     private final ReadyMarker marker = new ReadyMarker("persistence", "restore");
@@ -108,12 +123,21 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
 
     private volatile boolean started = false;
 
+    private volatile boolean writeBehind = false;
+    private volatile int writeBehindBatchSize = 100;
+    private volatile long writeBehindFlushInterval = 1000;
+    private volatile int writeBehindCapacity = 10000;
+    private volatile OverflowPolicy writeBehindOverflowPolicy = OverflowPolicy.DISCARD_OLDEST;
+
     private final Map<String, PersistenceServiceContainer> persistenceServiceContainers = new ConcurrentHashMap<>();
 
+    // item name -> persistence targets, per strategy; replaced as a whole whenever items or configurations change
+    private volatile Map<PersistenceStrategy, Map<String, List<PersistenceTarget>>> persistenceTargets = new ConcurrentHashMap<>();
+
     @Activate
-    public PersistenceManager(final @Reference CronScheduler cronScheduler, final @Reference Scheduler scheduler,
-            final @Reference ItemRegistry itemRegistry, final @Reference SafeCaller safeCaller,
-            final @Reference ReadyService readyService,
+    public PersistenceManager(Map<String, Object> configuration, final @Reference CronScheduler cronScheduler,
+            final @Reference Scheduler scheduler, final @Reference ItemRegistry itemRegistry,
+            final @Reference SafeCaller safeCaller, final @Reference ReadyService readyService,
             final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry) {
         this.cronScheduler = cronScheduler;
         this.scheduler = scheduler;
@@ -122,11 +146,37 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
         this.readyService = readyService;
         this.persistenceServiceConfigurationRegistry = persistenceServiceConfigurationRegistry;
 
+        modified(configuration);
+
         persistenceServiceConfigurationRegistry.addRegistryChangeListener(this);
         readyService.registerTracker(this, new ReadyMarkerFilter().withType(StartLevelService.STARTLEVEL_MARKER_TYPE)
                 .withIdentifier(Integer.toString(StartLevelService.STARTLEVEL_MODEL)));
     }
 
+    @Modified
+    protected void modified(Map<String, Object> configuration) {
+        writeBehind = parseConfigValue(configuration, CONFIG_WRITE_BEHIND, Boolean.class, false);
+        writeBehindBatchSize = parseConfigValue(configuration, CONFIG_WRITE_BEHIND_BATCH_SIZE, Integer.class, 100);
+        writeBehindFlushInterval = parseConfigValue(configuration, CONFIG_WRITE_BEHIND_FLUSH_INTERVAL, Long.class,
+                1000L);
+        writeBehindCapacity = parseConfigValue(configuration, CONFIG_WRITE_BEHIND_CAPACITY, Integer.class, 10000);
+        writeBehindOverflowPolicy = parseConfigValue(configuration, CONFIG_WRITE_BEHIND_OVERFLOW_POLICY,
+                OverflowPolicy.class, OverflowPolicy.DISCARD_OLDEST);
+
+        persistenceServiceContainers.values().forEach(PersistenceServiceContainer::configureWriteBehind);
+    }
+
+    private <T> T parseConfigValue(Map<String, Object> configuration, String key, Class<T> type, T defaultValue) {
+        Object value = configuration.get(key);
+        try {
+            return ConfigParser.valueAsOrElse(value, type, defaultValue);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid value '{}' for persistence configuration parameter '{}', using '{}' instead.", value,
+                    key, defaultValue);
+            return defaultValue;
+        }
+    }
+
     @Deactivate
     protected void deactivate() {
         itemRegistry.removeRegistryChangeListener(this);
@@ -135,6 +185,7 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
 
         persistenceServiceContainers.values().forEach(PersistenceServiceContainer::cancelPersistJobs);
         persistenceServiceContainers.values().forEach(PersistenceServiceContainer::cancelForecastJobs);
+        persistenceServiceContainers.values().forEach(PersistenceServiceContainer::stopWriteBehind);
 
         // remove item state change listeners
         itemRegistry.stream().filter(GenericItem.class::isInstance)
@@ -147,13 +198,16 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
         logger.debug("Initializing {} persistence service.", serviceId);
         PersistenceServiceContainer container = new PersistenceServiceContainer(persistenceService,
                 persistenceServiceConfigurationRegistry.get(serviceId));
+        container.configureWriteBehind();
 
         PersistenceServiceContainer oldContainer = persistenceServiceContainers.put(serviceId, container);
+        invalidatePersistenceTargets();
 
         if (oldContainer != null) { // cancel all jobs if the persistence service is set and an old configuration is
                                     // already present
             oldContainer.cancelPersistJobs();
             oldContainer.cancelForecastJobs();
+            oldContainer.stopWriteBehind();
         }
 
         if (started) {
@@ -163,9 +217,11 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
 
     protected void removePersistenceService(PersistenceService persistenceService) {
         PersistenceServiceContainer container = persistenceServiceContainers.remove(persistenceService.getId());
+        invalidatePersistenceTargets();
         if (container != null) {
             container.cancelPersistJobs();
             container.cancelForecastJobs();
+            container.stopWriteBehind();
         }
     }
 
@@ -179,14 +235,41 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
         PersistenceStrategy changeStrategy = changed ? PersistenceStrategy.Globals.CHANGE
                 : PersistenceStrategy.Globals.UPDATE;
 
-        persistenceServiceContainers.values()
-                .forEach(container -> container.getMatchingConfigurations(changeStrategy)
-                        .filter(itemConfig -> appliesToItem(itemConfig, item))
-                        .filter(itemConfig -> itemConfig.filters().stream().allMatch(filter -> filter.apply(item)))
-                        .forEach(itemConfig -> {
-                            itemConfig.filters().forEach(filter -> filter.persisted(item));
-                            container.getPersistenceService().store(item, itemConfig.alias());
-                        }));
+        for (PersistenceTarget target : getPersistenceTargets(item, changeStrategy)) {
+            List<PersistenceFilter> filters = target.itemConfig().filters();
+            if (filters.stream().allMatch(filter -> filter.apply(item))) {
+                filters.forEach(filter -> filter.persisted(item));
+                target.container().store(item, target.itemConfig().alias());
+            }
+        }
+    }
+
+    /**
+     * Get all persistence targets (service and item configuration) for an item and a strategy
+     *
+     * The result is computed on first access and cached until the items or the persistence configurations change, so
+     * that handling a state event does not need to evaluate group memberships again.
+     *
+     * @param item the item
+     * @param strategy the {@link PersistenceStrategy} to look for
+     * @return an unmodifiable list of all matching {@link PersistenceTarget}s
+     */
+    private List<PersistenceTarget> getPersistenceTargets(Item item, PersistenceStrategy strategy) {
+        Map<String, List<PersistenceTarget>> targetsForStrategy = persistenceTargets.computeIfAbsent(strategy,
+                s -> new ConcurrentHashMap<>());
+        return Objects.requireNonNull(targetsForStrategy.computeIfAbsent(item.getName(),
+                name -> persistenceServiceContainers.values().stream()
+                        .flatMap(container -> container.getMatchingConfigurations(strategy)
+                                .filter(itemConfig -> appliesToItem(itemConfig, item))
+                                .map(itemConfig -> new PersistenceTarget(container, itemConfig)))
+                        .toList()));
+    }
+
+    /**
+     * Discard all cached persistence targets, they are re-computed on next access
+     */
+    private void invalidatePersistenceTargets() {
+        persistenceTargets = new ConcurrentHashMap<>();
     }
 
     /**
@@ -265,11 +348,14 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
 
     @Override
     public void allItemsChanged(Collection<String> oldItemNames) {
+        invalidatePersistenceTargets();
         itemRegistry.getItems().forEach(this::added);
     }
 
     @Override
     public void added(Item item) {
+        // group memberships of other items might be affected, too
+        invalidatePersistenceTargets();
         persistenceServiceContainers.values().forEach(container -> container.addItem(item));
         if (item instanceof GenericItem genericItem) {
             genericItem.addStateChangeListener(this);
@@ -279,6 +365,7 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
 
     @Override
     public void removed(Item item) {
+        invalidatePersistenceTargets();
         persistenceServiceContainers.values().forEach(container -> container.removeItem(item.getName()));
         if (item instanceof GenericItem genericItem) {
             genericItem.removeStateChangeListener(this);
@@ -392,6 +479,9 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
         added(element);
     }
 
+    private record PersistenceTarget(PersistenceServiceContainer container, PersistenceItemConfiguration itemConfig) {
+    }
+
     private class PersistenceServiceContainer {
         private final PersistenceService persistenceService;
         private final Set<ScheduledCompletableFuture<?>> persistJobs = new HashSet<>();
@@ -399,6 +489,7 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
         private final Map<PersistenceStrategy, Collection<PersistenceItemConfiguration>> strategyCache = new ConcurrentHashMap<>();
 
         private PersistenceServiceConfiguration configuration;
+        private volatile @Nullable PersistenceWriteBehindQueue writeBehindQueue;
 
         public PersistenceServiceContainer(PersistenceService persistenceService,
                 @Nullable PersistenceServiceConfiguration configuration) {
@@ -410,6 +501,45 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
             return persistenceService;
         }
 
+        /**
+         * Store the current state of an item, either directly or via the write-behind queue (if enabled)
+         *
+         * @param item the item which state should be persisted
+         * @param alias the alias under which the item should be persisted
+         */
+        public void store(Item item, @Nullable String alias) {
+            PersistenceWriteBehindQueue queue = writeBehindQueue;
+            if (queue != null) {
+                queue.add(new PersistenceStoreEntry(item, item.getState(), ZonedDateTime.now(), alias));
+            } else {
+                persistenceService.store(item, alias);
+            }
+        }
+
+        /**
+         * (Re-)create the write-behind queue for this service from the current configuration of the manager
+         */
+        public void configureWriteBehind() {
+            stopWriteBehind();
+            if (writeBehind) {
+                writeBehindQueue = new PersistenceWriteBehindQueue(persistenceService,
+                        ThreadPoolManager.getScheduledPool(WRITE_BEHIND_THREAD_POOL_NAME), writeBehindBatchSize,
+                        writeBehindFlushInterval, writeBehindCapacity, writeBehindOverflowPolicy);
+                logger.debug("Enabled write-behind for persistence service '{}'", persistenceService.getId());
+            }
+        }
+
+        /**
+         * Stop the write-behind queue for this service (if enabled) and store all values that are still queued
+         */
+        public void stopWriteBehind() {
+            PersistenceWriteBehindQueue queue = writeBehindQueue;
+            writeBehindQueue = null;
+            if (queue != null) {
+                queue.shutdown();
+            }
+        }
+
         /**
          * Set a new configuration for this persistence service (also cancels all cron jobs)
          *
@@ -421,6 +551,7 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
             cancelForecastJobs();
             this.configuration = Objects.requireNonNullElseGet(configuration, this::getDefaultConfig);
             strategyCache.clear();
+            invalidatePersistenceTargets();
         }
 
         /**
@@ -591,7 +722,7 @@ public class PersistenceManager implements ItemRegistryChangeListener, StateChan
                     if (itemConfig.filters().stream().allMatch(filter -> filter.apply(item))) {
                         long startTime = System.nanoTime();
                         itemConfig.filters().forEach(filter -> filter.persisted(item));
-                        persistenceService.store(item, itemConfig.alias());
+                        store(item, itemConfig.alias());
                         logger.trace("Storing item '{}' with persistence service '{}' took {}ms", item.getName(),
                                 configuration.getUID(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
                     }
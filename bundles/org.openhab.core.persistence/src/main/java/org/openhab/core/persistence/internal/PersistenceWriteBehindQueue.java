@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.PersistenceStoreEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PersistenceWriteBehindQueue} decouples storing values from the thread that reported the state change.
+ * Values are collected in a bounded queue and handed to the {@link PersistenceService} in batches, either when the
+ * configured batch size is reached or when the flush interval has passed.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+class PersistenceWriteBehindQueue {
+
+    /**
+     * The policy that is applied if a value is added to a full queue
+     */
+    enum OverflowPolicy {
+        /** remove the oldest queued value to make room for the new one */
+        DISCARD_OLDEST,
+        /** discard the new value */
+        DISCARD_NEWEST
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(PersistenceWriteBehindQueue.class);
+
+    private final PersistenceService persistenceService;
+    private final ScheduledExecutorService scheduler;
+    private final int batchSize;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Deque<PersistenceStoreEntry> queue = new ArrayDeque<>();
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledFuture<?> flushJob;
+
+    private boolean overflowReported = false;
+
+    /**
+     * Create a new write-behind queue
+     *
+     * @param persistenceService the {@link PersistenceService} that stores the values
+     * @param scheduler the scheduler used for flushing the queue
+     * @param batchSize the maximum number of values handed to the service in one call
+     * @param flushInterval the maximum time (in ms) a value is kept in the queue
+     * @param capacity the maximum number of values in the queue
+     * @param overflowPolicy the {@link OverflowPolicy} applied if the queue is full
+     */
+    public PersistenceWriteBehindQueue(PersistenceService persistenceService, ScheduledExecutorService scheduler,
+            int batchSize, long flushInterval, int capacity, OverflowPolicy overflowPolicy) {
+        this.persistenceService = persistenceService;
+        this.scheduler = scheduler;
+        this.batchSize = Math.max(1, batchSize);
+        this.capacity = Math.max(this.batchSize, capacity);
+        this.overflowPolicy = overflowPolicy;
+
+        long interval = Math.max(1, flushInterval);
+        flushJob = scheduler.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Add a value to the queue
+     *
+     * @param entry the {@link PersistenceStoreEntry} that shall be stored
+     */
+    public void add(PersistenceStoreEntry entry) {
+        boolean batchComplete;
+        synchronized (queue) {
+            if (queue.size() >= capacity) {
+                if (!overflowReported) {
+                    logger.warn("Write-behind queue for persistence service '{}' is full, applying policy {}.",
+                            persistenceService.getId(), overflowPolicy);
+                    overflowReported = true;
+                }
+                switch (overflowPolicy) {
+                    case DISCARD_OLDEST -> {
+                        PersistenceStoreEntry discarded = queue.removeFirst();
+                        logger.debug("Discarded value {} of item '{}' for persistence service '{}'.",
+                                discarded.state(), discarded.item().getName(), persistenceService.getId());
+                        queue.addLast(entry);
+                    }
+                    case DISCARD_NEWEST -> logger.debug("Discarded value {} of item '{}' for persistence service '{}'.",
+                            entry.state(), entry.item().getName(), persistenceService.getId());
+                }
+            } else {
+                queue.addLast(entry);
+            }
+            // a full queue is always a complete batch, so it is flushed without blocking the caller
+            batchComplete = queue.size() >= batchSize;
+        }
+
+        if (batchComplete && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+    }
+
+    /**
+     * Hand all queued values to the persistence service
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        synchronized (flushLock) {
+            while (true) {
+                List<PersistenceStoreEntry> batch;
+                synchronized (queue) {
+                    if (queue.isEmpty()) {
+                        overflowReported = false;
+                        return;
+                    }
+                    batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+                    while (batch.size() < batchSize && !queue.isEmpty()) {
+                        batch.add(queue.removeFirst());
+                    }
+                }
+                store(batch);
+            }
+        }
+    }
+
+    /**
+     * Stop the periodic flush and store all values that are still queued
+     */
+    public void shutdown() {
+        flushJob.cancel(false);
+        flush();
+    }
+
+    private void store(List<PersistenceStoreEntry> batch) {
+        long startTime = System.nanoTime();
+        try {
+            persistenceService.store(batch);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to store {} values with persistence service '{}': {}", batch.size(),
+                    persistenceService.getId(), e.getMessage(), e);
+        }
+        logger.trace("Storing {} values with persistence service '{}' took {}ms", batch.size(),
+                persistenceService.getId(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+}
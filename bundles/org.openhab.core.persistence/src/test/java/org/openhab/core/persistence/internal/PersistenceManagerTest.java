@@ -155,7 +155,7 @@ public class PersistenceManagerTest {
         when(queryablePersistenceServiceMock.query(any())).thenReturn(List.of(TEST_HISTORIC_ITEM));
         when(modifiablePersistenceServiceMock.getId()).thenReturn(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID);
 
-        manager = new PersistenceManager(cronSchedulerMock, schedulerMock, itemRegistryMock, safeCallerMock,
+        manager = new PersistenceManager(Map.of(), cronSchedulerMock, schedulerMock, itemRegistryMock, safeCallerMock,
                 readyServiceMock, persistenceServiceConfigurationRegistryMock);
         manager.addPersistenceService(persistenceServiceMock);
         manager.addPersistenceService(queryablePersistenceServiceMock);
@@ -218,6 +218,24 @@ public class PersistenceManagerTest {
         verifyNoMoreInteractions(persistenceServiceMock);
     }
 
+    @Test
+    public void appliesToItemWithGroupConfigAfterMembershipChange() throws ItemNotFoundException {
+        GroupItem newGroupItem = new GroupItem("newGroupItem");
+        when(itemRegistryMock.getItem(newGroupItem.getName())).thenReturn(newGroupItem);
+        addConfiguration(TEST_PERSISTENCE_SERVICE_ID, new PersistenceGroupConfig(newGroupItem.getName()),
+                PersistenceStrategy.Globals.UPDATE, null);
+
+        manager.stateUpdated(TEST_ITEM2, TEST_STATE);
+        verifyNoMoreInteractions(persistenceServiceMock);
+
+        newGroupItem.addMember(TEST_ITEM2);
+        manager.updated(TEST_ITEM2, TEST_ITEM2);
+        manager.stateUpdated(TEST_ITEM2, TEST_STATE);
+
+        verify(persistenceServiceMock).store(TEST_ITEM2, null);
+        verifyNoMoreInteractions(persistenceServiceMock);
+    }
+
     @Test
     public void appliesToItemWithAllConfig() {
         addConfiguration(TEST_PERSISTENCE_SERVICE_ID, new PersistenceAllConfig(), PersistenceStrategy.Globals.UPDATE,
@@ -454,6 +472,76 @@ public class PersistenceManagerTest {
         verifyNoMoreInteractions(persistenceServiceMock);
     }
 
+    @Test
+    public void writeBehindStoresQueuedStatesWithTimestamps() {
+        TestModifiablePersistenceService service = spy(new TestModifiablePersistenceService());
+        manager = new PersistenceManager(Map.of("writeBehind", true, "writeBehindFlushInterval", 60000L),
+                cronSchedulerMock, schedulerMock, itemRegistryMock, safeCallerMock, readyServiceMock,
+                persistenceServiceConfigurationRegistryMock);
+        manager.addPersistenceService(service);
+        addConfiguration(TestModifiablePersistenceService.ID, new PersistenceItemConfig(TEST_ITEM_NAME),
+                PersistenceStrategy.Globals.UPDATE, null);
+
+        State firstState = new StringType("first");
+        State secondState = new StringType("second");
+        ZonedDateTime start = ZonedDateTime.now();
+        TEST_ITEM.setState(firstState);
+        manager.stateUpdated(TEST_ITEM, firstState);
+        ZonedDateTime between = ZonedDateTime.now();
+        TEST_ITEM.setState(secondState);
+        manager.stateUpdated(TEST_ITEM, secondState);
+        ZonedDateTime end = ZonedDateTime.now();
+
+        // values are only queued until the queue is flushed
+        verify(service, never()).store(any(Item.class), any(ZonedDateTime.class), any(State.class), any());
+
+        manager.deactivate();
+
+        ArgumentCaptor<ZonedDateTime> dateCaptor = ArgumentCaptor.forClass(ZonedDateTime.class);
+        ArgumentCaptor<State> stateCaptor = ArgumentCaptor.forClass(State.class);
+        verify(service, times(2)).store(eq(TEST_ITEM), dateCaptor.capture(), stateCaptor.capture(), isNull());
+
+        assertThat(stateCaptor.getAllValues(), is(List.of(firstState, secondState)));
+        List<ZonedDateTime> dates = dateCaptor.getAllValues();
+        assertThat(!dates.get(0).isBefore(start) && !dates.get(0).isAfter(between), is(true));
+        assertThat(!dates.get(1).isBefore(between) && !dates.get(1).isAfter(end), is(true));
+    }
+
+    @Test
+    public void writeBehindStoresLatestValueOfServicesWithoutBatchStore() {
+        TestPersistenceService service = new TestPersistenceService();
+        manager = new PersistenceManager(Map.of("writeBehind", true, "writeBehindFlushInterval", 60000L),
+                cronSchedulerMock, schedulerMock, itemRegistryMock, safeCallerMock, readyServiceMock,
+                persistenceServiceConfigurationRegistryMock);
+        manager.addPersistenceService(service);
+        addConfiguration(TestPersistenceService.ID, new PersistenceItemConfig(TEST_ITEM_NAME),
+                PersistenceStrategy.Globals.UPDATE, null);
+
+        manager.stateUpdated(TEST_ITEM, TEST_STATE);
+        manager.stateUpdated(TEST_ITEM, TEST_STATE);
+
+        // values are only queued until the queue is flushed
+        assertThat(service.storedItems, is(List.of()));
+
+        manager.deactivate();
+
+        // the queued values of the item are coalesced into one store of its current state
+        assertThat(service.storedItems, is(List.of(TEST_ITEM)));
+    }
+
+    @Test
+    public void invalidWriteBehindConfigurationUsesDefault() {
+        manager.modified(Map.of("writeBehind", true, "writeBehindOverflowPolicy", "INVALID",
+                "writeBehindBatchSize", "invalid"));
+
+        addConfiguration(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID, new PersistenceItemConfig(TEST_ITEM_NAME),
+                PersistenceStrategy.Globals.UPDATE, null);
+        manager.stateUpdated(TEST_ITEM, TEST_STATE);
+        manager.deactivate();
+
+        verify(modifiablePersistenceServiceMock).store(anyCollection());
+    }
+
     /**
      * Add a configuration for restoring TEST_ITEM and mock the SafeCaller
      */
@@ -495,6 +583,36 @@ public class PersistenceManagerTest {
         return serviceConfiguration;
     }
 
+    private static class TestPersistenceService implements PersistenceService {
+        public static final String ID = "TPS";
+        private final List<Item> storedItems = new ArrayList<>();
+
+        @Override
+        public String getId() {
+            return ID;
+        }
+
+        @Override
+        public String getLabel(@Nullable Locale locale) {
+            return ID;
+        }
+
+        @Override
+        public void store(Item item) {
+            storedItems.add(item);
+        }
+
+        @Override
+        public void store(Item item, @Nullable String alias) {
+            storedItems.add(item);
+        }
+
+        @Override
+        public List<PersistenceStrategy> getDefaultStrategies() {
+            return List.of();
+        }
+    }
+
     private static class TestModifiablePersistenceService implements ModifiablePersistenceService {
         public static final String ID = "TMPS";
         private final Map<ZonedDateTime, State> states = new HashMap<>();
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.library.items.StringItem;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.PersistenceStoreEntry;
+import org.openhab.core.persistence.internal.PersistenceWriteBehindQueue.OverflowPolicy;
+
+/**
+ * The {@link PersistenceWriteBehindQueueTest} contains tests for the {@link PersistenceWriteBehindQueue}
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PersistenceWriteBehindQueueTest {
+    private static final StringItem TEST_ITEM = new StringItem("testItem");
+
+    private static final PersistenceStoreEntry ENTRY1 = createEntry("one");
+    private static final PersistenceStoreEntry ENTRY2 = createEntry("two");
+    private static final PersistenceStoreEntry ENTRY3 = createEntry("three");
+
+    private @NonNullByDefault({}) @Mock PersistenceService persistenceServiceMock;
+    private @NonNullByDefault({}) @Mock ScheduledExecutorService schedulerMock;
+    private @NonNullByDefault({}) @Mock ScheduledFuture<?> flushJobMock;
+
+    @BeforeEach
+    public void setUp() {
+        when(persistenceServiceMock.getId()).thenReturn("testPersistenceService");
+        doReturn(flushJobMock).when(schedulerMock).scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(),
+                any(TimeUnit.class));
+    }
+
+    @Test
+    public void valuesAreStoredInBatches() {
+        PersistenceWriteBehindQueue queue = new PersistenceWriteBehindQueue(persistenceServiceMock, schedulerMock, 2,
+                1000, 10, OverflowPolicy.DISCARD_OLDEST);
+
+        queue.add(ENTRY1);
+        verify(schedulerMock, never()).execute(any());
+        queue.add(ENTRY2);
+        verify(schedulerMock).execute(any());
+        queue.add(ENTRY3);
+
+        queue.flush();
+
+        assertThat(capturedBatches(2), contains(List.of(ENTRY1, ENTRY2), List.of(ENTRY3)));
+    }
+
+    @Test
+    public void oldestValueIsDiscardedOnOverflow() {
+        PersistenceWriteBehindQueue queue = new PersistenceWriteBehindQueue(persistenceServiceMock, schedulerMock, 2,
+                1000, 2, OverflowPolicy.DISCARD_OLDEST);
+
+        queue.add(ENTRY1);
+        queue.add(ENTRY2);
+        queue.add(ENTRY3);
+        queue.flush();
+
+        assertThat(capturedBatches(1), contains(List.of(ENTRY2, ENTRY3)));
+    }
+
+    @Test
+    public void newestValueIsDiscardedOnOverflow() {
+        PersistenceWriteBehindQueue queue = new PersistenceWriteBehindQueue(persistenceServiceMock, schedulerMock, 2,
+                1000, 2, OverflowPolicy.DISCARD_NEWEST);
+
+        queue.add(ENTRY1);
+        queue.add(ENTRY2);
+        queue.add(ENTRY3);
+        queue.flush();
+
+        assertThat(capturedBatches(1), contains(List.of(ENTRY1, ENTRY2)));
+    }
+
+    @Test
+    public void overflowDoesNotStoreOnCallingThread() {
+        PersistenceWriteBehindQueue queue = new PersistenceWriteBehindQueue(persistenceServiceMock, schedulerMock, 2,
+                1000, 2, OverflowPolicy.DISCARD_OLDEST);
+
+        queue.add(ENTRY1);
+        queue.add(ENTRY2);
+        queue.add(ENTRY3);
+
+        verify(persistenceServiceMock, never()).store(anyCollection());
+        verify(schedulerMock).execute(any());
+    }
+
+    @Test
+    public void shutdownStoresQueuedValues() {
+        PersistenceWriteBehindQueue queue = new PersistenceWriteBehindQueue(persistenceServiceMock, schedulerMock, 10,
+                1000, 10, OverflowPolicy.DISCARD_OLDEST);
+
+        queue.add(ENTRY1);
+        queue.shutdown();
+
+        verify(flushJobMock).cancel(false);
+        assertThat(capturedBatches(1), contains(List.of(ENTRY1)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<PersistenceStoreEntry>> capturedBatches(int expectedCount) {
+        ArgumentCaptor<Collection<PersistenceStoreEntry>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(persistenceServiceMock, times(expectedCount)).store(captor.capture());
+        return captor.getAllValues().stream().map(List::copyOf).toList();
+    }
+
+    private static PersistenceStoreEntry createEntry(String value) {
+        return new PersistenceStoreEntry(TEST_ITEM, new StringType(value), ZonedDateTime.now(), null);
+    }
+}
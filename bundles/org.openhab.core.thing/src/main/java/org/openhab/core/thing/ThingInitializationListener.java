@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.thing;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link ThingInitializationListener} is notified whenever a {@link Thing} goes ONLINE after its handler has been
+ * initialized. It must be registered as an OSGi service.
+ * <p>
+ * Listeners are called on the thread that reported the status change, so they must return quickly.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public interface ThingInitializationListener {
+
+    /**
+     * A thing went ONLINE for the first time since the initialization of its handler started.
+     *
+     * @param thing the thing
+     * @param timeToOnline the time from the start of the initialization until the thing was ONLINE
+     */
+    void thingOnline(Thing thing, Duration timeToOnline);
+}
@@ -20,8 +20,10 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.EventPublisher;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.events.ChannelDescriptionChangedEvent;
 import org.openhab.core.thing.events.ThingEventFactory;
 import org.openhab.core.thing.i18n.ChannelTypeI18nLocalizationService;
 import org.openhab.core.thing.type.ChannelType;
@@ -39,6 +41,10 @@ import org.osgi.service.component.annotations.Deactivate;
  * It provides localized patterns and dynamic {@link StateOption}s while leaving other {@link StateDescription} fields
  * as original. Therefore the inheriting class has to request a reference for the
  * {@link ChannelTypeI18nLocalizationService} on its own.
+ * <p>
+ * A {@link ChannelDescriptionChangedEvent} is posted for every changed pattern or list of {@link StateOption}s, so
+ * the provider notifies about its changes as long as it has an {@link EventPublisher}. Subclasses that provide
+ * {@link StateDescription}s from other sources have to override {@link #isNotifyingChanges()}.
  *
  * @author Christoph Weitkamp - Initial contribution
  * @author Christoph Weitkamp - Added ChannelStateDescriptionChangedEvent
@@ -84,6 +90,11 @@ public abstract class BaseDynamicStateDescriptionProvider extends AbstractDynami
         }
     }
 
+    @Override
+    public boolean isNotifyingChanges() {
+        return eventPublisher != null;
+    }
+
     @Override
     public @Nullable StateDescription getStateDescription(Channel channel, @Nullable StateDescription original,
             @Nullable Locale locale) {
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.thing.binding;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.types.Command;
+
+/**
+ * A {@link ThingHandlerCommandListener} is notified whenever a {@link ThingHandler} has handled a {@link Command}
+ * which has been delegated to it by the framework. It must be registered as an OSGi service.
+ * <p>
+ * Listeners are called on the thread that delegated the command, so they must return quickly.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public interface ThingHandlerCommandListener {
+
+    /**
+     * A command has been handled.
+     *
+     * @param handler the handler which handled the command
+     * @param channelUID the channel the command was sent to
+     * @param durationNanos the time {@link ThingHandler#handleCommand(ChannelUID, Command)} took, in nanoseconds,
+     *            which is limited by the timeout for thing handler calls
+     */
+    void commandHandled(ThingHandler handler, ChannelUID channelUID, long durationNanos);
+}
@@ -36,6 +36,20 @@ public interface ThingTypeProvider {
      */
     Collection<ThingType> getThingTypes(@Nullable Locale locale);
 
+    /**
+     * Provides a collection of thing types for the given binding id.
+     *
+     * Implementations which localize their thing types should override this method to avoid localizing the thing types
+     * of other bindings.
+     *
+     * @param bindingId binding id
+     * @param locale locale (can be null)
+     * @return the thing types of the given binding provided by the {@link ThingTypeProvider}
+     */
+    default Collection<ThingType> getThingTypes(String bindingId, @Nullable Locale locale) {
+        return getThingTypes(locale).stream().filter(thingType -> bindingId.equals(thingType.getBindingId())).toList();
+    }
+
     /**
      * Provides a thing type for the given UID or null if no type for the
      * given UID exists.
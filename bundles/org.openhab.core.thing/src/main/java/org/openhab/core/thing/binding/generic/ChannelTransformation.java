@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.CompiledTransformation;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationHelper;
 import org.openhab.core.transform.TransformationService;
@@ -76,15 +77,15 @@ public class ChannelTransformation {
         }
 
         public Optional<String> apply(String value) {
-            TransformationService service = TransformationHelper.getTransformationService(serviceName);
-            if (service != null) {
-                try {
-                    return Optional.ofNullable(service.transform(function, value));
-                } catch (TransformationException e) {
-                    logger.debug("Applying {} failed: {}", this, e.getMessage());
+            try {
+                CompiledTransformation transformation = TransformationHelper.getCompiledTransformation(serviceName,
+                        function);
+                if (transformation != null) {
+                    return Optional.ofNullable(transformation.transform(value));
                 }
-            } else {
                 logger.warn("Failed to use {}, service not found", this);
+            } catch (TransformationException e) {
+                logger.debug("Applying {} failed: {}", this, e.getMessage());
             }
             return Optional.empty();
         }
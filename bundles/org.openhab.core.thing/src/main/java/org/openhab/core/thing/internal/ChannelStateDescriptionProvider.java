@@ -17,25 +17,40 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.CoreItemFactory;
+import org.openhab.core.service.ReadyMarker;
+import org.openhab.core.service.ReadyMarkerFilter;
+import org.openhab.core.service.ReadyService;
+import org.openhab.core.service.ReadyService.ReadyTracker;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingRegistry;
+import org.openhab.core.thing.events.ChannelDescriptionChangedEvent;
+import org.openhab.core.thing.link.ItemChannelLink;
 import org.openhab.core.thing.link.ItemChannelLinkRegistry;
 import org.openhab.core.thing.type.ChannelType;
+import org.openhab.core.thing.type.ChannelTypeProvider;
 import org.openhab.core.thing.type.DynamicStateDescriptionProvider;
 import org.openhab.core.thing.type.ThingTypeRegistry;
+import org.openhab.core.thing.xml.internal.XmlThingTypeProvider;
 import org.openhab.core.types.StateDescription;
 import org.openhab.core.types.StateDescriptionFragment;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
+import org.openhab.core.types.StateDescriptionFragmentChangeListener;
 import org.openhab.core.types.StateDescriptionFragmentProvider;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -46,11 +61,20 @@ import org.slf4j.LoggerFactory;
  * A {@link ChannelStateDescriptionProvider} provides localized {@link StateDescription}s from the type of a
  * {@link Channel} bounded to an {@link Item}.
  *
+ * Listeners are notified about changed links, things, channel types and dynamic state descriptions. Changes of
+ * dynamic state descriptions are only tracked as long as all {@link DynamicStateDescriptionProvider}s opt in through
+ * {@link DynamicStateDescriptionProvider#isNotifyingChanges()}. Those changes are received as
+ * {@link ChannelDescriptionChangedEvent}s, so listeners are notified asynchronously after the provider changed.
+ *
  * @author Dennis Nobel - Initial contribution
  */
-@Component(immediate = true, property = { "service.ranking:Integer=-1" })
+@Component(immediate = true, service = { StateDescriptionFragmentProvider.class,
+        EventSubscriber.class }, property = { "service.ranking:Integer=-1" })
 @NonNullByDefault
-public class ChannelStateDescriptionProvider implements StateDescriptionFragmentProvider {
+public class ChannelStateDescriptionProvider
+        implements StateDescriptionFragmentProvider, EventSubscriber, ReadyTracker {
+
+    private static final Set<String> SUBSCRIBED_EVENT_TYPES = Set.of(ChannelDescriptionChangedEvent.TYPE);
 
     private final Logger logger = LoggerFactory.getLogger(ChannelStateDescriptionProvider.class);
 
@@ -58,14 +82,53 @@ public class ChannelStateDescriptionProvider implements StateDescriptionFragment
     private final ItemChannelLinkRegistry itemChannelLinkRegistry;
     private final ThingTypeRegistry thingTypeRegistry;
     private final ThingRegistry thingRegistry;
+    private final ReadyService readyService;
+    private final Set<StateDescriptionFragmentChangeListener> listeners = new CopyOnWriteArraySet<>();
     private Integer rank = 0;
 
+    private final RegistryChangeListener<ItemChannelLink> linkChangeListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(ItemChannelLink element) {
+            notifyListeners(element.getItemName());
+        }
+
+        @Override
+        public void removed(ItemChannelLink element) {
+            notifyListeners(element.getItemName());
+        }
+
+        @Override
+        public void updated(ItemChannelLink oldElement, ItemChannelLink element) {
+            notifyListeners(oldElement.getItemName());
+            notifyListeners(element.getItemName());
+        }
+    };
+
+    private final RegistryChangeListener<Thing> thingChangeListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Thing element) {
+            notifyListenersAboutAll();
+        }
+
+        @Override
+        public void removed(Thing element) {
+            notifyListenersAboutAll();
+        }
+
+        @Override
+        public void updated(Thing oldElement, Thing element) {
+            notifyListenersAboutAll();
+        }
+    };
+
     @Activate
     public ChannelStateDescriptionProvider(final @Reference ItemChannelLinkRegistry itemChannelLinkRegistry,
-            final @Reference ThingTypeRegistry thingTypeRegistry, final @Reference ThingRegistry thingRegistry) {
+            final @Reference ThingTypeRegistry thingTypeRegistry, final @Reference ThingRegistry thingRegistry,
+            final @Reference ReadyService readyService) {
         this.itemChannelLinkRegistry = itemChannelLinkRegistry;
         this.thingTypeRegistry = thingTypeRegistry;
         this.thingRegistry = thingRegistry;
+        this.readyService = readyService;
     }
 
     @Activate
@@ -74,6 +137,18 @@ public class ChannelStateDescriptionProvider implements StateDescriptionFragment
         if (serviceRanking instanceof Integer) {
             rank = (Integer) serviceRanking;
         }
+
+        itemChannelLinkRegistry.addRegistryChangeListener(linkChangeListener);
+        thingRegistry.addRegistryChangeListener(thingChangeListener);
+        // channel types of bindings are available once their XML thing types have been processed
+        readyService.registerTracker(this, new ReadyMarkerFilter().withType(XmlThingTypeProvider.READY_MARKER));
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        readyService.unregisterTracker(this);
+        thingRegistry.removeRegistryChangeListener(thingChangeListener);
+        itemChannelLinkRegistry.removeRegistryChangeListener(linkChangeListener);
     }
 
     @Override
@@ -81,6 +156,62 @@ public class ChannelStateDescriptionProvider implements StateDescriptionFragment
         return rank;
     }
 
+    /**
+     * Changes of dynamic state descriptions are delivered through the event bus, so a cached description may still be
+     * returned for a short time after a {@link DynamicStateDescriptionProvider} changed.
+     *
+     * @return <code>true</code> if all registered {@link DynamicStateDescriptionProvider}s notify about changes
+     */
+    @Override
+    public boolean isNotifyingChanges() {
+        for (DynamicStateDescriptionProvider provider : dynamicStateDescriptionProviders) {
+            if (!provider.isNotifyingChanges()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void addStateDescriptionFragmentChangeListener(StateDescriptionFragmentChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeStateDescriptionFragmentChangeListener(StateDescriptionFragmentChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return SUBSCRIBED_EVENT_TYPES;
+    }
+
+    @Override
+    public void receive(Event event) {
+        if (event instanceof ChannelDescriptionChangedEvent channelDescriptionChangedEvent) {
+            channelDescriptionChangedEvent.getLinkedItemNames().forEach(this::notifyListeners);
+        }
+    }
+
+    @Override
+    public void onReadyMarkerAdded(ReadyMarker readyMarker) {
+        notifyListenersAboutAll();
+    }
+
+    @Override
+    public void onReadyMarkerRemoved(ReadyMarker readyMarker) {
+        notifyListenersAboutAll();
+    }
+
+    private void notifyListeners(String itemName) {
+        listeners.forEach(listener -> listener.stateDescriptionFragmentChanged(itemName));
+    }
+
+    private void notifyListenersAboutAll() {
+        listeners.forEach(StateDescriptionFragmentChangeListener::allStateDescriptionFragmentsChanged);
+    }
+
     @Override
     public @Nullable StateDescriptionFragment getStateDescriptionFragment(String itemName, @Nullable Locale locale) {
         StateDescription stateDescription = getStateDescription(itemName, locale);
@@ -151,10 +282,21 @@ public class ChannelStateDescriptionProvider implements StateDescriptionFragment
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     protected void addDynamicStateDescriptionProvider(DynamicStateDescriptionProvider dynamicStateDescriptionProvider) {
         this.dynamicStateDescriptionProviders.add(dynamicStateDescriptionProvider);
+        notifyListenersAboutAll();
     }
 
     protected void removeDynamicStateDescriptionProvider(
             DynamicStateDescriptionProvider dynamicStateDescriptionProvider) {
         this.dynamicStateDescriptionProviders.remove(dynamicStateDescriptionProvider);
+        notifyListenersAboutAll();
+    }
+
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addChannelTypeProvider(ChannelTypeProvider channelTypeProvider) {
+        notifyListenersAboutAll();
+    }
+
+    protected void removeChannelTypeProvider(ChannelTypeProvider channelTypeProvider) {
+        notifyListenersAboutAll();
     }
 }
@@ -56,6 +56,7 @@ import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingRegistry;
 import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandlerCommandListener;
 import org.openhab.core.thing.events.AbstractThingRegistryEvent;
 import org.openhab.core.thing.events.ChannelTriggeredEvent;
 import org.openhab.core.thing.events.ThingEventFactory;
@@ -170,6 +171,8 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
 
     private final Set<ProfileAdvisor> profileAdvisors = new CopyOnWriteArraySet<>();
 
+    private final Set<ThingHandlerCommandListener> commandListeners = new CopyOnWriteArraySet<>();
+
     private final Map<String, List<Class<? extends Command>>> acceptedCommandTypeMap = new ConcurrentHashMap<>();
     private final Map<String, List<Class<? extends State>>> acceptedStateTypeMap = new ConcurrentHashMap<>();
 
@@ -223,7 +226,7 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
 
     private ProfileCallback createCallback(ItemChannelLink link) {
         return new ProfileCallbackImpl(eventPublisher, safeCaller, itemStateConverter, link, thingRegistry::get,
-                this::getItem, this::toAcceptedCommand);
+                this::getItem, this::toAcceptedCommand, commandListeners);
     }
 
     private @Nullable ProfileTypeUID determineProfileTypeUID(ItemChannelLink link, Item item, @Nullable Thing thing) {
@@ -595,6 +598,15 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
         profileAdvisors.remove(profileAdvisor);
     }
 
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addThingHandlerCommandListener(ThingHandlerCommandListener commandListener) {
+        commandListeners.add(commandListener);
+    }
+
+    protected void removeThingHandlerCommandListener(ThingHandlerCommandListener commandListener) {
+        commandListeners.remove(commandListener);
+    }
+
     @Reference(cardinality = ReferenceCardinality.AT_LEAST_ONE, policy = ReferencePolicy.DYNAMIC)
     protected void addItemFactory(ItemFactory itemFactory) {
         itemFactories.add(itemFactory);
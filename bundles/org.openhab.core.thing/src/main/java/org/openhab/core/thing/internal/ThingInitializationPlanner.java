@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.thing.internal;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ThingInitializationPlanner} schedules the initialization of thing handlers.
+ * <p>
+ * Things are grouped by their bridge hierarchy: independent bridges and things without a bridge are initialized in
+ * parallel. {@code initialize()} of a bridge is called before the ones of its children, but the children do not wait
+ * for the bridge to go ONLINE. The children of a bridge are then initialized in parallel, but the number of children
+ * of a single bridge that are initialized at the same time is limited, so that bindings do not flood a gateway with
+ * requests. The planner also measures the time from the start of the initialization until a thing is ONLINE and logs
+ * the slowest things once all planned initializations are done.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+class ThingInitializationPlanner {
+    // number of things with the longest time to ONLINE that are logged when all planned initializations are done
+    private static final int SLOWEST_THINGS_LOG_COUNT = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(ThingInitializationPlanner.class);
+
+    private final Executor executor;
+    private volatile int maxConcurrentChildInitializations;
+
+    private final Map<ThingUID, BridgeQueue> bridgeQueues = new HashMap<>();
+    private final Map<ThingUID, Long> initializationStartTimes = new ConcurrentHashMap<>();
+    private final Map<ThingUID, Duration> timeToOnline = new ConcurrentHashMap<>();
+    private final AtomicInteger plannedInitializations = new AtomicInteger();
+
+    /**
+     * Create a new planner
+     *
+     * @param executor the executor used for initializing things
+     * @param maxConcurrentChildInitializations the maximum number of children of one bridge that are initialized at the
+     *            same time
+     */
+    public ThingInitializationPlanner(Executor executor, int maxConcurrentChildInitializations) {
+        this.executor = executor;
+        setMaxConcurrentChildInitializations(maxConcurrentChildInitializations);
+    }
+
+    /**
+     * Set the maximum number of children of one bridge that are initialized at the same time. Initializations that are
+     * already running are not affected.
+     *
+     * @param maxConcurrentChildInitializations the maximum number of concurrent child initializations per bridge
+     */
+    public void setMaxConcurrentChildInitializations(int maxConcurrentChildInitializations) {
+        this.maxConcurrentChildInitializations = Math.max(1, maxConcurrentChildInitializations);
+    }
+
+    /**
+     * Initialize a set of things.
+     * <p>
+     * Things that do not have a bridge among the given things are initialized in parallel. Once the initializer of a
+     * bridge has returned, its children among the given things are initialized, respecting the limit of concurrent
+     * initializations for that bridge.
+     *
+     * @param things the things to initialize
+     * @param initializer the action that registers and initializes the handler of a thing
+     */
+    public void initialize(Collection<Thing> things, ThingInitializer initializer) {
+        Map<ThingUID, Thing> thingsByUID = new LinkedHashMap<>();
+        things.forEach(thing -> thingsByUID.put(thing.getUID(), thing));
+
+        Map<ThingUID, List<Thing>> children = new HashMap<>();
+        List<Thing> roots = new ArrayList<>();
+        for (Thing thing : thingsByUID.values()) {
+            ThingUID bridgeUID = thing.getBridgeUID();
+            if (bridgeUID != null && thingsByUID.containsKey(bridgeUID) && !bridgeUID.equals(thing.getUID())) {
+                children.computeIfAbsent(bridgeUID, uid -> new ArrayList<>()).add(thing);
+            } else {
+                roots.add(thing);
+            }
+        }
+        // things in a cycle of bridges cannot be reached from a root, they start on their own
+        Set<ThingUID> reachable = new HashSet<>();
+        Deque<Thing> toVisit = new ArrayDeque<>(roots);
+        while (!toVisit.isEmpty()) {
+            Thing thing = toVisit.removeFirst();
+            if (reachable.add(thing.getUID())) {
+                toVisit.addAll(children.getOrDefault(thing.getUID(), List.of()));
+            }
+        }
+        thingsByUID.values().stream().filter(thing -> !reachable.contains(thing.getUID())).forEach(roots::add);
+
+        Set<ThingUID> started = ConcurrentHashMap.newKeySet();
+        plannedInitializations.addAndGet(thingsByUID.size());
+        for (Thing root : roots) {
+            executor.execute(() -> initializeWithChildren(root, children, started, initializer));
+        }
+    }
+
+    /**
+     * Initialize a child of a bridge, respecting the limit of concurrent initializations for that bridge
+     *
+     * @param bridgeUID the UID of the bridge
+     * @param child the child thing
+     * @param initializer the action that registers and initializes the handler of a thing
+     */
+    public void initializeChild(ThingUID bridgeUID, Thing child, ThingInitializer initializer) {
+        plannedInitializations.incrementAndGet();
+        submitChild(bridgeUID, () -> initializeSafely(child, initializer));
+    }
+
+    /**
+     * Track status changes for measuring the time until a thing is ONLINE
+     *
+     * @param thingUID the UID of the thing
+     * @param status the new status
+     * @return the time from the start of the initialization, if the thing just went ONLINE after it has been
+     *         initialized, {@code null} otherwise
+     */
+    public @Nullable Duration statusChanged(ThingUID thingUID, ThingStatus status) {
+        switch (status) {
+            case INITIALIZING -> initializationStartTimes.put(thingUID, System.nanoTime());
+            case ONLINE -> {
+                Long startTime = initializationStartTimes.remove(thingUID);
+                if (startTime != null) {
+                    Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+                    timeToOnline.put(thingUID, duration);
+                    logger.debug("Thing '{}' is ONLINE {}ms after its initialization started.", thingUID,
+                            duration.toMillis());
+                    return duration;
+                }
+            }
+            case UNINITIALIZED, REMOVING, REMOVED -> initializationStartTimes.remove(thingUID);
+            default -> {
+                // keep waiting for ONLINE
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the time it took from the start of the last initialization until the thing was ONLINE
+     *
+     * @param thingUID the UID of the thing
+     * @return the duration or {@code null} if the thing did not go ONLINE since it was initialized
+     */
+    public @Nullable Duration getTimeToOnline(ThingUID thingUID) {
+        return timeToOnline.get(thingUID);
+    }
+
+    /**
+     * Forget all data of a removed thing
+     *
+     * @param thingUID the UID of the thing
+     */
+    public void thingRemoved(ThingUID thingUID) {
+        initializationStartTimes.remove(thingUID);
+        timeToOnline.remove(thingUID);
+    }
+
+    private void initializeWithChildren(Thing thing, Map<ThingUID, List<Thing>> children, Set<ThingUID> started,
+            ThingInitializer initializer) {
+        if (!started.add(thing.getUID())) {
+            return;
+        }
+        initializeSafely(thing, initializer);
+        for (Thing child : children.getOrDefault(thing.getUID(), List.of())) {
+            submitChild(thing.getUID(), () -> initializeWithChildren(child, children, started, initializer));
+        }
+    }
+
+    private void submitChild(ThingUID bridgeUID, Runnable task) {
+        synchronized (bridgeQueues) {
+            BridgeQueue queue = bridgeQueues.computeIfAbsent(bridgeUID, uid -> new BridgeQueue());
+            if (queue.running >= maxConcurrentChildInitializations) {
+                queue.pending.add(task);
+                return;
+            }
+            queue.running++;
+        }
+        executor.execute(() -> runAndContinue(bridgeUID, task));
+    }
+
+    private void runAndContinue(ThingUID bridgeUID, Runnable task) {
+        @Nullable
+        Runnable next = task;
+        while (next != null) {
+            next.run();
+            synchronized (bridgeQueues) {
+                BridgeQueue queue = bridgeQueues.get(bridgeUID);
+                if (queue == null) {
+                    return;
+                }
+                if (queue.pending.isEmpty()) {
+                    next = null;
+                    if (--queue.running == 0) {
+                        bridgeQueues.remove(bridgeUID);
+                    }
+                } else {
+                    next = queue.pending.removeFirst();
+                }
+            }
+        }
+    }
+
+    private void initializeSafely(Thing thing, ThingInitializer initializer) {
+        try {
+            initializer.initialize(thing);
+        } catch (RuntimeException e) {
+            logger.error("Registration resp. initialization of thing '{}' has failed: {}", thing.getUID(),
+                    e.getMessage(), e);
+        } finally {
+            if (plannedInitializations.decrementAndGet() == 0) {
+                logSlowestThings();
+            }
+        }
+    }
+
+    private void logSlowestThings() {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        logger.debug("All planned thing initializations are done, {} things have not been ONLINE since.",
+                initializationStartTimes.size());
+        timeToOnline.entrySet().stream().sorted(Map.Entry.<ThingUID, Duration> comparingByValue().reversed())
+                .limit(SLOWEST_THINGS_LOG_COUNT).forEach(entry -> logger.debug("Thing '{}' took {}ms to go ONLINE.",
+                        entry.getKey(), entry.getValue().toMillis()));
+    }
+
+    /**
+     * The action that registers and initializes the handler of a thing
+     */
+    @FunctionalInterface
+    interface ThingInitializer {
+        void initialize(Thing thing);
+    }
+
+    private static class BridgeQueue {
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+        private int running = 0;
+    }
+}
@@ -14,6 +14,8 @@ package org.openhab.core.thing.internal;
 
 import java.net.URI;
 import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -23,6 +25,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -37,7 +40,9 @@ import org.openhab.core.common.registry.ManagedProvider;
 import org.openhab.core.common.registry.Provider;
 import org.openhab.core.config.core.ConfigDescription;
 import org.openhab.core.config.core.ConfigDescriptionRegistry;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.config.core.ConfigUtil;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.core.validation.ConfigDescriptionValidator;
 import org.openhab.core.config.core.validation.ConfigValidationException;
@@ -54,6 +59,7 @@ import org.openhab.core.storage.StorageService;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingInitializationListener;
 import org.openhab.core.thing.ThingManager;
 import org.openhab.core.thing.ThingRegistry;
 import org.openhab.core.thing.ThingStatus;
@@ -86,9 +92,11 @@ import org.openhab.core.thing.type.ThingTypeRegistry;
 import org.openhab.core.thing.util.ThingHandlerHelper;
 import org.openhab.core.util.BundleResolver;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -120,9 +128,15 @@ import org.slf4j.LoggerFactory;
  * @author Jan N. Klug - Add thing update mechanism
  */
 @NonNullByDefault
-@Component(immediate = true, service = { ThingTypeMigrationService.class, ThingManager.class })
+@Component(immediate = true, service = { ThingTypeMigrationService.class, ThingManager.class }, //
+        configurationPid = "org.openhab.thingmanager", property = Constants.SERVICE_PID + "=org.openhab.thingmanager")
+@ConfigurableService(category = "system", label = "Thing Manager", description_uri = ThingManagerImpl.CONFIG_URI)
 public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracker, ThingTypeMigrationService {
     public static final String PROPERTY_THING_TYPE_VERSION = "thingTypeVersion";
+    public static final String MAX_CONCURRENT_CHILD_INITIALIZATIONS_CONFIG_PROPERTY = //
+            "maxConcurrentChildInitializations";
+
+    protected static final String CONFIG_URI = "system:thingmanager";
 
     // interval to check if thing prerequisites are met (in s)
     private static final int CHECK_INTERVAL = 2;
@@ -133,6 +147,10 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
     private static final String THING_STATUS_STORAGE_NAME = "thing_status_storage";
     private static final String FORCE_REMOVE_THREAD_POOL_NAME = "forceRemove";
     private static final String THING_MANAGER_THREAD_POOL_NAME = "thingManager";
+    private static final String THING_INITIALIZATION_THREAD_POOL_NAME = "thingInit";
+
+    // default maximum number of children of a single bridge that are initialized at the same time
+    private static final int DEFAULT_MAX_CONCURRENT_CHILD_INITIALIZATIONS = 3;
 
     private final Logger logger = LoggerFactory.getLogger(ThingManagerImpl.class);
 
@@ -173,6 +191,11 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
 
     private final ThingHandlerCallback thingHandlerCallback = new ThingHandlerCallbackImpl(this);
 
+    private final ThingInitializationPlanner initializationPlanner = new ThingInitializationPlanner(
+            ThreadPoolManager.getPool(THING_INITIALIZATION_THREAD_POOL_NAME),
+            DEFAULT_MAX_CONCURRENT_CHILD_INITIALIZATIONS);
+    private final Set<ThingInitializationListener> initializationListeners = new CopyOnWriteArraySet<>();
+
     @Activate
     public ThingManagerImpl( //
             final @Reference ChannelGroupTypeRegistry channelGroupTypeRegistry,
@@ -213,6 +236,20 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
                 .withIdentifier(Integer.toString(StartLevelService.STARTLEVEL_MODEL)));
     }
 
+    @Activate
+    protected void activate(@Nullable Map<String, Object> properties) {
+        modified(properties);
+    }
+
+    @Modified
+    protected void modified(@Nullable Map<String, Object> properties) {
+        if (properties != null) {
+            initializationPlanner.setMaxConcurrentChildInitializations(
+                    ConfigParser.valueAsOrElse(properties.get(MAX_CONCURRENT_CHILD_INITIALIZATIONS_CONFIG_PROPERTY),
+                            Integer.class, DEFAULT_MAX_CONCURRENT_CHILD_INITIALIZATIONS));
+        }
+    }
+
     @Deactivate
     protected synchronized void deactivate() {
         thingRegistry.removeThingTracker(this);
@@ -371,6 +408,7 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
     @Override
     public void thingRemoved(final Thing thing, ThingTrackerEvent thingTrackerEvent) {
         logger.debug("Thing '{}' is no longer tracked by ThingManager.", thing.getUID());
+        initializationPlanner.thingRemoved(thing.getUID());
 
         ThingHandler thingHandler = thingHandlers.get(thing.getUID());
         if (thingHandler != null) {
@@ -546,14 +584,8 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
     protected void registerChildHandlers(final Bridge bridge) {
         for (final Thing child : bridge.getThings()) {
             logger.debug("Register and initialize child '{}' of bridge '{}'.", child.getUID(), bridge.getUID());
-            scheduler.execute(() -> {
-                try {
-                    registerAndInitializeHandler(child, getThingHandlerFactory(child));
-                } catch (Exception ex) {
-                    logger.error("Registration resp. initialization of child '{}' of bridge '{}' has been failed: {}",
-                            child.getUID(), bridge.getUID(), ex.getMessage(), ex);
-                }
-            });
+            initializationPlanner.initializeChild(bridge.getUID(), child,
+                    thing -> registerAndInitializeHandler(thing, getThingHandlerFactory(thing)));
         }
     }
 
@@ -907,6 +939,18 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
 
     private void registerAndInitializeHandler(final Thing thing,
             final @Nullable ThingHandlerFactory thingHandlerFactory) {
+        if (prepareAndRegisterHandler(thing, thingHandlerFactory)) {
+            initializeHandler(thing);
+        }
+    }
+
+    /**
+     * Registers the handler of a thing if the thing is enabled and its prerequisites are met.
+     *
+     * @return {@code true} if the handler has been registered and should be initialized
+     */
+    private boolean prepareAndRegisterHandler(final Thing thing,
+            final @Nullable ThingHandlerFactory thingHandlerFactory) {
         ThingUID thingUID = thing.getUID();
         if (disabledStorage.containsKey(thingUID.getAsString())) {
             logger.debug("Not registering a handler at this point. Thing is disabled.");
@@ -916,7 +960,7 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
                 if (!missingPrerequisites.containsKey(thing.getUID())) {
                     if (thingRegistry.getProvider(thing) instanceof ManagedProvider
                             && checkAndPerformUpdate(thing, thingHandlerFactory)) {
-                        return;
+                        return false;
                     }
                     try {
                         normalizeThingConfiguration(thing);
@@ -925,7 +969,7 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
                                 e.getValidationMessages(null));
                     }
                     registerHandler(thing, thingHandlerFactory);
-                    initializeHandler(thing);
+                    return true;
                 } else {
                     setThingStatus(thing, buildStatusInfo(ThingStatus.UNINITIALIZED, ThingStatusDetail.NOT_YET_READY));
                     logger.debug(
@@ -939,6 +983,7 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
                         thing.getUID());
             }
         }
+        return false;
     }
 
     private @Nullable ThingHandlerFactory getThingHandlerFactory(Thing thing) {
@@ -969,6 +1014,10 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
     protected void setThingStatus(Thing thing, ThingStatusInfo thingStatusInfo) {
         ThingStatusInfo oldStatusInfo = thingStatusInfoI18nLocalizationService.getLocalizedThingStatusInfo(thing, null);
         thing.setStatusInfo(thingStatusInfo);
+        Duration timeToOnline = initializationPlanner.statusChanged(thing.getUID(), thingStatusInfo.getStatus());
+        if (timeToOnline != null) {
+            initializationListeners.forEach(listener -> listener.thingOnline(thing, timeToOnline));
+        }
         ThingStatusInfo newStatusInfo = thingStatusInfoI18nLocalizationService.getLocalizedThingStatusInfo(thing, null);
         try {
             eventPublisher.post(ThingEventFactory.createStatusInfoEvent(thing.getUID(), newStatusInfo));
@@ -1138,11 +1187,21 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
         }
     }
 
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addThingInitializationListener(ThingInitializationListener initializationListener) {
+        initializationListeners.add(initializationListener);
+    }
+
+    protected void removeThingInitializationListener(ThingInitializationListener initializationListener) {
+        initializationListeners.remove(initializationListener);
+    }
+
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     protected synchronized void addThingHandlerFactory(ThingHandlerFactory thingHandlerFactory) {
         logger.debug("Thing handler factory '{}' added", thingHandlerFactory.getClass().getSimpleName());
         updateInstructions.putAll(thingUpdateInstructionReader.readForFactory(thingHandlerFactory));
         thingHandlerFactories.add(thingHandlerFactory);
+        List<Thing> thingsToInitialize = new ArrayList<>();
         things.values().stream().filter(thing -> thingHandlerFactory.supportsThingType(thing.getThingTypeUID()))
                 .forEach(thing -> {
                     if (!isHandlerRegistered(thing)) {
@@ -1150,11 +1209,26 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
                         if (!thingPrerequisites.isReady()) {
                             missingPrerequisites.put(thing.getUID(), thingPrerequisites);
                         }
-                        registerAndInitializeHandler(thing, thingHandlerFactory);
+                        thingsToInitialize.add(thing);
                     } else {
                         logger.debug("Thing handler for thing '{}' already registered", thing.getUID());
                     }
                 });
+        // initialize() of a bridge is called before the ones of its children, independent bridges in parallel
+        initializationPlanner.initialize(thingsToInitialize, thing -> {
+            // registering under the lock of the factories, as the factory may have been removed in the meantime
+            synchronized (this) {
+                if (!thingHandlerFactories.contains(thingHandlerFactory)) {
+                    logger.debug("Not registering a handler for thing '{}', its handler factory has been removed.",
+                            thing.getUID());
+                    return;
+                }
+                if (!prepareAndRegisterHandler(thing, thingHandlerFactory)) {
+                    return;
+                }
+            }
+            initializeHandler(thing);
+        });
     }
 
     protected synchronized void removeThingHandlerFactory(ThingHandlerFactory thingHandlerFactory) {
@@ -12,6 +12,7 @@
  */
 package org.openhab.core.thing.internal.profiles;
 
+import java.util.Collection;
 import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -27,6 +28,7 @@ import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.ThingHandler;
+import org.openhab.core.thing.binding.ThingHandlerCommandListener;
 import org.openhab.core.thing.internal.CommunicationManager;
 import org.openhab.core.thing.link.ItemChannelLink;
 import org.openhab.core.thing.profiles.ProfileCallback;
@@ -55,11 +57,12 @@ public class ProfileCallbackImpl implements ProfileCallback {
     private final SafeCaller safeCaller;
     private final ItemStateConverter itemStateConverter;
     private final AcceptedTypeConverter acceptedTypeConverter;
+    private final Collection<ThingHandlerCommandListener> commandListeners;
 
     public ProfileCallbackImpl(EventPublisher eventPublisher, SafeCaller safeCaller,
             ItemStateConverter itemStateConverter, ItemChannelLink link,
             Function<ThingUID, @Nullable Thing> thingProvider, Function<String, @Nullable Item> itemProvider,
-            AcceptedTypeConverter acceptedTypeConverter) {
+            AcceptedTypeConverter acceptedTypeConverter, Collection<ThingHandlerCommandListener> commandListeners) {
         this.eventPublisher = eventPublisher;
         this.safeCaller = safeCaller;
         this.itemStateConverter = itemStateConverter;
@@ -67,6 +70,7 @@ public class ProfileCallbackImpl implements ProfileCallback {
         this.thingProvider = thingProvider;
         this.itemProvider = itemProvider;
         this.acceptedTypeConverter = acceptedTypeConverter;
+        this.commandListeners = commandListeners;
     }
 
     @Override
@@ -87,12 +91,19 @@ public class ProfileCallbackImpl implements ProfileCallback {
                     Command convertedCommand = acceptedTypeConverter.toAcceptedCommand(command, channel,
                             itemProvider.apply(link.getItemName()));
                     if (convertedCommand != null) {
-                        safeCaller.create(handler, ThingHandler.class)
+                        ThingHandler safeHandler = safeCaller.create(handler, ThingHandler.class)
                                 .withTimeout(CommunicationManager.THINGHANDLER_EVENT_TIMEOUT).onTimeout(() -> {
                                     logger.warn("Handler for thing '{}' takes more than {}ms for handling a command",
                                             handler.getThing().getUID(),
                                             CommunicationManager.THINGHANDLER_EVENT_TIMEOUT);
-                                }).build().handleCommand(link.getLinkedUID(), command);
+                                }).build();
+                        if (commandListeners.isEmpty()) {
+                            safeHandler.handleCommand(link.getLinkedUID(), command);
+                        } else {
+                            long start = System.nanoTime();
+                            safeHandler.handleCommand(link.getLinkedUID(), command);
+                            notifyCommandListeners(handler, System.nanoTime() - start);
+                        }
                     } else {
                         logger.debug(
                                 "Not delegating command '{}' for item '{}' to handler for channel '{}', "
@@ -117,6 +128,17 @@ public class ProfileCallbackImpl implements ProfileCallback {
         }
     }
 
+    private void notifyCommandListeners(ThingHandler handler, long durationNanos) {
+        for (ThingHandlerCommandListener listener : commandListeners) {
+            try {
+                listener.commandHandled(handler, link.getLinkedUID(), durationNanos);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to notify listener '{}' about a handled command: {}", listener.getClass().getName(),
+                        e.getMessage(), e);
+            }
+        }
+    }
+
     @Override
     public void sendCommand(Command command) {
         eventPublisher
@@ -17,6 +17,7 @@ import java.util.Locale;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.events.ChannelDescriptionChangedEvent;
 import org.openhab.core.types.StateDescription;
 
 /**
@@ -47,4 +48,17 @@ public interface DynamicStateDescriptionProvider {
     @Nullable
     StateDescription getStateDescription(Channel channel, @Nullable StateDescription originalStateDescription,
             @Nullable Locale locale);
+
+    /**
+     * Returns whether this provider posts a {@link ChannelDescriptionChangedEvent} for every change of the
+     * {@link StateDescription}s it provides, e.g. by using
+     * {@link org.openhab.core.thing.binding.AbstractDynamicDescriptionProvider#postEvent}.
+     *
+     * State descriptions of items are only cached as long as all registered providers return <code>true</code> here.
+     *
+     * @return <code>true</code> if a change event is posted for every change, <code>false</code> by default
+     */
+    default boolean isNotifyingChanges() {
+        return false;
+    }
 }
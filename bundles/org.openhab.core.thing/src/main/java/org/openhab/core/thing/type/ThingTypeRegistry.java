@@ -80,10 +80,8 @@ public class ThingTypeRegistry {
      */
     public List<ThingType> getThingTypes(String bindingId, @Nullable Locale locale) {
         List<ThingType> thingTypesForBinding = new ArrayList<>();
-        for (ThingType thingType : getThingTypes()) {
-            if (thingType.getBindingId().equals(bindingId)) {
-                thingTypesForBinding.add(thingType);
-            }
+        for (ThingTypeProvider thingTypeProvider : thingTypeProviders) {
+            thingTypesForBinding.addAll(thingTypeProvider.getThingTypes(bindingId, locale));
         }
         return Collections.unmodifiableList(thingTypesForBinding);
     }
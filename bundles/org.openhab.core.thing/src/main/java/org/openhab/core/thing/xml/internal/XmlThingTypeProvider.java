@@ -121,6 +121,11 @@ public class XmlThingTypeProvider extends AbstractXmlBasedProvider<UID, ThingTyp
         return getAll(locale);
     }
 
+    @Override
+    public synchronized Collection<ThingType> getThingTypes(String bindingId, @Nullable Locale locale) {
+        return getAll(thingType -> bindingId.equals(thingType.getBindingId()), locale);
+    }
+
     @Override
     protected @Nullable ThingType localize(Bundle bundle, ThingType thingType, @Nullable Locale locale) {
         return thingTypeI18nLocalizationService.createLocalizedThingType(bundle, thingType, locale);
@@ -113,4 +113,12 @@ class BaseDynamicStateDescriptionProviderTest {
 
         verify(eventPublisherMock, times(1)).post(capture.capture());
     }
+
+    @Test
+    public void isNotifyingChangesWithEventPublisher() {
+        assertTrue(subject.isNotifyingChanges());
+
+        subject.eventPublisher = null;
+        assertFalse(subject.isNotifyingChanges());
+    }
 }
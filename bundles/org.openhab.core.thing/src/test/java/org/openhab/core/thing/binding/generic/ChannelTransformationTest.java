@@ -16,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.AfterEach;
@@ -70,6 +72,9 @@ public class ChannelTransformationTest {
         Mockito.when(transformationService2Mock.transform(eq(T2_PATTERN), eq(T2_INPUT)))
                 .thenAnswer(answer -> T2_RESULT);
 
+        Mockito.when(transformationService1Mock.compile(any())).thenCallRealMethod();
+        Mockito.when(transformationService2Mock.compile(any())).thenCallRealMethod();
+
         Mockito.when(serviceRef1Mock.getProperty(any())).thenReturn("TRANSFORM1");
         Mockito.when(serviceRef2Mock.getProperty(any())).thenReturn("TRANSFORM2");
 
@@ -145,4 +150,22 @@ public class ChannelTransformationTest {
 
         assertEquals(T2_RESULT, result);
     }
+
+    @Test
+    public void testTransformationIsCompiledOnce() throws TransformationException {
+        String pattern = T1_NAME + ":" + T1_PATTERN;
+
+        ChannelTransformation transformation = new ChannelTransformation(pattern);
+        transformation.apply(T1_INPUT);
+        transformation.apply(T1_INPUT);
+
+        verify(transformationService1Mock, times(1)).compile(T1_PATTERN);
+        verify(transformationService1Mock, times(2)).transform(T1_PATTERN, T1_INPUT);
+
+        // a changed set of services invalidates the compiled transformations
+        transformationHelper.setTransformationService(serviceRef2Mock);
+        transformation.apply(T1_INPUT);
+
+        verify(transformationService1Mock, times(2)).compile(T1_PATTERN);
+    }
 }
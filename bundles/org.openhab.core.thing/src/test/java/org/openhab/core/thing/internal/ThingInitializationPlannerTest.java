@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.thing.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.builder.BridgeBuilder;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+
+/**
+ * Tests for {@link ThingInitializationPlanner}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class ThingInitializationPlannerTest {
+    private static final ThingTypeUID BRIDGE_TYPE_UID = new ThingTypeUID("test", "bridge");
+    private static final ThingTypeUID THING_TYPE_UID = new ThingTypeUID("test", "thing");
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<ThingUID> initialized = new ArrayList<>();
+
+    @Test
+    public void bridgesAreInitializedBeforeTheirChildrenAndTreesInParallel() {
+        Bridge bridge1 = BridgeBuilder.create(BRIDGE_TYPE_UID, "bridge1").build();
+        Bridge bridge2 = BridgeBuilder.create(BRIDGE_TYPE_UID, "bridge2").build();
+        Thing child1 = ThingBuilder.create(THING_TYPE_UID, "child1").withBridge(bridge1.getUID()).build();
+        Thing child2 = ThingBuilder.create(THING_TYPE_UID, "child2").withBridge(bridge2.getUID()).build();
+        Thing standalone = ThingBuilder.create(THING_TYPE_UID, "standalone").build();
+
+        ThingInitializationPlanner planner = new ThingInitializationPlanner(tasks::add, 1);
+        planner.initialize(List.of(child1, child2, bridge2, standalone, bridge1),
+                thing -> initialized.add(thing.getUID()));
+
+        // one task per thing without a bridge
+        assertThat(tasks, hasSize(3));
+        runTasks();
+
+        assertThat(initialized, containsInAnyOrder(bridge1.getUID(), bridge2.getUID(), child1.getUID(),
+                child2.getUID(), standalone.getUID()));
+        assertThat(initialized.indexOf(bridge1.getUID()), is(lessThan(initialized.indexOf(child1.getUID()))));
+        assertThat(initialized.indexOf(bridge2.getUID()), is(lessThan(initialized.indexOf(child2.getUID()))));
+    }
+
+    @Test
+    public void childrenOfABridgeAreInitializedInParallelUpToTheLimit() {
+        Bridge bridge = BridgeBuilder.create(BRIDGE_TYPE_UID, "bridge").build();
+        List<Thing> things = new ArrayList<>(List.of(bridge));
+        for (int i = 0; i < 4; i++) {
+            things.add(ThingBuilder.create(THING_TYPE_UID, "child" + i).withBridge(bridge.getUID()).build());
+        }
+
+        ThingInitializationPlanner planner = new ThingInitializationPlanner(tasks::add, 2);
+        planner.setMaxConcurrentChildInitializations(3);
+        planner.initialize(things, thing -> initialized.add(thing.getUID()));
+
+        assertThat(tasks, hasSize(1));
+        tasks.remove(0).run();
+        assertThat(initialized, contains(bridge.getUID()));
+
+        // the children are initialized in parallel, limited by the configured maximum
+        assertThat(tasks, hasSize(3));
+        runTasks();
+        assertThat(initialized, hasSize(5));
+    }
+
+    @Test
+    public void childInitializationsOfOneBridgeAreLimited() {
+        ThingUID bridgeUID = new ThingUID(BRIDGE_TYPE_UID, "bridge");
+        ThingUID otherBridgeUID = new ThingUID(BRIDGE_TYPE_UID, "other");
+        ThingInitializationPlanner planner = new ThingInitializationPlanner(tasks::add, 2);
+
+        for (int i = 0; i < 5; i++) {
+            Thing child = ThingBuilder.create(THING_TYPE_UID, "child" + i).withBridge(bridgeUID).build();
+            planner.initializeChild(bridgeUID, child, thing -> initialized.add(thing.getUID()));
+        }
+        Thing otherChild = ThingBuilder.create(THING_TYPE_UID, "otherChild").withBridge(otherBridgeUID).build();
+        planner.initializeChild(otherBridgeUID, otherChild, thing -> initialized.add(thing.getUID()));
+
+        // two tasks for the first bridge, one for the other bridge
+        assertThat(tasks, hasSize(3));
+        runTasks();
+        assertThat(initialized, hasSize(6));
+    }
+
+    @Test
+    public void timeToOnlineIsMeasuredFromInitializing() {
+        ThingUID thingUID = new ThingUID(THING_TYPE_UID, "thing");
+        ThingInitializationPlanner planner = new ThingInitializationPlanner(tasks::add, 1);
+
+        assertThat(planner.statusChanged(thingUID, ThingStatus.ONLINE), is(nullValue()));
+        assertThat(planner.getTimeToOnline(thingUID), is(nullValue()));
+
+        planner.statusChanged(thingUID, ThingStatus.INITIALIZING);
+        planner.statusChanged(thingUID, ThingStatus.UNKNOWN);
+        assertThat(planner.statusChanged(thingUID, ThingStatus.ONLINE), is(notNullValue()));
+        assertThat(planner.getTimeToOnline(thingUID), is(notNullValue()));
+
+        planner.thingRemoved(thingUID);
+        assertThat(planner.getTimeToOnline(thingUID), is(nullValue()));
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.transform;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A {@link CompiledTransformation} is a transformation function that has been prepared by a
+ * {@link TransformationService} once and can be applied to many inputs.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@FunctionalInterface
+@NonNullByDefault
+public interface CompiledTransformation {
+
+    /**
+     * Transforms the input <code>source</code> and returns the transformed output.
+     *
+     * @param source the input to be transformed
+     * @return the transformed result or <code>null</code> if the transformation's output is <code>null</code>.
+     * @throws TransformationException if any error occurs
+     */
+    @Nullable
+    String transform(String source) throws TransformationException;
+}
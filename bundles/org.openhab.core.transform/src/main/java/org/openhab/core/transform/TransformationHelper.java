@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.annotations.Activate;
@@ -40,6 +41,8 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class TransformationHelper {
     private static final Map<String, TransformationService> SERVICES = new ConcurrentHashMap<>();
+    private static final Map<FunctionKey, CompiledTransformation> COMPILED_TRANSFORMATIONS = new ConcurrentHashMap<>();
+    private static final int MAX_COMPILED_TRANSFORMATIONS = 1000;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TransformationHelper.class);
 
@@ -50,6 +53,22 @@ public class TransformationHelper {
             .compile("(.*?)\\((.*)\\)" + FUNCTION_VALUE_DELIMITER + "(.*)");
 
     private final BundleContext bundleContext;
+    private final RegistryChangeListener<Transformation> transformationChangeListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Transformation element) {
+            COMPILED_TRANSFORMATIONS.clear();
+        }
+
+        @Override
+        public void removed(Transformation element) {
+            COMPILED_TRANSFORMATIONS.clear();
+        }
+
+        @Override
+        public void updated(Transformation oldElement, Transformation element) {
+            COMPILED_TRANSFORMATIONS.clear();
+        }
+    };
 
     @Activate
     public TransformationHelper(BundleContext bundleContext) {
@@ -59,6 +78,18 @@ public class TransformationHelper {
     @Deactivate
     public void deactivate() {
         SERVICES.clear();
+        COMPILED_TRANSFORMATIONS.clear();
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setTransformationRegistry(TransformationRegistry transformationRegistry) {
+        transformationRegistry.addRegistryChangeListener(transformationChangeListener);
+        COMPILED_TRANSFORMATIONS.clear();
+    }
+
+    public void unsetTransformationRegistry(TransformationRegistry transformationRegistry) {
+        transformationRegistry.removeRegistryChangeListener(transformationChangeListener);
+        COMPILED_TRANSFORMATIONS.clear();
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
@@ -67,6 +98,7 @@ public class TransformationHelper {
         TransformationService service = bundleContext.getService(ref);
         if (service != null) {
             SERVICES.put(key, service);
+            COMPILED_TRANSFORMATIONS.clear();
             LOGGER.debug("Added transformation service {}", key);
         }
     }
@@ -74,6 +106,7 @@ public class TransformationHelper {
     public void unsetTransformationService(ServiceReference<TransformationService> ref) {
         String key = (String) ref.getProperty(TransformationService.SERVICE_PROPERTY_NAME);
         if (SERVICES.remove(key) != null) {
+            COMPILED_TRANSFORMATIONS.clear();
             LOGGER.debug("Removed transformation service {}", key);
         }
     }
@@ -92,6 +125,37 @@ public class TransformationHelper {
         return SERVICES.get(serviceName);
     }
 
+    /**
+     * Return a compiled transformation for a function of a transformation service
+     * <p>
+     * Compiled transformations are cached until the {@link TransformationRegistry} or the set of transformation
+     * services changes, so callers should request the compiled transformation every time they need it instead of
+     * keeping it.
+     *
+     * @param serviceName the name of the transformation service (e.g. REGEX, XSLT, etc.)
+     * @param function the function to be used to transform inputs
+     * @return the compiled transformation or <code>null</code> if the service could not be found
+     * @throws TransformationException if the function is invalid
+     */
+    public static @Nullable CompiledTransformation getCompiledTransformation(String serviceName, String function)
+            throws TransformationException {
+        FunctionKey key = new FunctionKey(serviceName, function);
+        CompiledTransformation compiledTransformation = COMPILED_TRANSFORMATIONS.get(key);
+        if (compiledTransformation != null) {
+            return compiledTransformation;
+        }
+        TransformationService service = SERVICES.get(serviceName);
+        if (service == null) {
+            return null;
+        }
+        CompiledTransformation newCompiledTransformation = service.compile(function);
+        if (COMPILED_TRANSFORMATIONS.size() >= MAX_COMPILED_TRANSFORMATIONS) {
+            COMPILED_TRANSFORMATIONS.clear();
+        }
+        COMPILED_TRANSFORMATIONS.put(key, newCompiledTransformation);
+        return newCompiledTransformation;
+    }
+
     /**
      * Return the transformation service that provides a given transformation type (e.g. REGEX, XSLT, etc.)
      *
@@ -138,9 +202,9 @@ public class TransformationHelper {
             String type = matcher.group(1);
             String pattern = matcher.group(2);
             String value = matcher.group(3);
-            TransformationService transformation = SERVICES.get(type);
+            CompiledTransformation transformation = getCompiledTransformation(type, pattern);
             if (transformation != null) {
-                return transform(transformation, pattern, value, state);
+                return transform(transformation, value, state);
             } else {
                 throw new TransformationException("Couldn't transform value because transformation service of type '"
                         + type + "' is not available.");
@@ -163,13 +227,21 @@ public class TransformationHelper {
      */
     public static @Nullable String transform(TransformationService service, String function, String format,
             String state) throws TransformationException {
+        return transform(source -> service.transform(function, source), format, state);
+    }
+
+    private static @Nullable String transform(CompiledTransformation transformation, String format, String state)
+            throws TransformationException {
         try {
             String value = String.format(format, state);
-            return service.transform(function, value);
+            return transformation.transform(value);
         } catch (IllegalFormatException e) {
             throw new TransformationException("Cannot format state '" + state + "' to format '" + format + "'", e);
         } catch (RuntimeException e) {
             throw new TransformationException("Transformation service threw an exception: " + e.getMessage(), e);
         }
     }
+
+    private record FunctionKey(String serviceName, String function) {
+    }
 }
@@ -50,4 +50,20 @@ public interface TransformationService {
      */
     @Nullable
     String transform(String function, String source) throws TransformationException;
+
+    /**
+     * Prepares the given <code>function</code> for repeated use. Implementations that need to parse the function or
+     * look up resources can override this method, so that this work is done once instead of on every call of
+     * {@link #transform(String, String)}.
+     * <p>
+     * Callers may keep the result until the {@link TransformationRegistry} or the set of transformation services
+     * changes. The default implementation delegates every call to {@link #transform(String, String)}.
+     *
+     * @param function the function to be used to transform inputs
+     * @return the compiled transformation
+     * @throws TransformationException if the function is invalid
+     */
+    default CompiledTransformation compile(String function) throws TransformationException {
+        return source -> transform(function, source);
+    }
 }
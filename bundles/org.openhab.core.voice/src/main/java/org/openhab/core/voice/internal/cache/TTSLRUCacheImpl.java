@@ -23,6 +23,7 @@ import org.openhab.core.audio.AudioStream;
 import org.openhab.core.cache.lru.InputStreamCacheWrapper;
 import org.openhab.core.cache.lru.LRUMediaCache;
 import org.openhab.core.cache.lru.LRUMediaCacheEntry;
+import org.openhab.core.cache.lru.MediaCacheStatistics;
 import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.storage.StorageService;
 import org.openhab.core.voice.TTSCache;
@@ -45,9 +46,10 @@ import org.slf4j.LoggerFactory;
  *
  * @author Gwendal Roulleau - Initial contribution
  */
-@Component(configurationPid = VoiceManagerImpl.CONFIGURATION_PID)
+@Component(configurationPid = VoiceManagerImpl.CONFIGURATION_PID, service = { TTSCache.class,
+        MediaCacheStatistics.class })
 @NonNullByDefault
-public class TTSLRUCacheImpl implements TTSCache {
+public class TTSLRUCacheImpl implements TTSCache, MediaCacheStatistics {
 
     private final Logger logger = LoggerFactory.getLogger(TTSLRUCacheImpl.class);
 
@@ -94,13 +96,15 @@ public class TTSLRUCacheImpl implements TTSCache {
      */
     @Modified
     protected void modified(Map<String, Object> config) {
+        long previousCacheSizeTTS = this.cacheSizeTTS;
         this.enableCacheTTS = ConfigParser.valueAsOrElse(config.get(CONFIG_ENABLE_CACHE_TTS), Boolean.class, true);
         this.cacheSizeTTS = ConfigParser.valueAsOrElse(config.get(CONFIG_CACHE_SIZE_TTS), Long.class,
                 DEFAULT_CACHE_SIZE_TTS) * 1024;
         this.maxTextLengthCacheTTS = ConfigParser.valueAsOrElse(config.get(CONFIG_MAX_TEXTLENGTH_CACHE_TTS),
                 Integer.class, DEFAULT_MAX_TEXT_LENGTH_CACHE_TTS);
 
-        if (enableCacheTTS) {
+        // creating the cache scans its folder, so it is only recreated if its size changed
+        if (enableCacheTTS && (lruMediaCache == null || cacheSizeTTS != previousCacheSizeTTS)) {
             this.lruMediaCache = new LRUMediaCache<>(storageService, cacheSizeTTS, VOICE_TTS_CACHE_PID,
                     this.getClass().getClassLoader());
         }
@@ -156,4 +160,33 @@ public class TTSLRUCacheImpl implements TTSCache {
             return tts.synthesizeForCache(text, voice, requestedFormat);
         }
     }
+
+    @Override
+    public String getCacheId() {
+        return VOICE_TTS_CACHE_PID;
+    }
+
+    @Override
+    public long getHitCount() {
+        LRUMediaCache<AudioFormatInfo> lruMediaCacheLocal = lruMediaCache;
+        return lruMediaCacheLocal == null ? 0 : lruMediaCacheLocal.getHitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        LRUMediaCache<AudioFormatInfo> lruMediaCacheLocal = lruMediaCache;
+        return lruMediaCacheLocal == null ? 0 : lruMediaCacheLocal.getMissCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        LRUMediaCache<AudioFormatInfo> lruMediaCacheLocal = lruMediaCache;
+        return lruMediaCacheLocal == null ? 0 : lruMediaCacheLocal.getEvictionCount();
+    }
+
+    @Override
+    public long getCurrentSize() {
+        LRUMediaCache<AudioFormatInfo> lruMediaCacheLocal = lruMediaCache;
+        return lruMediaCacheLocal == null ? 0 : lruMediaCacheLocal.getCurrentSize();
+    }
 }
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -84,8 +85,7 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     private Logger logger = LoggerFactory.getLogger(AbstractRuleBasedInterpreter.class);
 
     private final Map<Locale, List<Rule>> languageRules = new HashMap<>();
-    private final Map<Locale, Set<String>> allItemTokens = new HashMap<>();
-    private final Map<Locale, Map<Item, ItemInterpretationMetadata>> itemTokens = new HashMap<>();
+    private final Map<Locale, ItemTokenIndex> itemTokenIndexes = new HashMap<>();
 
     private final ItemRegistry itemRegistry;
     private final EventPublisher eventPublisher;
@@ -93,17 +93,17 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     private RegistryChangeListener<Item> registryChangeListener = new RegistryChangeListener<Item>() {
         @Override
         public void added(Item element) {
-            invalidate();
+            itemChanged(element.getName(), element);
         }
 
         @Override
         public void removed(Item element) {
-            invalidate();
+            itemChanged(element.getName(), null);
         }
 
         @Override
         public void updated(Item oldElement, Item element) {
-            invalidate();
+            itemChanged(element.getName(), element);
         }
     };
     private RegistryChangeListener<Metadata> synonymsChangeListener = new RegistryChangeListener<Metadata>() {
@@ -124,7 +124,8 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
 
         private void invalidateIfSynonymsMetadata(Metadata metadata) {
             if (metadata.getUID().getNamespace().equals(SYNONYMS_NAMESPACE)) {
-                invalidate();
+                String itemName = metadata.getUID().getItemName();
+                itemChanged(itemName, itemRegistry.get(itemName));
             }
         }
     };
@@ -185,53 +186,29 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
         }
     }
 
-    private void invalidate() {
-        allItemTokens.clear();
-        itemTokens.clear();
+    private void itemChanged(String itemName, @Nullable Item item) {
+        synchronized (itemTokenIndexes) {
+            for (ItemTokenIndex index : itemTokenIndexes.values()) {
+                index.itemChanged(itemName, item);
+            }
+        }
         languageRules.clear();
     }
 
-    /**
-     * All the tokens (name parts) of the names of all the items in the {@link ItemRegistry}.
-     *
-     * @param locale The locale that is to be used for preparing the tokens.
-     * @return the identifier tokens
-     */
-    Set<String> getAllItemTokens(Locale locale) {
-        Set<String> localeTokens = allItemTokens.get(locale);
-        if (localeTokens == null) {
-            allItemTokens.put(locale, localeTokens = new HashSet<>());
-            for (Item item : itemRegistry.getAll()) {
-                localeTokens.addAll(tokenize(locale, item.getLabel()));
-                for (String synonym : getItemSynonyms(item)) {
-                    localeTokens.addAll(tokenize(locale, synonym));
-                }
-            }
+    private ItemTokenIndex getItemTokenIndex(Locale locale) {
+        synchronized (itemTokenIndexes) {
+            return Objects.requireNonNull(itemTokenIndexes.computeIfAbsent(locale, ItemTokenIndex::new));
         }
-        return localeTokens;
     }
 
     /**
-     * Retrieves the list of identifier token sets per item currently contained in the {@link ItemRegistry}.
-     * Each item entry in the resulting hash map will feature a list of different token lists. Each list
-     * represents one possible way "through" a chain of parent groups, where each groups name is tokenized
-     * into a list of strings and included as a member of the chain. Item synonym metadata options are
-     * used as alternative labels creating new alternative chains for the item.
+     * All the tokens (name parts) of the names of all the items in the {@link ItemRegistry}.
      *
      * @param locale The locale that is to be used for preparing the tokens.
-     * @return the list of identifier token sets per item
+     * @return the identifier tokens
      */
-    Map<Item, ItemInterpretationMetadata> getItemTokens(Locale locale) {
-        Map<Item, ItemInterpretationMetadata> localeTokens = itemTokens.get(locale);
-        if (localeTokens == null) {
-            itemTokens.put(locale, localeTokens = new HashMap<>());
-            for (Item item : itemRegistry.getItems()) {
-                if (item.getGroupNames().isEmpty()) {
-                    addItem(locale, localeTokens, new ArrayList<>(), item, new ArrayList<>());
-                }
-            }
-        }
-        return localeTokens;
+    Set<String> getAllItemTokens(Locale locale) {
+        return getItemTokenIndex(locale).getAllItemTokens();
     }
 
     private String[] getItemSynonyms(Item item) {
@@ -240,31 +217,6 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
         return (synonymsMetadata != null) ? synonymsMetadata.getValue().split(",") : new String[] {};
     }
 
-    private void addItem(Locale locale, Map<Item, ItemInterpretationMetadata> target, List<List<String>> tokens,
-            Item item, ArrayList<String> locationParentNames) {
-        addItem(locale, target, tokens, item, item.getLabel(), locationParentNames);
-        for (String synonym : getItemSynonyms(item)) {
-            addItem(locale, target, tokens, item, synonym, locationParentNames);
-        }
-    }
-
-    private void addItem(Locale locale, Map<Item, ItemInterpretationMetadata> target, List<List<String>> tokens,
-            Item item, @Nullable String itemLabel, ArrayList<String> locationParentNames) {
-        List<List<String>> nt = new ArrayList<>(tokens);
-        nt.add(tokenize(locale, itemLabel));
-        ItemInterpretationMetadata metadata = target.computeIfAbsent(item, k -> new ItemInterpretationMetadata());
-        metadata.pathToItem.add(nt);
-        metadata.locationParentNames.addAll(locationParentNames);
-        if (item instanceof GroupItem groupItem) {
-            if (item.hasTag(CoreItemFactory.LOCATION)) {
-                locationParentNames.add(item.getName());
-            }
-            for (Item member : groupItem.getMembers()) {
-                addItem(locale, target, nt, member, locationParentNames);
-            }
-        }
-    }
-
     /**
      * Creates an item name placeholder expression. This expression is greedy: Only use it, if there are no other
      * expressions following this one.
@@ -745,10 +697,12 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
             @Nullable ItemCommandSupplier commandSupplier, Rule.InterpretationContext context) {
         Map<Item, ItemInterpretationMetadata> itemsData = new HashMap<>();
         Map<Item, ItemInterpretationMetadata> exactMatchItemsData = new HashMap<>();
-        Map<Item, ItemInterpretationMetadata> map = getItemTokens(language.getLocale());
-        for (Entry<Item, ItemInterpretationMetadata> entry : map.entrySet()) {
-            Item item = entry.getKey();
-            ItemInterpretationMetadata interpretationMetadata = entry.getValue();
+        List<String> lowercaseLabelFragments = Arrays.stream(labelFragments)
+                .map(lf -> lf.toLowerCase(language.getLocale())).toList();
+        // only items that have all fragments somewhere in their paths can match
+        for (ItemInterpretationMetadata interpretationMetadata : getItemTokenIndex(language.getLocale())
+                .getCandidates(lowercaseLabelFragments)) {
+            Item item = interpretationMetadata.item;
             if (!context.allowedItems().isEmpty() && !context.allowedItems().contains(item.getName())) {
                 logger.trace("Item {} discarded, not allowed for this rule", item.getName());
                 continue;
@@ -756,8 +710,6 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
             for (List<List<String>> itemLabelFragmentsPath : interpretationMetadata.pathToItem) {
                 boolean exactMatch = false;
                 logger.trace("Checking tokens {} against the item tokens {}", labelFragments, itemLabelFragmentsPath);
-                List<String> lowercaseLabelFragments = Arrays.stream(labelFragments)
-                        .map(lf -> lf.toLowerCase(language.getLocale())).toList();
                 List<String> unmatchedFragments = new ArrayList<>(lowercaseLabelFragments);
                 for (List<String> itemLabelFragments : itemLabelFragmentsPath) {
                     if (itemLabelFragments.equals(lowercaseLabelFragments)) {
@@ -1192,10 +1144,281 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     }
 
     private static class ItemInterpretationMetadata {
+        final Item item;
         final List<List<List<String>>> pathToItem = new ArrayList<>();
         final List<String> locationParentNames = new ArrayList<>();
+        final Set<String> tokens = new HashSet<>();
+
+        ItemInterpretationMetadata(Item item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * An inverted index of the item tokens for one locale.
+     * <p>
+     * For each item that can be reached from a root item, the index keeps the list of different token lists "through"
+     * the chain of its parent groups (see {@link ItemInterpretationMetadata#pathToItem}) and maps every token to the
+     * items that contain it in one of their paths. Item synonym metadata options are used as alternative labels.
+     * A changed item only updates the entries of the item and its members, the index is never rebuilt.
+     */
+    private class ItemTokenIndex {
+        private final Locale locale;
+
+        private final Map<String, ItemInterpretationMetadata> metadataByItem = new HashMap<>();
+        private final Map<String, Set<String>> itemsByToken = new HashMap<>();
+        private final Map<String, Set<String>> membersByGroup = new HashMap<>();
+        private final Map<String, Set<String>> groupsByMember = new HashMap<>();
+
+        // the tokens of the labels and synonyms of all items, with the number of items that use them
+        private final Map<String, List<String>> labelTokensByItem = new HashMap<>();
+        private final Map<String, Integer> labelTokenCounts = new HashMap<>();
+        // immutable snapshot of the label tokens, rebuilt on the next request after a change
+        private @Nullable Set<String> allItemTokens;
+
+        ItemTokenIndex(Locale locale) {
+            this.locale = locale;
+            for (Item item : itemRegistry.getAll()) {
+                addLabelTokens(item);
+            }
+            Map<String, Item> items = new HashMap<>();
+            for (Item item : itemRegistry.getItems()) {
+                items.put(item.getName(), item);
+                if (item instanceof GroupItem groupItem) {
+                    for (Item member : setMembers(groupItem)) {
+                        items.putIfAbsent(member.getName(), member);
+                    }
+                }
+            }
+            index(items);
+        }
+
+        synchronized Set<String> getAllItemTokens() {
+            Set<String> tokens = allItemTokens;
+            if (tokens == null) {
+                tokens = Set.copyOf(labelTokenCounts.keySet());
+                allItemTokens = tokens;
+            }
+            return tokens;
+        }
+
+        /**
+         * Get the items that contain all the given tokens in their paths.
+         *
+         * @param tokens the lower case tokens
+         * @return the interpretation metadata of the items
+         */
+        synchronized List<ItemInterpretationMetadata> getCandidates(List<String> tokens) {
+            if (tokens.isEmpty()) {
+                return new ArrayList<>(metadataByItem.values());
+            }
+            Set<String> smallest = itemsByToken.get(tokens.get(0));
+            for (String token : tokens) {
+                Set<String> itemNames = itemsByToken.get(token);
+                if (itemNames == null || smallest == null) {
+                    return List.of();
+                }
+                if (itemNames.size() < smallest.size()) {
+                    smallest = itemNames;
+                }
+            }
+            List<ItemInterpretationMetadata> candidates = new ArrayList<>();
+            for (String itemName : Objects.requireNonNull(smallest)) {
+                ItemInterpretationMetadata metadata = metadataByItem.get(itemName);
+                if (metadata != null && metadata.tokens.containsAll(tokens)) {
+                    candidates.add(metadata);
+                }
+            }
+            return candidates;
+        }
+
+        /**
+         * Update the index for an added, changed or removed item.
+         *
+         * @param itemName the name of the item
+         * @param item the current item or {@code null} if it was removed
+         */
+        synchronized void itemChanged(String itemName, @Nullable Item item) {
+            removeLabelTokens(itemName);
+            if (item != null) {
+                addLabelTokens(item);
+            }
+
+            // the memberships of the groups of the item might have changed
+            Set<String> groupNames = new HashSet<>(groupsByMember.getOrDefault(itemName, Set.of()));
+            if (item != null) {
+                groupNames.addAll(item.getGroupNames());
+            }
+            for (String groupName : groupNames) {
+                if (!groupName.equals(itemName) && itemRegistry.get(groupName) instanceof GroupItem groupItem) {
+                    setMembers(groupItem);
+                }
+            }
+
+            // the paths of the item and all its (old and new) members change
+            Set<String> affectedNames = new HashSet<>();
+            Map<String, Item> affectedItems = new HashMap<>();
+            collectAffected(itemName, item, affectedNames, affectedItems);
+            if (item instanceof GroupItem groupItem) {
+                setMembers(groupItem);
+            } else {
+                removeMembers(itemName);
+            }
+
+            affectedNames.forEach(this::removeFromIndex);
+            index(affectedItems);
+        }
+
+        private void collectAffected(String itemName, @Nullable Item item, Set<String> affectedNames,
+                Map<String, Item> affectedItems) {
+            if (!affectedNames.add(itemName)) {
+                return;
+            }
+            if (item != null) {
+                affectedItems.put(itemName, item);
+            }
+            Map<String, @Nullable Item> members = new HashMap<>();
+            membersByGroup.getOrDefault(itemName, Set.of()).forEach(member -> members.put(member, null));
+            if (item instanceof GroupItem groupItem) {
+                groupItem.getMembers().forEach(member -> members.put(member.getName(), member));
+            }
+            members.forEach((memberName, member) -> collectAffected(memberName,
+                    member != null ? member : itemRegistry.get(memberName), affectedNames, affectedItems));
+        }
+
+        private Set<Item> setMembers(GroupItem groupItem) {
+            String groupName = groupItem.getName();
+            removeMembers(groupName);
+            Set<Item> members = groupItem.getMembers();
+            Set<String> memberNames = new HashSet<>();
+            for (Item member : members) {
+                memberNames.add(member.getName());
+                groupsByMember.computeIfAbsent(member.getName(), k -> new HashSet<>()).add(groupName);
+            }
+            membersByGroup.put(groupName, memberNames);
+            return members;
+        }
+
+        private void removeMembers(String groupName) {
+            Set<String> memberNames = membersByGroup.remove(groupName);
+            if (memberNames != null) {
+                for (String memberName : memberNames) {
+                    Set<String> groupNames = groupsByMember.get(memberName);
+                    if (groupNames != null) {
+                        groupNames.remove(groupName);
+                        if (groupNames.isEmpty()) {
+                            groupsByMember.remove(memberName);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void index(Map<String, Item> items) {
+            Set<String> indexed = new HashSet<>();
+            for (Item item : items.values()) {
+                index(item, items, indexed, new HashSet<>());
+            }
+        }
 
-        ItemInterpretationMetadata() {
+        private @Nullable ItemInterpretationMetadata index(Item item, Map<String, Item> items, Set<String> indexed,
+                Set<String> visiting) {
+            String itemName = item.getName();
+            if (indexed.contains(itemName)) {
+                return metadataByItem.get(itemName);
+            }
+            if (!visiting.add(itemName)) {
+                // a cycle in the group hierarchy
+                return null;
+            }
+
+            ItemInterpretationMetadata metadata = new ItemInterpretationMetadata(item);
+            List<List<String>> labelTokens = new ArrayList<>();
+            labelTokens.add(tokenize(locale, item.getLabel()));
+            for (String synonym : getItemSynonyms(item)) {
+                labelTokens.add(tokenize(locale, synonym));
+            }
+            if (item.getGroupNames().isEmpty()) {
+                addPaths(metadata, List.of(), labelTokens);
+            }
+            for (String groupName : groupsByMember.getOrDefault(itemName, Set.of())) {
+                Item group = items.get(groupName);
+                ItemInterpretationMetadata groupMetadata = group != null ? index(group, items, indexed, visiting)
+                        : metadataByItem.get(groupName);
+                if (groupMetadata != null) {
+                    for (List<List<String>> path : groupMetadata.pathToItem) {
+                        addPaths(metadata, path, labelTokens);
+                    }
+                    addLocationParentNames(metadata, groupMetadata.locationParentNames);
+                    if (groupMetadata.item.hasTag(CoreItemFactory.LOCATION)) {
+                        addLocationParentNames(metadata, List.of(groupName));
+                    }
+                }
+            }
+
+            visiting.remove(itemName);
+            indexed.add(itemName);
+            if (metadata.pathToItem.isEmpty()) {
+                // not reachable from a root item
+                return null;
+            }
+            metadataByItem.put(itemName, metadata);
+            for (String token : metadata.tokens) {
+                itemsByToken.computeIfAbsent(token, k -> new HashSet<>()).add(itemName);
+            }
+            return metadata;
+        }
+
+        private void addPaths(ItemInterpretationMetadata metadata, List<List<String>> path,
+                List<List<String>> labelTokens) {
+            for (List<String> tokens : labelTokens) {
+                List<List<String>> itemPath = new ArrayList<>(path);
+                itemPath.add(tokens);
+                metadata.pathToItem.add(itemPath);
+                itemPath.forEach(metadata.tokens::addAll);
+            }
+        }
+
+        private void addLocationParentNames(ItemInterpretationMetadata metadata, List<String> locationParentNames) {
+            for (String locationParentName : locationParentNames) {
+                if (!metadata.locationParentNames.contains(locationParentName)) {
+                    metadata.locationParentNames.add(locationParentName);
+                }
+            }
+        }
+
+        private void removeFromIndex(String itemName) {
+            ItemInterpretationMetadata metadata = metadataByItem.remove(itemName);
+            if (metadata != null) {
+                for (String token : metadata.tokens) {
+                    Set<String> itemNames = itemsByToken.get(token);
+                    if (itemNames != null) {
+                        itemNames.remove(itemName);
+                        if (itemNames.isEmpty()) {
+                            itemsByToken.remove(token);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void addLabelTokens(Item item) {
+            List<String> tokens = new ArrayList<>(tokenize(locale, item.getLabel()));
+            for (String synonym : getItemSynonyms(item)) {
+                tokens.addAll(tokenize(locale, synonym));
+            }
+            labelTokensByItem.put(item.getName(), tokens);
+            tokens.forEach(token -> labelTokenCounts.merge(token, 1, Integer::sum));
+            allItemTokens = null;
+        }
+
+        private void removeLabelTokens(String itemName) {
+            List<String> tokens = labelTokensByItem.remove(itemName);
+            if (tokens != null) {
+                tokens.forEach(
+                        token -> labelTokenCounts.computeIfPresent(token, (k, count) -> count > 1 ? count - 1 : null));
+                allItemTokens = null;
+            }
         }
     }
 
@@ -13,6 +13,8 @@
 package org.openhab.core.voice.internal.text;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -27,11 +29,13 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.core.audio.AudioSink;
 import org.openhab.core.audio.AudioSource;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
@@ -235,4 +239,33 @@ public class StandardInterpreterTest {
                 .post(ItemEventFactory.createCommandEvent(virtualItem.getName(), new StringType("KEY_4")));
         reset(eventPublisherMock);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void itemTokensAreUpdatedOnItemChanges() throws InterpretationException {
+        ArgumentCaptor<RegistryChangeListener<Item>> listenerCaptor = ArgumentCaptor
+                .forClass(RegistryChangeListener.class);
+        verify(itemRegistryMock).addRegistryChangeListener(listenerCaptor.capture());
+        RegistryChangeListener<Item> listener = listenerCaptor.getValue();
+
+        var computerItem = new SwitchItem("computer");
+        computerItem.setLabel("Computer");
+        when(itemRegistryMock.getItems()).thenReturn(List.of(computerItem));
+        assertEquals(OK_RESPONSE, standardInterpreter.interpret(Locale.ENGLISH, "turn off computer"));
+        reset(eventPublisherMock);
+
+        var lampItem = new SwitchItem("lamp");
+        lampItem.setLabel("Lamp");
+        when(itemRegistryMock.getItems()).thenReturn(List.of(computerItem, lampItem));
+        listener.added(lampItem);
+        assertEquals(OK_RESPONSE, standardInterpreter.interpret(Locale.ENGLISH, "turn off lamp"));
+        verify(eventPublisherMock, times(1))
+                .post(ItemEventFactory.createCommandEvent(lampItem.getName(), OnOffType.OFF));
+
+        when(itemRegistryMock.getItems()).thenReturn(List.of(lampItem));
+        listener.removed(computerItem);
+        assertThrows(InterpretationException.class,
+                () -> standardInterpreter.interpret(Locale.ENGLISH, "turn off computer"));
+        verify(eventPublisherMock, times(1)).post(any());
+    }
 }
@@ -21,13 +21,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
@@ -47,17 +46,19 @@ import org.slf4j.LoggerFactory;
  * This is a LRU cache (least recently used entry is evicted if the size
  * is exceeded).
  * Size is based on the size on disk (in bytes)
+ * Cache hits do not lock the cache, and concurrent misses for the same key
+ * only query the supplier once.
  *
  * @author Gwendal Roulleau - Initial contribution
  */
 @NonNullByDefault
-public class LRUMediaCache<V> {
+public class LRUMediaCache<V> implements MediaCacheStatistics {
 
     private final Logger logger = LoggerFactory.getLogger(LRUMediaCache.class);
 
     private static final String CACHE_FOLDER_NAME = "cache";
 
-    final Map<String, @Nullable LRUMediaCacheEntry<V>> cachedResults;
+    final LRUMediaCacheIndex<V> cachedResults = new LRUMediaCacheIndex<>();
 
     /**
      * Lock to handle concurrent access to the same entry
@@ -70,6 +71,8 @@ public class LRUMediaCache<V> {
      */
     protected final long maxCacheSize;
 
+    private final String pid;
+
     private final Path cacheFolder;
 
     /**
@@ -79,6 +82,10 @@ public class LRUMediaCache<V> {
 
     protected boolean cacheIsOK = true;
 
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
     /**
      * Constructs a cache system.
      *
@@ -89,7 +96,7 @@ public class LRUMediaCache<V> {
     public LRUMediaCache(@Reference StorageService storageService, long maxCacheSize, String pid,
             @Nullable ClassLoader clazzLoader) {
         this.storage = storageService.getStorage(pid, clazzLoader);
-        this.cachedResults = Collections.synchronizedMap(new LinkedHashMap<>(20, .75f, true));
+        this.pid = pid;
         this.cacheFolder = Path.of(OpenHAB.getUserDataFolder(), CACHE_FOLDER_NAME, pid);
         this.maxCacheSize = maxCacheSize;
 
@@ -179,6 +186,14 @@ public class LRUMediaCache<V> {
             return supplier.get();
         }
 
+        // fast path, without any lock, for the common case of a valid cached entry
+        @Nullable
+        LRUMediaCacheEntry<V> cachedResult = cachedResults.get(key);
+        if (cachedResult != null && !cachedResult.isFaulty()) {
+            hitCount.increment();
+            return cachedResult;
+        }
+
         // we use a lock with fine granularity, by key, to not lock the entire cache
         // when resolving the supplier (which could be time consuming)
         Lock lockForCurrentEntry = lockByEntry.computeIfAbsent(key, k -> new ReentrantLock());
@@ -190,6 +205,7 @@ public class LRUMediaCache<V> {
         lockForCurrentEntry.lock();
         try {
             // try to get from cache
+            @Nullable
             LRUMediaCacheEntry<V> result = cachedResults.get(key);
             if (result != null && result.isFaulty()) { // if previously marked as faulty
                 result.deleteFile();
@@ -198,8 +214,11 @@ public class LRUMediaCache<V> {
             }
             if (result == null) { // it's a cache miss or a faulty result, we must (re)create it
                 logger.debug("Cache miss {}", key);
+                missCount.increment();
                 result = supplier.get();
                 put(result);
+            } else { // another thread resolved the same key while we were waiting for the lock
+                hitCount.increment();
             }
             return result;
         } finally {
@@ -222,25 +241,57 @@ public class LRUMediaCache<V> {
     }
 
     /**
-     * Check if the cache is not already full and make space if needed.
-     * We don't use the removeEldestEntry test method from the linkedHashMap because it can only remove one element.
+     * Check if the cache is not already full and make space if needed, by evicting the least recently used entries.
      */
     protected void makeSpace() {
         synchronized (cachedResults) {
-            Iterator<@Nullable LRUMediaCacheEntry<V>> iterator = cachedResults.values().iterator();
-            Long currentCacheSize = cachedResults.values().stream()
-                    .map(result -> result == null ? 0 : result.getCurrentSize()).reduce(0L, (Long::sum));
             int attemptToDelete = 0;
-            while (currentCacheSize > maxCacheSize && cachedResults.size() > 1 && attemptToDelete < 10) {
+            while (cachedResults.getTotalSize() > maxCacheSize && cachedResults.size() > 1 && attemptToDelete < 10) {
                 attemptToDelete++;
-                LRUMediaCacheEntry<V> oldestEntry = iterator.next();
+                LRUMediaCacheEntry<V> oldestEntry = cachedResults.removeEldest();
                 if (oldestEntry != null) {
                     oldestEntry.deleteFile();
-                    currentCacheSize -= oldestEntry.getCurrentSize();
                     lockByEntry.remove(oldestEntry.getKey());
+                    evictionCount.increment();
                 }
-                iterator.remove();
             }
         }
     }
+
+    @Override
+    public String getCacheId() {
+        return pid;
+    }
+
+    /**
+     * @return the number of calls to {@link #get(String, Supplier)} answered from the cache
+     */
+    @Override
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of calls to {@link #get(String, Supplier)} which had to query the supplier
+     */
+    @Override
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of entries evicted to keep the cache under its size limit
+     */
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return the size of the cached entries, in bytes
+     */
+    @Override
+    public long getCurrentSize() {
+        return cachedResults.getTotalSize();
+    }
 }
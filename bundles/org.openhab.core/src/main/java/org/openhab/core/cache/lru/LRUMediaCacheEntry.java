@@ -22,6 +22,7 @@ import java.nio.file.StandardOpenOption;
 import java.util.EnumSet;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -74,6 +75,8 @@ public class LRUMediaCacheEntry<V> {
     private @Nullable FileChannel fileChannel;
     private final Lock fileOperationLock = new ReentrantLock();
 
+    private @Nullable LongConsumer sizeChangeListener;
+
     /**
      * This constructor is used when the file is fully cached on disk.
      * The file on disk will provide the data, and the storage will
@@ -120,6 +123,16 @@ public class LRUMediaCacheEntry<V> {
         this.currentSize = fileLocal.length();
     }
 
+    /**
+     * Set a listener notified with the new size of the cache file whenever data has been added to it,
+     * so that the cache can account its size without scanning its entries.
+     *
+     * @param sizeChangeListener
+     */
+    protected void setSizeChangeListener(LongConsumer sizeChangeListener) {
+        this.sizeChangeListener = sizeChangeListener;
+    }
+
     /**
      * Get total size of the underlying stream.
      * If not already completed, will query the stream inside,
@@ -286,6 +299,10 @@ public class LRUMediaCacheEntry<V> {
                             fileChannelLocal.write(ByteBuffer.wrap(readFromSupplierStream), currentSize);
                             logger.trace("writing {} bytes to {}", readFromSupplierStream.length, key);
                             currentSize += readFromSupplierStream.length;
+                            LongConsumer sizeChangeListenerLocal = sizeChangeListener;
+                            if (sizeChangeListenerLocal != null) {
+                                sizeChangeListenerLocal.accept(currentSize);
+                            }
                         }
                     }
                 }
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.cache.lru;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The index of a {@link LRUMediaCache}.
+ * Lookups do not take any global lock: each entry carries the logical time of its last access, and the least
+ * recently used entry is only searched for when the cache has to make space. The total size of the indexed entries
+ * is kept up to date by the entries themselves, so it never has to be recomputed. Entries report their absolute size,
+ * so a size which is reported twice is only accounted once.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+class LRUMediaCacheIndex<V> {
+
+    private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong totalSize = new AtomicLong();
+
+    /**
+     * Get an entry and mark it as the most recently used.
+     *
+     * @param key the key of the entry
+     * @return the entry, or <code>null</code> if it is not indexed
+     */
+    @Nullable
+    LRUMediaCacheEntry<V> get(String key) {
+        Node node = nodes.get(key);
+        if (node == null) {
+            return null;
+        }
+        node.lastAccess = clock.incrementAndGet();
+        return node.entry;
+    }
+
+    /**
+     * Index an entry as the most recently used, replacing any entry with the same key.
+     *
+     * @param key the key of the entry
+     * @param entry the entry
+     */
+    void put(String key, LRUMediaCacheEntry<V> entry) {
+        Node node = new Node(entry, clock.incrementAndGet());
+        Node previous = nodes.put(key, node);
+        if (previous != null) {
+            totalSize.addAndGet(-previous.detach());
+        }
+        // the entry may grow before or after the listener is set, both the listener and the initial size are accounted
+        // as the absolute size of the entry, so that no growth is missed or counted twice
+        entry.setSizeChangeListener(node::updateSize);
+        node.updateSize(entry.getCurrentSize());
+    }
+
+    /**
+     * Remove an entry from the index.
+     *
+     * @param key the key of the entry
+     * @return the removed entry, or <code>null</code> if it was not indexed
+     */
+    @Nullable
+    LRUMediaCacheEntry<V> remove(String key) {
+        Node node = nodes.remove(key);
+        if (node == null) {
+            return null;
+        }
+        totalSize.addAndGet(-node.detach());
+        return node.entry;
+    }
+
+    /**
+     * Remove the least recently used entry from the index.
+     *
+     * @return the removed entry, or <code>null</code> if the index is empty
+     */
+    @Nullable
+    LRUMediaCacheEntry<V> removeEldest() {
+        while (true) {
+            Map.@Nullable Entry<String, Node> eldest = null;
+            for (Map.Entry<String, Node> candidate : nodes.entrySet()) {
+                if (eldest == null || candidate.getValue().lastAccess < eldest.getValue().lastAccess) {
+                    eldest = candidate;
+                }
+            }
+            if (eldest == null) {
+                return null;
+            }
+            Node node = eldest.getValue();
+            // retry if the entry has been replaced in the meantime
+            if (nodes.remove(eldest.getKey(), node)) {
+                totalSize.addAndGet(-node.detach());
+                return node.entry;
+            }
+        }
+    }
+
+    void clear() {
+        nodes.values().forEach(Node::detach);
+        nodes.clear();
+        totalSize.set(0);
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    /**
+     * @return the sum of the sizes of the indexed entries, in bytes
+     */
+    long getTotalSize() {
+        return totalSize.get();
+    }
+
+    private class Node {
+        private final LRUMediaCacheEntry<V> entry;
+        private volatile long lastAccess;
+        // guarded by this node
+        private long size;
+        private boolean detached;
+
+        private Node(LRUMediaCacheEntry<V> entry, long lastAccess) {
+            this.entry = entry;
+            this.lastAccess = lastAccess;
+        }
+
+        /**
+         * Account the current size of the entry. Entries only grow, so an outdated size is ignored.
+         *
+         * @param newSize the size of the entry, in bytes
+         */
+        private synchronized void updateSize(long newSize) {
+            if (!detached && newSize > size) {
+                totalSize.addAndGet(newSize - size);
+                size = newSize;
+            }
+        }
+
+        /**
+         * Stop accounting the size of the entry, because it has been removed from the index.
+         *
+         * @return the size accounted for the entry so far, which has to be subtracted from the total size
+         */
+        private synchronized long detach() {
+            detached = true;
+            long accountedSize = size;
+            size = 0;
+            return accountedSize;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.cache.lru;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link MediaCacheStatistics} give insight into the effectiveness of a {@link LRUMediaCache}.
+ * Implementations registered as OSGi services are published as metrics.
+ *
+ * All counters are cumulative since the creation of the cache.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public interface MediaCacheStatistics {
+
+    /**
+     * @return an id identifying the cache, e.g. the pid of its storage
+     */
+    String getCacheId();
+
+    /**
+     * @return the number of requests answered from the cache
+     */
+    long getHitCount();
+
+    /**
+     * @return the number of requests which had to query the supplier of the data
+     */
+    long getMissCount();
+
+    /**
+     * @return the number of entries evicted to keep the cache under its size limit
+     */
+    long getEvictionCount();
+
+    /**
+     * @return the size of the cached entries, in bytes
+     */
+    long getCurrentSize();
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.events;
+
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link EventStatistics} gives insight into the openHAB event bus: how many events are published, how long they
+ * wait before being dispatched and how long each {@link EventSubscriber} takes to handle them.
+ *
+ * All values are cumulative since the start of the event bus. In order to maintain distributions over a recent time
+ * window instead, a {@link LatencyListener} is notified about every recorded latency.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public interface EventStatistics {
+
+    /**
+     * Gets the number of published events.
+     *
+     * @return the number of events, indexed by the event type
+     */
+    Map<String, Long> getPublishedEventCounts();
+
+    /**
+     * Gets the number of events which could not be dispatched, because there is no factory for their type or their
+     * creation failed.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedEventCount();
+
+    /**
+     * Gets the number of published events waiting to be dispatched.
+     *
+     * @return the size of the event queue
+     */
+    int getQueueSize();
+
+    /**
+     * Gets the time events wait in the event queue before being dispatched.
+     *
+     * @return the queue wait time distribution
+     */
+    LatencySnapshot getQueueWaitTime();
+
+    /**
+     * Gets the statistics of the event subscribers. Subscribers of the same class share a dispatching thread and are
+     * therefore accounted together.
+     *
+     * @return the statistics, indexed by the class name of the event subscribers
+     */
+    Map<String, SubscriberStatistics> getSubscriberStatistics();
+
+    /**
+     * Adds a listener which is notified about every recorded latency.
+     *
+     * @param listener the listener to add
+     */
+    void addLatencyListener(LatencyListener listener);
+
+    /**
+     * Removes a previously added listener.
+     *
+     * @param listener the listener to remove
+     */
+    void removeLatencyListener(LatencyListener listener);
+
+    /**
+     * A listener for the latencies recorded on the event bus. It is called on the threads dispatching the events, so
+     * it must return quickly.
+     */
+    interface LatencyListener {
+
+        /**
+         * Called when an event has been taken from the event queue.
+         *
+         * @param waitNanos the time the event waited in the event queue, in nanoseconds
+         */
+        void eventDequeued(long waitNanos);
+
+        /**
+         * Called when an event subscriber has handled an event.
+         *
+         * @param subscriber the class name of the event subscriber
+         * @param handlingNanos the time spent in {@link EventSubscriber#receive(Event)}, in nanoseconds
+         */
+        void eventHandled(String subscriber, long handlingNanos);
+    }
+
+    /**
+     * The statistics of the event subscribers of one class.
+     *
+     * @param handledEvents the number of events passed to the subscribers
+     * @param failedEvents the number of events whose handling threw an exception
+     * @param backlog the number of events waiting to be handled by the subscribers
+     * @param handlingTime the distribution of the time spent in {@link EventSubscriber#receive(Event)}
+     */
+    record SubscriberStatistics(long handledEvents, long failedEvents, int backlog, LatencySnapshot handlingTime) {
+    }
+
+    /**
+     * A snapshot of a latency distribution. Percentiles are approximated with a relative error of at most 25%.
+     *
+     * @param count the number of recorded values
+     * @param totalNanos the sum of the recorded values, in nanoseconds
+     * @param maxNanos the largest recorded value, in nanoseconds
+     * @param p50Nanos the median, in nanoseconds
+     * @param p95Nanos the 95th percentile, in nanoseconds
+     * @param p99Nanos the 99th percentile, in nanoseconds
+     */
+    record LatencySnapshot(long count, long totalNanos, long maxNanos, long p50Nanos, long p95Nanos, long p99Nanos) {
+
+        /**
+         * @return the mean of the recorded values, in nanoseconds
+         */
+        public long meanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+    }
+}
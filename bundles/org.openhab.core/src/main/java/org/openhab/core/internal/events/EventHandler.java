@@ -24,7 +24,6 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -33,6 +32,7 @@ import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFactory;
 import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.internal.events.EventStatisticsImpl.SubscriberRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +51,7 @@ public class EventHandler implements AutoCloseable {
 
     private final Map<String, Set<EventSubscriber>> typedEventSubscribers;
     private final Map<String, EventFactory> typedEventFactories;
+    private final EventStatisticsImpl statistics;
 
     private final Map<Class<? extends EventSubscriber>, ExecutorRecord> executors = new HashMap<>();
 
@@ -62,15 +63,28 @@ public class EventHandler implements AutoCloseable {
      */
     public EventHandler(final Map<String, Set<EventSubscriber>> typedEventSubscribers,
             final Map<String, EventFactory> typedEventFactories) {
+        this(typedEventSubscribers, typedEventFactories, new EventStatisticsImpl());
+    }
+
+    /**
+     * Create a new event handler.
+     *
+     * @param typedEventSubscribers the event subscribers indexed by the event type
+     * @param typedEventFactories the event factories indexed by the event type
+     * @param statistics the statistics to record the handled events in
+     */
+    EventHandler(final Map<String, Set<EventSubscriber>> typedEventSubscribers,
+            final Map<String, EventFactory> typedEventFactories, final EventStatisticsImpl statistics) {
         this.typedEventSubscribers = typedEventSubscribers;
         this.typedEventFactories = typedEventFactories;
+        this.statistics = statistics;
     }
 
     private synchronized ExecutorRecord createExecutorRecord(Class<? extends EventSubscriber> subscriber) {
         return new ExecutorRecord(
                 Executors.newSingleThreadExecutor(new NamedThreadFactory("eventexecutor-" + executors.size())),
                 Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("eventwatcher-" + executors.size())),
-                new AtomicInteger());
+                statistics.getSubscriberRecord(subscriber));
     }
 
     @Override
@@ -102,9 +116,11 @@ public class EventHandler implements AutoCloseable {
 
     private void handleEvent(final String type, final String payload, final String topic,
             final @Nullable String source) {
+        statistics.eventPublished(type);
         final EventFactory eventFactory = typedEventFactories.get(type);
         if (eventFactory == null) {
             logger.debug("Could not find an Event Factory for the event type '{}'.", type);
+            statistics.eventDropped();
             return;
         }
 
@@ -115,6 +131,7 @@ public class EventHandler implements AutoCloseable {
 
         final Event event = createEvent(eventFactory, type, payload, topic, source);
         if (event == null) {
+            statistics.eventDropped();
             return;
         }
 
@@ -154,7 +171,8 @@ public class EventHandler implements AutoCloseable {
                 logger.trace("Delegate event to subscriber ({}).", eventSubscriber.getClass());
                 ExecutorRecord executorRecord = Objects.requireNonNull(
                         executors.computeIfAbsent(eventSubscriber.getClass(), this::createExecutorRecord));
-                int queueSize = executorRecord.count().incrementAndGet();
+                SubscriberRecord subscriberRecord = executorRecord.subscriberRecord();
+                int queueSize = subscriberRecord.backlog.incrementAndGet();
                 if (queueSize > EVENT_QUEUE_WARN_LIMIT) {
                     logger.warn("The queue for a subscriber of type '{}' exceeds {} elements. System may be unstable.",
                             eventSubscriber.getClass(), EVENT_QUEUE_WARN_LIMIT);
@@ -164,20 +182,24 @@ public class EventHandler implements AutoCloseable {
                             () -> logger.warn("Dispatching event to subscriber '{}' takes more than {}ms.",
                                     eventSubscriber, EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS),
                             EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS, TimeUnit.MILLISECONDS);
+                    long start = System.nanoTime();
                     try {
                         eventSubscriber.receive(event);
                     } catch (final Exception ex) {
+                        subscriberRecord.failedEvents.increment();
                         logger.warn("Dispatching/filtering event for subscriber '{}' failed: {}",
                                 EventSubscriber.class.getName(), ex.getMessage(), ex);
                     }
+                    statistics.eventHandled(subscriberRecord, System.nanoTime() - start);
                     logTimeout.cancel(false);
-                }, executorRecord.executor()).thenRun(executorRecord.count::decrementAndGet);
+                }, executorRecord.executor()).thenRun(subscriberRecord.backlog::decrementAndGet);
             } else {
                 logger.trace("Skip event subscriber ({}) because of its filter.", eventSubscriber.getClass());
             }
         }
     }
 
-    private record ExecutorRecord(ExecutorService executor, ScheduledExecutorService watcher, AtomicInteger count) {
+    private record ExecutorRecord(ExecutorService executor, ScheduledExecutorService watcher,
+            SubscriberRecord subscriberRecord) {
     }
 }
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.EventStatistics;
+import org.openhab.core.events.EventSubscriber;
+
+/**
+ * The {@link EventStatisticsImpl} collects the statistics of the event bus, as recorded by the
+ * {@link ThreadedEventHandler} and the {@link EventHandler}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class EventStatisticsImpl implements EventStatistics {
+
+    private final Map<String, LongAdder> publishedEvents = new ConcurrentHashMap<>();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LatencyHistogram queueWaitTime = new LatencyHistogram();
+    private final Map<String, SubscriberRecord> subscribers = new ConcurrentHashMap<>();
+    private final List<LatencyListener> latencyListeners = new CopyOnWriteArrayList<>();
+    private volatile IntSupplier queueSize = () -> 0;
+
+    void setQueueSizeSupplier(IntSupplier queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    void eventDequeued(long waitNanos) {
+        queueWaitTime.record(waitNanos);
+        for (LatencyListener listener : latencyListeners) {
+            listener.eventDequeued(waitNanos);
+        }
+    }
+
+    void eventHandled(SubscriberRecord subscriberRecord, long handlingNanos) {
+        subscriberRecord.handlingTime.record(handlingNanos);
+        subscriberRecord.handledEvents.increment();
+        for (LatencyListener listener : latencyListeners) {
+            listener.eventHandled(subscriberRecord.name, handlingNanos);
+        }
+    }
+
+    void eventPublished(String type) {
+        publishedEvents.computeIfAbsent(type, t -> new LongAdder()).increment();
+    }
+
+    void eventDropped() {
+        droppedEvents.increment();
+    }
+
+    SubscriberRecord getSubscriberRecord(Class<? extends EventSubscriber> subscriberClass) {
+        return subscribers.computeIfAbsent(subscriberClass.getName(), SubscriberRecord::new);
+    }
+
+    @Override
+    public void addLatencyListener(LatencyListener listener) {
+        latencyListeners.add(listener);
+    }
+
+    @Override
+    public void removeLatencyListener(LatencyListener listener) {
+        latencyListeners.remove(listener);
+    }
+
+    @Override
+    public Map<String, Long> getPublishedEventCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        publishedEvents.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return queueSize.getAsInt();
+    }
+
+    @Override
+    public LatencySnapshot getQueueWaitTime() {
+        return queueWaitTime.snapshot();
+    }
+
+    @Override
+    public Map<String, SubscriberStatistics> getSubscriberStatistics() {
+        Map<String, SubscriberStatistics> statistics = new HashMap<>();
+        subscribers.forEach((name, record) -> statistics.put(name, record.toStatistics()));
+        return statistics;
+    }
+
+    /**
+     * The mutable statistics of the event subscribers of one class.
+     */
+    static class SubscriberRecord {
+        final String name;
+        final LongAdder handledEvents = new LongAdder();
+        final LongAdder failedEvents = new LongAdder();
+        final AtomicInteger backlog = new AtomicInteger();
+        final LatencyHistogram handlingTime = new LatencyHistogram();
+
+        SubscriberRecord(String name) {
+            this.name = name;
+        }
+
+        private SubscriberStatistics toStatistics() {
+            return new SubscriberStatistics(handledEvents.sum(), failedEvents.sum(), backlog.get(),
+                    handlingTime.snapshot());
+        }
+    }
+}
@@ -19,7 +19,9 @@ import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFactory;
+import org.openhab.core.events.EventStatistics;
 import org.openhab.core.events.EventSubscriber;
+import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -47,16 +49,25 @@ public class OSGiEventManager implements EventHandler {
     private final Map<String, Set<EventSubscriber>> typedEventSubscribers = new ConcurrentHashMap<>();
     private final Map<String, EventFactory> typedEventFactories = new ConcurrentHashMap<>();
 
+    private final EventStatisticsImpl statistics = new EventStatisticsImpl();
+
     private ThreadedEventHandler eventHandler;
+    private ServiceRegistration<EventStatistics> statisticsRegistration;
 
     @Activate
     protected void activate(ComponentContext componentContext) {
-        eventHandler = new ThreadedEventHandler(typedEventSubscribers, typedEventFactories);
+        eventHandler = new ThreadedEventHandler(typedEventSubscribers, typedEventFactories, statistics);
         eventHandler.open();
+        statisticsRegistration = componentContext.getBundleContext().registerService(EventStatistics.class,
+                statistics, null);
     }
 
     @Deactivate
     protected void deactivate(ComponentContext componentContext) {
+        if (statisticsRegistration != null) {
+            statisticsRegistration.unregister();
+            statisticsRegistration = null;
+        }
         if (eventHandler != null) {
             eventHandler.close();
             eventHandler = null;
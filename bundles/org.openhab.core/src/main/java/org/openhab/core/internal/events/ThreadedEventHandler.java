@@ -40,7 +40,7 @@ public class ThreadedEventHandler implements Closeable {
     private final Thread thread;
 
     private final Event notifyEvent = new Event("notify", Map.of());
-    private final BlockingQueue<Event> queue = new LinkedBlockingQueue<>();
+    private final BlockingQueue<QueuedEvent> queue = new LinkedBlockingQueue<>();
     private final AtomicBoolean running = new AtomicBoolean(true);
 
     /**
@@ -51,19 +51,33 @@ public class ThreadedEventHandler implements Closeable {
      */
     ThreadedEventHandler(Map<String, Set<EventSubscriber>> typedEventSubscribers,
             final Map<String, EventFactory> typedEventFactories) {
+        this(typedEventSubscribers, typedEventFactories, new EventStatisticsImpl());
+    }
+
+    /**
+     * Create a new threaded event handler.
+     *
+     * @param typedEventSubscribers the event subscribers
+     * @param typedEventFactories the event factories indexed by the event type
+     * @param statistics the statistics to record the handled events in
+     */
+    ThreadedEventHandler(Map<String, Set<EventSubscriber>> typedEventSubscribers,
+            final Map<String, EventFactory> typedEventFactories, final EventStatisticsImpl statistics) {
+        statistics.setQueueSizeSupplier(queue::size);
         thread = new Thread(() -> {
-            try (EventHandler worker = new EventHandler(typedEventSubscribers, typedEventFactories)) {
+            try (EventHandler worker = new EventHandler(typedEventSubscribers, typedEventFactories, statistics)) {
                 while (running.get()) {
                     try {
                         logger.trace("wait for event");
-                        final Event event = queue.poll(1, TimeUnit.HOURS);
-                        logger.trace("inspect event: {}", event);
-                        if (event == null) {
+                        final QueuedEvent queuedEvent = queue.poll(1, TimeUnit.HOURS);
+                        logger.trace("inspect event: {}", queuedEvent);
+                        if (queuedEvent == null) {
                             logger.debug("Hey, you have really very few events.");
-                        } else if (event.equals(notifyEvent)) {
+                        } else if (queuedEvent.event().equals(notifyEvent)) {
                             // received an internal notification
                         } else {
-                            worker.handleEvent(event);
+                            statistics.eventDequeued(System.nanoTime() - queuedEvent.enqueuedAt());
+                            worker.handleEvent(queuedEvent.event());
                         }
                     } catch (InterruptedException ex) {
                         Thread.currentThread().interrupt();
@@ -82,7 +96,7 @@ public class ThreadedEventHandler implements Closeable {
     @Override
     public void close() {
         running.set(false);
-        queue.add(notifyEvent);
+        queue.add(new QueuedEvent(notifyEvent, System.nanoTime()));
         thread.interrupt();
         try {
             thread.join();
@@ -92,6 +106,9 @@ public class ThreadedEventHandler implements Closeable {
     }
 
     void handleEvent(Event event) {
-        queue.add(event);
+        queue.add(new QueuedEvent(event, System.nanoTime()));
+    }
+
+    private record QueuedEvent(Event event, long enqueuedAt) {
     }
 }
@@ -14,9 +14,14 @@ package org.openhab.core.internal.items;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -80,6 +85,8 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
 
     private final Map<String, Optional<ExpireConfig>> itemExpireConfig = new ConcurrentHashMap<>();
     private final Map<String, Instant> itemExpireMap = new ConcurrentHashMap<>();
+    // the pending expiries ordered by their deadline, guarded by itself
+    private final NavigableSet<ExpiryEntry> expiryQueue = new TreeSet<>();
 
     private final ScheduledExecutorService threadPool = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
@@ -92,6 +99,7 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
     private boolean enabled = true;
 
     private @Nullable ScheduledFuture<?> expireJob;
+    private @Nullable Instant expireJobDeadline;
 
     @Activate
     public ExpireManager(Map<String, @Nullable Object> configuration, final @Reference EventPublisher eventPublisher,
@@ -110,18 +118,6 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
             enabled = Boolean.parseBoolean(valueEnabled.toString());
         }
         if (enabled) {
-            ScheduledFuture<?> localExpireJob = expireJob;
-            if (localExpireJob == null) {
-                expireJob = threadPool.scheduleWithFixedDelay(() -> {
-                    if (!itemExpireMap.isEmpty()) {
-                        for (String itemName : itemExpireConfig.keySet()) {
-                            if (isReadyToExpire(itemName)) {
-                                expire(itemName);
-                            }
-                        }
-                    }
-                }, 1, 1, TimeUnit.SECONDS);
-            }
             itemRegistry.addRegistryChangeListener(this);
             metadataRegistry.addRegistryChangeListener(metadataChangeListener);
         } else {
@@ -131,14 +127,18 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
 
     @Deactivate
     protected void deactivate() {
-        ScheduledFuture<?> localExpireJob = expireJob;
-        if (localExpireJob != null) {
-            localExpireJob.cancel(true);
-            expireJob = null;
-        }
         itemRegistry.removeRegistryChangeListener(this);
         metadataRegistry.removeRegistryChangeListener(metadataChangeListener);
-        itemExpireMap.clear();
+        synchronized (expiryQueue) {
+            ScheduledFuture<?> localExpireJob = expireJob;
+            if (localExpireJob != null) {
+                localExpireJob.cancel(true);
+                expireJob = null;
+                expireJobDeadline = null;
+            }
+            expiryQueue.clear();
+            itemExpireMap.clear();
+        }
     }
 
     private void processEvent(String itemName, Type stateOrCommand, ExpireConfig expireConfig, Class<?> eventClz) {
@@ -149,12 +149,12 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
         if ((expireCommand != null && expireCommand.equals(stateOrCommand))
                 || (expireState != null && expireState.equals(stateOrCommand))) {
             // New event is expired command or state -> no further action needed
-            itemExpireMap.remove(itemName); // remove expire trigger until next update or command
+            cancelExpiry(itemName); // remove expire trigger until next update or command
             logger.debug("Item {} received '{}'; stopping any future expiration.", itemName, stateOrCommand);
         } else {
             // New event is not the expired command or state, so add the trigger to the map
             Duration duration = expireConfig.duration;
-            itemExpireMap.put(itemName, Instant.now().plus(duration));
+            scheduleExpiry(itemName, Instant.now().plus(duration));
             logger.debug("Item {} will expire (with '{}' {}) in {} ms", itemName,
                     expireCommand == null ? expireState : expireCommand, expireCommand == null ? "state" : "command",
                     duration);
@@ -196,13 +196,73 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
         eventPublisher.post(ItemEventFactory.createStateEvent(itemName, state, EVENT_SOURCE));
     }
 
-    private boolean isReadyToExpire(String itemName) {
-        Instant nextExpiry = itemExpireMap.get(itemName);
-        return (nextExpiry != null) && Instant.now().isAfter(nextExpiry);
+    private void scheduleExpiry(String itemName, Instant deadline) {
+        synchronized (expiryQueue) {
+            Instant previousDeadline = itemExpireMap.put(itemName, deadline);
+            if (previousDeadline != null) {
+                expiryQueue.remove(new ExpiryEntry(previousDeadline, itemName));
+            }
+            expiryQueue.add(new ExpiryEntry(deadline, itemName));
+            armExpireJob();
+        }
+    }
+
+    private void cancelExpiry(String itemName) {
+        synchronized (expiryQueue) {
+            Instant deadline = itemExpireMap.remove(itemName);
+            if (deadline != null) {
+                expiryQueue.remove(new ExpiryEntry(deadline, itemName));
+            }
+            // a job armed for a cancelled expiry finds nothing due and re-arms itself for the next one
+        }
+    }
+
+    /**
+     * Schedules the expire job for the earliest deadline, unless it is already scheduled early enough.
+     * Must be called while holding the lock of the {@link #expiryQueue}.
+     */
+    private void armExpireJob() {
+        if (expiryQueue.isEmpty()) {
+            return;
+        }
+        Instant deadline = expiryQueue.first().deadline();
+        Instant jobDeadline = expireJobDeadline;
+        if (jobDeadline != null && !deadline.isBefore(jobDeadline)) {
+            return;
+        }
+        ScheduledFuture<?> localExpireJob = expireJob;
+        if (localExpireJob != null) {
+            localExpireJob.cancel(false);
+        }
+        long delay = Math.max(0, Duration.between(Instant.now(), deadline).toMillis());
+        expireJob = threadPool.schedule(() -> expireDueItems(deadline), delay, TimeUnit.MILLISECONDS);
+        expireJobDeadline = deadline;
+    }
+
+    private void expireDueItems(Instant jobDeadline) {
+        List<String> dueItemNames = new ArrayList<>();
+        synchronized (expiryQueue) {
+            if (jobDeadline.equals(expireJobDeadline)) {
+                expireJob = null;
+                expireJobDeadline = null;
+            }
+            Instant now = Instant.now();
+            for (Iterator<ExpiryEntry> iterator = expiryQueue.iterator(); iterator.hasNext();) {
+                ExpiryEntry entry = iterator.next();
+                if (entry.deadline().isAfter(now)) {
+                    break;
+                }
+                iterator.remove();
+                // disable expire trigger until next update or command
+                itemExpireMap.remove(entry.itemName(), entry.deadline());
+                dueItemNames.add(entry.itemName());
+            }
+            armExpireJob();
+        }
+        dueItemNames.forEach(this::expire);
     }
 
     private void expire(String itemName) {
-        itemExpireMap.remove(itemName); // disable expire trigger until next update or command
         Optional<ExpireConfig> expireConfig = itemExpireConfig.get(itemName);
 
         if (expireConfig != null && expireConfig.isPresent()) {
@@ -270,6 +330,17 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
         itemExpireConfig.remove(item.getName());
     }
 
+    /**
+     * A pending expiry, ordered by its deadline.
+     */
+    private record ExpiryEntry(Instant deadline, String itemName) implements Comparable<ExpiryEntry> {
+        @Override
+        public int compareTo(ExpiryEntry other) {
+            int result = deadline.compareTo(other.deadline);
+            return result != 0 ? result : itemName.compareTo(other.itemName);
+        }
+    }
+
     class MetadataChangeListener implements RegistryChangeListener<Metadata> {
 
         @Override
@@ -300,8 +371,8 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
         protected static final String COMMAND_PREFIX = "command=";
         protected static final String STATE_PREFIX = "state=";
 
-        protected static final Pattern DURATION_PATTERN = Pattern
-                .compile("(?:([0-9]+)H)?\\s*(?:([0-9]+)M)?\\s*(?:([0-9]+)S)?", Pattern.CASE_INSENSITIVE);
+        protected static final Pattern DURATION_PATTERN = Pattern.compile(
+                "(?:([0-9]+)H)?\\s*(?:([0-9]+)M(?!S))?\\s*(?:([0-9]+)S)?\\s*(?:([0-9]+)MS)?", Pattern.CASE_INSENSITIVE);
 
         final @Nullable Command expireCommand;
         final @Nullable State expireState;
@@ -395,9 +466,10 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
 
         private Duration parseDuration(String durationString) throws IllegalArgumentException {
             Matcher m = DURATION_PATTERN.matcher(durationString);
-            if (!m.matches() || (m.group(1) == null && m.group(2) == null && m.group(3) == null)) {
-                throw new IllegalArgumentException(
-                        "Invalid duration: " + durationString + ". Expected something like: '1h 15m 30s'");
+            if (!m.matches() || (m.group(1) == null && m.group(2) == null && m.group(3) == null
+                    && m.group(4) == null)) {
+                throw new IllegalArgumentException("Invalid duration: " + durationString
+                        + ". Expected something like: '1h 15m 30s' or '500ms'");
             }
 
             Duration duration = Duration.ZERO;
@@ -410,6 +482,9 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
             if (m.group(3) != null) {
                 duration = duration.plus(Duration.ofSeconds(Long.parseLong(m.group(3))));
             }
+            if (m.group(4) != null) {
+                duration = duration.plus(Duration.ofMillis(Long.parseLong(m.group(4))));
+            }
             return duration;
         }
 
@@ -19,20 +19,25 @@ import java.math.BigInteger;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.items.Metadata;
 import org.openhab.core.items.MetadataKey;
 import org.openhab.core.items.MetadataRegistry;
 import org.openhab.core.types.StateDescriptionFragment;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
+import org.openhab.core.types.StateDescriptionFragmentChangeListener;
 import org.openhab.core.types.StateDescriptionFragmentProvider;
 import org.openhab.core.types.StateOption;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,7 +50,8 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 @Component(service = StateDescriptionFragmentProvider.class)
-public class MetadataStateDescriptionFragmentProvider implements StateDescriptionFragmentProvider {
+public class MetadataStateDescriptionFragmentProvider
+        implements StateDescriptionFragmentProvider, RegistryChangeListener<Metadata> {
 
     private final Logger logger = LoggerFactory.getLogger(MetadataStateDescriptionFragmentProvider.class);
 
@@ -55,6 +61,8 @@ public class MetadataStateDescriptionFragmentProvider implements StateDescriptio
 
     private final Integer rank;
 
+    private final Set<StateDescriptionFragmentChangeListener> listeners = new CopyOnWriteArraySet<>();
+
     @Activate
     public MetadataStateDescriptionFragmentProvider(final @Reference MetadataRegistry metadataRegistry,
             Map<String, Object> properties) {
@@ -66,6 +74,13 @@ public class MetadataStateDescriptionFragmentProvider implements StateDescriptio
         } else {
             rank = 1; // takes precedence over other providers usually ranked 0
         }
+
+        metadataRegistry.addRegistryChangeListener(this);
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        metadataRegistry.removeRegistryChangeListener(this);
     }
 
     @Override
@@ -161,4 +176,41 @@ public class MetadataStateDescriptionFragmentProvider implements StateDescriptio
     public Integer getRank() {
         return rank;
     }
+
+    @Override
+    public boolean isNotifyingChanges() {
+        return true;
+    }
+
+    @Override
+    public void addStateDescriptionFragmentChangeListener(StateDescriptionFragmentChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeStateDescriptionFragmentChangeListener(StateDescriptionFragmentChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void added(Metadata element) {
+        notifyListeners(element);
+    }
+
+    @Override
+    public void removed(Metadata element) {
+        notifyListeners(element);
+    }
+
+    @Override
+    public void updated(Metadata oldElement, Metadata element) {
+        notifyListeners(element);
+    }
+
+    private void notifyListeners(Metadata metadata) {
+        MetadataKey key = metadata.getUID();
+        if (STATEDESCRIPTION_METADATA_NAMESPACE.equals(key.getNamespace())) {
+            listeners.forEach(listener -> listener.stateDescriptionFragmentChanged(key.getItemName()));
+        }
+    }
 }
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.library.unit;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.measure.IncommensurableException;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tech.units.indriya.AbstractUnit;
+
+/**
+ * The {@link UnitCache} caches parsed units and unit converters.
+ * <p>
+ * Parsing a unit symbol and determining the converter between two units are expensive operations in Indriya, but the
+ * number of different units used in a system is small. Both caches are bounded: if the maximum size is exceeded (e.g.
+ * because of arbitrary user input), the cache is cleared.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public final class UnitCache {
+
+    private static final int MAX_CACHE_SIZE = 1000;
+
+    private static final Map<String, Unit<?>> PARSED_UNITS = new ConcurrentHashMap<>();
+    private static final Map<String, Optional<Unit<?>>> PATTERN_UNITS = new ConcurrentHashMap<>();
+    private static final Map<ConverterKey, UnitConverter> CONVERTERS = new ConcurrentHashMap<>();
+
+    static {
+        UnitInitializer.init();
+    }
+
+    private UnitCache() {
+        // prevent instantiation
+    }
+
+    /**
+     * Parses a unit symbol with {@link AbstractUnit#parse(CharSequence)}.
+     *
+     * @param symbol the unit symbol
+     * @return the parsed unit
+     * @throws javax.measure.format.MeasurementParseException if the symbol can not be parsed
+     */
+    public static Unit<?> parse(String symbol) {
+        Unit<?> unit = PARSED_UNITS.get(symbol);
+        if (unit != null) {
+            return unit;
+        }
+        Unit<?> parsedUnit = AbstractUnit.parse(symbol);
+        put(PARSED_UNITS, symbol, parsedUnit);
+        return parsedUnit;
+    }
+
+    /**
+     * Gets a unit for a unit symbol, using the given function if the symbol is not cached yet. Symbols that can not be
+     * parsed are cached as well.
+     *
+     * @param symbol the unit symbol
+     * @param parser a function that parses the symbol and returns {@code null} if it is not a valid unit
+     * @return the unit or {@code null} if the symbol is not a valid unit
+     */
+    public static @Nullable Unit<?> parse(String symbol, Function<String, @Nullable Unit<?>> parser) {
+        Optional<Unit<?>> unit = PATTERN_UNITS.get(symbol);
+        if (unit != null) {
+            return unit.orElse(null);
+        }
+        @Nullable
+        Unit<?> parsedUnit = parser.apply(symbol);
+        put(PATTERN_UNITS, symbol, Optional.ofNullable(parsedUnit));
+        return parsedUnit;
+    }
+
+    /**
+     * Gets the converter from one unit to another (see {@link Unit#getConverterToAny(Unit)}).
+     *
+     * @param source the source unit
+     * @param target the target unit
+     * @return the converter
+     * @throws IncommensurableException if the units are not compatible
+     * @throws UnconvertibleException if the converter can not be determined
+     */
+    public static UnitConverter getConverter(Unit<?> source, Unit<?> target)
+            throws IncommensurableException, UnconvertibleException {
+        ConverterKey key = new ConverterKey(source, target);
+        UnitConverter converter = CONVERTERS.get(key);
+        if (converter != null) {
+            return converter;
+        }
+        UnitConverter newConverter = source.getConverterToAny(target);
+        put(CONVERTERS, key, newConverter);
+        return newConverter;
+    }
+
+    private static <K, V> void put(Map<K, V> cache, K key, V value) {
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(key, value);
+    }
+
+    private record ConverterKey(Unit<?> source, Unit<?> target) {
+    }
+}
@@ -12,11 +12,14 @@
  */
 package org.openhab.core.internal.service;
 
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -24,6 +27,7 @@ import org.openhab.core.internal.types.StateDescriptionFragmentImpl;
 import org.openhab.core.service.StateDescriptionService;
 import org.openhab.core.types.StateDescription;
 import org.openhab.core.types.StateDescriptionFragment;
+import org.openhab.core.types.StateDescriptionFragmentChangeListener;
 import org.openhab.core.types.StateDescriptionFragmentProvider;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -34,40 +38,116 @@ import org.osgi.service.component.annotations.ReferencePolicy;
  * This service contains different {@link StateDescriptionFragmentProvider}s and provides a getStateDescription method
  * that returns a single {@link StateDescription} using all of the providers.
  *
+ * The merged descriptions are cached per item and locale as long as all registered providers notify about their
+ * changes, see {@link StateDescriptionFragmentProvider#isNotifyingChanges()}.
+ *
  * @author Lyubomir Papazov - Initial contribution
  */
 @NonNullByDefault
 @Component
-public class StateDescriptionServiceImpl implements StateDescriptionService {
+public class StateDescriptionServiceImpl implements StateDescriptionService, StateDescriptionFragmentChangeListener {
+
+    private static final StateDescriptionFragmentProvider[] NO_PROVIDERS = new StateDescriptionFragmentProvider[0];
 
-    private final Set<StateDescriptionFragmentProvider> stateDescriptionFragmentProviders = Collections.synchronizedSet(
-            new TreeSet<StateDescriptionFragmentProvider>(new Comparator<StateDescriptionFragmentProvider>() {
+    private final Set<StateDescriptionFragmentProvider> stateDescriptionFragmentProviders = new TreeSet<>(
+            new Comparator<StateDescriptionFragmentProvider>() {
                 @Override
                 public int compare(StateDescriptionFragmentProvider provider1,
                         StateDescriptionFragmentProvider provider2) {
                     return provider2.getRank().compareTo(provider1.getRank());
                 }
-            }));
+            });
+
+    // snapshot of the providers ordered by rank, replaced on every change so that it can be read without locking
+    private volatile StateDescriptionFragmentProvider[] providerSnapshot = NO_PROVIDERS;
+
+    // merged state descriptions by item name and language tag of the locale
+    private final Map<String, Map<String, Optional<StateDescription>>> cache = new ConcurrentHashMap<>();
+    private final AtomicLong cacheGeneration = new AtomicLong();
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     public void addStateDescriptionFragmentProvider(StateDescriptionFragmentProvider provider) {
-        stateDescriptionFragmentProviders.add(provider);
+        synchronized (stateDescriptionFragmentProviders) {
+            stateDescriptionFragmentProviders.add(provider);
+            providerSnapshot = stateDescriptionFragmentProviders.toArray(NO_PROVIDERS);
+        }
+        provider.addStateDescriptionFragmentChangeListener(this);
+        allStateDescriptionFragmentsChanged();
     }
 
     public void removeStateDescriptionFragmentProvider(StateDescriptionFragmentProvider provider) {
-        stateDescriptionFragmentProviders.remove(provider);
+        provider.removeStateDescriptionFragmentChangeListener(this);
+        synchronized (stateDescriptionFragmentProviders) {
+            stateDescriptionFragmentProviders.remove(provider);
+            providerSnapshot = stateDescriptionFragmentProviders.toArray(NO_PROVIDERS);
+        }
+        allStateDescriptionFragmentsChanged();
     }
 
     @Override
     public @Nullable StateDescription getStateDescription(String itemName, @Nullable Locale locale) {
-        StateDescriptionFragment stateDescriptionFragment = getMergedStateDescriptionFragments(itemName, locale);
+        StateDescriptionFragmentProvider[] providers = providerSnapshot;
+        if (!isCacheable(providers)) {
+            // nothing is cached meanwhile, providers notify when they are added, removed or stop notifying
+            return getMergedStateDescription(providers, itemName, locale);
+        }
+
+        String localeKey = locale == null ? "" : locale.toLanguageTag();
+        Map<String, Optional<StateDescription>> itemCache = cache.get(itemName);
+        if (itemCache != null) {
+            Optional<StateDescription> cached = itemCache.get(localeKey);
+            if (cached != null) {
+                return cached.orElse(null);
+            }
+        }
+
+        long generation = cacheGeneration.get();
+        Optional<StateDescription> stateDescription = Optional
+                .ofNullable(getMergedStateDescription(providers, itemName, locale));
+        if (generation == cacheGeneration.get()) {
+            Map<String, Optional<StateDescription>> newItemCache = cache.computeIfAbsent(itemName,
+                    name -> new ConcurrentHashMap<>());
+            newItemCache.put(localeKey, stateDescription);
+            // an invalidation may have happened concurrently, don't keep a possibly outdated result then
+            if (generation != cacheGeneration.get()) {
+                newItemCache.remove(localeKey, stateDescription);
+            }
+        }
+        return stateDescription.orElse(null);
+    }
+
+    @Override
+    public void stateDescriptionFragmentChanged(String itemName) {
+        cacheGeneration.incrementAndGet();
+        cache.remove(itemName);
+    }
+
+    @Override
+    public void allStateDescriptionFragmentsChanged() {
+        cacheGeneration.incrementAndGet();
+        cache.clear();
+    }
+
+    private boolean isCacheable(StateDescriptionFragmentProvider[] providers) {
+        for (StateDescriptionFragmentProvider provider : providers) {
+            if (!provider.isNotifyingChanges()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private @Nullable StateDescription getMergedStateDescription(StateDescriptionFragmentProvider[] providers,
+            String itemName, @Nullable Locale locale) {
+        StateDescriptionFragment stateDescriptionFragment = getMergedStateDescriptionFragments(providers, itemName,
+                locale);
         return stateDescriptionFragment != null ? stateDescriptionFragment.toStateDescription() : null;
     }
 
-    private @Nullable StateDescriptionFragment getMergedStateDescriptionFragments(String itemName,
-            @Nullable Locale locale) {
+    private @Nullable StateDescriptionFragment getMergedStateDescriptionFragments(
+            StateDescriptionFragmentProvider[] providers, String itemName, @Nullable Locale locale) {
         StateDescriptionFragmentImpl result = null;
-        for (StateDescriptionFragmentProvider provider : stateDescriptionFragmentProviders) {
+        for (StateDescriptionFragmentProvider provider : providers) {
             StateDescriptionFragment fragment = provider.getStateDescriptionFragment(itemName, locale);
             if (fragment == null) {
                 continue;
@@ -12,12 +12,11 @@
  */
 package org.openhab.core.items.events;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.time.Instant;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,11 +27,10 @@ import org.openhab.core.items.Item;
 import org.openhab.core.items.dto.ItemDTO;
 import org.openhab.core.items.dto.ItemDTOMapper;
 import org.openhab.core.types.Command;
-import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TimeSeries;
 import org.openhab.core.types.Type;
-import org.openhab.core.types.UnDefType;
+import org.openhab.core.types.TypeParser;
 import org.osgi.service.component.annotations.Component;
 
 /**
@@ -214,25 +212,14 @@ public class ItemEventFactory extends AbstractEventFactory {
     }
 
     private static @Nullable Object parseSimpleClassName(String simpleClassName, String valueToParse) {
-        if (simpleClassName.equals(UnDefType.class.getSimpleName())) {
-            return UnDefType.valueOf(valueToParse);
-        }
-        if (simpleClassName.equals(RefreshType.class.getSimpleName())) {
-            return RefreshType.valueOf(valueToParse);
+        Function<String, ? extends Type> parser = TypeParser.getParser(simpleClassName);
+        if (parser == null) {
+            throw new IllegalArgumentException("Error getting class for simple name: '" + simpleClassName
+                    + "' using package name '" + CORE_LIBRARY_PACKAGE + "'.");
         }
-
         try {
-            Class<?> stateClass = Class.forName(CORE_LIBRARY_PACKAGE + simpleClassName);
-            Method valueOfMethod = stateClass.getMethod("valueOf", String.class);
-            return valueOfMethod.invoke(stateClass, valueToParse);
-        } catch (ClassNotFoundException e) {
-            throw new IllegalArgumentException("Error getting class for simple name: '" + simpleClassName
-                    + "' using package name '" + CORE_LIBRARY_PACKAGE + "'.", e);
-        } catch (NoSuchMethodException | SecurityException e) {
-            throw new IllegalStateException(
-                    "Error getting method #valueOf(String) of class '" + CORE_LIBRARY_PACKAGE + simpleClassName + "'.",
-                    e);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            return parser.apply(valueToParse);
+        } catch (RuntimeException e) {
             throw new IllegalStateException("Error invoking #valueOf(String) on class '" + CORE_LIBRARY_PACKAGE
                     + simpleClassName + "' with value '" + valueToParse + "'.", e);
         }
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.library.types;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.types.Type;
+import org.openhab.core.types.TypeParser;
+import org.openhab.core.types.TypeParserProvider;
+
+/**
+ * The {@link LibraryTypeParserProvider} provides the parsers of the library types to the {@link TypeParser}, so that
+ * parsing them does not need reflection.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public final class LibraryTypeParserProvider implements TypeParserProvider {
+
+    private final Map<Class<? extends Type>, Function<String, ? extends Type>> parsers = new HashMap<>();
+
+    public LibraryTypeParserProvider() {
+        addParser(DateTimeType.class, DateTimeType::valueOf);
+        addParser(DecimalType.class, DecimalType::valueOf);
+        addParser(HSBType.class, HSBType::valueOf);
+        addParser(IncreaseDecreaseType.class, IncreaseDecreaseType::valueOf);
+        addParser(NextPreviousType.class, NextPreviousType::valueOf);
+        addParser(OnOffType.class, OnOffType::valueOf);
+        addParser(OpenClosedType.class, OpenClosedType::valueOf);
+        addParser(PercentType.class, PercentType::valueOf);
+        addParser(PlayPauseType.class, PlayPauseType::valueOf);
+        addParser(PointType.class, PointType::valueOf);
+        addParser(QuantityType.class, QuantityType::valueOf);
+        addParser(RawType.class, RawType::valueOf);
+        addParser(RewindFastforwardType.class, RewindFastforwardType::valueOf);
+        addParser(StopMoveType.class, StopMoveType::valueOf);
+        addParser(StringListType.class, StringListType::valueOf);
+        addParser(StringType.class, StringType::valueOf);
+        addParser(UpDownType.class, UpDownType::valueOf);
+    }
+
+    @Override
+    public Map<Class<? extends Type>, Function<String, ? extends Type>> getParsers() {
+        return Map.copyOf(parsers);
+    }
+
+    private <T extends Type> void addParser(Class<T> type, Function<String, ? extends T> parser) {
+        parsers.put(type, parser);
+    }
+}
@@ -38,6 +38,7 @@ import javax.measure.quantity.Dimensionless;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.internal.library.unit.UnitCache;
 import org.openhab.core.internal.library.unit.UnitInitializer;
 import org.openhab.core.library.unit.MetricPrefix;
 import org.openhab.core.library.unit.Units;
@@ -268,10 +269,11 @@ public class QuantityType<T extends Quantity<T>> extends Number
     public @Nullable QuantityType<T> toUnit(Unit<?> targetUnit) {
         if (!targetUnit.equals(getUnit())) {
             try {
-                UnitConverter uc = getUnit().getConverterToAny(targetUnit);
-                Quantity<?> result = Quantities.getQuantity(uc.convert(quantity.getValue()), targetUnit);
-
-                return new QuantityType<>(result.getValue(), (Unit<T>) targetUnit);
+                UnitConverter uc = UnitCache.getConverter(getUnit(), targetUnit);
+                if (uc.isIdentity()) {
+                    return new QuantityType<>(quantity.getValue(), (Unit<T>) targetUnit);
+                }
+                return new QuantityType<>(uc.convert(quantity.getValue()), (Unit<T>) targetUnit);
             } catch (UnconvertibleException | IncommensurableException e) {
                 logger.debug("Unable to convert unit from {} to {}", getUnit(), targetUnit);
                 return null;
@@ -282,7 +284,7 @@ public class QuantityType<T extends Quantity<T>> extends Number
 
     @SuppressWarnings("unchecked")
     public @Nullable QuantityType<T> toUnit(String targetUnit) {
-        Unit<T> unit = (Unit<T>) AbstractUnit.parse(targetUnit);
+        Unit<T> unit = (Unit<T>) UnitCache.parse(targetUnit);
         if (unit != null) {
             return toUnit(unit);
         }
@@ -309,7 +311,7 @@ public class QuantityType<T extends Quantity<T>> extends Number
     }
 
     public @Nullable QuantityType<?> toInvertibleUnit(String targetUnit) {
-        Unit<?> unit = AbstractUnit.parse(targetUnit);
+        Unit<?> unit = UnitCache.parse(targetUnit);
         if (unit != null) {
             return toInvertibleUnit(unit);
         }
@@ -342,7 +344,7 @@ public class QuantityType<T extends Quantity<T>> extends Number
     }
 
     public @Nullable QuantityType<T> toUnitRelative(String targetUnit) {
-        Unit<T> unit = (Unit<T>) AbstractUnit.parse(targetUnit);
+        Unit<T> unit = (Unit<T>) UnitCache.parse(targetUnit);
         if (unit != null) {
             return toUnitRelative(unit);
         }
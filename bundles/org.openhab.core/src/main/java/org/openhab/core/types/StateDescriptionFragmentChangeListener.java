@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.types;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A listener that is notified by a {@link StateDescriptionFragmentProvider} whenever the
+ * {@link StateDescriptionFragment}s it provides have changed.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public interface StateDescriptionFragmentChangeListener {
+
+    /**
+     * Notifies the listener that the {@link StateDescriptionFragment} provided for the given item has changed.
+     *
+     * @param itemName the name of the item
+     */
+    void stateDescriptionFragmentChanged(String itemName);
+
+    /**
+     * Notifies the listener that any of the provided {@link StateDescriptionFragment}s may have changed.
+     */
+    void allStateDescriptionFragmentsChanged();
+}
@@ -47,4 +47,33 @@ public interface StateDescriptionFragmentProvider {
      * @return an integer value
      */
     Integer getRank();
+
+    /**
+     * Returns whether this provider notifies its registered {@link StateDescriptionFragmentChangeListener}s about
+     * every change of the {@link StateDescriptionFragment}s it provides.
+     *
+     * Consumers may only cache fragments (or descriptions merged from them) as long as all involved providers
+     * return <code>true</code> here.
+     *
+     * @return <code>true</code> if listeners are notified about all changes, <code>false</code> by default
+     */
+    default boolean isNotifyingChanges() {
+        return false;
+    }
+
+    /**
+     * Adds a {@link StateDescriptionFragmentChangeListener} to this provider.
+     *
+     * @param listener the listener to be added
+     */
+    default void addStateDescriptionFragmentChangeListener(StateDescriptionFragmentChangeListener listener) {
+    }
+
+    /**
+     * Removes a {@link StateDescriptionFragmentChangeListener} from this provider.
+     *
+     * @param listener the listener to be removed
+     */
+    default void removeStateDescriptionFragmentChangeListener(StateDescriptionFragmentChangeListener listener) {
+    }
 }
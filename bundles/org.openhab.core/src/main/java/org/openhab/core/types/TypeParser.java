@@ -12,15 +12,26 @@
  */
 package org.openhab.core.types;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * This is a helper class that helps parsing a string into an openHAB type (state or command).
+ * <p>
+ * The parsers of the core types are provided by {@link TypeParserProvider}s, so parsing them does not need
+ * reflection. Other types are parsed by their static {@code valueOf(String)} method, which is looked up only once per
+ * class.
  *
  * @author Kai Kreuzer - Initial contribution
  */
@@ -35,6 +46,59 @@ public final class TypeParser {
 
     private static final String CORE_LIBRARY_PACKAGE = "org.openhab.core.library.types.";
 
+    private static final Map<String, Function<String, ? extends Type>> PARSERS_BY_NAME;
+    private static final Map<Class<?>, Function<String, ? extends Type>> PARSERS_BY_CLASS;
+
+    private static final ClassValue<Function<String, @Nullable Object>> VALUE_OF_PARSERS = new ClassValue<>() {
+        @Override
+        protected Function<String, @Nullable Object> computeValue(Class<?> type) {
+            return createValueOfParser(type);
+        }
+    };
+
+    static {
+        Map<Class<?>, Function<String, ? extends Type>> parsersByClass = new HashMap<>();
+        parsersByClass.put(RefreshType.class, (Function<String, RefreshType>) RefreshType::valueOf);
+        parsersByClass.put(UnDefType.class, (Function<String, UnDefType>) UnDefType::valueOf);
+        try {
+            for (TypeParserProvider provider : ServiceLoader.load(TypeParserProvider.class,
+                    TypeParser.class.getClassLoader())) {
+                provider.getParsers().forEach(parsersByClass::putIfAbsent);
+            }
+        } catch (ServiceConfigurationError e) {
+            // the types of a failing provider are parsed by their valueOf method
+        }
+        Map<String, Function<String, ? extends Type>> parsersByName = new HashMap<>();
+        parsersByClass.forEach((type, parser) -> parsersByName.putIfAbsent(type.getSimpleName(), parser));
+        PARSERS_BY_CLASS = Map.copyOf(parsersByClass);
+        PARSERS_BY_NAME = Map.copyOf(parsersByName);
+    }
+
+    /**
+     * Returns the parser for a type name.
+     * <p>
+     * If no parser is provided for the name, the type is looked up in the core library types package.
+     *
+     * @param typeName name of the type, for example StringType.
+     * @return the parser or null, if there is no type with that name.
+     */
+    public static @Nullable Function<String, ? extends Type> getParser(String typeName) {
+        Function<String, ? extends Type> parser = PARSERS_BY_NAME.get(typeName);
+        if (parser != null) {
+            return parser;
+        }
+        try {
+            Class<?> typeClass = Class.forName(CORE_LIBRARY_PACKAGE + typeName);
+            if (!Type.class.isAssignableFrom(typeClass)) {
+                return null;
+            }
+            Function<String, @Nullable Object> valueOfParser = VALUE_OF_PARSERS.get(typeClass);
+            return input -> (Type) valueOfParser.apply(input);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
     /**
      * Parses a string into a type.
      *
@@ -43,12 +107,12 @@ public final class TypeParser {
      * @return Parsed type or null, if the type couldn't be parsed.
      */
     public static @Nullable Type parseType(String typeName, String input) {
-        try {
-            Class<?> stateClass = Class.forName(CORE_LIBRARY_PACKAGE + typeName);
-            Method valueOfMethod = stateClass.getMethod("valueOf", String.class);
-            return (Type) valueOfMethod.invoke(stateClass, input);
-        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
+        Function<String, ? extends Type> parser = getParser(typeName);
+        if (parser != null) {
+            try {
+                return parser.apply(input);
+            } catch (RuntimeException e) {
+            }
         }
         return null;
     }
@@ -68,14 +132,8 @@ public final class TypeParser {
      */
     public static @Nullable State parseState(List<Class<? extends State>> types, String s) {
         for (Class<? extends State> type : types) {
-            try {
-                Method valueOf = type.getMethod("valueOf", String.class);
-                State state = (State) valueOf.invoke(type, s);
-                if (state != null) {
-                    return state;
-                }
-            } catch (NoSuchMethodException | IllegalArgumentException | IllegalAccessException
-                    | InvocationTargetException e) {
+            if (parse(type, s) instanceof State state) {
+                return state;
             }
         }
         return null;
@@ -96,16 +154,38 @@ public final class TypeParser {
      */
     public static @Nullable Command parseCommand(List<Class<? extends Command>> types, String s) {
         for (Class<? extends Command> type : types) {
-            try {
-                Method valueOf = type.getMethod("valueOf", String.class);
-                Command value = (Command) valueOf.invoke(type, s);
-                if (value != null) {
-                    return value;
-                }
-            } catch (NoSuchMethodException | IllegalArgumentException | IllegalAccessException
-                    | InvocationTargetException e) {
+            if (parse(type, s) instanceof Command command) {
+                return command;
             }
         }
         return null;
     }
+
+    private static @Nullable Object parse(Class<?> type, String input) {
+        try {
+            Function<String, ? extends Type> parser = PARSERS_BY_CLASS.get(type);
+            return parser != null ? parser.apply(input) : VALUE_OF_PARSERS.get(type).apply(input);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Function<String, @Nullable Object> createValueOfParser(Class<?> type) {
+        try {
+            Method valueOf = type.getMethod("valueOf", String.class);
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(valueOf)
+                    .asType(MethodType.methodType(Object.class, String.class));
+            return input -> {
+                try {
+                    return (Object) handle.invokeExact(input);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return input -> null;
+        }
+    }
 }
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.types;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Provides parsers for types, which the {@link TypeParser} uses instead of looking up the static
+ * {@code valueOf(String)} method of the types by reflection.
+ * <p>
+ * Implementations are looked up once by the {@link ServiceLoader}, when the {@link TypeParser} is initialized.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public interface TypeParserProvider {
+
+    /**
+     * Gets the provided parsers. A parser is expected to behave like the static {@code valueOf(String)} method of its
+     * type, i.e. throw an exception if the input is not valid.
+     *
+     * @return the parsers, indexed by the class of their type
+     */
+    Map<Class<? extends Type>, Function<String, ? extends Type>> getParsers();
+}
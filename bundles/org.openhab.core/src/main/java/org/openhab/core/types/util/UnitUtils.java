@@ -31,6 +31,7 @@ import javax.measure.spi.SystemOfUnits;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.internal.library.unit.UnitCache;
 import org.openhab.core.internal.library.unit.UnitInitializer;
 import org.openhab.core.library.unit.ImperialUnits;
 import org.openhab.core.library.unit.SIUnits;
@@ -168,18 +169,23 @@ public class UnitUtils {
             if (UNIT_PERCENT_FORMAT_STRING.equals(unitSymbol)) {
                 return Units.PERCENT;
             }
-            try {
-                Quantity<?> quantity = Quantities.getQuantity("1 " + unitSymbol);
-                return quantity.getUnit();
-            } catch (IllegalArgumentException | MeasurementParseException e) {
-                // we expect this exception in case the extracted string does not match any known unit
-                LOGGER.debug("Unknown unit from pattern: {}", unitSymbol);
-            }
+            return UnitCache.parse(unitSymbol, UnitUtils::parseUnitSymbol);
         }
 
         return null;
     }
 
+    private static @Nullable Unit<?> parseUnitSymbol(String unitSymbol) {
+        try {
+            Quantity<?> quantity = Quantities.getQuantity("1 " + unitSymbol);
+            return quantity.getUnit();
+        } catch (IllegalArgumentException | MeasurementParseException e) {
+            // we expect this exception in case the extracted string does not match any known unit
+            LOGGER.debug("Unknown unit from pattern: {}", unitSymbol);
+            return null;
+        }
+    }
+
     public static boolean isDifferentMeasurementSystem(Unit<? extends Quantity<?>> thisUnit, Unit<?> thatUnit) {
         Set<? extends Unit<?>> siUnits = SIUnits.getInstance().getUnits();
         Set<? extends Unit<?>> usUnits = ImperialUnits.getInstance().getUnits();
@@ -23,6 +23,13 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -457,4 +464,73 @@ public class LRUMediaCacheTest {
             return meta2;
         }
     }
+
+    /**
+     * The size of an entry is accounted while it is written, and hits, misses and evictions are counted
+     *
+     * @throws IOException
+     */
+    @Test
+    public void sizeAccountingAndStatisticsTest() throws IOException {
+        when(supplier.get()).thenAnswer(invocation -> new LRUMediaCacheEntry<>("key", inputStreamMock, null),
+                invocation -> new LRUMediaCacheEntry<>("key2", inputStreamMock, null));
+        when(inputStreamMock.readNBytes(any(Integer.class))).thenReturn(new byte[600], new byte[0], new byte[600],
+                new byte[0]);
+
+        LRUMediaCache<MetadataSample> lruCache = createCache(1000);
+
+        lruCache.get("key", supplier).getInputStream().readAllBytes();
+        assertEquals(600, lruCache.getCurrentSize());
+        lruCache.get("key", supplier);
+
+        // the second entry grows the cache beyond its limit, the first one is evicted on the next put
+        lruCache.get("key2", supplier).getInputStream().readAllBytes();
+        assertEquals(1200, lruCache.getCurrentSize());
+        lruCache.makeSpace();
+
+        assertEquals(600, lruCache.getCurrentSize());
+        assertNull(lruCache.cachedResults.get("key"));
+        assertEquals(1, lruCache.getHitCount());
+        assertEquals(2, lruCache.getMissCount());
+        assertEquals(1, lruCache.getEvictionCount());
+    }
+
+    /**
+     * Concurrent misses for the same key only query the supplier once
+     *
+     * @throws Exception
+     */
+    @Test
+    public void concurrentMissesQuerySupplierOnceTest() throws Exception {
+        CountDownLatch supplierCalled = new CountDownLatch(1);
+        CountDownLatch releaseSupplier = new CountDownLatch(1);
+        when(supplier.get()).thenAnswer(invocation -> {
+            supplierCalled.countDown();
+            releaseSupplier.await(5, TimeUnit.SECONDS);
+            return new LRUMediaCacheEntry<>("key", inputStreamMock, null);
+        });
+
+        LRUMediaCache<MetadataSample> lruCache = createCache(1000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<LRUMediaCacheEntry<MetadataSample>>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> lruCache.get("key", supplier)));
+            }
+            assertTrue(supplierCalled.await(5, TimeUnit.SECONDS));
+            releaseSupplier.countDown();
+
+            LRUMediaCacheEntry<MetadataSample> firstResult = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<LRUMediaCacheEntry<MetadataSample>> future : futures) {
+                assertSame(firstResult, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(supplier, times(1)).get();
+        assertEquals(1, lruCache.getMissCount());
+        assertEquals(3, lruCache.getHitCount());
+    }
 }
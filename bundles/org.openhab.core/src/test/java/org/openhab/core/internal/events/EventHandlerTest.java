@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.JavaTest;
+import org.openhab.core.events.EventFactory;
+import org.openhab.core.events.EventStatistics.LatencyListener;
+import org.openhab.core.events.EventStatistics.SubscriberStatistics;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.types.OnOffType;
+import org.osgi.service.event.Event;
+
+/**
+ * Tests the statistics recorded by the {@link EventHandler}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class EventHandlerTest extends JavaTest {
+
+    @Test
+    public void handledEventsAreRecordedInStatistics() throws Exception {
+        EventSubscriber subscriber = mock(EventSubscriber.class);
+        doThrow(new IllegalStateException("test")).doNothing().when(subscriber).receive(any());
+        EventStatisticsImpl statistics = new EventStatisticsImpl();
+        LatencyListener latencyListener = mock(LatencyListener.class);
+        statistics.addLatencyListener(latencyListener);
+        Map<String, EventFactory> factories = Map.of(ItemStateEvent.TYPE, new ItemEventFactory());
+
+        try (EventHandler eventHandler = new EventHandler(Map.of(ItemStateEvent.TYPE, Set.of(subscriber)), factories,
+                statistics)) {
+            eventHandler.handleEvent(createOsgiEvent());
+            eventHandler.handleEvent(createOsgiEvent());
+            eventHandler.handleEvent(new Event("openhab/unknown", Map.of("type", "UnknownEvent", "payload", "{}",
+                    "topic", "openhab/unknown")));
+
+            waitForAssert(() -> {
+                SubscriberStatistics subscriberStatistics = statistics.getSubscriberStatistics()
+                        .get(subscriber.getClass().getName());
+                assertThat(subscriberStatistics, is(notNullValue()));
+                assertThat(subscriberStatistics.handledEvents(), is(2L));
+                assertThat(subscriberStatistics.failedEvents(), is(1L));
+                assertThat(subscriberStatistics.backlog(), is(0));
+                assertThat(subscriberStatistics.handlingTime().count(), is(2L));
+                verify(latencyListener, times(2)).eventHandled(eq(subscriber.getClass().getName()), anyLong());
+            });
+        }
+
+        assertThat(statistics.getPublishedEventCounts(), is(Map.of(ItemStateEvent.TYPE, 2L, "UnknownEvent", 1L)));
+        assertThat(statistics.getDroppedEventCount(), is(1L));
+    }
+
+    private Event createOsgiEvent() {
+        org.openhab.core.events.Event event = ItemEventFactory.createStateEvent("item", OnOffType.ON, null);
+        return new Event(event.getTopic(), Map.of("type", event.getType(), "payload", event.getPayload(), "topic",
+                event.getTopic()));
+    }
+}
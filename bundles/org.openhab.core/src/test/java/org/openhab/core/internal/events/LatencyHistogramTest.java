@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.events.EventStatistics.LatencySnapshot;
+
+/**
+ * Tests for {@link LatencyHistogram}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketsCoverAllValues() {
+        for (long value : new long[] { 0, 1, 3, 4, 7, 8, 9, 1000, 123456789, Long.MAX_VALUE }) {
+            long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(value));
+            assertThat(upperBound, is(greaterThanOrEqualTo(value)));
+            assertThat((double) upperBound, is(lessThanOrEqualTo(value * 1.25 + 1)));
+        }
+    }
+
+    @Test
+    public void snapshotReportsPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count(), is(100L));
+        assertThat(snapshot.maxNanos(), is(100000L));
+        assertThat(snapshot.meanNanos(), is(50500L));
+        assertThat((double) snapshot.p50Nanos(), is(closeTo(50000, 50000 * 0.25)));
+        assertThat((double) snapshot.p95Nanos(), is(closeTo(95000, 95000 * 0.25)));
+        assertThat((double) snapshot.p99Nanos(), is(closeTo(99000, 99000 * 0.25)));
+    }
+
+    @Test
+    public void emptySnapshot() {
+        LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertThat(snapshot.count(), is(0L));
+        assertThat(snapshot.meanNanos(), is(0L));
+        assertThat(snapshot.p99Nanos(), is(0L));
+    }
+}
@@ -260,6 +260,36 @@ class ExpireManagerTest {
         verify(eventPublisherMock, never()).post(any());
     }
 
+    @Test
+    void testSubSecondExpiry() throws InterruptedException {
+        when(metadataRegistryMock.get(METADATA_KEY)).thenReturn(new Metadata(METADATA_KEY, "300ms", null));
+
+        Event event = ItemEventFactory.createCommandEvent(ITEMNAME, OnOffType.ON);
+        expireManager.receive(event);
+
+        verify(eventPublisherMock, never()).post(any());
+        Thread.sleep(800L);
+        verify(eventPublisherMock)
+                .post(eq(ItemEventFactory.createStateEvent(ITEMNAME, UnDefType.UNDEF, ExpireManager.EVENT_SOURCE)));
+    }
+
+    @Test
+    void testEarlierExpiryIsNotDelayedByLaterExpiry() throws InterruptedException {
+        String otherItemName = "Other";
+        MetadataKey otherMetadataKey = new MetadataKey(ExpireManager.METADATA_NAMESPACE, otherItemName);
+        when(metadataRegistryMock.get(METADATA_KEY)).thenReturn(new Metadata(METADATA_KEY, "10s", null));
+        when(metadataRegistryMock.get(otherMetadataKey)).thenReturn(new Metadata(otherMetadataKey, "300ms", null));
+
+        expireManager.receive(ItemEventFactory.createCommandEvent(ITEMNAME, OnOffType.ON));
+        expireManager.receive(ItemEventFactory.createCommandEvent(otherItemName, OnOffType.ON));
+
+        Thread.sleep(800L);
+        verify(eventPublisherMock).post(
+                eq(ItemEventFactory.createStateEvent(otherItemName, UnDefType.UNDEF, ExpireManager.EVENT_SOURCE)));
+        verify(eventPublisherMock, never())
+                .post(eq(ItemEventFactory.createStateEvent(ITEMNAME, UnDefType.UNDEF, ExpireManager.EVENT_SOURCE)));
+    }
+
     @Test
     void testExpireConfig() {
         Item testItem = new SwitchItem(ITEMNAME);
@@ -277,6 +307,12 @@ class ExpireManagerTest {
         assertFalse(cfg.ignoreStateUpdates);
         assertFalse(cfg.ignoreCommands);
 
+        cfg = new ExpireManager.ExpireConfig(testItem, "500ms", Map.of());
+        assertEquals(Duration.ofMillis(500), cfg.duration);
+
+        cfg = new ExpireManager.ExpireConfig(testItem, "1m 2s 500ms", Map.of());
+        assertEquals(Duration.ofMinutes(1).plusSeconds(2).plusMillis(500), cfg.duration);
+
         cfg = new ExpireManager.ExpireConfig(testItem, "1h,OFF", Map.of());
         assertEquals(Duration.ofHours(1), cfg.duration);
         assertEquals(OnOffType.OFF, cfg.expireState);
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.library.unit;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.measure.IncommensurableException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
+
+/**
+ * Tests for {@link UnitCache}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class UnitCacheTest {
+
+    @Test
+    public void parsedUnitsAreCached() {
+        Unit<?> unit = UnitCache.parse("kWh");
+        assertThat(unit, is(Units.KILOWATT_HOUR));
+        assertThat(UnitCache.parse("kWh"), is(sameInstance(unit)));
+    }
+
+    @Test
+    public void invalidPatternUnitsAreCached() {
+        AtomicInteger calls = new AtomicInteger();
+        assertThat(UnitCache.parse("invalidUnitForCacheTest", symbol -> {
+            calls.incrementAndGet();
+            return null;
+        }), is(nullValue()));
+        assertThat(UnitCache.parse("invalidUnitForCacheTest", symbol -> {
+            calls.incrementAndGet();
+            return null;
+        }), is(nullValue()));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void convertersAreCached() throws Exception {
+        UnitConverter converter = UnitCache.getConverter(SIUnits.CELSIUS, Units.KELVIN);
+        assertThat(UnitCache.getConverter(SIUnits.CELSIUS, Units.KELVIN), is(sameInstance(converter)));
+        assertThat(new BigDecimal(converter.convert(BigDecimal.ZERO).toString()).compareTo(new BigDecimal("273.15")),
+                is(0));
+    }
+
+    @Test
+    public void incompatibleUnitsThrow() {
+        assertThrows(IncommensurableException.class, () -> UnitCache.getConverter(SIUnits.CELSIUS, SIUnits.METRE));
+    }
+}
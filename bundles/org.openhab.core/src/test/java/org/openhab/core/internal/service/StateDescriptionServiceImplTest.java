@@ -12,12 +12,13 @@
  */
 package org.openhab.core.internal.service;
 
-import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -191,6 +192,89 @@ public class StateDescriptionServiceImplTest {
         assertThat(fragment1Options.size(), is(0));
     }
 
+    @Test
+    public void testMergedStateDescriptionIsCachedForNotifyingProviders() {
+        StateDescriptionFragmentProvider provider = registerNotifyingStateDescriptionFragmentProvider(
+                StateDescriptionFragmentBuilder.create().withPattern("pattern").build());
+
+        StateDescription stateDescription = Objects.requireNonNull(item.getStateDescription());
+        assertThat(item.getStateDescription(), is(sameInstance(stateDescription)));
+        verify(provider, times(1)).getStateDescriptionFragment(ITEM_NAME, null);
+
+        // other locales are cached separately
+        item.getStateDescription(Locale.GERMAN);
+        item.getStateDescription(Locale.GERMAN);
+        verify(provider, times(1)).getStateDescriptionFragment(ITEM_NAME, Locale.GERMAN);
+    }
+
+    @Test
+    public void testCachedStateDescriptionIsInvalidatedOnChange() {
+        StateDescriptionFragmentProvider provider = registerNotifyingStateDescriptionFragmentProvider(
+                StateDescriptionFragmentBuilder.create().withPattern("pattern").build());
+        assertThat(Objects.requireNonNull(item.getStateDescription()).getPattern(), is("pattern"));
+
+        when(provider.getStateDescriptionFragment(ITEM_NAME, null))
+                .thenReturn(StateDescriptionFragmentBuilder.create().withPattern("changed").build());
+        stateDescriptionService.stateDescriptionFragmentChanged("OtherItem");
+        assertThat(Objects.requireNonNull(item.getStateDescription()).getPattern(), is("pattern"));
+
+        stateDescriptionService.stateDescriptionFragmentChanged(ITEM_NAME);
+        assertThat(Objects.requireNonNull(item.getStateDescription()).getPattern(), is("changed"));
+
+        when(provider.getStateDescriptionFragment(ITEM_NAME, null)).thenReturn(null);
+        stateDescriptionService.allStateDescriptionFragmentsChanged();
+        assertThat(item.getStateDescription(), is(nullValue()));
+    }
+
+    @Test
+    public void testCachedStateDescriptionIsInvalidatedWhenProvidersChange() {
+        registerNotifyingStateDescriptionFragmentProvider(
+                StateDescriptionFragmentBuilder.create().withPattern("pattern").build());
+        assertThat(Objects.requireNonNull(item.getStateDescription()).getPattern(), is("pattern"));
+
+        StateDescriptionFragmentProvider provider = registerNotifyingStateDescriptionFragmentProvider(
+                StateDescriptionFragmentBuilder.create().withPattern("higher").build(), 1);
+        assertThat(Objects.requireNonNull(item.getStateDescription()).getPattern(), is("higher"));
+
+        stateDescriptionService.removeStateDescriptionFragmentProvider(provider);
+        assertThat(Objects.requireNonNull(item.getStateDescription()).getPattern(), is("pattern"));
+    }
+
+    @Test
+    public void testStateDescriptionIsNotCachedWithNonNotifyingProvider() {
+        StateDescriptionFragmentProvider provider = registerNotifyingStateDescriptionFragmentProvider(
+                StateDescriptionFragmentBuilder.create().withPattern("pattern").build());
+        registerStateDescriptionFragmentProvider(
+                StateDescriptionFragmentBuilder.create().withStep(BigDecimal.ONE).build(), -1);
+
+        item.getStateDescription();
+        StateDescription stateDescription = Objects.requireNonNull(item.getStateDescription());
+
+        verify(provider, times(2)).getStateDescriptionFragment(ITEM_NAME, null);
+        assertThat(stateDescription.getPattern(), is("pattern"));
+        assertThat(stateDescription.getStep(), is(BigDecimal.ONE));
+    }
+
+    private StateDescriptionFragmentProvider registerNotifyingStateDescriptionFragmentProvider(
+            StateDescriptionFragment stateDescriptionFragment) {
+        return registerNotifyingStateDescriptionFragmentProvider(stateDescriptionFragment,
+                STATE_DESCRIPTION_PROVIDER_DEFAULT_SERVICE_RANKING);
+    }
+
+    private StateDescriptionFragmentProvider registerNotifyingStateDescriptionFragmentProvider(
+            StateDescriptionFragment stateDescriptionFragment, int serviceRanking) {
+        StateDescriptionFragmentProvider stateDescriptionProvider = mock(StateDescriptionFragmentProvider.class);
+        when(stateDescriptionProvider.getRank()).thenReturn(serviceRanking);
+        when(stateDescriptionProvider.isNotifyingChanges()).thenReturn(true);
+        when(stateDescriptionProvider.getStateDescriptionFragment(ITEM_NAME, null))
+                .thenReturn(stateDescriptionFragment);
+        when(stateDescriptionProvider.getStateDescriptionFragment(ITEM_NAME, Locale.GERMAN))
+                .thenReturn(stateDescriptionFragment);
+        stateDescriptionService.addStateDescriptionFragmentProvider(stateDescriptionProvider);
+        verify(stateDescriptionProvider).addStateDescriptionFragmentChangeListener(stateDescriptionService);
+        return stateDescriptionProvider;
+    }
+
     private void registerStateDescriptionFragmentProvider(StateDescriptionFragment stateDescriptionFragment,
             int serviceRanking) {
         StateDescriptionFragmentProvider stateDescriptionProvider = mock(StateDescriptionFragmentProvider.class);
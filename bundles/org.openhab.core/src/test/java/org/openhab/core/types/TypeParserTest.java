@@ -12,17 +12,22 @@
  */
 package org.openhab.core.types;
 
-import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.ServiceLoader;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.items.StringItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.LibraryTypeParserProvider;
+import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.StringType;
 
 /**
@@ -60,4 +65,18 @@ class TypeParserTest {
         State subject = TypeParser.parseState(stringItem.getAcceptedDataTypes(), parameterSet.state);
         assertThat(subject, instanceOf(parameterSet.expectedDataType));
     }
+
+    @Test
+    public void testParseTypeByName() {
+        assertThat(TypeParser.parseType("OnOffType", "ON"), is(OnOffType.ON));
+        assertThat(TypeParser.parseType("DecimalType", "21.5"), is(new DecimalType("21.5")));
+        assertThat(TypeParser.parseType("DecimalType", "invalid"), is(nullValue()));
+        assertThat(TypeParser.parseType("UnknownType", "ON"), is(nullValue()));
+    }
+
+    @Test
+    public void testLibraryTypeParsersAreProvided() {
+        assertThat(ServiceLoader.load(TypeParserProvider.class).stream()
+                .anyMatch(provider -> provider.type() == LibraryTypeParserProvider.class), is(true));
+    }
 }
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.config.discovery.usbserial.linuxsysfs.internal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.openhab.core.config.discovery.usbserial.linuxsysfs.internal.WatchingUsbSerialScanner.RECONCILE_INTERVAL_IN_SECONDS_ATTRIBUTE;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.config.discovery.usbserial.UsbSerialDeviceInformation;
+import org.openhab.core.config.discovery.usbserial.UsbSerialDiscovery;
+import org.openhab.core.config.discovery.usbserial.UsbSerialDiscoveryListener;
+import org.openhab.core.config.discovery.usbserial.linuxsysfs.testutil.UsbSerialDeviceInformationGenerator;
+
+/**
+ * Unit tests for the {@link WatchingUsbSerialScanner}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class WatchingUsbSerialScannerTest {
+
+    private static final long TIMEOUT_MS = 15000;
+
+    public @TempDir @NonNullByDefault({}) File devFolder;
+
+    private UsbSerialDeviceInformationGenerator usbDeviceInfoGenerator = new UsbSerialDeviceInformationGenerator();
+
+    private @NonNullByDefault({}) WatchingUsbSerialScanner watchingScanner;
+
+    private @Mock @NonNullByDefault({}) UsbSerialDiscoveryListener discoveryListenerMock;
+    private @Mock @NonNullByDefault({}) UsbSerialScanner usbSerialScannerMock;
+
+    @BeforeEach
+    public void beforeEach() {
+        Map<String, Object> config = Map.of(RECONCILE_INTERVAL_IN_SECONDS_ATTRIBUTE, "3600");
+
+        when(usbSerialScannerMock.canPerformScans()).thenReturn(true);
+        when(usbSerialScannerMock.getWatchedDirectories()).thenReturn(Set.of(devFolder.toPath()));
+
+        watchingScanner = new WatchingUsbSerialScanner(config, usbSerialScannerMock, null);
+        watchingScanner.registerDiscoveryListener(discoveryListenerMock);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        watchingScanner.deactivate();
+    }
+
+    @Test
+    public void testNoScansWithoutBackgroundDiscovery() throws IOException, InterruptedException {
+        Files.createFile(devFolder.toPath().resolve("ttyUSB0"));
+        Thread.sleep(1200);
+
+        verify(usbSerialScannerMock, never()).scan();
+    }
+
+    @Test
+    public void testNoScansWhenPollingScannerIsConfigured() throws IOException, InterruptedException {
+        watchingScanner.deactivate();
+        watchingScanner = new WatchingUsbSerialScanner(Map.of(), usbSerialScannerMock,
+                mock(UsbSerialDiscovery.class));
+
+        watchingScanner.startBackgroundScanning();
+        watchingScanner.doSingleScan();
+        Files.createFile(devFolder.toPath().resolve("ttyUSB0"));
+        Thread.sleep(1200);
+
+        verify(usbSerialScannerMock, never()).scan();
+    }
+
+    @Test
+    public void testInitialScanWhenBackgroundScanningStarts() throws IOException {
+        UsbSerialDeviceInformation usb1 = usbDeviceInfoGenerator.generate();
+        when(usbSerialScannerMock.scan()).thenReturn(Set.of(usb1));
+
+        watchingScanner.startBackgroundScanning();
+
+        verify(discoveryListenerMock, timeout(TIMEOUT_MS)).usbSerialDeviceDiscovered(usb1);
+        verify(usbSerialScannerMock, times(1)).scan();
+    }
+
+    @Test
+    public void testScanWhenDevicesAreAddedAndRemoved() throws IOException {
+        UsbSerialDeviceInformation usb1 = usbDeviceInfoGenerator.generate();
+        UsbSerialDeviceInformation usb2 = usbDeviceInfoGenerator.generate();
+        when(usbSerialScannerMock.scan()).thenReturn(Set.of(usb1)).thenReturn(Set.of(usb1, usb2))
+                .thenReturn(Set.of(usb1));
+
+        watchingScanner.startBackgroundScanning();
+        verify(discoveryListenerMock, timeout(TIMEOUT_MS)).usbSerialDeviceDiscovered(usb1);
+
+        Path device = Files.createFile(devFolder.toPath().resolve("ttyUSB1"));
+        verify(discoveryListenerMock, timeout(TIMEOUT_MS)).usbSerialDeviceDiscovered(usb2);
+
+        Files.delete(device);
+        verify(discoveryListenerMock, timeout(TIMEOUT_MS)).usbSerialDeviceRemoved(usb2);
+
+        verify(discoveryListenerMock, times(1)).usbSerialDeviceDiscovered(usb1);
+        verify(discoveryListenerMock, never()).usbSerialDeviceRemoved(usb1);
+    }
+
+    @Test
+    public void testDirectoriesCreatedLaterAreWatched() throws IOException {
+        UsbSerialDeviceInformation usb1 = usbDeviceInfoGenerator.generate();
+        Path byIdDirectory = devFolder.toPath().resolve("by-id");
+        when(usbSerialScannerMock.getWatchedDirectories()).thenReturn(Set.of(devFolder.toPath(), byIdDirectory));
+        when(usbSerialScannerMock.scan()).thenReturn(Set.of()).thenReturn(Set.of()).thenReturn(Set.of(usb1));
+
+        watchingScanner.startBackgroundScanning();
+        verify(usbSerialScannerMock, timeout(TIMEOUT_MS).times(1)).scan();
+
+        // creating the directory triggers a scan, which starts watching it
+        Files.createDirectory(byIdDirectory);
+        verify(usbSerialScannerMock, timeout(TIMEOUT_MS).times(2)).scan();
+
+        Files.createFile(byIdDirectory.resolve("usb-device-link"));
+        verify(discoveryListenerMock, timeout(TIMEOUT_MS)).usbSerialDeviceDiscovered(usb1);
+    }
+
+    @Test
+    public void testNoBackgroundScanningWhenNoScansPossible() throws IOException, InterruptedException {
+        when(usbSerialScannerMock.scan()).thenReturn(Set.of(usbDeviceInfoGenerator.generate()));
+        when(usbSerialScannerMock.canPerformScans()).thenReturn(false);
+
+        watchingScanner.startBackgroundScanning();
+        Files.createFile(devFolder.toPath().resolve("ttyUSB0"));
+
+        Thread.sleep(1500);
+
+        verify(discoveryListenerMock, never()).usbSerialDeviceDiscovered(any(UsbSerialDeviceInformation.class));
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.loadtest;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.thing.ChannelUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link LoadGenerator} publishes state updates through the thing handlers at a fixed rate. The channels are
+ * updated in turn, each update carries the {@link System#nanoTime()} at which it was published, so that its receivers
+ * can measure the end-to-end latency.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class LoadGenerator {
+
+    private static final long TICK_MILLIS = 10;
+
+    /**
+     * A channel which is updated by the generator.
+     *
+     * @param handler the handler of the thing of the channel
+     * @param channelUID the channel
+     */
+    public record Target(LoadThingHandler handler, ChannelUID channelUID) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final List<Target> targets;
+    private final int updatesPerMinute;
+    private final AtomicLongArray publishedAt;
+    private final ScheduledExecutorService scheduler = Executors
+            .newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "loadtest-generator"));
+
+    private long startNanos;
+    private volatile long published;
+    private volatile long failed;
+
+    public LoadGenerator(List<Target> targets, int updatesPerMinute) {
+        this.targets = targets;
+        this.updatesPerMinute = updatesPerMinute;
+        this.publishedAt = new AtomicLongArray(targets.size());
+    }
+
+    public void start() {
+        startNanos = System.nanoTime();
+        scheduler.scheduleAtFixedRate(this::publishDueUpdates, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+            logger.warn("The load generator did not stop in time");
+        }
+    }
+
+    /**
+     * @return the number of updates published since the start
+     */
+    public long getPublished() {
+        return published;
+    }
+
+    /**
+     * @return the number of updates which could not be published
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Gets the time at which the last update of a target was published.
+     *
+     * @param index the index of the target
+     * @return the {@link System#nanoTime()} of the last update, zero if the target was not updated yet
+     */
+    public long getPublishedAt(int index) {
+        return publishedAt.get(index);
+    }
+
+    private void publishDueUpdates() {
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        long due = elapsedMicros * updatesPerMinute / TimeUnit.MINUTES.toMicros(1);
+        long published = this.published;
+        // when the system does not keep up, the missed updates are published at once
+        while (published < due) {
+            int index = (int) (published % targets.size());
+            Target target = targets.get(index);
+            long now = System.nanoTime();
+            publishedAt.set(index, now);
+            try {
+                target.handler().publish(target.channelUID(), new DecimalType(now));
+            } catch (RuntimeException e) {
+                failed++;
+                logger.debug("Publishing the update of '{}' failed", target.channelUID(), e);
+            }
+            published++;
+        }
+        this.published = published;
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.loadtest;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.EventStatistics.LatencySnapshot;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSerializer;
+
+/**
+ * The {@link LoadReport} is the result of a load test run. It is written as JSON, so that the runs of different
+ * builds can be compared.
+ *
+ * @param scenario the scenario which was run
+ * @param durationMillis the duration of the measurement
+ * @param publishedUpdates the number of state updates published by the thing handlers
+ * @param failedUpdates the number of state updates which could not be published
+ * @param updatesPerSecond the achieved rate of the state updates
+ * @param deliveredUiEvents the number of state changes delivered to the UI clients
+ * @param uiLatency the latency from the state update until its delivery to the UI clients
+ * @param ruleExecutions the number of rule executions
+ * @param ruleLatency the latency from the state update until the command of the triggered rule
+ * @param handledCommands the number of commands handled by the thing handlers
+ * @param droppedEvents the number of events dropped by the event bus, -1 if unknown
+ * @param eventQueueWaitTime the time the events waited in the queue of the event bus, null if unknown
+ * @param maxHeapUsedBytes the maximum heap usage
+ * @param heapMaxBytes the maximum heap size
+ * @param maxThreadCount the maximum number of live threads
+ * @param peakThreadCount the peak number of live threads as reported by the JVM
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public record LoadReport(LoadScenario scenario, long durationMillis, long publishedUpdates, long failedUpdates,
+        double updatesPerSecond, long deliveredUiEvents, LatencySnapshot uiLatency, long ruleExecutions,
+        LatencySnapshot ruleLatency, long handledCommands, long droppedEvents,
+        @Nullable LatencySnapshot eventQueueWaitTime, long maxHeapUsedBytes, long heapMaxBytes, int maxThreadCount,
+        int peakThreadCount) {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().registerTypeAdapter(Duration.class,
+            (JsonSerializer<Duration>) (duration, type, context) -> context.serialize(duration.toString())).create();
+
+    public String toJson() {
+        return GSON.toJson(this);
+    }
+
+    /**
+     * Writes the report.
+     *
+     * @param file the file to write to, its parent directories are created if necessary
+     * @throws IOException if the report cannot be written
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            GSON.toJson(this, writer);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Properties;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A {@link LoadScenario} describes the installation which is synthesized by the load test and the load which is
+ * generated. Scenarios are read from the {@code scenarios} folder of the test bundle; each of their values can be
+ * overridden by a system property prefixed with {@value #PROPERTY_PREFIX}.
+ *
+ * @param name the name of the scenario
+ * @param things the number of things
+ * @param channelsPerThing the number of channels of each thing, each of them is linked to an item
+ * @param rules the number of rules, each of them is triggered by a state change of an item and sends a command
+ * @param uiClients the number of simulated UI clients, each of them watches the state of a share of the items
+ * @param updatesPerMinute the rate of the state updates sent by the thing handlers
+ * @param warmup the duration of the warm-up, whose measurements are discarded
+ * @param duration the duration of the measurement
+ * @param maxP99Latency the maximum accepted 99th percentile of the end-to-end latency, zero if it is not checked
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public record LoadScenario(String name, int things, int channelsPerThing, int rules, int uiClients,
+        int updatesPerMinute, Duration warmup, Duration duration, Duration maxP99Latency) {
+
+    public static final String PROPERTY_PREFIX = "openhab.loadtest.";
+
+    public LoadScenario {
+        if (things < 1 || channelsPerThing < 1 || rules < 0 || uiClients < 0 || updatesPerMinute < 1) {
+            throw new IllegalArgumentException("Invalid load scenario '" + name + "'");
+        }
+    }
+
+    /**
+     * @return the number of items, which is also the number of channels and links
+     */
+    public int items() {
+        return things * channelsPerThing;
+    }
+
+    /**
+     * Loads a scenario.
+     *
+     * @param name the name of the scenario
+     * @return the scenario, with the values overridden by system properties
+     * @throws IOException if the scenario cannot be read
+     * @throws IllegalArgumentException if the scenario does not exist or is invalid
+     */
+    public static LoadScenario load(String name) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream inputStream = LoadScenario.class.getResourceAsStream("/scenarios/" + name + ".properties")) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Unknown load scenario '" + name + "'");
+            }
+            properties.load(inputStream);
+        }
+
+        return new LoadScenario(name, intValue(properties, "things"), intValue(properties, "channelsPerThing"),
+                intValue(properties, "rules"), intValue(properties, "uiClients"),
+                intValue(properties, "updatesPerMinute"), Duration.ofSeconds(intValue(properties, "warmupSeconds")),
+                Duration.ofSeconds(intValue(properties, "durationSeconds")),
+                Duration.ofMillis(intValue(properties, "maxP99LatencyMillis")));
+    }
+
+    private static int intValue(Properties properties, String key) {
+        String value = System.getProperty(PROPERTY_PREFIX + key);
+        if (value == null || value.isBlank()) {
+            value = properties.getProperty(key);
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("The load scenario does not define '" + key + "'");
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The value '" + value + "' of '" + key + "' is not a number", e);
+        }
+    }
+
+    /**
+     * Gets the name of the scenario to run.
+     *
+     * @param defaultName the scenario to run if none is configured
+     * @return the name of the scenario
+     */
+    public static String selected(String defaultName) {
+        @Nullable
+        String name = System.getProperty(PROPERTY_PREFIX + "scenario");
+        return name == null || name.isBlank() ? defaultName : name.trim();
+    }
+}
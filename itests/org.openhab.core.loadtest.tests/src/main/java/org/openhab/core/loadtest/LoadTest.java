@@ -0,0 +1,322 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.loadtest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.automation.Rule;
+import org.openhab.core.automation.RuleManager;
+import org.openhab.core.automation.RuleRegistry;
+import org.openhab.core.automation.RuleStatus;
+import org.openhab.core.automation.internal.RuleEngineImpl;
+import org.openhab.core.automation.internal.module.factory.CoreModuleHandlerFactory;
+import org.openhab.core.automation.util.ModuleBuilder;
+import org.openhab.core.automation.util.RuleBuilder;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.events.EventPublisher;
+import org.openhab.core.events.EventStatistics;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.ManagedItemProvider;
+import org.openhab.core.library.CoreItemFactory;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.service.ReadyMarker;
+import org.openhab.core.service.StartLevelService;
+import org.openhab.core.test.java.JavaOSGiTest;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ManagedThingProvider;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingRegistry;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.openhab.core.thing.binding.ThingTypeProvider;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+import org.openhab.core.thing.link.ItemChannelLink;
+import org.openhab.core.thing.link.ManagedItemChannelLinkProvider;
+import org.openhab.core.thing.type.ChannelTypeProvider;
+import org.osgi.service.component.ComponentContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link LoadTest} synthesizes an installation of things, items, links, rules and UI clients as described by a
+ * {@link LoadScenario}, drives state updates through it and reports the throughput, the end-to-end latencies and the
+ * resource usage. By default the small "smoke" scenario is run; other scenarios are selected by the system property
+ * {@code openhab.loadtest.scenario}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class LoadTest extends JavaOSGiTest {
+
+    private static final String DEFAULT_SCENARIO = "smoke";
+    private static final String REPORT_PROPERTY = LoadScenario.PROPERTY_PREFIX + "report";
+    private static final String DEFAULT_REPORT_FILE = "loadtest-report.json";
+
+    private static final String ITEM_PREFIX = "LoadItem_";
+    private static final String RULE_TARGET_PREFIX = "LoadRuleTarget_";
+
+    private static final long SETUP_TIMEOUT_PER_ELEMENT = 10;
+    private static final long MIN_SETUP_TIMEOUT = 30000;
+
+    private final Logger logger = LoggerFactory.getLogger(LoadTest.class);
+
+    private @NonNullByDefault({}) LoadScenario scenario;
+    private @NonNullByDefault({}) RuleRegistry ruleRegistry;
+    private @NonNullByDefault({}) RuleManager ruleManager;
+    private final LoadThingHandlerFactory thingHandlerFactory = new LoadThingHandlerFactory();
+    private final ResourceSampler resourceSampler = new ResourceSampler();
+    private @Nullable LoadGenerator generator;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        scenario = LoadScenario.load(LoadScenario.selected(DEFAULT_SCENARIO));
+        logger.info("Running load scenario {}", scenario);
+
+        registerVolatileStorageService();
+
+        EventPublisher eventPublisher = Objects.requireNonNull(getService(EventPublisher.class));
+        ItemRegistry itemRegistry = Objects.requireNonNull(getService(ItemRegistry.class));
+        StartLevelService startLevelService = mock(StartLevelService.class);
+        when(startLevelService.getStartLevel()).thenReturn(StartLevelService.STARTLEVEL_COMPLETE);
+        registerService(startLevelService, StartLevelService.class.getName());
+        registerService(new CoreModuleHandlerFactory(getBundleContext(), eventPublisher, itemRegistry,
+                mock(TimeZoneProvider.class), startLevelService));
+
+        LoadTypeProvider typeProvider = new LoadTypeProvider();
+        registerService(typeProvider, new String[] { ThingTypeProvider.class.getName(),
+                ChannelTypeProvider.class.getName() }, new Hashtable<>());
+
+        ComponentContext componentContext = mock(ComponentContext.class);
+        when(componentContext.getBundleContext()).thenReturn(bundleContext);
+        thingHandlerFactory.activate(componentContext);
+        registerService(thingHandlerFactory, ThingHandlerFactory.class.getName());
+
+        waitForAssert(() -> {
+            assertThat(getService(RuleRegistry.class), is(notNullValue()));
+            assertThat(getService(RuleManager.class), is(notNullValue()));
+        });
+        ruleRegistry = Objects.requireNonNull(getService(RuleRegistry.class));
+        RuleEngineImpl ruleEngine = (RuleEngineImpl) Objects.requireNonNull(getService(RuleManager.class));
+        ruleManager = ruleEngine;
+
+        // start the rule engine
+        ruleEngine.onReadyMarkerAdded(new ReadyMarker("", ""));
+        waitForAssert(() -> assertThat(ruleEngine.isStarted(), is(true)));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        LoadGenerator generator = this.generator;
+        if (generator != null) {
+            generator.stop();
+        }
+        resourceSampler.stop();
+    }
+
+    @Test
+    public void runScenario() throws Exception {
+        List<LoadGenerator.Target> targets = createInstallation();
+        List<String> ruleUIDs = createRules();
+
+        LoadGenerator generator = new LoadGenerator(targets, scenario.updatesPerMinute());
+        this.generator = generator;
+
+        LatencyRecorder uiLatency = new LatencyRecorder();
+        UiClientSimulator uiClients = new UiClientSimulator(watchedItemsByClient(), uiLatency);
+        registerService(uiClients, EventSubscriber.class.getName());
+
+        LatencyRecorder ruleLatency = new LatencyRecorder();
+        RuleLatencyProbe ruleProbe = new RuleLatencyProbe(RULE_TARGET_PREFIX, this::triggeringTarget, generator,
+                ruleLatency);
+        registerService(ruleProbe, EventSubscriber.class.getName());
+
+        waitForAssert(() -> ruleUIDs.forEach(uid -> {
+            assertThat(ruleManager.getStatus(uid), is(RuleStatus.IDLE));
+        }), setupTimeout(ruleUIDs.size()), 500);
+
+        resourceSampler.start();
+        generator.start();
+        Thread.sleep(scenario.warmup().toMillis());
+
+        // discard the measurements of the warm-up
+        long publishedBefore = generator.getPublished();
+        long failedBefore = generator.getFailed();
+        long handledCommandsBefore = thingHandlerFactory.getHandledCommands().sum();
+        EventStatistics eventStatistics = getService(EventStatistics.class);
+        long droppedEventsBefore = eventStatistics == null ? 0 : eventStatistics.getDroppedEventCount();
+        uiLatency.reset();
+        uiClients.reset();
+        ruleLatency.reset();
+        ruleProbe.reset();
+        resourceSampler.reset();
+
+        long start = System.nanoTime();
+        Thread.sleep(scenario.duration().toMillis());
+        generator.stop();
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long published = generator.getPublished() - publishedBefore;
+        LoadReport report = new LoadReport(scenario, durationMillis, published, generator.getFailed() - failedBefore,
+                published * 1000.0 / durationMillis, uiClients.getDeliveredEvents(), uiLatency.snapshot(),
+                ruleProbe.getExecutions(), ruleLatency.snapshot(),
+                thingHandlerFactory.getHandledCommands().sum() - handledCommandsBefore,
+                eventStatistics == null ? -1 : eventStatistics.getDroppedEventCount() - droppedEventsBefore,
+                eventStatistics == null ? null : eventStatistics.getQueueWaitTime(),
+                resourceSampler.getMaxHeapUsed(), resourceSampler.getHeapMax(), resourceSampler.getMaxThreadCount(),
+                resourceSampler.getPeakThreadCount());
+
+        Path reportFile = Path.of(System.getProperty(REPORT_PROPERTY, DEFAULT_REPORT_FILE));
+        report.write(reportFile);
+        logger.info("Load test report written to {}:\n{}", reportFile.toAbsolutePath(), report.toJson());
+
+        assertThat(report.publishedUpdates(), is(greaterThan(0L)));
+        if (scenario.uiClients() > 0) {
+            assertThat(report.deliveredUiEvents(), is(greaterThan(0L)));
+        }
+        if (scenario.rules() > 0) {
+            assertThat(report.ruleExecutions(), is(greaterThan(0L)));
+        }
+        if (!scenario.maxP99Latency().isZero()) {
+            assertThat(report.uiLatency().p99Nanos(), is(lessThanOrEqualTo(scenario.maxP99Latency().toNanos())));
+        }
+    }
+
+    /**
+     * Creates the things, items and links of the scenario and waits until all things are online.
+     *
+     * @return the channels to update
+     */
+    private List<LoadGenerator.Target> createInstallation() {
+        ManagedThingProvider thingProvider = Objects.requireNonNull(getService(ManagedThingProvider.class));
+        ManagedItemProvider itemProvider = Objects.requireNonNull(getService(ManagedItemProvider.class));
+        ManagedItemChannelLinkProvider linkProvider = Objects
+                .requireNonNull(getService(ManagedItemChannelLinkProvider.class));
+        ThingRegistry thingRegistry = Objects.requireNonNull(getService(ThingRegistry.class));
+
+        List<ChannelUID> channelUIDs = new ArrayList<>(scenario.items());
+        List<ThingUID> thingUIDs = new ArrayList<>(scenario.things());
+        for (int t = 0; t < scenario.things(); t++) {
+            ThingUID thingUID = new ThingUID(LoadTypeProvider.THING_TYPE_UID, "device" + t);
+            List<Channel> channels = new ArrayList<>(scenario.channelsPerThing());
+            for (int c = 0; c < scenario.channelsPerThing(); c++) {
+                ChannelUID channelUID = new ChannelUID(thingUID, "value" + c);
+                channels.add(ChannelBuilder.create(channelUID, CoreItemFactory.NUMBER)
+                        .withType(LoadTypeProvider.CHANNEL_TYPE_UID).build());
+                channelUIDs.add(channelUID);
+            }
+            Thing thing = ThingBuilder.create(LoadTypeProvider.THING_TYPE_UID, thingUID).withChannels(channels)
+                    .build();
+            thingProvider.add(thing);
+            thingUIDs.add(thingUID);
+        }
+
+        for (int i = 0; i < channelUIDs.size(); i++) {
+            itemProvider.add(new NumberItem(ITEM_PREFIX + i));
+            linkProvider.add(new ItemChannelLink(ITEM_PREFIX + i, channelUIDs.get(i)));
+        }
+        for (int r = 0; r < scenario.rules(); r++) {
+            itemProvider.add(new SwitchItem(RULE_TARGET_PREFIX + r));
+        }
+
+        waitForAssert(() -> thingUIDs.forEach(thingUID -> {
+            Thing thing = thingRegistry.get(thingUID);
+            assertThat(thing, is(notNullValue()));
+            assertThat(Objects.requireNonNull(thing).getStatus(), is(ThingStatus.ONLINE));
+        }), setupTimeout(scenario.items()), 500);
+
+        List<LoadGenerator.Target> targets = new ArrayList<>(channelUIDs.size());
+        for (ChannelUID channelUID : channelUIDs) {
+            LoadThingHandler handler = Objects.requireNonNull(thingHandlerFactory.getHandler(channelUID.getThingUID()));
+            targets.add(new LoadGenerator.Target(handler, channelUID));
+        }
+        return targets;
+    }
+
+    /**
+     * Creates the rules of the scenario. Each rule is triggered by the state change of an item and commands its own
+     * target item. The triggering items are spread evenly over all items.
+     *
+     * @return the UIDs of the rules
+     */
+    private List<String> createRules() {
+        List<String> ruleUIDs = new ArrayList<>(scenario.rules());
+        for (int r = 0; r < scenario.rules(); r++) {
+            Rule rule = RuleBuilder.create("loadtest_rule_" + r).withName("Load Test Rule " + r)
+                    .withTriggers(List.of(ModuleBuilder.createTrigger().withId("trigger")
+                            .withTypeUID("core.ItemStateChangeTrigger")
+                            .withConfiguration(
+                                    new Configuration(Map.of("itemName", ITEM_PREFIX + triggeringTarget(r))))
+                            .build()))
+                    .withActions(List.of(ModuleBuilder.createAction().withId("action")
+                            .withTypeUID("core.ItemCommandAction")
+                            .withConfiguration(
+                                    new Configuration(Map.of("itemName", RULE_TARGET_PREFIX + r, "command", "ON")))
+                            .build()))
+                    .build();
+            ruleRegistry.add(rule);
+            ruleUIDs.add(rule.getUID());
+        }
+        return ruleUIDs;
+    }
+
+    /**
+     * Distributes the items among the UI clients, each client watches an equal share of them.
+     *
+     * @return the names of the items watched by each client
+     */
+    private List<Set<String>> watchedItemsByClient() {
+        List<Set<String>> watchedItemsByClient = new ArrayList<>(scenario.uiClients());
+        for (int client = 0; client < scenario.uiClients(); client++) {
+            Set<String> watchedItems = new HashSet<>();
+            for (int i = client; i < scenario.items(); i += scenario.uiClients()) {
+                watchedItems.add(ITEM_PREFIX + i);
+            }
+            watchedItemsByClient.add(watchedItems);
+        }
+        return watchedItemsByClient;
+    }
+
+    private int triggeringTarget(int rule) {
+        return (int) ((long) rule * scenario.items() / scenario.rules());
+    }
+
+    private int triggeringTarget(String ruleTargetItemName) {
+        return triggeringTarget(Integer.parseInt(ruleTargetItemName.substring(RULE_TARGET_PREFIX.length())));
+    }
+
+    private long setupTimeout(int elements) {
+        return Math.max(MIN_SETUP_TIMEOUT, elements * SETUP_TIMEOUT_PER_ELEMENT);
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.binding.BaseThingHandler;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link LoadThingHandler} handles a synthesized thing. It publishes the state updates of the load generator
+ * like a binding which receives them from a device.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class LoadThingHandler extends BaseThingHandler {
+
+    private final LongAdder handledCommands;
+
+    public LoadThingHandler(Thing thing, LongAdder handledCommands) {
+        super(thing);
+        this.handledCommands = handledCommands;
+    }
+
+    @Override
+    public void initialize() {
+        updateStatus(ThingStatus.ONLINE);
+    }
+
+    @Override
+    public void handleCommand(ChannelUID channelUID, Command command) {
+        handledCommands.increment();
+    }
+
+    /**
+     * Publishes a state update of a channel.
+     *
+     * @param channelUID the channel
+     * @param state the new state
+     */
+    public void publish(ChannelUID channelUID, State state) {
+        updateState(channelUID, state);
+    }
+}
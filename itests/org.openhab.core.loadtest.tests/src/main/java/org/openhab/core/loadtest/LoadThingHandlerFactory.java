@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.BaseThingHandlerFactory;
+import org.openhab.core.thing.binding.ThingHandler;
+import org.osgi.service.component.ComponentContext;
+
+/**
+ * The {@link LoadThingHandlerFactory} creates the {@link LoadThingHandler}s of the synthesized things.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class LoadThingHandlerFactory extends BaseThingHandlerFactory {
+
+    private final Map<ThingUID, LoadThingHandler> handlers = new ConcurrentHashMap<>();
+    private final LongAdder handledCommands = new LongAdder();
+
+    @Override
+    public void activate(ComponentContext componentContext) {
+        super.activate(componentContext);
+    }
+
+    @Override
+    public boolean supportsThingType(ThingTypeUID thingTypeUID) {
+        return LoadTypeProvider.THING_TYPE_UID.equals(thingTypeUID);
+    }
+
+    @Override
+    protected @Nullable ThingHandler createHandler(Thing thing) {
+        LoadThingHandler handler = new LoadThingHandler(thing, handledCommands);
+        handlers.put(thing.getUID(), handler);
+        return handler;
+    }
+
+    @Override
+    protected void removeHandler(ThingHandler thingHandler) {
+        handlers.remove(thingHandler.getThing().getUID());
+    }
+
+    public @Nullable LoadThingHandler getHandler(ThingUID thingUID) {
+        return handlers.get(thingUID);
+    }
+
+    public int getHandlerCount() {
+        return handlers.size();
+    }
+
+    /**
+     * @return the number of commands handled by all handlers
+     */
+    public LongAdder getHandledCommands() {
+        return handledCommands;
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.loadtest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.CoreItemFactory;
+import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.binding.ThingTypeProvider;
+import org.openhab.core.thing.type.ChannelType;
+import org.openhab.core.thing.type.ChannelTypeBuilder;
+import org.openhab.core.thing.type.ChannelTypeProvider;
+import org.openhab.core.thing.type.ChannelTypeUID;
+import org.openhab.core.thing.type.ThingType;
+import org.openhab.core.thing.type.ThingTypeBuilder;
+
+/**
+ * The {@link LoadTypeProvider} provides the thing type and the channel type of the synthesized things.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class LoadTypeProvider implements ThingTypeProvider, ChannelTypeProvider {
+
+    public static final String BINDING_ID = "loadtest";
+    public static final ThingTypeUID THING_TYPE_UID = new ThingTypeUID(BINDING_ID, "device");
+    public static final ChannelTypeUID CHANNEL_TYPE_UID = new ChannelTypeUID(BINDING_ID, "value");
+
+    private final ThingType thingType = ThingTypeBuilder.instance(THING_TYPE_UID, "Load Test Device").build();
+    private final ChannelType channelType = ChannelTypeBuilder
+            .state(CHANNEL_TYPE_UID, "Value", CoreItemFactory.NUMBER).build();
+
+    @Override
+    public Collection<ThingType> getThingTypes(@Nullable Locale locale) {
+        return List.of(thingType);
+    }
+
+    @Override
+    public @Nullable ThingType getThingType(ThingTypeUID thingTypeUID, @Nullable Locale locale) {
+        return THING_TYPE_UID.equals(thingTypeUID) ? thingType : null;
+    }
+
+    @Override
+    public Collection<ChannelType> getChannelTypes(@Nullable Locale locale) {
+        return List.of(channelType);
+    }
+
+    @Override
+    public @Nullable ChannelType getChannelType(ChannelTypeUID channelTypeUID, @Nullable Locale locale) {
+        return CHANNEL_TYPE_UID.equals(channelTypeUID) ? channelType : null;
+    }
+}
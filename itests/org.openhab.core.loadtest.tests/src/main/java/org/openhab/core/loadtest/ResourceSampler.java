@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ResourceSampler} samples the heap usage and the number of threads of the runtime every second and keeps
+ * their maximum.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class ResourceSampler {
+
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final ScheduledExecutorService scheduler = Executors
+            .newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "loadtest-sampler"));
+
+    private volatile long maxHeapUsed;
+    private volatile int maxThreadCount;
+
+    public void start() {
+        scheduler.scheduleAtFixedRate(this::sample, 0, 1, TimeUnit.SECONDS);
+    }
+
+    public void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Discards the samples taken so far, e.g. after the warm-up.
+     */
+    public synchronized void reset() {
+        maxHeapUsed = 0;
+        maxThreadCount = 0;
+        threadBean.resetPeakThreadCount();
+    }
+
+    public long getMaxHeapUsed() {
+        return maxHeapUsed;
+    }
+
+    public long getHeapMax() {
+        return memoryBean.getHeapMemoryUsage().getMax();
+    }
+
+    public int getMaxThreadCount() {
+        return maxThreadCount;
+    }
+
+    public int getPeakThreadCount() {
+        return threadBean.getPeakThreadCount();
+    }
+
+    private synchronized void sample() {
+        maxHeapUsed = Math.max(maxHeapUsed, memoryBean.getHeapMemoryUsage().getUsed());
+        maxThreadCount = Math.max(maxThreadCount, threadBean.getThreadCount());
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.loadtest;
+
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.events.ItemCommandEvent;
+
+/**
+ * The {@link RuleLatencyProbe} measures the latency from the state update which triggered a rule until the command
+ * sent by its action. The commands do not carry the time of the update, so the time at which the triggering item was
+ * last updated is taken, which slightly underestimates the latency if the item was updated again meanwhile.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class RuleLatencyProbe implements EventSubscriber {
+
+    private final String targetItemPrefix;
+    private final ToIntFunction<String> triggeringTarget;
+    private final LoadGenerator generator;
+    private final LatencyRecorder latency;
+    private final LongAdder executions = new LongAdder();
+
+    /**
+     * @param targetItemPrefix the prefix of the items commanded by the rules
+     * @param triggeringTarget the index of the generator target triggering the rule which commands an item
+     * @param generator the load generator
+     * @param latency the recorder of the rule latency
+     */
+    public RuleLatencyProbe(String targetItemPrefix, ToIntFunction<String> triggeringTarget, LoadGenerator generator,
+            LatencyRecorder latency) {
+        this.targetItemPrefix = targetItemPrefix;
+        this.triggeringTarget = triggeringTarget;
+        this.generator = generator;
+        this.latency = latency;
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return Set.of(ItemCommandEvent.TYPE);
+    }
+
+    @Override
+    public void receive(Event event) {
+        if (event instanceof ItemCommandEvent commandEvent && commandEvent.getItemName().startsWith(targetItemPrefix)) {
+            long publishedAt = generator.getPublishedAt(triggeringTarget.applyAsInt(commandEvent.getItemName()));
+            if (publishedAt != 0) {
+                latency.record(System.nanoTime() - publishedAt);
+                executions.increment();
+            }
+        }
+    }
+
+    /**
+     * @return the number of rule executions observed
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public void reset() {
+        executions.reset();
+    }
+}
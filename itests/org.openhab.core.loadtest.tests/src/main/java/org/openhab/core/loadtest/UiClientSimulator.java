@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.loadtest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.openhab.core.library.types.DecimalType;
+
+/**
+ * The {@link UiClientSimulator} simulates UI clients, which are connected by server-sent events and watch the state
+ * of the items on their current page. Like the server-sent events resource, one subscriber receives the state
+ * changes and fans them out to all clients, which measure the latency of the changes of their items.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+public class UiClientSimulator implements EventSubscriber {
+
+    private final List<Set<String>> watchedItemsByClient;
+    private final LatencyRecorder latency;
+    private final LongAdder deliveredEvents = new LongAdder();
+
+    /**
+     * @param watchedItemsByClient the names of the items watched by each of the clients
+     * @param latency the recorder of the end-to-end latency
+     */
+    public UiClientSimulator(List<Set<String>> watchedItemsByClient, LatencyRecorder latency) {
+        this.watchedItemsByClient = watchedItemsByClient;
+        this.latency = latency;
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return Set.of(ItemStateChangedEvent.TYPE);
+    }
+
+    @Override
+    public void receive(Event event) {
+        if (event instanceof ItemStateChangedEvent changedEvent
+                && changedEvent.getItemState() instanceof DecimalType publishedAt) {
+            String itemName = changedEvent.getItemName();
+            for (Set<String> watchedItems : watchedItemsByClient) {
+                if (watchedItems.contains(itemName)) {
+                    latency.record(System.nanoTime() - publishedAt.longValue());
+                    deliveredEvents.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of state changes delivered to all clients
+     */
+    public long getDeliveredEvents() {
+        return deliveredEvents.sum();
+    }
+
+    public void reset() {
+        deliveredEvents.reset();
+    }
+}
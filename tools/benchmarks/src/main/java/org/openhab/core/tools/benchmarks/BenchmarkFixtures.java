@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.spi.SystemOfUnits;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.i18n.UnitProvider;
+import org.openhab.core.internal.items.ItemStateConverterImpl;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.ItemStateConverter;
+import org.openhab.core.library.items.DimmerItem;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.StringItem;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.ArithmeticGroupFunction;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.unit.SIUnits;
+
+/**
+ * The {@link BenchmarkFixtures} create data sets the size of a large installation, so that the benchmarks measure
+ * the hot paths with realistic collection sizes and nesting.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+final class BenchmarkFixtures {
+
+    /**
+     * The number of items of a large installation.
+     */
+    static final int ITEM_COUNT = 10_000;
+
+    /**
+     * The number of floors of the item hierarchy, each of them has {@link #ROOMS_PER_FLOOR} rooms.
+     */
+    static final int FLOORS = 10;
+    static final int ROOMS_PER_FLOOR = 10;
+
+    private static final UnitProvider UNIT_PROVIDER = new UnitProvider() {
+        @Override
+        public <T extends Quantity<T>> Unit<T> getUnit(Class<T> dimension) throws IllegalArgumentException {
+            throw new IllegalArgumentException("The benchmark items have no dimension");
+        }
+
+        @Override
+        public SystemOfUnits getMeasurementSystem() {
+            return SIUnits.getInstance();
+        }
+
+        @Override
+        public Collection<Class<? extends Quantity<?>>> getAllDimensions() {
+            return Set.of();
+        }
+    };
+
+    static final ItemStateConverter ITEM_STATE_CONVERTER = new ItemStateConverterImpl(UNIT_PROVIDER);
+
+    private BenchmarkFixtures() {
+        // prevent instantiation
+    }
+
+    /**
+     * An item hierarchy: a home group with floor groups, which contain room groups, which contain the items.
+     * All groups sum up the number items they contain.
+     *
+     * @param home the root group
+     * @param rooms the room groups
+     * @param items all items which are not groups
+     * @param numberItems the number items, whose state is aggregated by the groups
+     */
+    record ItemHierarchy(GroupItem home, List<GroupItem> rooms, List<GenericItem> items,
+            List<NumberItem> numberItems) {
+    }
+
+    /**
+     * Create an item hierarchy of {@link #ITEM_COUNT} items in {@link #FLOORS} floors with {@link #ROOMS_PER_FLOOR}
+     * rooms each. The items are evenly split into number, switch, dimmer and string items.
+     *
+     * @return the item hierarchy
+     */
+    static ItemHierarchy createItemHierarchy() {
+        GroupItem home = createSumGroup("gHome");
+        List<GroupItem> rooms = new ArrayList<>();
+        List<GenericItem> items = new ArrayList<>();
+        List<NumberItem> numberItems = new ArrayList<>();
+        int itemsPerRoom = ITEM_COUNT / (FLOORS * ROOMS_PER_FLOOR);
+        for (int floor = 0; floor < FLOORS; floor++) {
+            GroupItem floorGroup = createSumGroup("gFloor" + floor);
+            home.addMember(floorGroup);
+            for (int room = 0; room < ROOMS_PER_FLOOR; room++) {
+                GroupItem roomGroup = createSumGroup("gRoom" + floor + "_" + room);
+                floorGroup.addMember(roomGroup);
+                rooms.add(roomGroup);
+                for (int i = 0; i < itemsPerRoom; i++) {
+                    String name = "Item" + floor + "_" + room + "_" + i;
+                    GenericItem item = switch (i % 4) {
+                        case 0 -> new NumberItem(name);
+                        case 1 -> new SwitchItem(name);
+                        case 2 -> new DimmerItem(name);
+                        default -> new StringItem(name);
+                    };
+                    item.setItemStateConverter(ITEM_STATE_CONVERTER);
+                    item.setLabel("Label of " + name);
+                    item.addTag("Measurement");
+                    if (item instanceof NumberItem numberItem) {
+                        numberItem.setState(new DecimalType(i));
+                        numberItems.add(numberItem);
+                    }
+                    roomGroup.addMember(item);
+                    items.add(item);
+                }
+            }
+        }
+        return new ItemHierarchy(home, rooms, items, numberItems);
+    }
+
+    private static GroupItem createSumGroup(String name) {
+        GroupItem group = new GroupItem(name, new NumberItem(name + "Base"), new ArithmeticGroupFunction.Sum());
+        group.setItemStateConverter(ITEM_STATE_CONVERTER);
+        return group;
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFactory;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.internal.events.EventHandler;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.types.DecimalType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link EventHandlerBenchmark} measures the dispatch of an event from the event bus to the subscribers by the
+ * {@link EventHandler}, from the deserialization of the event until all subscribers received it.
+ * <p>
+ * The {@link EventHandler} uses one executor per subscriber class, so subscribers of the same class receive the events
+ * one after the other. In openHAB the subscribers usually are of different classes, which is measured by default.
+ * With <code>distinctClasses=false</code> all subscribers share one class.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventHandlerBenchmark {
+
+    @Param({ "1", "10", "50" })
+    public int subscriberCount = 1;
+
+    @Param({ "true", "false" })
+    public boolean distinctClasses = true;
+
+    private volatile CountDownLatch received = new CountDownLatch(0);
+    private @Nullable EventHandler eventHandler;
+    private org.osgi.service.event.Event osgiEvent = new org.osgi.service.event.Event("openhab", Map.of());
+
+    @Setup
+    public void setup() {
+        List<EventSubscriber> subscribers = new ArrayList<>();
+        for (int i = 0; i < subscriberCount; i++) {
+            subscribers.add(createSubscriber());
+        }
+        Map<String, Set<EventSubscriber>> typedEventSubscribers = Map.of(ItemStateEvent.TYPE,
+                new CopyOnWriteArraySet<>(subscribers));
+        Map<String, EventFactory> typedEventFactories = Map.of(ItemStateEvent.TYPE, new ItemEventFactory());
+        eventHandler = new EventHandler(typedEventSubscribers, typedEventFactories);
+
+        Event event = ItemEventFactory.createStateEvent("BenchmarkItem", new DecimalType("21.5"), null);
+        Dictionary<String, Object> properties = new Hashtable<>(3);
+        properties.put("type", event.getType());
+        properties.put("payload", event.getPayload());
+        properties.put("topic", event.getTopic());
+        osgiEvent = new org.osgi.service.event.Event("openhab", properties);
+    }
+
+    @TearDown
+    public void tearDown() {
+        EventHandler eventHandler = this.eventHandler;
+        if (eventHandler != null) {
+            eventHandler.close();
+        }
+    }
+
+    @Benchmark
+    public void dispatch() throws InterruptedException {
+        EventHandler eventHandler = this.eventHandler;
+        if (eventHandler == null) {
+            throw new IllegalStateException("The event handler is not set up");
+        }
+        CountDownLatch received = new CountDownLatch(subscriberCount);
+        this.received = received;
+        eventHandler.handleEvent(osgiEvent);
+        if (!received.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The event was not received by all subscribers");
+        }
+    }
+
+    private EventSubscriber createSubscriber() {
+        EventSubscriber subscriber = new CountingSubscriber();
+        if (!distinctClasses) {
+            return subscriber;
+        }
+        // proxy classes are defined per class loader, so each subscriber gets a class of its own
+        ClassLoader classLoader = new ClassLoader(EventSubscriber.class.getClassLoader()) {
+        };
+        return (EventSubscriber) Proxy.newProxyInstance(classLoader, new Class<?>[] { EventSubscriber.class },
+                (proxy, method, args) -> method.invoke(subscriber, args));
+    }
+
+    private class CountingSubscriber implements EventSubscriber {
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return Set.of(ItemStateEvent.TYPE);
+        }
+
+        @Override
+        public void receive(Event event) {
+            received.countDown();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmarks;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.tools.benchmarks.BenchmarkFixtures.ItemHierarchy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link GroupItemBenchmark} measures the aggregation of member states by nested {@link GroupItem}s, using the
+ * item hierarchy of the {@link BenchmarkFixtures}.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GroupItemBenchmark {
+    // a power of two, so that the index can be masked
+    private static final int VALUE_COUNT = 64;
+
+    private final DecimalType[] values = new DecimalType[VALUE_COUNT];
+    private List<GroupItem> rooms = List.of();
+    private List<NumberItem> numberItems = List.of();
+    private GroupItem home = new GroupItem("gHome");
+    private int itemIndex;
+    private int valueIndex;
+    private int roomIndex;
+
+    @Setup
+    public void setup() {
+        ItemHierarchy hierarchy = BenchmarkFixtures.createItemHierarchy();
+        home = hierarchy.home();
+        rooms = hierarchy.rooms();
+        numberItems = hierarchy.numberItems();
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = new DecimalType(i);
+        }
+    }
+
+    /**
+     * Changes the state of a number item, which recalculates the sum of its room, floor and home group.
+     */
+    @Benchmark
+    public org.openhab.core.types.State updateMemberState() {
+        itemIndex = (itemIndex + 1) % numberItems.size();
+        numberItems.get(itemIndex).setState(values[valueIndex++ & (VALUE_COUNT - 1)]);
+        return home.getState();
+    }
+
+    @Benchmark
+    public Set<Item> getAllMembers() {
+        return home.getAllMembers();
+    }
+
+    @Benchmark
+    public @Nullable DecimalType calculateRoomSum() {
+        roomIndex = (roomIndex + 1) % rooms.size();
+        return rooms.get(roomIndex).getStateAs(DecimalType.class);
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.Event;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.Command;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link ItemEventFactoryBenchmark} measures the serialization of item events by the {@link ItemEventFactory}
+ * when they are created and their deserialization when they are received from the event bus.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemEventFactoryBenchmark {
+    private static final String ITEM_NAME = "BenchmarkItem";
+    private static final String SOURCE = "org.openhab.core.tools.benchmarks";
+
+    @Param({ "DecimalType", "QuantityType", "StringType", "OnOffType", "HSBType" })
+    public String type = "DecimalType";
+
+    private final ItemEventFactory itemEventFactory = new ItemEventFactory();
+
+    private Command value = OnOffType.ON;
+    private String stateEventTopic = "";
+    private String stateEventPayload = "";
+
+    @Setup
+    public void setup() {
+        value = switch (type) {
+            case "DecimalType" -> new DecimalType("21.5");
+            case "QuantityType" -> new QuantityType<>("21.5 °C");
+            case "StringType" -> new StringType("The quick brown fox jumps over the lazy dog");
+            case "OnOffType" -> OnOffType.ON;
+            case "HSBType" -> new HSBType("120,100,50");
+            default -> throw new IllegalArgumentException("Unknown type " + type);
+        };
+        ItemStateEvent stateEvent = ItemEventFactory.createStateEvent(ITEM_NAME, value, SOURCE);
+        stateEventTopic = stateEvent.getTopic();
+        stateEventPayload = stateEvent.getPayload();
+    }
+
+    @Benchmark
+    public ItemStateEvent createStateEvent() {
+        return ItemEventFactory.createStateEvent(ITEM_NAME, value, SOURCE);
+    }
+
+    @Benchmark
+    public ItemCommandEvent createCommandEvent() {
+        return ItemEventFactory.createCommandEvent(ITEM_NAME, value, SOURCE);
+    }
+
+    @Benchmark
+    public Event deserializeStateEvent() throws Exception {
+        return itemEventFactory.createEvent(ItemStateEvent.TYPE, stateEventTopic, stateEventPayload, SOURCE);
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventPublisher;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link ItemStateBenchmark} measures {@link org.openhab.core.items.GenericItem#setState} including the creation
+ * of the state updated and state changed events.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemStateBenchmark {
+    // a power of two, so that the index can be masked
+    private static final int VALUE_COUNT = 1024;
+
+    private final NumberItem numberItem = new NumberItem("BenchmarkNumber");
+    private final SwitchItem switchItem = new SwitchItem("BenchmarkSwitch");
+    private final DecimalType[] values = new DecimalType[VALUE_COUNT];
+    private final EventPublisher eventPublisher = new EventPublisher() {
+        @Override
+        public void post(Event event) {
+            lastEvent = event;
+        }
+    };
+
+    private @Nullable Event lastEvent;
+    private int index;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = new DecimalType(i * 0.25);
+        }
+        numberItem.setItemStateConverter(BenchmarkFixtures.ITEM_STATE_CONVERTER);
+        numberItem.setEventPublisher(eventPublisher);
+        switchItem.setItemStateConverter(BenchmarkFixtures.ITEM_STATE_CONVERTER);
+        switchItem.setEventPublisher(eventPublisher);
+        switchItem.setState(OnOffType.ON);
+    }
+
+    @Benchmark
+    public @Nullable Event changeNumberState() {
+        numberItem.setState(values[index++ & (VALUE_COUNT - 1)]);
+        return lastEvent;
+    }
+
+    @Benchmark
+    public @Nullable Event updateSwitchState() {
+        // the state does not change, so only the state updated event is sent
+        switchItem.setState(OnOffType.ON);
+        return lastEvent;
+    }
+}
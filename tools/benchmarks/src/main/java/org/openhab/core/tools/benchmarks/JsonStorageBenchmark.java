@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.storage.json.internal.JsonStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link JsonStorageBenchmark} measures writing a changed entry of a {@link JsonStorage} to disk, with as many
+ * entries as the managed item storage of a large installation.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonStorageBenchmark {
+    // defer the commits, so that only the explicit flush writes the file
+    private static final int WRITE_DELAY = Integer.MAX_VALUE;
+    private static final int MAX_DEFERRED_PERIOD = Integer.MAX_VALUE;
+    private static final int MAX_BACKUP_FILES = 5;
+
+    @Param({ "1000", "10000" })
+    public int entryCount = BenchmarkFixtures.ITEM_COUNT;
+
+    private @Nullable Path directory;
+    private @Nullable JsonStorage<PersistedEntry> storage;
+    private int index;
+
+    @Setup
+    public void setup() throws IOException {
+        Path directory = Files.createTempDirectory("jsonstorage-benchmark");
+        this.directory = directory;
+        JsonStorage<PersistedEntry> storage = new JsonStorage<>(directory.resolve("benchmark.json").toFile(),
+                getClass().getClassLoader(), MAX_BACKUP_FILES, WRITE_DELAY, MAX_DEFERRED_PERIOD, List.of());
+        for (int i = 0; i < entryCount; i++) {
+            storage.put(key(i), new PersistedEntry(i, 0));
+        }
+        storage.flush();
+        this.storage = storage;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Path directory = this.directory;
+        if (directory != null) {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void putAndFlush() {
+        JsonStorage<PersistedEntry> storage = this.storage;
+        if (storage == null) {
+            throw new IllegalStateException("The storage is not set up");
+        }
+        index++;
+        int entry = index % entryCount;
+        storage.put(key(entry), new PersistedEntry(entry, index));
+        storage.flush();
+    }
+
+    private static String key(int i) {
+        return "Item" + i;
+    }
+
+    /**
+     * An entry with the typical content of a persisted item.
+     */
+    public static class PersistedEntry {
+        public String itemType = "Number";
+        public @Nullable String label;
+        public @Nullable String category = "temperature";
+        public List<String> tags = List.of("Measurement", "Temperature");
+        public List<String> groupNames = List.of("gRoom", "gFloor");
+        public int revision;
+
+        public PersistedEntry() {
+        }
+
+        PersistedEntry(int i, int revision) {
+            this.label = "Label of Item" + i;
+            this.revision = revision;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.quantity.Power;
+import javax.measure.quantity.Temperature;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.ImperialUnits;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link QuantityTypeBenchmark} measures the arithmetic, unit conversion and comparison of {@link QuantityType}s,
+ * as done by group functions, profiles and rules.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuantityTypeBenchmark {
+    private final QuantityType<Temperature> celsius = new QuantityType<>(21.5, SIUnits.CELSIUS);
+    private final QuantityType<Temperature> celsiusDelta = new QuantityType<>(0.5, SIUnits.CELSIUS);
+    private final QuantityType<Temperature> fahrenheit = new QuantityType<>(70.7, ImperialUnits.FAHRENHEIT);
+    private final QuantityType<Power> power = new QuantityType<>(1500, Units.WATT);
+    private final BigDecimal factor = new BigDecimal("1.5");
+
+    @Benchmark
+    public QuantityType<Temperature> add() {
+        return celsius.add(celsiusDelta);
+    }
+
+    @Benchmark
+    public QuantityType<Temperature> subtract() {
+        return celsius.subtract(celsiusDelta);
+    }
+
+    @Benchmark
+    public QuantityType<?> multiply() {
+        return power.multiply(factor);
+    }
+
+    @Benchmark
+    public QuantityType<?> divide() {
+        return power.divide(factor);
+    }
+
+    @Benchmark
+    public @Nullable QuantityType<Temperature> toUnit() {
+        return celsius.toUnit(ImperialUnits.FAHRENHEIT);
+    }
+
+    @Benchmark
+    public int compareToOtherUnit() {
+        return celsius.compareTo(fahrenheit);
+    }
+
+    @Benchmark
+    public QuantityType<?> parse() {
+        return new QuantityType<>("21.5 °C");
+    }
+}
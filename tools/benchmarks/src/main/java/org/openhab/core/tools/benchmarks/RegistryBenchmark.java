@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.AbstractRegistry;
+import org.openhab.core.common.registry.Provider;
+import org.openhab.core.common.registry.ProviderChangeListener;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link RegistryBenchmark} measures the lookup of elements by {@link AbstractRegistry#get(Object)} in a registry
+ * holding the {@link BenchmarkFixtures#ITEM_COUNT} items of a large installation.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistryBenchmark {
+
+    private final BenchmarkItemRegistry registry = new BenchmarkItemRegistry();
+    private List<String> itemNames = List.of();
+    private int index;
+
+    @Setup
+    public void setup() {
+        List<Item> items = new ArrayList<>(BenchmarkFixtures.createItemHierarchy().items());
+        registry.addProvider(new BenchmarkItemProvider(items));
+
+        List<String> itemNames = new ArrayList<>(items.size());
+        items.forEach(item -> itemNames.add(item.getName()));
+        // look up the items in a random but reproducible order
+        Collections.shuffle(itemNames, new Random(42));
+        this.itemNames = itemNames;
+    }
+
+    @Benchmark
+    public @Nullable Item getExisting() {
+        index = (index + 1) % itemNames.size();
+        return registry.get(itemNames.get(index));
+    }
+
+    @Benchmark
+    public @Nullable Item getMissing() {
+        return registry.get("MissingItem");
+    }
+
+    private static class BenchmarkItemRegistry extends AbstractRegistry<Item, String, ItemProvider> {
+        BenchmarkItemRegistry() {
+            super(null);
+        }
+
+        @Override
+        protected void addProvider(Provider<Item> provider) {
+            super.addProvider(provider);
+        }
+    }
+
+    private static class BenchmarkItemProvider implements ItemProvider {
+        private final Collection<Item> items;
+
+        BenchmarkItemProvider(Collection<Item> items) {
+            this.items = items;
+        }
+
+        @Override
+        public Collection<Item> getAll() {
+            return items;
+        }
+
+        @Override
+        public void addProviderChangeListener(ProviderChangeListener<Item> listener) {
+        }
+
+        @Override
+        public void removeProviderChangeListener(ProviderChangeListener<Item> listener) {
+        }
+    }
+}
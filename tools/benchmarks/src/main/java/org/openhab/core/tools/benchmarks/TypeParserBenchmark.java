@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.TypeParser;
+import org.openhab.core.types.UnDefType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link TypeParserBenchmark} measures parsing of the core state types by the {@link TypeParser}, compared to
+ * looking up and invoking the {@code valueOf(String)} method by reflection.
+ *
+ * @author Jonas Weber - Initial contribution
+ */
+@NonNullByDefault
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypeParserBenchmark {
+    private static final String CORE_LIBRARY_PACKAGE = "org.openhab.core.library.types.";
+
+    // the accepted data types of a NumberItem with dimension
+    private static final List<Class<? extends org.openhab.core.types.State>> NUMBER_TYPES = List
+            .of(UnDefType.class, QuantityType.class, DecimalType.class);
+    // the accepted data types of a ColorItem
+    private static final List<Class<? extends org.openhab.core.types.State>> COLOR_TYPES = List.of(UnDefType.class,
+            OnOffType.class, PercentType.class, HSBType.class);
+
+    @Param({ "DecimalType:21.5", "QuantityType:21.5 °C", "OnOffType:ON", "StringType:Hello World",
+            "PercentType:42", "HSBType:120,100,50", "DateTimeType:2023-10-19T10:58:47.033+0000", "UnDefType:UNDEF" })
+    public String typeAndValue = "";
+
+    private String typeName = "";
+    private String value = "";
+
+    @Setup
+    public void setup() {
+        int index = typeAndValue.indexOf(':');
+        typeName = typeAndValue.substring(0, index);
+        value = typeAndValue.substring(index + 1);
+    }
+
+    @Benchmark
+    public @Nullable Object parseType() {
+        return TypeParser.parseType(typeName, value);
+    }
+
+    @Benchmark
+    public @Nullable Object parseTypeReflective() {
+        String packageName = "UnDefType".equals(typeName) ? "org.openhab.core.types." : CORE_LIBRARY_PACKAGE;
+        try {
+            Class<?> stateClass = Class.forName(packageName + typeName);
+            Method valueOfMethod = stateClass.getMethod("valueOf", String.class);
+            return valueOfMethod.invoke(stateClass, value);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public org.openhab.core.types.@Nullable State parseNumberState() {
+        return TypeParser.parseState(NUMBER_TYPES, value);
+    }
+
+    @Benchmark
+    public org.openhab.core.types.@Nullable State parseColorState() {
+        return TypeParser.parseState(COLOR_TYPES, value);
+    }
+}